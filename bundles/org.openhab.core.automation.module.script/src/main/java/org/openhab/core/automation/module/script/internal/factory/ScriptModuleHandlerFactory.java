@@ -15,18 +15,22 @@ package org.openhab.core.automation.module.script.internal.factory;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Action;
 import org.openhab.core.automation.Condition;
 import org.openhab.core.automation.Module;
+import org.openhab.core.automation.ScriptModuleMetrics;
 import org.openhab.core.automation.handler.BaseModuleHandlerFactory;
 import org.openhab.core.automation.handler.ModuleHandler;
 import org.openhab.core.automation.handler.ModuleHandlerFactory;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineManager;
+import org.openhab.core.automation.module.script.internal.handler.AbstractScriptModuleHandler;
 import org.openhab.core.automation.module.script.internal.handler.ScriptActionHandler;
 import org.openhab.core.automation.module.script.internal.handler.ScriptConditionHandler;
 import org.osgi.service.component.annotations.Component;
@@ -37,13 +41,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This HandlerFactory creates ModuleHandlers for scripts.
+ * This HandlerFactory creates ModuleHandlers for scripts. It also provides the {@link ScriptModuleMetrics} of the
+ * handlers it has created.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author crnjan - Script module metrics
  */
 @NonNullByDefault
-@Component(service = { ModuleHandlerFactory.class, ScriptDependencyTracker.Listener.class })
-public class ScriptModuleHandlerFactory extends BaseModuleHandlerFactory implements ScriptDependencyTracker.Listener {
+@Component(service = { ModuleHandlerFactory.class, ScriptDependencyTracker.Listener.class,
+        ScriptModuleMetrics.class })
+public class ScriptModuleHandlerFactory extends BaseModuleHandlerFactory
+        implements ScriptDependencyTracker.Listener, ScriptModuleMetrics {
 
     private final Logger logger = LoggerFactory.getLogger(ScriptModuleHandlerFactory.class);
 
@@ -52,11 +60,13 @@ public class ScriptModuleHandlerFactory extends BaseModuleHandlerFactory impleme
     private @NonNullByDefault({}) ScriptEngineManager scriptEngineManager;
 
     private Map<String, ScriptActionHandler> trackedHandlers = new ConcurrentHashMap<>();
+    private final Map<String, Set<AbstractScriptModuleHandler<?>>> ruleHandlers = new ConcurrentHashMap<>();
 
     @Override
     @Deactivate
     protected void deactivate() {
         super.deactivate();
+        ruleHandlers.clear();
     }
 
     @Override
@@ -71,11 +81,13 @@ public class ScriptModuleHandlerFactory extends BaseModuleHandlerFactory impleme
         if (ScriptConditionHandler.TYPE_ID.equals(moduleTypeUID) && module instanceof Condition) {
             ScriptConditionHandler handler = new ScriptConditionHandler((Condition) module, ruleUID,
                     scriptEngineManager);
+            addRuleHandler(ruleUID, handler);
             return handler;
         } else if (ScriptActionHandler.TYPE_ID.equals(moduleTypeUID) && module instanceof Action) {
             ScriptActionHandler handler = new ScriptActionHandler((Action) module, ruleUID, scriptEngineManager,
                     this::onHandlerRemoval);
             trackedHandlers.put(handler.getEngineIdentifier(), handler);
+            addRuleHandler(ruleUID, handler);
             return handler;
         } else {
             logger.error("The ModuleHandler is not supported: {}", moduleTypeUID);
@@ -83,6 +95,49 @@ public class ScriptModuleHandlerFactory extends BaseModuleHandlerFactory impleme
         }
     }
 
+    @Override
+    public void ungetHandler(Module module, String ruleUID, ModuleHandler handler) {
+        super.ungetHandler(module, ruleUID, handler);
+        ruleHandlers.computeIfPresent(ruleUID, (uid, handlers) -> {
+            handlers.remove(handler);
+            return handlers.isEmpty() ? null : handlers;
+        });
+    }
+
+    private void addRuleHandler(String ruleUID, AbstractScriptModuleHandler<?> handler) {
+        ruleHandlers.computeIfAbsent(ruleUID, uid -> ConcurrentHashMap.newKeySet()).add(handler);
+    }
+
+    @Override
+    public Set<String> getScriptRuleUIDs() {
+        return Set.copyOf(ruleHandlers.keySet());
+    }
+
+    @Override
+    public long getCompilations(String ruleUID) {
+        return sum(ruleUID, AbstractScriptModuleHandler::getCompilations);
+    }
+
+    @Override
+    public long getCompileTime(String ruleUID) {
+        return sum(ruleUID, AbstractScriptModuleHandler::getCompileTime);
+    }
+
+    @Override
+    public long getEvaluations(String ruleUID) {
+        return sum(ruleUID, AbstractScriptModuleHandler::getEvaluations);
+    }
+
+    @Override
+    public long getEvalTime(String ruleUID) {
+        return sum(ruleUID, AbstractScriptModuleHandler::getEvalTime);
+    }
+
+    private long sum(String ruleUID, ToLongFunction<AbstractScriptModuleHandler<?>> counter) {
+        Set<AbstractScriptModuleHandler<?>> handlers = ruleHandlers.get(ruleUID);
+        return handlers == null ? 0 : handlers.stream().mapToLong(counter).sum();
+    }
+
     @Reference(policy = ReferencePolicy.DYNAMIC)
     public void setScriptEngineManager(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
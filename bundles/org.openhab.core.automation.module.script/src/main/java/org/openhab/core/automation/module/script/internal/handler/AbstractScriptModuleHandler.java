@@ -17,11 +17,16 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Module;
 import org.openhab.core.automation.handler.BaseModuleHandler;
 import org.openhab.core.automation.module.script.ScriptEngineContainer;
@@ -35,6 +40,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Simon Merschjohann - Initial contribution
+ * @author crnjan - Compiled script cache and execution timings
  *
  * @param <T> the type of module the concrete handler can handle
  */
@@ -59,6 +65,13 @@ public abstract class AbstractScriptModuleHandler<T extends Module> extends Base
 
     protected final String ruleUID;
 
+    private volatile @Nullable CompiledScript compiledScript;
+
+    private final AtomicLong compilations = new AtomicLong();
+    private final AtomicLong compileTime = new AtomicLong();
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong evalTime = new AtomicLong();
+
     public AbstractScriptModuleHandler(T module, String ruleUID, ScriptEngineManager scriptEngineManager) {
         super(module);
         this.scriptEngineManager = scriptEngineManager;
@@ -91,6 +104,7 @@ public abstract class AbstractScriptModuleHandler<T extends Module> extends Base
     public synchronized void resetScriptEngine() {
         scriptEngineManager.removeEngine(engineIdentifier);
         scriptEngine = Optional.empty();
+        compiledScript = null;
     }
 
     /**
@@ -102,6 +116,77 @@ public abstract class AbstractScriptModuleHandler<T extends Module> extends Base
         return engineIdentifier;
     }
 
+    /**
+     * Gets the number of times the script of this module has been compiled
+     *
+     * @return the number of compilations
+     */
+    public long getCompilations() {
+        return compilations.get();
+    }
+
+    /**
+     * Gets the total time spent compiling the script of this module
+     *
+     * @return the compile time in nanoseconds
+     */
+    public long getCompileTime() {
+        return compileTime.get();
+    }
+
+    /**
+     * Gets the number of times the script of this module has been evaluated
+     *
+     * @return the number of evaluations
+     */
+    public long getEvaluations() {
+        return evaluations.get();
+    }
+
+    /**
+     * Gets the total time spent evaluating the script of this module
+     *
+     * @return the evaluation time in nanoseconds
+     */
+    public long getEvalTime() {
+        return evalTime.get();
+    }
+
+    /**
+     * Evaluates the script of this module.
+     * <p>
+     * If the engine supports it, the script is compiled on the first evaluation and the compiled script is re-used
+     * until the engine is reset.
+     *
+     * @param engine the script engine that is used
+     * @return the result of the script
+     * @throws ScriptException if compiling or evaluating the script failed
+     */
+    protected @Nullable Object evalScript(ScriptEngine engine) throws ScriptException {
+        CompiledScript compiledScript = this.compiledScript;
+        if ((compiledScript == null || compiledScript.getEngine() != engine) && engine instanceof Compilable) {
+            long start = System.nanoTime();
+            compiledScript = ((Compilable) engine).compile(script);
+            long duration = System.nanoTime() - start;
+            compilations.incrementAndGet();
+            compileTime.addAndGet(duration);
+            logger.debug("Compiled script of module '{}' in rule '{}' in {}µs.", module.getId(), ruleUID,
+                    duration / 1000);
+            this.compiledScript = compiledScript;
+        }
+
+        long start = System.nanoTime();
+        try {
+            return compiledScript != null ? compiledScript.eval() : engine.eval(script);
+        } finally {
+            long duration = System.nanoTime() - start;
+            evaluations.incrementAndGet();
+            evalTime.addAndGet(duration);
+            logger.trace("Evaluated script of module '{}' in rule '{}' in {}µs.", module.getId(), ruleUID,
+                    duration / 1000);
+        }
+    }
+
     protected Optional<ScriptEngine> getScriptEngine() {
         return scriptEngine.isPresent() ? scriptEngine : createScriptEngine();
     }
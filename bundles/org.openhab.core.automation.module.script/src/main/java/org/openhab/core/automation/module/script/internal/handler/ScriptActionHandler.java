@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Simon Merschjohann - Initial contribution
+ * @author crnjan - Use compiled scripts
  */
 @NonNullByDefault
 public class ScriptActionHandler extends AbstractScriptModuleHandler<Action> implements ActionHandler {
@@ -68,7 +69,7 @@ public class ScriptActionHandler extends AbstractScriptModuleHandler<Action> imp
         getScriptEngine().ifPresent(scriptEngine -> {
             setExecutionContext(scriptEngine, context);
             try {
-                Object result = scriptEngine.eval(script);
+                Object result = evalScript(scriptEngine);
                 resultMap.put("result", result);
             } catch (ScriptException e) {
                 logger.error("Script execution of rule with UID '{}' failed: {}", ruleUID, e.getMessage(),
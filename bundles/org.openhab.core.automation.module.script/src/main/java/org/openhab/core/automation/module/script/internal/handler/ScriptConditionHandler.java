@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Simon Merschjohann - Initial contribution
+ * @author crnjan - Use compiled scripts
  */
 @NonNullByDefault
 public class ScriptConditionHandler extends AbstractScriptModuleHandler<Condition> implements ConditionHandler {
@@ -51,7 +52,7 @@ public class ScriptConditionHandler extends AbstractScriptModuleHandler<Conditio
             ScriptEngine scriptEngine = engine.get();
             setExecutionContext(scriptEngine, context);
             try {
-                Object returnVal = scriptEngine.eval(script);
+                Object returnVal = evalScript(scriptEngine);
                 if (returnVal instanceof Boolean) {
                     result = (boolean) returnVal;
                 } else {
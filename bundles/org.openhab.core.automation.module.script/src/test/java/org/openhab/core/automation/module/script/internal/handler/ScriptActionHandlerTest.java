@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.module.script.internal.handler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.automation.Action;
+import org.openhab.core.automation.module.script.ScriptEngineContainer;
+import org.openhab.core.automation.module.script.ScriptEngineManager;
+import org.openhab.core.automation.util.ActionBuilder;
+import org.openhab.core.config.core.Configuration;
+
+/**
+ * The {@link ScriptActionHandlerTest} holds tests for the {@link ScriptActionHandler}
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ScriptActionHandlerTest {
+    private static final String SCRIPT_LANGUAGE = "customDsl";
+    private static final String SCRIPT = "script";
+
+    private final Action action = ActionBuilder.create().withId("action").withTypeUID(ScriptActionHandler.TYPE_ID)
+            .withConfiguration(new Configuration(Map.of(AbstractScriptModuleHandler.SCRIPT_TYPE, SCRIPT_LANGUAGE,
+                    AbstractScriptModuleHandler.SCRIPT, SCRIPT)))
+            .build();
+
+    private @Mock @NonNullByDefault({}) ScriptEngineManager scriptEngineManager;
+    private @Mock @NonNullByDefault({}) ScriptEngineContainer scriptEngineContainer;
+    private @Mock @NonNullByDefault({}) ScriptContext scriptContext;
+    private @Mock @NonNullByDefault({}) CompiledScript compiledScript;
+
+    @BeforeEach
+    public void setUp() {
+        when(scriptEngineManager.createScriptEngine(eq(SCRIPT_LANGUAGE), any())).thenReturn(scriptEngineContainer);
+    }
+
+    @Test
+    public void compilableScriptsAreCompiledOnce() throws ScriptException {
+        ScriptEngine scriptEngine = mock(ScriptEngine.class, withSettings().extraInterfaces(Compilable.class));
+        when(scriptEngine.getContext()).thenReturn(scriptContext);
+        when(scriptEngineContainer.getScriptEngine()).thenReturn(scriptEngine);
+        when(((Compilable) scriptEngine).compile(SCRIPT)).thenReturn(compiledScript);
+        when(compiledScript.getEngine()).thenReturn(scriptEngine);
+        when(compiledScript.eval()).thenReturn("result");
+
+        ScriptActionHandler handler = new ScriptActionHandler(action, "rule", scriptEngineManager, h -> {
+        });
+        assertThat(handler.execute(Map.of()), is(Map.of("result", "result")));
+        assertThat(handler.execute(Map.of()), is(Map.of("result", "result")));
+
+        verify((Compilable) scriptEngine).compile(SCRIPT);
+        verify(compiledScript, times(2)).eval();
+        verify(scriptEngine, never()).eval(anyString());
+        assertThat(handler.getCompilations(), is(1L));
+        assertThat(handler.getEvaluations(), is(2L));
+    }
+
+    @Test
+    public void scriptsAreRecompiledAfterEngineReset() throws ScriptException {
+        ScriptEngine scriptEngine = mock(ScriptEngine.class, withSettings().extraInterfaces(Compilable.class));
+        when(scriptEngine.getContext()).thenReturn(scriptContext);
+        when(scriptEngineContainer.getScriptEngine()).thenReturn(scriptEngine);
+        when(((Compilable) scriptEngine).compile(SCRIPT)).thenReturn(compiledScript);
+        when(compiledScript.getEngine()).thenReturn(scriptEngine);
+
+        ScriptActionHandler handler = new ScriptActionHandler(action, "rule", scriptEngineManager, h -> {
+        });
+        handler.execute(Map.of());
+        handler.resetScriptEngine();
+        handler.execute(Map.of());
+
+        verify((Compilable) scriptEngine, times(2)).compile(SCRIPT);
+        assertThat(handler.getCompilations(), is(2L));
+    }
+
+    @Test
+    public void nonCompilableScriptsAreEvaluated() throws ScriptException {
+        ScriptEngine scriptEngine = mock(ScriptEngine.class);
+        when(scriptEngine.getContext()).thenReturn(scriptContext);
+        when(scriptEngineContainer.getScriptEngine()).thenReturn(scriptEngine);
+        when(scriptEngine.eval(SCRIPT)).thenReturn("result");
+
+        ScriptActionHandler handler = new ScriptActionHandler(action, "rule", scriptEngineManager, h -> {
+        });
+        assertThat(handler.execute(Map.of()), is(Map.of("result", "result")));
+
+        verify(scriptEngine).eval(SCRIPT);
+        assertThat(handler.getCompilations(), is(0L));
+        assertThat(handler.getEvaluations(), is(1L));
+    }
+
+    @Test
+    public void nullResultIsPutIntoOutput() throws ScriptException {
+        ScriptEngine scriptEngine = mock(ScriptEngine.class);
+        when(scriptEngine.getContext()).thenReturn(scriptContext);
+        when(scriptEngineContainer.getScriptEngine()).thenReturn(scriptEngine);
+
+        ScriptActionHandler handler = new ScriptActionHandler(action, "rule", scriptEngineManager, h -> {
+        });
+        assertThat(handler.execute(Map.of()), hasEntry("result", null));
+    }
+}
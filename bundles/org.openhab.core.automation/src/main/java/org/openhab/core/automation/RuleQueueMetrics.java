@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link RuleQueueMetrics} provide runtime statistics of the queues the executions and scheduled tasks of the
+ * {@link Rule}s wait in until they are run one after another.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface RuleQueueMetrics {
+
+    /**
+     * Gets the UIDs of the rules that have a queue.
+     *
+     * @return the UIDs of the rules
+     */
+    Set<String> getQueuedRuleUIDs();
+
+    /**
+     * Gets the number of tasks of a rule waiting to be run.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the number of pending tasks, 0 if the rule has no queue
+     */
+    int getPendingTasks(String ruleUID);
+
+    /**
+     * Gets the highest number of tasks of a rule that have been waiting to be run at the same time.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the maximum number of pending tasks, 0 if the rule has no queue
+     */
+    int getMaxPendingTasks(String ruleUID);
+
+    /**
+     * Gets the number of tasks of a rule that have been run.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the number of executed tasks, 0 if the rule has no queue
+     */
+    long getExecutedTasks(String ruleUID);
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ScriptModuleMetrics} provide runtime statistics of the compilations and evaluations of the scripts of the
+ * script actions and conditions of the {@link Rule}s. They are provided by the add-on handling the script modules.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface ScriptModuleMetrics {
+
+    /**
+     * Gets the UIDs of the rules that have script modules.
+     *
+     * @return the UIDs of the rules
+     */
+    Set<String> getScriptRuleUIDs();
+
+    /**
+     * Gets the number of times the scripts of a rule have been compiled.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the number of compilations
+     */
+    long getCompilations(String ruleUID);
+
+    /**
+     * Gets the total time spent compiling the scripts of a rule.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the compile time in nanoseconds
+     */
+    long getCompileTime(String ruleUID);
+
+    /**
+     * Gets the number of times the scripts of a rule have been evaluated.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the number of evaluations
+     */
+    long getEvaluations(String ruleUID);
+
+    /**
+     * Gets the total time spent evaluating the scripts of a rule.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the evaluation time in nanoseconds
+     */
+    long getEvalTime(String ruleUID);
+}
@@ -41,6 +41,7 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Rule;
 import org.openhab.core.automation.RuleExecution;
 import org.openhab.core.automation.RuleManager;
+import org.openhab.core.automation.RuleQueueMetrics;
 import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.automation.RuleStatus;
 import org.openhab.core.automation.RuleStatusDetail;
@@ -109,10 +110,12 @@ import org.slf4j.LoggerFactory;
  * @author Benedikt Niehues - change behavior for unregistering ModuleHandler
  * @author Markus Rathgeb - use a managed rule
  * @author Ana Dimova - new reference syntax: list[index], map["key"], bean.field
+ * @author crnjan - Status transitions of rule executions without the engine lock
  */
-@Component(immediate = true, service = { RuleManager.class })
+@Component(immediate = true, service = { RuleManager.class, RuleQueueMetrics.class })
 @NonNullByDefault
-public class RuleEngineImpl implements RuleManager, RegistryChangeListener<ModuleType>, ReadyTracker {
+public class RuleEngineImpl
+        implements RuleManager, RuleQueueMetrics, RegistryChangeListener<ModuleType>, ReadyTracker {
 
     /**
      * Constant defining separator between module id and output name.
@@ -132,7 +135,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      * There is only one {@link TriggerHandlerCallback} instance per {@link Rule}. The relation is
      * {@link Rule}'s UID to {@link TriggerHandlerCallback} instance.
      */
-    private final Map<String, TriggerHandlerCallbackImpl> thCallbacks = new HashMap<>();
+    private final Map<String, TriggerHandlerCallbackImpl> thCallbacks = new ConcurrentHashMap<>();
 
     /**
      * {@link Map} holding all {@link ModuleType} UIDs that are available in some rule's module definition. The relation
@@ -175,9 +178,10 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      * {@link Map} holding all Rule context maps. Rule context maps contain dynamic parameters used by the
      * {@link Rule}'s {@link ModuleImpl}s to communicate with each other during the {@link Rule}'s execution.
      * The context map of a {@link Rule} is cleaned when the execution is completed. The relation is
-     * {@link Rule}'s UID to Rule context map.
+     * {@link Rule}'s UID to Rule context map. The context maps are synchronized, as they are used by the threads
+     * executing the rules without a common lock; context values may be null.
      */
-    private final Map<String, Map<String, Object>> contextMap = new HashMap<>();
+    private final Map<String, Map<String, Object>> contextMap = new ConcurrentHashMap<>();
 
     /**
      * This field holds reference to {@link ModuleTypeRegistry}. The {@link RuleEngineImpl} needs it to auto-map
@@ -863,6 +867,29 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         return rule.getStatusInfo();
     }
 
+    @Override
+    public Set<String> getQueuedRuleUIDs() {
+        return Set.copyOf(thCallbacks.keySet());
+    }
+
+    @Override
+    public int getPendingTasks(String ruleUID) {
+        TriggerHandlerCallbackImpl callback = thCallbacks.get(ruleUID);
+        return callback == null ? 0 : callback.getExecutor().getPendingTasks();
+    }
+
+    @Override
+    public int getMaxPendingTasks(String ruleUID) {
+        TriggerHandlerCallbackImpl callback = thCallbacks.get(ruleUID);
+        return callback == null ? 0 : callback.getExecutor().getMaxPendingTasks();
+    }
+
+    @Override
+    public long getExecutedTasks(String ruleUID) {
+        TriggerHandlerCallbackImpl callback = thCallbacks.get(ruleUID);
+        return callback == null ? 0 : callback.getExecutor().getExecutedTasks();
+    }
+
     @Override
     public @Nullable RuleStatus getStatus(String ruleUID) {
         RuleStatusInfo statusInfo = getStatusInfo(ruleUID);
@@ -886,8 +913,11 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         if (rule == null) {
             return;
         }
-        rule.setStatusInfo(newStatusInfo);
-        postRuleStatusInfoEvent(ruleUID, newStatusInfo);
+        // the status is posted while holding the lock of the rule, so the events are in the order of the changes
+        synchronized (rule) {
+            rule.setStatusInfo(newStatusInfo);
+            postRuleStatusInfoEvent(ruleUID, newStatusInfo);
+        }
     }
 
     /**
@@ -969,37 +999,62 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             logger.debug("Rule engine not yet started - not executing rule '{}',", ruleUID);
             return;
         }
-        synchronized (this) {
-            final RuleStatus ruleStatus = getRuleStatus(ruleUID);
-            if (ruleStatus != null && ruleStatus != RuleStatus.IDLE) {
-                logger.error("Failed to execute rule ‘{}' with status '{}'", ruleUID, ruleStatus.name());
-                return;
-            }
-            // change state to RUNNING
-            setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
+        final WrappedRule rule = managedRules.get(ruleUID);
+        if (rule == null || !startRunning(rule)) {
+            return;
         }
         try {
             clearContext(ruleUID);
 
             setTriggerOutputs(ruleUID, td);
-            final WrappedRule rule = managedRules.get(ruleUID);
-            if (rule != null) {
-                boolean isSatisfied = calculateConditions(rule);
-                if (isSatisfied) {
-                    executeActions(rule, true);
-                    logger.debug("The rule '{}' is executed.", ruleUID);
-                } else {
-                    logger.debug("The rule '{}' is NOT executed, since it has unsatisfied conditions.", ruleUID);
-                }
+            boolean isSatisfied = calculateConditions(rule);
+            if (isSatisfied) {
+                executeActions(rule, true);
+                logger.debug("The rule '{}' is executed.", ruleUID);
+            } else {
+                logger.debug("The rule '{}' is NOT executed, since it has unsatisfied conditions.", ruleUID);
             }
         } catch (Throwable t) {
             logger.error("Failed to execute rule '{}': {}", ruleUID, t.getMessage());
             logger.debug("", t);
         }
-        // change state to IDLE only if the rule has not been DISABLED.
-        synchronized (this) {
-            if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
-                setStatus(ruleUID, new RuleStatusInfo(RuleStatus.IDLE));
+        stopRunning(rule);
+    }
+
+    /**
+     * Changes the status of an idle rule to {@link RuleStatus#RUNNING}.
+     * <p>
+     * Only the lock of the rule is held, so different rules can be run in parallel without a common lock.
+     *
+     * @param rule the rule
+     * @return true if the rule has been idle and can be run
+     */
+    private boolean startRunning(WrappedRule rule) {
+        synchronized (rule) {
+            final RuleStatus ruleStatus = rule.getStatusInfo().getStatus();
+            if (ruleStatus != RuleStatus.IDLE) {
+                logger.error("Failed to execute rule ‘{}' with status '{}'", rule.getUID(), ruleStatus.name());
+                return false;
+            }
+            final RuleStatusInfo running = new RuleStatusInfo(RuleStatus.RUNNING);
+            rule.setStatusInfo(running);
+            postRuleStatusInfoEvent(rule.getUID(), running);
+            return true;
+        }
+    }
+
+    /**
+     * Changes the status of a running rule back to {@link RuleStatus#IDLE}, unless it has been changed (e.g. the rule
+     * has been disabled) while it was running.
+     *
+     * @param rule the rule
+     */
+    private void stopRunning(WrappedRule rule) {
+        synchronized (rule) {
+            if (rule.getStatusInfo().getStatus() == RuleStatus.RUNNING) {
+                final RuleStatusInfo idle = new RuleStatusInfo(RuleStatus.IDLE);
+                rule.setStatusInfo(idle);
+                postRuleStatusInfoEvent(rule.getUID(), idle);
             }
         }
     }
@@ -1013,14 +1068,8 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             logger.warn("Failed to execute rule '{}': Invalid Rule UID", ruleUID);
             return returnContext;
         }
-        synchronized (this) {
-            final RuleStatus ruleStatus = getRuleStatus(ruleUID);
-            if (ruleStatus != null && ruleStatus != RuleStatus.IDLE) {
-                logger.error("Failed to execute rule ‘{}' with status '{}'", ruleUID, ruleStatus.name());
-                return returnContext;
-            }
-            // change state to RUNNING
-            setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
+        if (!startRunning(rule)) {
+            return returnContext;
         }
         try {
             clearContext(ruleUID);
@@ -1031,16 +1080,14 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 executeActions(rule, false);
             }
             logger.debug("The rule '{}' is executed.", ruleUID);
-            returnContext.putAll(getContext(ruleUID, null));
+            Map<String, Object> ruleContext = getContext(ruleUID, null);
+            synchronized (ruleContext) {
+                returnContext.putAll(ruleContext);
+            }
         } catch (Throwable t) {
             logger.error("Failed to execute rule '{}': ", ruleUID, t);
         }
-        // change state to IDLE only if the rule has not been DISABLED.
-        synchronized (this) {
-            if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
-                setStatus(ruleUID, new RuleStatusInfo(RuleStatus.IDLE));
-            }
-        }
+        stopRunning(rule);
         return returnContext;
     }
 
@@ -1092,7 +1139,8 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      * @return copy of current context in rule engine
      */
     private Map<String, Object> getContext(String ruleUID, @Nullable Set<Connection> connections) {
-        Map<String, Object> context = contextMap.computeIfAbsent(ruleUID, k -> new HashMap<>());
+        Map<String, Object> context = contextMap.computeIfAbsent(ruleUID,
+                k -> Collections.synchronizedMap(new HashMap<>()));
         if (context == null) {
             throw new IllegalStateException("context cannot be null at that point - please report a bug.");
         }
@@ -0,0 +1,355 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RuleExecutor} executes the tasks of one rule one after another on a thread pool shared by all rules.
+ * <p>
+ * The tasks are run in the order they have been submitted and never in parallel, like on a single thread executor,
+ * but a rule only occupies a thread while it has tasks to run. Delayed and periodic tasks are timed on the common
+ * scheduled thread pool and run on the rule's queue when they are due.
+ * <p>
+ * The shared {@value #THREAD_POOL_NAME} thread pool is not bounded and creates a thread whenever all of its threads
+ * are busy, so rules that sleep or block only delay their own executions and never those of other rules. Threads that
+ * have been idle for a minute are released.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class RuleExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    /** The name of the thread pool the rules are executed on. */
+    public static final String THREAD_POOL_NAME = "rules";
+
+    private static final ExecutorService RULE_THREAD_POOL = Executors
+            .newCachedThreadPool(new NamedThreadFactory(THREAD_POOL_NAME));
+
+    private final Logger logger = LoggerFactory.getLogger(RuleExecutor.class);
+
+    private final String ruleUID;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private final Set<ScheduledTask<?>> scheduledTasks = ConcurrentHashMap.newKeySet();
+    private final Object terminationLock = new Object();
+
+    private boolean scheduled = false;
+    private boolean shutdown = false;
+    private @Nullable Thread runningThread;
+
+    private long executedTasks = 0;
+    private int maxPendingTasks = 0;
+
+    public RuleExecutor(String ruleUID) {
+        this(ruleUID, RULE_THREAD_POOL, ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON));
+    }
+
+    RuleExecutor(String ruleUID, Executor executor, ScheduledExecutorService scheduler) {
+        this.ruleUID = ruleUID;
+        this.executor = executor;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("The executor of rule '" + ruleUID + "' has been shut down.");
+            }
+            queue.add(command);
+            maxPendingTasks = Math.max(maxPendingTasks, queue.size());
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+        submit();
+    }
+
+    private void submit() {
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Executing rule '{}' failed, its pending tasks are dropped: {}", ruleUID, e.getMessage());
+            synchronized (this) {
+                queue.clear();
+                scheduled = false;
+            }
+            terminated();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                task = queue.poll();
+                if (task == null) {
+                    // reset under the same lock as the queue is checked, so a concurrent execute() submits a new
+                    // runner for this rule
+                    scheduled = false;
+                    return;
+                }
+                runningThread = Thread.currentThread();
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Executing a task of rule '{}' failed: {}", ruleUID, e.getMessage(), e);
+            } finally {
+                boolean terminated;
+                synchronized (this) {
+                    runningThread = null;
+                    executedTasks++;
+                    // clears a pending interrupt of shutdownNow, so it does not leak to the next task on this thread
+                    Thread.interrupted();
+                    terminated = shutdown && queue.isEmpty();
+                }
+                if (terminated) {
+                    terminated();
+                }
+            }
+        }
+    }
+
+    private void terminated() {
+        synchronized (terminationLock) {
+            terminationLock.notifyAll();
+        }
+    }
+
+    /**
+     * Gets the number of tasks waiting to be run.
+     *
+     * @return the number of pending tasks
+     */
+    public synchronized int getPendingTasks() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the highest number of tasks that have been waiting to be run at the same time.
+     *
+     * @return the maximum number of pending tasks
+     */
+    public synchronized int getMaxPendingTasks() {
+        return maxPendingTasks;
+    }
+
+    /**
+     * Gets the number of tasks that have been run.
+     *
+     * @return the number of executed tasks
+     */
+    public synchronized long getExecutedTasks() {
+        return executedTasks;
+    }
+
+    @Override
+    public void shutdown() {
+        boolean terminated;
+        synchronized (this) {
+            shutdown = true;
+            terminated = !scheduled;
+        }
+        scheduledTasks.forEach(task -> task.cancel(false));
+        if (terminated) {
+            terminated();
+        }
+    }
+
+    @Override
+    @NonNullByDefault({})
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending;
+        synchronized (this) {
+            shutdown = true;
+            pending = new ArrayList<>(queue);
+            queue.clear();
+            Thread runningThread = this.runningThread;
+            if (runningThread != null) {
+                runningThread.interrupt();
+            }
+        }
+        scheduledTasks.forEach(task -> task.cancel(false));
+        terminated();
+        return pending;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && queue.isEmpty() && runningThread == null;
+    }
+
+    @Override
+    @NonNullByDefault({})
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (terminationLock) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(terminationLock, remaining);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @NonNullByDefault({})
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(Executors.callable(command), delay, unit, 0);
+    }
+
+    @Override
+    @NonNullByDefault({})
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return schedule(callable, delay, unit, 0);
+    }
+
+    @Override
+    @NonNullByDefault({})
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be positive.");
+        }
+        return schedule(Executors.callable(command), initialDelay, unit, unit.toNanos(period));
+    }
+
+    @Override
+    @NonNullByDefault({})
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("The delay must be positive.");
+        }
+        return schedule(Executors.callable(command), initialDelay, unit, -unit.toNanos(delay));
+    }
+
+    private <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit, long period) {
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("The executor of rule '" + ruleUID + "' has been shut down.");
+            }
+        }
+        ScheduledTask<V> scheduledTask = new ScheduledTask<>(callable, period);
+        scheduledTasks.add(scheduledTask);
+        scheduledTask.schedule(unit.toNanos(delay));
+        return scheduledTask;
+    }
+
+    /**
+     * A task that is put into the queue of the rule when it is due.
+     *
+     * @param <V> the type of the result
+     */
+    private class ScheduledTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        // 0 for one-shot tasks, > 0 for a fixed rate and < 0 for a fixed delay, in nanoseconds
+        private final long period;
+
+        private volatile @Nullable ScheduledFuture<?> timer;
+        private volatile long time;
+
+        private ScheduledTask(Callable<V> callable, long period) {
+            super(callable);
+            this.period = period;
+        }
+
+        private void schedule(long delay) {
+            time = System.nanoTime() + delay;
+            timer = scheduler.schedule(this::enqueue, delay, TimeUnit.NANOSECONDS);
+            if (isCancelled()) {
+                // cancelled concurrently, before the timer was set
+                cancelTimer();
+            }
+        }
+
+        private void enqueue() {
+            try {
+                execute(this::runTask);
+            } catch (RejectedExecutionException e) {
+                cancel(false);
+            }
+        }
+
+        private void runTask() {
+            if (period == 0) {
+                run();
+                scheduledTasks.remove(this);
+            } else if (runAndReset()) {
+                schedule(period > 0 ? Math.max(0, time + period - System.nanoTime()) : -period);
+            } else {
+                scheduledTasks.remove(this);
+            }
+        }
+
+        private void cancelTimer() {
+            ScheduledFuture<?> timer = this.timer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            cancelTimer();
+            scheduledTasks.remove(this);
+            return cancelled;
+        }
+
+        @Override
+        @NonNullByDefault({})
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        @NonNullByDefault({})
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
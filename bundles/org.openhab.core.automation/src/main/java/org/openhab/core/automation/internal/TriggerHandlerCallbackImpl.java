@@ -13,7 +13,6 @@
 package org.openhab.core.automation.internal;
 
 import java.util.Map;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -23,7 +22,6 @@ import org.openhab.core.automation.RuleStatus;
 import org.openhab.core.automation.RuleStatusInfo;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
-import org.openhab.core.common.NamedThreadFactory;
 
 /**
  * This class is implementation of {@link TriggerHandlerCallback} used by the {@link Trigger}s to notify rule engine
@@ -33,6 +31,7 @@ import org.openhab.core.common.NamedThreadFactory;
  * @author Yordan Mihaylov - Initial contribution
  * @author Kai Kreuzer - improved stability
  * @author Fabian Wolter - Change executor to ScheduledExecutorService and expose it
+ * @author crnjan - Execute the rule on a shared thread pool
  */
 @NonNullByDefault
 public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
@@ -41,14 +40,14 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
 
     private final String ruleUID;
 
-    private ScheduledExecutorService executor;
+    private final RuleExecutor executor;
 
     private @Nullable Future<?> future;
 
     protected TriggerHandlerCallbackImpl(RuleEngineImpl re, String ruleUID) {
         this.re = re;
         this.ruleUID = ruleUID;
-        executor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("rule-" + ruleUID));
+        executor = new RuleExecutor(ruleUID);
     }
 
     @Override
@@ -56,7 +55,8 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
         synchronized (this) {
             future = executor.submit(new TriggerData(trigger, context));
         }
-        re.logger.debug("The trigger '{}' of rule '{}' is triggered.", trigger.getId(), ruleUID);
+        re.logger.debug("The trigger '{}' of rule '{}' is triggered, {} execution(s) pending.", trigger.getId(),
+                ruleUID, executor.getPendingTasks());
     }
 
     public boolean isRunning() {
@@ -128,4 +128,8 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
     public ScheduledExecutorService getScheduler() {
         return executor;
     }
+
+    RuleExecutor getExecutor() {
+        return executor;
+    }
 }
@@ -88,8 +88,10 @@ public class GenericEventTriggerHandler extends BaseTriggerModuleHandler impleme
     public void receive(Event event) {
         ModuleHandlerCallback callback = this.callback;
         if (callback != null) {
-            logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
-                    event.getTopic(), event.getType(), event.getPayload());
+            if (logger.isTraceEnabled()) {
+                logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
+                        event.getTopic(), event.getType(), event.getPayload());
+            }
             if (!event.getTopic().contains(source)) {
                 return;
             }
@@ -111,8 +111,10 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
 
         if (callback instanceof TriggerHandlerCallback) {
             TriggerHandlerCallback cb = (TriggerHandlerCallback) callback;
-            logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
-                    event.getTopic(), event.getType(), event.getPayload());
+            if (logger.isTraceEnabled()) {
+                logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
+                        event.getTopic(), event.getType(), event.getPayload());
+            }
             if (event instanceof ItemStateEvent && UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
                 ItemStateEvent isEvent = (ItemStateEvent) event;
                 String itemName = isEvent.getItemName();
@@ -119,8 +119,10 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
 
         ModuleHandlerCallback callback = this.callback;
         if (callback != null) {
-            logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
-                    event.getTopic(), event.getType(), event.getPayload());
+            if (logger.isTraceEnabled()) {
+                logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
+                        event.getTopic(), event.getType(), event.getPayload());
+            }
             Map<String, Object> values = new HashMap<>();
             if (event instanceof ItemStateEvent && UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
                 String state = this.state;
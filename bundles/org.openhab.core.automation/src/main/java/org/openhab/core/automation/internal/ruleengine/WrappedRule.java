@@ -31,6 +31,7 @@ import org.openhab.core.automation.handler.ModuleHandler;
  * This class holds the information that is necessary for the rule engine.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author crnjan - Status readable by the rule threads without a lock
  */
 @NonNullByDefault
 public class WrappedRule {
@@ -47,7 +48,7 @@ public class WrappedRule {
 
     private final Rule rule;
 
-    private RuleStatusInfo statusInfo = new RuleStatusInfo(RuleStatus.UNINITIALIZED, RuleStatusDetail.NONE);
+    private volatile RuleStatusInfo statusInfo = new RuleStatusInfo(RuleStatus.UNINITIALIZED, RuleStatusDetail.NONE);
 
     private final List<WrappedModule<Module, ModuleHandler>> modules;
     private final List<WrappedAction> actions;
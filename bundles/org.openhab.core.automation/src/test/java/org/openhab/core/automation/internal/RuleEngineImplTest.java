@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.automation.RuleStatus;
+import org.openhab.core.automation.events.RuleStatusInfoEvent;
+import org.openhab.core.automation.handler.ActionHandler;
+import org.openhab.core.automation.handler.ModuleHandlerFactory;
+import org.openhab.core.automation.type.ActionType;
+import org.openhab.core.automation.type.ModuleTypeRegistry;
+import org.openhab.core.automation.util.ModuleBuilder;
+import org.openhab.core.automation.util.RuleBuilder;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.service.ReadyService;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.storage.StorageService;
+
+/**
+ * The {@link RuleEngineImplTest} tests the executions of rules by the {@link RuleEngineImpl}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class RuleEngineImplTest {
+
+    private static final String RULE_UID = "rule";
+    private static final String ACTION_TYPE = "test.action";
+    private static final int THREAD_COUNT = 8;
+    private static final int RUNS_PER_THREAD = 200;
+
+    private @Mock @NonNullByDefault({}) ModuleTypeRegistry moduleTypeRegistry;
+    private @Mock @NonNullByDefault({}) RuleRegistry ruleRegistry;
+    private @Mock @NonNullByDefault({}) StorageService storageService;
+    private @Mock @NonNullByDefault({}) Storage<Boolean> storage;
+    private @Mock @NonNullByDefault({}) ReadyService readyService;
+    private @Mock @NonNullByDefault({}) ModuleHandlerFactory moduleHandlerFactory;
+    private @Mock @NonNullByDefault({}) ActionHandler actionHandler;
+    private @Mock @NonNullByDefault({}) EventPublisher eventPublisher;
+
+    private final List<RuleStatus> postedStatuses = new ArrayList<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private @NonNullByDefault({}) RuleEngineImpl ruleEngine;
+
+    @BeforeEach
+    public void setUp() {
+        when(storageService.<Boolean> getStorage(anyString(), any())).thenReturn(storage);
+        when(moduleTypeRegistry.get(ACTION_TYPE)).thenReturn(new ActionType(ACTION_TYPE, null, null));
+        when(moduleHandlerFactory.getTypes()).thenReturn(List.of(ACTION_TYPE));
+        when(moduleHandlerFactory.getHandler(any(), eq(RULE_UID))).thenReturn(actionHandler);
+        when(actionHandler.execute(any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            executions.incrementAndGet();
+            Thread.yield();
+            running.decrementAndGet();
+            return Map.of("result", "done");
+        });
+        doAnswer(invocation -> {
+            synchronized (postedStatuses) {
+                postedStatuses.add(((RuleStatusInfoEvent) invocation.getArgument(0)).getStatusInfo().getStatus());
+            }
+            return null;
+        }).when(eventPublisher).post(any());
+
+        ruleEngine = new RuleEngineImpl(moduleTypeRegistry, ruleRegistry, storageService, readyService);
+        ruleEngine.setEventPublisher(eventPublisher);
+        ruleEngine.addModuleHandlerFactory(moduleHandlerFactory);
+
+        Rule rule = RuleBuilder.create(RULE_UID).withActions(
+                ModuleBuilder.createAction().withId("action").withTypeUID(ACTION_TYPE).build()).build();
+        ruleEngine.addRule(rule);
+        assertEquals(RuleStatus.IDLE, ruleEngine.getStatus(RULE_UID));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ruleEngine.deactivate();
+    }
+
+    @Test
+    public void testConcurrentExecutionsOfSameRule() throws Exception {
+        synchronized (postedStatuses) {
+            postedStatuses.clear();
+        }
+        ExecutorService threads = Executors.newFixedThreadPool(THREAD_COUNT);
+        CyclicBarrier start = new CyclicBarrier(THREAD_COUNT);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        List<Throwable> failures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                threads.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < RUNS_PER_THREAD; i++) {
+                            ruleEngine.runNow(RULE_UID, false, Map.of("run", i));
+                        }
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        } finally {
+            threads.shutdownNow();
+        }
+
+        assertEquals(List.of(), failures);
+        // executions of the same rule never overlap, a concurrent execution is rejected while the rule is running
+        assertEquals(1, maxRunning.get());
+        assertTrue(executions.get() > 0);
+        assertEquals(RuleStatus.IDLE, ruleEngine.getStatus(RULE_UID));
+
+        // every execution posts RUNNING and then IDLE, and the events are never interleaved
+        List<RuleStatus> statuses;
+        synchronized (postedStatuses) {
+            statuses = List.copyOf(postedStatuses);
+        }
+        assertEquals(executions.get() * 2, statuses.size());
+        for (int i = 0; i < statuses.size(); i++) {
+            assertEquals(i % 2 == 0 ? RuleStatus.RUNNING : RuleStatus.IDLE, statuses.get(i));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link RuleExecutorTest} tests the {@link RuleExecutor}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class RuleExecutorTest {
+
+    private static final int TASK_COUNT = 200;
+
+    private @NonNullByDefault({}) ExecutorService pool;
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) RuleExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        executor = new RuleExecutor("rule", pool, scheduler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        pool.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testTasksRunInOrderAndNeverInParallel() throws InterruptedException {
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(TASK_COUNT);
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            int task = i;
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executed.add(task);
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, TASK_COUNT).boxed().collect(Collectors.toList()), executed);
+        assertEquals(1, maxRunning.get());
+        assertTrue(executor.getMaxPendingTasks() >= 1);
+    }
+
+    @Test
+    public void testTasksNeverRunInParallelWhenSubmittedConcurrently() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(TASK_COUNT * 4);
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int s = 0; s < 4; s++) {
+                submitters.execute(() -> {
+                    for (int i = 0; i < TASK_COUNT; i++) {
+                        executor.execute(() -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.yield();
+                            running.decrementAndGet();
+                            latch.countDown();
+                        });
+                        // let the queue run empty now and then, so that executions race with the end of a run
+                        Thread.yield();
+                    }
+                });
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, maxRunning.get());
+        } finally {
+            submitters.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBlockedRuleDoesNotBlockOtherRules() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherExecuted = new CountDownLatch(1);
+        RuleExecutor other = new RuleExecutor("other", pool, scheduler);
+
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> {
+        });
+        other.execute(otherExecuted::countDown);
+
+        assertTrue(otherExecuted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getPendingTasks());
+        release.countDown();
+        other.shutdown();
+        assertTrue(other.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBlockedRulesDoNotStarveOtherRulesOnSharedPool() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherExecuted = new CountDownLatch(1);
+        List<RuleExecutor> blockedRules = IntStream.range(0, 20).mapToObj(i -> new RuleExecutor("blocked" + i))
+                .collect(Collectors.toList());
+        RuleExecutor other = new RuleExecutor("other");
+
+        try {
+            // more blocked rules than a bounded pool of the default size has threads
+            blockedRules.forEach(blocked -> blocked.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            other.execute(otherExecuted::countDown);
+
+            assertTrue(otherExecuted.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            blockedRules.forEach(RuleExecutor::shutdownNow);
+            other.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testScheduledTasks() throws Exception {
+        ScheduledFuture<String> future = executor.schedule(() -> "done", 10, TimeUnit.MILLISECONDS);
+        assertEquals("done", future.get(5, TimeUnit.SECONDS));
+
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> periodic = executor.scheduleAtFixedRate(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(periodic.cancel(false));
+        assertTrue(periodic.isCancelled());
+
+        ScheduledFuture<?> delayed = executor.schedule(() -> fail("cancelled task must not run"), 1, TimeUnit.HOURS);
+        executor.shutdown();
+        assertTrue(delayed.isCancelled());
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownNow() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        executor.execute(() -> fail("pending task must not run"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, executor.shutdownNow().size());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+}
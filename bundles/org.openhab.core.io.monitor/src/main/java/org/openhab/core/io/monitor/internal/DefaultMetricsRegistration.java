@@ -16,15 +16,26 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.RuleQueueMetrics;
 import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.automation.ScriptModuleMetrics;
+import org.openhab.core.events.EventBusMetrics;
 import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
+import org.openhab.core.io.monitor.internal.metrics.EventBusMetric;
 import org.openhab.core.io.monitor.internal.metrics.EventCountMetric;
+import org.openhab.core.io.monitor.internal.metrics.ExpireMetric;
 import org.openhab.core.io.monitor.internal.metrics.JVMMetric;
 import org.openhab.core.io.monitor.internal.metrics.OpenhabCoreMeterBinder;
+import org.openhab.core.io.monitor.internal.metrics.PersistenceMetric;
 import org.openhab.core.io.monitor.internal.metrics.RuleMetric;
+import org.openhab.core.io.monitor.internal.metrics.RuleQueueMetric;
+import org.openhab.core.io.monitor.internal.metrics.ScriptModuleMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThingStateMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThreadPoolMetric;
+import org.openhab.core.items.ExpireMetrics;
+import org.openhab.core.persistence.PersistenceQueueMetrics;
 import org.openhab.core.service.ReadyMarker;
 import org.openhab.core.service.ReadyMarkerFilter;
 import org.openhab.core.service.ReadyService;
@@ -35,6 +46,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,14 +72,41 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
     private final ReadyService readyService;
     private final ThingRegistry thingRegistry;
     private final RuleRegistry ruleRegistry;
+    private final EventBusMetrics eventBusMetrics;
+    private final ExpireMetrics expireMetrics;
+    private final PersistenceQueueMetrics persistenceQueueMetrics;
+    private final RuleQueueMetrics ruleQueueMetrics;
+    private final ScriptModuleMetric scriptModuleMetric;
+    private volatile @Nullable ScriptModuleMetrics scriptModuleMetrics;
 
     @Activate
     public DefaultMetricsRegistration(BundleContext bundleContext, final @Reference ReadyService readyService,
-            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry) {
+            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry,
+            final @Reference EventBusMetrics eventBusMetrics, final @Reference ExpireMetrics expireMetrics,
+            final @Reference PersistenceQueueMetrics persistenceQueueMetrics,
+            final @Reference RuleQueueMetrics ruleQueueMetrics) {
         this.bundleContext = bundleContext;
         this.readyService = readyService;
         this.thingRegistry = thingRegistry;
         this.ruleRegistry = ruleRegistry;
+        this.eventBusMetrics = eventBusMetrics;
+        this.expireMetrics = expireMetrics;
+        this.persistenceQueueMetrics = persistenceQueueMetrics;
+        this.ruleQueueMetrics = ruleQueueMetrics;
+        this.scriptModuleMetric = new ScriptModuleMetric(() -> this.scriptModuleMetrics, Set.of(OH_CORE_METRIC_TAG));
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setScriptModuleMetrics(ScriptModuleMetrics scriptModuleMetrics) {
+        this.scriptModuleMetrics = scriptModuleMetrics;
+        scriptModuleMetric.refresh();
+    }
+
+    protected void unsetScriptModuleMetrics(ScriptModuleMetrics scriptModuleMetrics) {
+        if (this.scriptModuleMetrics == scriptModuleMetrics) {
+            this.scriptModuleMetrics = null;
+            scriptModuleMetric.refresh();
+        }
     }
 
     @Activate
@@ -90,7 +130,12 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new BundleStateMetric(bundleContext, tags));
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
+        meters.add(new EventBusMetric(eventBusMetrics, tags));
+        meters.add(new ExpireMetric(expireMetrics, tags));
+        meters.add(new PersistenceMetric(persistenceQueueMetrics, tags));
         meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new RuleQueueMetric(ruleQueueMetrics, tags));
+        meters.add(scriptModuleMetric);
         meters.add(new ThreadPoolMetric(tags));
 
         meters.forEach(m -> m.bindTo(registry));
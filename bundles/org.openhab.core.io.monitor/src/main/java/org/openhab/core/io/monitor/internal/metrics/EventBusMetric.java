@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.events.EventBusMetrics;
+import org.openhab.core.events.EventSubscriberMetrics;
+import org.openhab.core.events.EventTimingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link EventBusMetric} class publishes the {@link EventBusMetrics} of the openHAB event bus.
+ *
+ * Event types and subscribers come and go at runtime, so their meters are refreshed periodically.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_PREFIX = "openhab.event.bus";
+    public static final String SUBSCRIBER_METRIC_PREFIX = "openhab.event.subscriber";
+    private static final Tag CORE_EVENT_BUS_METRIC_TAG = Tag.of("metric", "openhab.core.metric.eventbus");
+    private static final String TYPE_TAG_NAME = "type";
+    private static final String SUBSCRIBER_TAG_NAME = "subscriber";
+    private static final String QUANTILE_TAG_NAME = "quantile";
+    private static final String MILLISECONDS = "milliseconds";
+    private static final List<Double> QUANTILES = List.of(0.5, 0.99, 1.0);
+    private static final long REFRESH_INTERVAL_SECONDS = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(EventBusMetric.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("common");
+    private final EventBusMetrics eventBusMetrics;
+    private final Tags tags;
+    private final Set<String> registeredTypes = new HashSet<>();
+    private final Map<String, Set<Meter>> registeredSubscribers = new HashMap<>();
+    private @Nullable MeterRegistry meterRegistry;
+    private @Nullable ScheduledFuture<?> refreshJob;
+
+    public EventBusMetric(EventBusMetrics eventBusMetrics, Collection<Tag> tags) {
+        this.eventBusMetrics = eventBusMetrics;
+        this.tags = Tags.of(tags).and(CORE_EVENT_BUS_METRIC_TAG);
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("EventBusMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_PREFIX + ".queue.size", eventBusMetrics, EventBusMetrics::getQueueSize)
+                .description("Events waiting to be dispatched").baseUnit("events").tags(tags).register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".dropped", eventBusMetrics, EventBusMetrics::getDroppedEvents)
+                .description("Events dropped by the event bus").baseUnit("events").tags(tags).register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".coalesced", eventBusMetrics, EventBusMetrics::getCoalescedEvents)
+                .description("State events replaced by a newer state of the same item").baseUnit("events").tags(tags)
+                .register(meterRegistry);
+        registerTimingMeters(meterRegistry, METRIC_PREFIX + ".latency", "Time from publishing to delivering events",
+                tags, eventBusMetrics.getDeliveryLatency());
+        refresh();
+        refreshJob = scheduler.scheduleWithFixedDelay(this::refresh, REFRESH_INTERVAL_SECONDS, REFRESH_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void unbind() {
+        ScheduledFuture<?> refreshJob = this.refreshJob;
+        if (refreshJob != null) {
+            refreshJob.cancel(false);
+            this.refreshJob = null;
+        }
+        synchronized (this) {
+            MeterRegistry meterRegistry = this.meterRegistry;
+            if (meterRegistry == null) {
+                return;
+            }
+            for (Meter meter : meterRegistry.getMeters()) {
+                if (meter.getId().getTags().contains(CORE_EVENT_BUS_METRIC_TAG)) {
+                    meterRegistry.remove(meter);
+                }
+            }
+            registeredTypes.clear();
+            registeredSubscribers.clear();
+            this.meterRegistry = null;
+        }
+    }
+
+    private synchronized void refresh() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (String type : eventBusMetrics.getEventCounts().keySet()) {
+            if (registeredTypes.add(type)) {
+                FunctionCounter
+                        .builder(METRIC_PREFIX + ".events", eventBusMetrics, metrics -> metrics.getEventCount(type))
+                        .description("Events dispatched by the event bus").baseUnit("events")
+                        .tags(tags.and(TYPE_TAG_NAME, type)).register(meterRegistry);
+            }
+        }
+
+        Set<String> subscribers = new HashSet<>();
+        for (EventSubscriberMetrics subscriberMetrics : eventBusMetrics.getSubscriberMetrics()) {
+            String name = subscriberMetrics.getName();
+            subscribers.add(name);
+            if (!registeredSubscribers.containsKey(name)) {
+                registeredSubscribers.put(name, registerSubscriberMeters(meterRegistry, subscriberMetrics));
+            }
+        }
+        registeredSubscribers.entrySet().removeIf(entry -> {
+            if (subscribers.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().forEach(meterRegistry::remove);
+            return true;
+        });
+    }
+
+    private Set<Meter> registerSubscriberMeters(MeterRegistry meterRegistry, EventSubscriberMetrics subscriberMetrics) {
+        Tags subscriberTags = tags.and(SUBSCRIBER_TAG_NAME, subscriberMetrics.getName());
+        Set<Meter> meters = new HashSet<>();
+        meters.add(Gauge
+                .builder(SUBSCRIBER_METRIC_PREFIX + ".pending", subscriberMetrics,
+                        EventSubscriberMetrics::getPendingEvents)
+                .description("Events waiting to be passed to the subscriber").baseUnit("events").tags(subscriberTags)
+                .register(meterRegistry));
+        meters.add(registerCounter(meterRegistry, SUBSCRIBER_METRIC_PREFIX + ".delivered",
+                "Events passed to the subscriber", subscriberTags, subscriberMetrics,
+                EventSubscriberMetrics::getDeliveredEvents));
+        meters.add(registerCounter(meterRegistry, SUBSCRIBER_METRIC_PREFIX + ".failed",
+                "Events the subscriber failed to process", subscriberTags, subscriberMetrics,
+                EventSubscriberMetrics::getFailedEvents));
+        meters.add(registerCounter(meterRegistry, SUBSCRIBER_METRIC_PREFIX + ".dropped",
+                "Events dropped for the subscriber", subscriberTags, subscriberMetrics,
+                EventSubscriberMetrics::getDroppedEvents));
+        meters.addAll(registerTimingMeters(meterRegistry, SUBSCRIBER_METRIC_PREFIX + ".processing",
+                "Time the subscriber spent processing events", subscriberTags, subscriberMetrics.getProcessingTime()));
+        return meters;
+    }
+
+    private Meter registerCounter(MeterRegistry meterRegistry, String name, String description, Tags tags,
+            EventSubscriberMetrics subscriberMetrics, ToDoubleFunction<EventSubscriberMetrics> function) {
+        return FunctionCounter.builder(name, subscriberMetrics, function).description(description).baseUnit("events")
+                .tags(tags).register(meterRegistry);
+    }
+
+    private Set<Meter> registerTimingMeters(MeterRegistry meterRegistry, String name, String description, Tags tags,
+            EventTimingMetrics timingMetrics) {
+        Set<Meter> meters = new HashSet<>();
+        for (double quantile : QUANTILES) {
+            meters.add(Gauge.builder(name, timingMetrics, timing -> timing.getPercentile(quantile * 100))
+                    .description(description).baseUnit(MILLISECONDS)
+                    .tags(tags.and(QUANTILE_TAG_NAME, Double.toString(quantile))).register(meterRegistry));
+        }
+        return meters;
+    }
+}
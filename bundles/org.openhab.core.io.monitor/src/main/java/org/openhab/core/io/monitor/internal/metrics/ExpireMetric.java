@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.ExpireMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link ExpireMetric} class publishes the {@link ExpireMetrics} of the item state expiration.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class ExpireMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_NAME = "openhab.expire.pending";
+    private static final Tag CORE_EXPIRE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.expire");
+
+    private final Logger logger = LoggerFactory.getLogger(ExpireMetric.class);
+    private final ExpireMetrics expireMetrics;
+    private final Tags tags;
+    private @Nullable MeterRegistry meterRegistry;
+
+    public ExpireMetric(ExpireMetrics expireMetrics, Collection<Tag> tags) {
+        this.expireMetrics = expireMetrics;
+        this.tags = Tags.of(tags).and(CORE_EXPIRE_METRIC_TAG);
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("ExpireMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_NAME, expireMetrics, ExpireMetrics::getPendingExpirations)
+                .description("Items waiting for their state to expire").baseUnit("items").tags(tags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_EXPIRE_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.persistence.PersistenceQueueMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link PersistenceMetric} class publishes the {@link PersistenceQueueMetrics} of the persistence services
+ * storing in batches.
+ *
+ * Persistence services come and go at runtime, so their meters are refreshed periodically.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_PREFIX = "openhab.persistence.queue";
+    private static final Tag CORE_PERSISTENCE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.persistence");
+    private static final String SERVICE_TAG_NAME = "service";
+    private static final long REFRESH_INTERVAL_SECONDS = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceMetric.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("common");
+    private final PersistenceQueueMetrics persistenceQueueMetrics;
+    private final Tags tags;
+    private final Map<String, Set<Meter>> registeredServices = new HashMap<>();
+    private @Nullable MeterRegistry meterRegistry;
+    private @Nullable ScheduledFuture<?> refreshJob;
+
+    public PersistenceMetric(PersistenceQueueMetrics persistenceQueueMetrics, Collection<Tag> tags) {
+        this.persistenceQueueMetrics = persistenceQueueMetrics;
+        this.tags = Tags.of(tags).and(CORE_PERSISTENCE_METRIC_TAG);
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("PersistenceMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        refresh();
+        refreshJob = scheduler.scheduleWithFixedDelay(this::refresh, REFRESH_INTERVAL_SECONDS, REFRESH_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void unbind() {
+        ScheduledFuture<?> refreshJob = this.refreshJob;
+        if (refreshJob != null) {
+            refreshJob.cancel(false);
+            this.refreshJob = null;
+        }
+        synchronized (this) {
+            MeterRegistry meterRegistry = this.meterRegistry;
+            if (meterRegistry == null) {
+                return;
+            }
+            for (Meter meter : meterRegistry.getMeters()) {
+                if (meter.getId().getTags().contains(CORE_PERSISTENCE_METRIC_TAG)) {
+                    meterRegistry.remove(meter);
+                }
+            }
+            registeredServices.clear();
+            this.meterRegistry = null;
+        }
+    }
+
+    private synchronized void refresh() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Set<String> serviceIds = persistenceQueueMetrics.getQueuedServiceIds();
+        for (String serviceId : serviceIds) {
+            if (!registeredServices.containsKey(serviceId)) {
+                registeredServices.put(serviceId, registerServiceMeters(meterRegistry, serviceId));
+            }
+        }
+        registeredServices.entrySet().removeIf(entry -> {
+            if (serviceIds.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().forEach(meterRegistry::remove);
+            return true;
+        });
+    }
+
+    private Set<Meter> registerServiceMeters(MeterRegistry meterRegistry, String serviceId) {
+        Tags serviceTags = tags.and(SERVICE_TAG_NAME, serviceId);
+        return Set.of(
+                Gauge.builder(METRIC_PREFIX + ".pending", persistenceQueueMetrics,
+                        metrics -> metrics.getPendingEntries(serviceId))
+                        .description("Item states waiting to be stored by the persistence service").baseUnit("entries")
+                        .tags(serviceTags).register(meterRegistry),
+                FunctionCounter
+                        .builder(METRIC_PREFIX + ".dropped", persistenceQueueMetrics,
+                                metrics -> metrics.getDroppedEntries(serviceId))
+                        .description("Item states dropped because the persistence service could not keep up")
+                        .baseUnit("entries").tags(serviceTags).register(meterRegistry));
+    }
+}
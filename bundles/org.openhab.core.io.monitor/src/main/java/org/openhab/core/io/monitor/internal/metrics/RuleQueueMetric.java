@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.RuleQueueMetrics;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link RuleQueueMetric} class publishes the {@link RuleQueueMetrics} of the queues of the rule executions.
+ *
+ * Rules come and go at runtime, so their meters are refreshed periodically.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class RuleQueueMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_PREFIX = "openhab.rule.queue";
+    private static final Tag CORE_RULE_QUEUE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.rulequeue");
+    private static final String RULE_TAG_NAME = "rule";
+    private static final long REFRESH_INTERVAL_SECONDS = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(RuleQueueMetric.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("common");
+    private final RuleQueueMetrics ruleQueueMetrics;
+    private final Tags tags;
+    private final Map<String, Set<Meter>> registeredRules = new HashMap<>();
+    private @Nullable MeterRegistry meterRegistry;
+    private @Nullable ScheduledFuture<?> refreshJob;
+
+    public RuleQueueMetric(RuleQueueMetrics ruleQueueMetrics, Collection<Tag> tags) {
+        this.ruleQueueMetrics = ruleQueueMetrics;
+        this.tags = Tags.of(tags).and(CORE_RULE_QUEUE_METRIC_TAG);
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("RuleQueueMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        refresh();
+        refreshJob = scheduler.scheduleWithFixedDelay(this::refresh, REFRESH_INTERVAL_SECONDS, REFRESH_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void unbind() {
+        ScheduledFuture<?> refreshJob = this.refreshJob;
+        if (refreshJob != null) {
+            refreshJob.cancel(false);
+            this.refreshJob = null;
+        }
+        synchronized (this) {
+            MeterRegistry meterRegistry = this.meterRegistry;
+            if (meterRegistry == null) {
+                return;
+            }
+            for (Meter meter : meterRegistry.getMeters()) {
+                if (meter.getId().getTags().contains(CORE_RULE_QUEUE_METRIC_TAG)) {
+                    meterRegistry.remove(meter);
+                }
+            }
+            registeredRules.clear();
+            this.meterRegistry = null;
+        }
+    }
+
+    private synchronized void refresh() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Set<String> ruleUIDs = ruleQueueMetrics.getQueuedRuleUIDs();
+        for (String ruleUID : ruleUIDs) {
+            if (!registeredRules.containsKey(ruleUID)) {
+                registeredRules.put(ruleUID, registerRuleMeters(meterRegistry, ruleUID));
+            }
+        }
+        registeredRules.entrySet().removeIf(entry -> {
+            if (ruleUIDs.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().forEach(meterRegistry::remove);
+            return true;
+        });
+    }
+
+    private Set<Meter> registerRuleMeters(MeterRegistry meterRegistry, String ruleUID) {
+        Tags ruleTags = tags.and(RULE_TAG_NAME, ruleUID);
+        return Set.of(
+                Gauge.builder(METRIC_PREFIX + ".pending", ruleQueueMetrics,
+                        metrics -> metrics.getPendingTasks(ruleUID))
+                        .description("Executions of the rule waiting to be run").baseUnit("tasks").tags(ruleTags)
+                        .register(meterRegistry),
+                Gauge.builder(METRIC_PREFIX + ".pending.max", ruleQueueMetrics,
+                        metrics -> metrics.getMaxPendingTasks(ruleUID))
+                        .description("Highest number of executions of the rule waiting to be run at the same time")
+                        .baseUnit("tasks").tags(ruleTags).register(meterRegistry),
+                FunctionCounter
+                        .builder(METRIC_PREFIX + ".executed", ruleQueueMetrics,
+                                metrics -> metrics.getExecutedTasks(ruleUID))
+                        .description("Executions of the rule that have been run").baseUnit("tasks").tags(ruleTags)
+                        .register(meterRegistry));
+    }
+}
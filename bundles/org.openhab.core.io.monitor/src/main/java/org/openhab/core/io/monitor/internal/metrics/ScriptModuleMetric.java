@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.ScriptModuleMetrics;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link ScriptModuleMetric} class publishes the {@link ScriptModuleMetrics} of the compilations and evaluations
+ * of the scripts of the rules.
+ *
+ * The script modules are provided by an optional add-on and rules come and go at runtime, so the meters are refreshed
+ * periodically from whichever {@link ScriptModuleMetrics} is currently available.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptModuleMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_PREFIX = "openhab.rule.script";
+    private static final Tag CORE_SCRIPT_METRIC_TAG = Tag.of("metric", "openhab.core.metric.script");
+    private static final String RULE_TAG_NAME = "rule";
+    private static final long REFRESH_INTERVAL_SECONDS = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(ScriptModuleMetric.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("common");
+    private final Supplier<@Nullable ScriptModuleMetrics> scriptModuleMetricsSupplier;
+    private final Tags tags;
+    private final Map<String, Set<Meter>> registeredRules = new HashMap<>();
+    private @Nullable ScriptModuleMetrics registeredMetrics;
+    private @Nullable MeterRegistry meterRegistry;
+    private @Nullable ScheduledFuture<?> refreshJob;
+
+    public ScriptModuleMetric(Supplier<@Nullable ScriptModuleMetrics> scriptModuleMetricsSupplier,
+            Collection<Tag> tags) {
+        this.scriptModuleMetricsSupplier = scriptModuleMetricsSupplier;
+        this.tags = Tags.of(tags).and(CORE_SCRIPT_METRIC_TAG);
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("ScriptModuleMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        refresh();
+        refreshJob = scheduler.scheduleWithFixedDelay(this::refresh, REFRESH_INTERVAL_SECONDS, REFRESH_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void unbind() {
+        ScheduledFuture<?> refreshJob = this.refreshJob;
+        if (refreshJob != null) {
+            refreshJob.cancel(false);
+            this.refreshJob = null;
+        }
+        synchronized (this) {
+            MeterRegistry meterRegistry = this.meterRegistry;
+            if (meterRegistry == null) {
+                return;
+            }
+            for (Meter meter : meterRegistry.getMeters()) {
+                if (meter.getId().getTags().contains(CORE_SCRIPT_METRIC_TAG)) {
+                    meterRegistry.remove(meter);
+                }
+            }
+            registeredRules.clear();
+            registeredMetrics = null;
+            this.meterRegistry = null;
+        }
+    }
+
+    /**
+     * Re-reads the rules with script modules, e.g. after the {@link ScriptModuleMetrics} came or went.
+     */
+    public synchronized void refresh() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ScriptModuleMetrics scriptModuleMetrics = scriptModuleMetricsSupplier.get();
+        if (scriptModuleMetrics != registeredMetrics) {
+            // the meters of the previous provider would keep reporting its last values
+            registeredRules.values().forEach(meters -> meters.forEach(meterRegistry::remove));
+            registeredRules.clear();
+            registeredMetrics = scriptModuleMetrics;
+        }
+        if (scriptModuleMetrics == null) {
+            return;
+        }
+        Set<String> ruleUIDs = scriptModuleMetrics.getScriptRuleUIDs();
+        for (String ruleUID : ruleUIDs) {
+            if (!registeredRules.containsKey(ruleUID)) {
+                registeredRules.put(ruleUID, registerRuleMeters(meterRegistry, scriptModuleMetrics, ruleUID));
+            }
+        }
+        registeredRules.entrySet().removeIf(entry -> {
+            if (ruleUIDs.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().forEach(meterRegistry::remove);
+            return true;
+        });
+    }
+
+    private Set<Meter> registerRuleMeters(MeterRegistry meterRegistry, ScriptModuleMetrics scriptModuleMetrics,
+            String ruleUID) {
+        Tags ruleTags = tags.and(RULE_TAG_NAME, ruleUID);
+        return Set.of(
+                FunctionTimer
+                        .builder(METRIC_PREFIX + ".compile", scriptModuleMetrics,
+                                metrics -> metrics.getCompilations(ruleUID),
+                                metrics -> metrics.getCompileTime(ruleUID), TimeUnit.NANOSECONDS)
+                        .description("Compilations of the scripts of the rule").tags(ruleTags)
+                        .register(meterRegistry),
+                FunctionTimer
+                        .builder(METRIC_PREFIX + ".eval", scriptModuleMetrics,
+                                metrics -> metrics.getEvaluations(ruleUID), metrics -> metrics.getEvalTime(ruleUID),
+                                TimeUnit.NANOSECONDS)
+                        .description("Evaluations of the scripts of the rule").tags(ruleTags)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sitemap.internal;
+
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.types.State;
+
+/**
+ * This is a state change listener for long polling requests. It waits for a state change of any item of a page without
+ * blocking a thread and notifies a callback once a state has changed or the timeout has been reached.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class LongPollingStateChangeListener implements StateChangeListener {
+
+    private final Set<GenericItem> items;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<Boolean> callback;
+
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+    private volatile @Nullable ScheduledFuture<?> timeoutJob;
+
+    /**
+     * Creates a listener for the given items.
+     *
+     * @param items the items of the page to observe
+     * @param scheduler the scheduler used for the timeout and for calling the callback
+     * @param callback called once with true if the timeout has been reached or false if a state has changed
+     */
+    public LongPollingStateChangeListener(Set<GenericItem> items, ScheduledExecutorService scheduler,
+            Consumer<Boolean> callback) {
+        this.items = items;
+        this.scheduler = scheduler;
+        this.callback = callback;
+    }
+
+    /**
+     * Starts observing the items.
+     *
+     * @param timeout the time to wait for a state change in milliseconds
+     */
+    public void start(long timeout) {
+        for (GenericItem item : items) {
+            item.addStateChangeListener(this);
+        }
+        timeoutJob = scheduler.schedule(() -> complete(true), timeout, TimeUnit.MILLISECONDS);
+        if (completed.get()) {
+            // a state has changed while the timeout job has been scheduled
+            cancelTimeoutJob();
+        }
+    }
+
+    /**
+     * Stops observing the items without calling the callback.
+     */
+    public void cancel() {
+        if (completed.compareAndSet(false, true)) {
+            stop();
+        }
+    }
+
+    /**
+     * Determines whether a state change has occurred or the timeout has been reached
+     *
+     * @return true if the callback has been called or the listener has been cancelled
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    @Override
+    public void stateChanged(Item item, State oldState, State newState) {
+        // the state change is reported on the thread updating the item, so leave it as soon as possible
+        if (completed.compareAndSet(false, true)) {
+            stop();
+            scheduler.execute(() -> callback.accept(false));
+        }
+    }
+
+    @Override
+    public void stateUpdated(Item item, State state) {
+        // ignore if the state did not change
+    }
+
+    private void complete(boolean timeout) {
+        if (completed.compareAndSet(false, true)) {
+            stop();
+            callback.accept(timeout);
+        }
+    }
+
+    private void stop() {
+        for (GenericItem item : items) {
+            item.removeStateChangeListener(this);
+        }
+        cancelTimeoutJob();
+    }
+
+    private void cancelTimeoutJob() {
+        ScheduledFuture<?> job = timeoutJob;
+        if (job != null) {
+            job.cancel(false);
+        }
+    }
+}
@@ -15,7 +15,6 @@ package org.openhab.core.io.rest.sitemap.internal;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Locale;
@@ -38,6 +37,9 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -67,7 +69,6 @@ import org.openhab.core.io.rest.sitemap.SitemapSubscriptionService.SitemapSubscr
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
-import org.openhab.core.items.StateChangeListener;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.model.sitemap.SitemapProvider;
 import org.openhab.core.model.sitemap.sitemap.Chart;
@@ -87,7 +88,6 @@ import org.openhab.core.model.sitemap.sitemap.Video;
 import org.openhab.core.model.sitemap.sitemap.VisibilityRule;
 import org.openhab.core.model.sitemap.sitemap.Webview;
 import org.openhab.core.model.sitemap.sitemap.Widget;
-import org.openhab.core.types.State;
 import org.openhab.core.ui.items.ItemUIRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -123,6 +123,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Yordan Zhelev - Added Swagger annotations
  * @author Markus Rathgeb - Migrated to JAX-RS Whiteboard Specification
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author crnjan - Non-blocking long polling of pages
  */
 @Component(service = RESTResource.class)
 @JaxrsResource
@@ -255,12 +256,13 @@ public class SitemapResource
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = PageDTO.class))),
             @ApiResponse(responseCode = "404", description = "Sitemap with requested name does not exist or page does not exist, or page refers to a non-linkable widget"),
             @ApiResponse(responseCode = "400", description = "Invalid subscription id has been provided.") })
-    public Response getPageData(@Context HttpHeaders headers,
+    public void getPageData(@Context HttpHeaders headers,
             @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @Parameter(description = "language") @Nullable String language,
             @PathParam("sitemapname") @Parameter(description = "sitemap name") String sitemapname,
             @PathParam("pageid") @Parameter(description = "page id") String pageId,
             @QueryParam("subscriptionid") @Parameter(description = "subscriptionid") @Nullable String subscriptionId,
-            @QueryParam("includeHidden") @Parameter(description = "include hidden widgets") boolean includeHiddenWidgets) {
+            @QueryParam("includeHidden") @Parameter(description = "include hidden widgets") boolean includeHiddenWidgets,
+            @Suspended AsyncResponse asyncResponse) {
         final Locale locale = localeService.getLocale(language);
         logger.debug("Received HTTP GET request from IP {} at '{}'", request.getRemoteAddr(), uriInfo.getPath());
 
@@ -268,22 +270,44 @@ public class SitemapResource
             try {
                 subscriptions.setPageId(subscriptionId, sitemapname, pageId);
             } catch (IllegalArgumentException e) {
-                return JSONResponse.createErrorResponse(Response.Status.BAD_REQUEST, e.getMessage());
+                asyncResponse.resume(JSONResponse.createErrorResponse(Response.Status.BAD_REQUEST, e.getMessage()));
+                return;
             }
         }
 
-        boolean timeout = false;
+        // the request scoped context is not available anymore once the response is resumed from another thread
+        final URI uri = uriInfo.getBaseUriBuilder().build();
+        @Nullable
+        Set<GenericItem> items = null;
         if (headers.getRequestHeader("X-Atmosphere-Transport") != null) {
             // Make the REST-API pseudo-compatible with openHAB 1.x
             // The client asks Atmosphere for server push functionality,
             // so we do a simply listening for changes on the appropriate items
-            // The blocking has a timeout of 30 seconds. If this timeout is reached,
+            // The request is suspended with a timeout of 30 seconds. If this timeout is reached,
             // we notice this information in the response object.
-            timeout = blockUnlessChangeOccurs(sitemapname, pageId);
+            items = getPageItems(sitemapname, pageId);
+        }
+        if (items == null) {
+            resumePageData(asyncResponse, sitemapname, pageId, uri, locale, false, includeHiddenWidgets);
+            return;
+        }
+
+        LongPollingStateChangeListener listener = new LongPollingStateChangeListener(items, scheduler,
+                timeout -> resumePageData(asyncResponse, sitemapname, pageId, uri, locale, timeout,
+                        includeHiddenWidgets));
+        // stop observing the items if the response is completed otherwise, e.g. by the container on shutdown
+        asyncResponse.register((CompletionCallback) throwable -> listener.cancel());
+        listener.start(TIMEOUT_IN_MS);
+    }
+
+    private void resumePageData(AsyncResponse asyncResponse, String sitemapname, String pageId, URI uri,
+            Locale locale, boolean timeout, boolean includeHiddenWidgets) {
+        try {
+            PageDTO responseObject = getPageBean(sitemapname, pageId, uri, locale, timeout, includeHiddenWidgets);
+            asyncResponse.resume(Response.ok(responseObject).build());
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
         }
-        PageDTO responseObject = getPageBean(sitemapname, pageId, uriInfo.getBaseUriBuilder().build(), locale, timeout,
-                includeHiddenWidgets);
-        return Response.ok(responseObject).build();
     }
 
     /**
@@ -651,54 +675,26 @@ public class SitemapResource
         return null;
     }
 
-    private boolean blockUnlessChangeOccurs(String sitemapname, String pageId) {
-        boolean timeout = false;
+    /**
+     * Collects all items that are represented by the widgets of a page
+     *
+     * @param sitemapname the name of the sitemap
+     * @param pageId the id of the page
+     * @return all items of the page or null if the sitemap or page does not exist
+     */
+    private @Nullable Set<GenericItem> getPageItems(String sitemapname, String pageId) {
         Sitemap sitemap = getSitemap(sitemapname);
         if (sitemap != null) {
             if (pageId.equals(sitemap.getName())) {
-                EList<Widget> children = itemUIRegistry.getChildren(sitemap);
-                timeout = waitForChanges(children);
+                return getAllItems(itemUIRegistry.getChildren(sitemap));
             } else {
                 Widget pageWidget = itemUIRegistry.getWidget(sitemap, pageId);
                 if (pageWidget instanceof LinkableWidget) {
-                    EList<Widget> children = itemUIRegistry.getChildren((LinkableWidget) pageWidget);
-                    timeout = waitForChanges(children);
+                    return getAllItems(itemUIRegistry.getChildren((LinkableWidget) pageWidget));
                 }
             }
         }
-        return timeout;
-    }
-
-    /**
-     * This method only returns when a change has occurred to any item on the
-     * page to display or if the timeout is reached
-     *
-     * @param widgets
-     *            the widgets of the page to observe
-     * @return true if the timeout is reached
-     */
-    private boolean waitForChanges(EList<Widget> widgets) {
-        long startTime = (new Date()).getTime();
-        boolean timeout = false;
-        BlockingStateChangeListener listener = new BlockingStateChangeListener();
-        // let's get all items for these widgets
-        Set<GenericItem> items = getAllItems(widgets);
-        for (GenericItem item : items) {
-            item.addStateChangeListener(listener);
-        }
-        while (!listener.hasChangeOccurred() && !timeout) {
-            timeout = (new Date()).getTime() - startTime > TIMEOUT_IN_MS;
-            try {
-                Thread.sleep(300);
-            } catch (InterruptedException e) {
-                timeout = true;
-                break;
-            }
-        }
-        for (GenericItem item : items) {
-            item.removeStateChangeListener(listener);
-        }
-        return timeout;
+        return null;
     }
 
     /**
@@ -776,37 +772,6 @@ public class SitemapResource
         return items;
     }
 
-    /**
-     * This is a state change listener, which is merely used to determine, if a
-     * state change has occurred on one of a list of items.
-     *
-     * @author Kai Kreuzer - Initial contribution
-     *
-     */
-    private static class BlockingStateChangeListener implements StateChangeListener {
-
-        private boolean changed = false;
-
-        @Override
-        public void stateChanged(Item item, State oldState, State newState) {
-            changed = true;
-        }
-
-        /**
-         * determines, whether a state change has occurred since its creation
-         *
-         * @return true, if a state has changed
-         */
-        public boolean hasChangeOccurred() {
-            return changed;
-        }
-
-        @Override
-        public void stateUpdated(Item item, State state) {
-            // ignore if the state did not change
-        }
-    }
-
     @Override
     public void onEvent(SitemapEvent event) {
         final Sse sse = this.sse;
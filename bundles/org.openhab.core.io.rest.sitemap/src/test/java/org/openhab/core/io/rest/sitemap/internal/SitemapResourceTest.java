@@ -19,12 +19,14 @@ import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
@@ -37,6 +39,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -69,6 +72,8 @@ import org.openhab.core.ui.items.ItemUIRegistry;
 public class SitemapResourceTest extends JavaTest {
 
     private static final int STATE_UPDATE_WAIT_TIME = 100;
+    private static final int RESUME_WAIT_TIME = 1000;
+    private static final int CONCURRENT_POLLS = 500;
 
     private static final String HTTP_HEADER_X_ATMOSPHERE_TRANSPORT = "X-Atmosphere-Transport";
     private static final String ITEM_NAME = "itemName";
@@ -92,6 +97,7 @@ public class SitemapResourceTest extends JavaTest {
     private @NonNullByDefault({}) GenericItem labelColorItem;
     private @NonNullByDefault({}) GenericItem valueColorItem;
 
+    private @Mock @NonNullByDefault({}) AsyncResponse asyncResponseMock;
     private @Mock @NonNullByDefault({}) HttpHeaders headersMock;
     private @Mock @NonNullByDefault({}) Sitemap defaultSitemapMock;
     private @Mock @NonNullByDefault({}) ItemUIRegistry itemUIRegistryMock;
@@ -155,90 +161,91 @@ public class SitemapResourceTest extends JavaTest {
 
     @Test
     public void whenLongPollingShouldObserveItems() {
-        new Thread(() -> {
-            try {
-                Thread.sleep(STATE_UPDATE_WAIT_TIME); // wait for the #getPageData call and listeners to attach to the
-                                                      // item
-                item.setState(PercentType.ZERO);
-            } catch (InterruptedException e) {
-            }
-        }).start();
-
         // non-null is sufficient here.
         when(headersMock.getRequestHeader(HTTP_HEADER_X_ATMOSPHERE_TRANSPORT)).thenReturn(List.of());
 
-        Response response = sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null,
-                false);
+        sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null, false,
+                asyncResponseMock);
+        assertNotResumed(asyncResponseMock);
+
+        item.setState(PercentType.ZERO);
 
-        PageDTO pageDTO = (PageDTO) response.getEntity();
-        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did trigger the blocking method to
-                                                // return
+        PageDTO pageDTO = awaitPageDTO(asyncResponseMock);
+        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did resume the response
     }
 
     @Test
     public void whenLongPollingShouldObserveItemsFromVisibilityRules() {
-        new Thread(() -> {
-            try {
-                Thread.sleep(STATE_UPDATE_WAIT_TIME); // wait for the #getPageData call and listeners to attach to the
-                                                      // item
-                visibilityRuleItem.setState(new DecimalType(BigDecimal.ONE));
-            } catch (InterruptedException e) {
-            }
-        }).start();
-
         // non-null is sufficient here.
         when(headersMock.getRequestHeader(HTTP_HEADER_X_ATMOSPHERE_TRANSPORT)).thenReturn(List.of());
 
-        Response response = sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null,
-                false);
+        sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null, false,
+                asyncResponseMock);
+        assertNotResumed(asyncResponseMock);
 
-        PageDTO pageDTO = (PageDTO) response.getEntity();
-        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did trigger the blocking method to
-                                                // return
+        visibilityRuleItem.setState(new DecimalType(BigDecimal.ONE));
+
+        PageDTO pageDTO = awaitPageDTO(asyncResponseMock);
+        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did resume the response
     }
 
     @Test
     public void whenLongPollingShouldObserveItemsFromLabelColorConditions() {
-        new Thread(() -> {
-            try {
-                Thread.sleep(STATE_UPDATE_WAIT_TIME); // wait for the #getPageData call and listeners to attach to the
-                                                      // item
-                labelColorItem.setState(new DecimalType(BigDecimal.ONE));
-            } catch (InterruptedException e) {
-            }
-        }).start();
-
         // non-null is sufficient here.
         when(headersMock.getRequestHeader(HTTP_HEADER_X_ATMOSPHERE_TRANSPORT)).thenReturn(List.of());
 
-        Response response = sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null,
-                false);
+        sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null, false,
+                asyncResponseMock);
+        assertNotResumed(asyncResponseMock);
+
+        labelColorItem.setState(new DecimalType(BigDecimal.ONE));
 
-        PageDTO pageDTO = (PageDTO) response.getEntity();
-        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did trigger the blocking method to
-                                                // return
+        PageDTO pageDTO = awaitPageDTO(asyncResponseMock);
+        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did resume the response
     }
 
     @Test
     public void whenLongPollingShouldObserveItemsFromValueColorConditions() {
-        new Thread(() -> {
-            try {
-                Thread.sleep(STATE_UPDATE_WAIT_TIME); // wait for the #getPageData call and listeners to attach to the
-                                                      // item
-                valueColorItem.setState(new DecimalType(BigDecimal.ONE));
-            } catch (InterruptedException e) {
-            }
-        }).start();
+        // non-null is sufficient here.
+        when(headersMock.getRequestHeader(HTTP_HEADER_X_ATMOSPHERE_TRANSPORT)).thenReturn(List.of());
+
+        sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null, false,
+                asyncResponseMock);
+        assertNotResumed(asyncResponseMock);
+
+        valueColorItem.setState(new DecimalType(BigDecimal.ONE));
+
+        PageDTO pageDTO = awaitPageDTO(asyncResponseMock);
+        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did resume the response
+    }
 
+    @Test
+    public void whenLongPollingManyConcurrentPollsShouldNotBlockAndAllBeResumed() throws Exception {
         // non-null is sufficient here.
         when(headersMock.getRequestHeader(HTTP_HEADER_X_ATMOSPHERE_TRANSPORT)).thenReturn(List.of());
 
-        Response response = sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null,
-                false);
+        // every poll returns immediately, so a single thread is able to open all of them
+        List<AsyncResponse> asyncResponses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_POLLS; i++) {
+            AsyncResponse asyncResponse = mock(AsyncResponse.class);
+            sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null, false,
+                    asyncResponse);
+            asyncResponses.add(asyncResponse);
+        }
+        assertThat(((TestItem) item).getListenerCount(), is(CONCURRENT_POLLS));
+
+        Thread.sleep(STATE_UPDATE_WAIT_TIME);
+        for (AsyncResponse asyncResponse : asyncResponses) {
+            assertNotResumed(asyncResponse);
+        }
+
+        item.setState(PercentType.ZERO);
 
-        PageDTO pageDTO = (PageDTO) response.getEntity();
-        assertThat(pageDTO.timeout, is(false)); // assert that the item state change did trigger the blocking method to
-                                                // return
+        for (AsyncResponse asyncResponse : asyncResponses) {
+            assertThat(awaitPageDTO(asyncResponse).timeout, is(false));
+        }
+        assertThat(((TestItem) item).getListenerCount(), is(0));
+        assertThat(((TestItem) visibilityRuleItem).getListenerCount(), is(0));
     }
 
     @Test
@@ -249,10 +256,10 @@ public class SitemapResourceTest extends JavaTest {
         // Disable long polling
         when(headersMock.getRequestHeader(HTTP_HEADER_X_ATMOSPHERE_TRANSPORT)).thenReturn(null);
 
-        Response response = sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null,
-                false);
+        sitemapResource.getPageData(headersMock, null, SITEMAP_MODEL_NAME, SITEMAP_NAME, null, false,
+                asyncResponseMock);
 
-        PageDTO pageDTO = (PageDTO) response.getEntity();
+        PageDTO pageDTO = awaitPageDTO(asyncResponseMock);
         assertThat(pageDTO.id, is(SITEMAP_NAME));
         assertThat(pageDTO.title, is(SITEMAP_TITLE));
         assertThat(pageDTO.leaf, is(true));
@@ -280,6 +287,17 @@ public class SitemapResourceTest extends JavaTest {
         assertThat(pageDTO.widgets.get(1).item.state, is("50"));
     }
 
+    private void assertNotResumed(AsyncResponse asyncResponse) {
+        verify(asyncResponse, never()).resume(any(Object.class));
+        verify(asyncResponse, never()).resume(any(Throwable.class));
+    }
+
+    private PageDTO awaitPageDTO(AsyncResponse asyncResponse) {
+        ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse, timeout(RESUME_WAIT_TIME)).resume(captor.capture());
+        return (PageDTO) captor.getValue().getEntity();
+    }
+
     private void configureItemUIRegistry(State state1, State state2) throws ItemNotFoundException {
         when(itemUIRegistryMock.getChildren(defaultSitemapMock)).thenReturn(widgets);
         when(itemUIRegistryMock.getItem(ITEM_NAME)).thenReturn(item);
@@ -375,6 +393,10 @@ public class SitemapResourceTest extends JavaTest {
             super("Number", name);
         }
 
+        public int getListenerCount() {
+            return listeners.size();
+        }
+
         @Override
         public List<Class<? extends State>> getAcceptedDataTypes() {
             return List.of();
@@ -16,13 +16,17 @@ import static org.openhab.core.io.rest.sse.internal.SseSinkItemInfo.*;
 import static org.openhab.core.io.rest.sse.internal.SseSinkTopicInfo.matchesTopic;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Singleton;
@@ -46,20 +50,25 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.auth.Role;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.events.Event;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
 import org.openhab.core.io.rest.SseBroadcaster;
 import org.openhab.core.io.rest.sse.internal.SseItemStatesEventBuilder;
 import org.openhab.core.io.rest.sse.internal.SsePublisher;
+import org.openhab.core.io.rest.sse.internal.SseSinkItemIndex;
 import org.openhab.core.io.rest.sse.internal.SseSinkItemInfo;
 import org.openhab.core.io.rest.sse.internal.SseSinkTopicInfo;
 import org.openhab.core.io.rest.sse.internal.dto.EventDTO;
+import org.openhab.core.io.rest.sse.internal.dto.ItemStatesStatisticsDTO;
 import org.openhab.core.io.rest.sse.internal.util.SseUtil;
 import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
 import org.osgi.service.jaxrs.whiteboard.propertytypes.JSONRequired;
@@ -71,6 +80,8 @@ import org.slf4j.LoggerFactory;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -83,8 +94,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Markus Rathgeb - Drop Glassfish dependency and use API only
  * @author Wouter Born - Rework SSE item state sinks for dropping Glassfish
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author crnjan - Route item states through an index of the tracking connections
+ * @author crnjan - Coalesce item state updates per connection
  */
-@Component(service = { RESTResource.class, SsePublisher.class })
+@Component(service = { RESTResource.class, SsePublisher.class }, configurationPid = "org.openhab.sse", //
+        property = Constants.SERVICE_PID + "=org.openhab.sse")
+@ConfigurableService(category = "system", label = "Server-Sent Events", description_uri = SseResource.CONFIG_URI)
 @JaxrsResource
 @JaxrsName(SseResource.PATH_EVENTS)
 @JaxrsApplicationSelect("(" + JaxrsWhiteboardConstants.JAX_RS_NAME + "=" + RESTConstants.JAX_RS_NAME + ")")
@@ -103,6 +118,13 @@ public class SseResource implements RESTResource, SsePublisher {
 
     public static final int ALIVE_INTERVAL_SECONDS = 10;
 
+    protected static final String CONFIG_URI = "system:sse";
+
+    private static final String CONFIG_ITEM_STATES_INTERVAL = "itemStatesInterval";
+    private static final String CONFIG_ITEM_STATES_BATCH_SIZE = "itemStatesBatchSize";
+    private static final int DEFAULT_ITEM_STATES_INTERVAL = 0;
+    private static final int DEFAULT_ITEM_STATES_BATCH_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(SseResource.class);
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
@@ -112,15 +134,37 @@ public class SseResource implements RESTResource, SsePublisher {
     private @Context @NonNullByDefault({}) Sse sse;
 
     private final SseBroadcaster<SseSinkItemInfo> itemStatesBroadcaster = new SseBroadcaster<>();
+    private final SseSinkItemIndex itemStatesIndex = new SseSinkItemIndex();
     private final SseItemStatesEventBuilder itemStatesEventBuilder;
     private final SseBroadcaster<SseSinkTopicInfo> topicBroadcaster = new SseBroadcaster<>();
 
     private ExecutorService executorService;
 
+    /* the time in milliseconds item state changes are coalesced per connection, 0 sends every change immediately */
+    private volatile int itemStatesInterval = DEFAULT_ITEM_STATES_INTERVAL;
+    /* the number of changed items that causes coalesced item state changes to be sent before the interval is over */
+    private volatile int itemStatesBatchSize = DEFAULT_ITEM_STATES_BATCH_SIZE;
+
+    /* the coalescing counters of the closed item state connections */
+    private final LongAdder closedCoalescedStates = new LongAdder();
+    private final LongAdder closedDeferredFlushes = new LongAdder();
+
     @Activate
-    public SseResource(@Reference SseItemStatesEventBuilder itemStatesEventBuilder) {
+    public SseResource(@Reference SseItemStatesEventBuilder itemStatesEventBuilder, Map<String, Object> config) {
         this.executorService = Executors.newSingleThreadExecutor();
         this.itemStatesEventBuilder = itemStatesEventBuilder;
+        applyConfig(config);
+
+        itemStatesBroadcaster.addListener((sink, info) -> {
+            itemStatesIndex.remove(info);
+            closedCoalescedStates.add(info.getCoalescedStates());
+            closedDeferredFlushes.add(info.getDeferredFlushes());
+            if (info.getCoalescedStates() > 0 || info.getDeferredFlushes() > 0) {
+                logger.debug(
+                        "SSE connection {} closed, {} superseded item states have not been sent, sending was postponed {} times",
+                        info.getConnectionId(), info.getCoalescedStates(), info.getDeferredFlushes());
+            }
+        });
 
         aliveEventJob = scheduler.scheduleWithFixedDelay(() -> {
             if (sse != null) {
@@ -133,6 +177,28 @@ public class SseResource implements RESTResource, SsePublisher {
         }, 1, ALIVE_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
 
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        applyConfig(config);
+    }
+
+    private void applyConfig(Map<String, Object> config) {
+        itemStatesInterval = getIntConfig(config, CONFIG_ITEM_STATES_INTERVAL, DEFAULT_ITEM_STATES_INTERVAL);
+        itemStatesBatchSize = getIntConfig(config, CONFIG_ITEM_STATES_BATCH_SIZE, DEFAULT_ITEM_STATES_BATCH_SIZE);
+    }
+
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        final String value = Objects.toString(config.get(key), null);
+        if (value != null) {
+            try {
+                return Math.max(0, Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                logger.debug("Setting '{}' must be a number; value '{}' ignored.", key, value);
+            }
+        }
+        return defaultValue;
+    }
+
     @Deactivate
     public void deactivate() {
         itemStatesBroadcaster.close();
@@ -208,14 +274,36 @@ public class SseResource implements RESTResource, SsePublisher {
     @Operation(operationId = "initNewStateTacker", summary = "Initiates a new item state tracker connection", responses = {
             @ApiResponse(responseCode = "200", description = "OK") })
     public void getStateEvents(@Context final SseEventSink sseEventSink, @Context final HttpServletResponse response) {
-        final SseSinkItemInfo sinkItemInfo = new SseSinkItemInfo();
+        final SseSinkItemInfo sinkItemInfo = new SseSinkItemInfo(sseEventSink);
         itemStatesBroadcaster.add(sseEventSink, sinkItemInfo);
 
         addCommonResponseHeaders(response);
 
         String connectionId = sinkItemInfo.getConnectionId();
         OutboundSseEvent readyEvent = sse.newEventBuilder().id("0").name("ready").data(connectionId).build();
-        itemStatesBroadcaster.sendIf(readyEvent, hasConnectionId(connectionId));
+        itemStatesBroadcaster.sendTo(sseEventSink, readyEvent);
+    }
+
+    /**
+     * Returns how many item state updates have been coalesced by the item state connections, including the closed ones.
+     *
+     * @return the statistics of the item state connections
+     */
+    @GET
+    @Path("/states/statistics")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getStateTrackerStatistics", summary = "Get the coalescing statistics of the item state tracker connections.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = ItemStatesStatisticsDTO.class))) })
+    public Response getStateStatistics() {
+        ItemStatesStatisticsDTO statistics = new ItemStatesStatisticsDTO();
+        statistics.coalescedStates = closedCoalescedStates.sum();
+        statistics.deferredFlushes = closedDeferredFlushes.sum();
+        itemStatesBroadcaster.getInfoIf(info -> true).forEach(info -> {
+            statistics.connections++;
+            statistics.coalescedStates += info.getCoalescedStates();
+            statistics.deferredFlushes += info.getDeferredFlushes();
+        });
+        return Response.ok(statistics).build();
     }
 
     /**
@@ -241,32 +329,75 @@ public class SseResource implements RESTResource, SsePublisher {
         }
 
         Set<String> trackedItemNames = (itemNames == null) ? Set.of() : itemNames;
-        itemStateInfo.get().updateTrackedItems(trackedItemNames);
+        itemStatesIndex.update(itemStateInfo.get(), trackedItemNames);
 
         OutboundSseEvent itemStateEvent = itemStatesEventBuilder.buildEvent(sse.newEventBuilder(), trackedItemNames);
         if (itemStateEvent != null) {
-            itemStatesBroadcaster.sendIf(itemStateEvent, hasConnectionId(connectionId));
+            itemStatesBroadcaster.sendTo(itemStateInfo.get().getSink(), itemStateEvent);
         }
 
         return Response.ok().build();
     }
 
     /**
-     * Broadcasts a state event to all currently listening clients, after transforming it to a simple map.
+     * Sends a state event to the clients tracking the item, after transforming it to a simple map. The clients are
+     * looked up in the {@link SseSinkItemIndex}, so the other connections are not visited at all.
      *
      * @param stateChangeEvent the {@link ItemStateChangedEvent} containing the new state
      */
     public void handleEventBroadcastItemState(final ItemStateChangedEvent stateChangeEvent) {
         String itemName = stateChangeEvent.getItemName();
-        boolean isTracked = itemStatesBroadcaster.getInfoIf(info -> true).anyMatch(tracksItem(itemName));
-        if (isTracked) {
+        Set<SseSinkItemInfo> trackers = itemStatesIndex.getTrackers(itemName);
+        if (trackers.isEmpty()) {
+            return;
+        }
+
+        int interval = itemStatesInterval;
+        if (interval == 0) {
             OutboundSseEvent event = itemStatesEventBuilder.buildEvent(sse.newEventBuilder(), Set.of(itemName));
             if (event != null) {
-                itemStatesBroadcaster.sendIf(event, tracksItem(itemName));
+                for (SseSinkItemInfo info : trackers) {
+                    itemStatesBroadcaster.sendTo(info.getSink(), event);
+                }
+            }
+            return;
+        }
+
+        for (SseSinkItemInfo info : trackers) {
+            int queued = info.queueItem(itemName);
+            if (queued >= itemStatesBatchSize) {
+                flushItemStates(info);
+            } else if (queued == 1) {
+                scheduler.schedule(() -> flushItemStates(info), interval, TimeUnit.MILLISECONDS);
             }
         }
     }
 
+    /**
+     * Sends the coalesced item state changes of a connection. If the connection is still busy with the previous event,
+     * the changes stay queued and are sent after the previous event has been sent.
+     *
+     * @param info the connection
+     */
+    private void flushItemStates(SseSinkItemInfo info) {
+        Set<String> itemNames = info.pollItems();
+        if (itemNames.isEmpty()) {
+            return;
+        }
+
+        OutboundSseEvent event = itemStatesEventBuilder.buildEvent(sse.newEventBuilder(), itemNames);
+        CompletionStage<?> sent = event == null ? null : itemStatesBroadcaster.sendTo(info.getSink(), event);
+        if (sent == null) {
+            info.sendCompleted();
+        } else {
+            sent.whenComplete((result, throwable) -> {
+                if (info.sendCompleted()) {
+                    scheduler.schedule(() -> flushItemStates(info), itemStatesInterval, TimeUnit.MILLISECONDS);
+                }
+            });
+        }
+    }
+
     private static class AliveEvent {
         public final String type = "ALIVE";
         public final int interval = ALIVE_INTERVAL_SECONDS;
@@ -19,7 +19,6 @@ import java.util.Map;
 import java.util.Set;
 
 import javax.measure.Unit;
-import javax.ws.rs.core.MediaType;
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.OutboundSseEvent.Builder;
 
@@ -27,6 +26,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.sse.internal.dto.StateDTO;
+import org.openhab.core.io.rest.sse.internal.util.SseUtil;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -52,6 +52,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Yannick Schaus - Initial contribution
  * @author Wouter Born - Rework SSE item state sinks for dropping Glassfish
+ * @author crnjan - Serialize the payload only once for all sinks
  */
 @Component(service = SseItemStatesEventBuilder.class)
 @NonNullByDefault
@@ -90,7 +91,7 @@ public class SseItemStatesEventBuilder {
         }
 
         if (!payload.isEmpty()) {
-            return eventBuilder.mediaType(MediaType.APPLICATION_JSON_TYPE).data(payload).build();
+            return SseUtil.jsonData(eventBuilder, payload).build();
         }
 
         return null;
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * An index from item names to the SSE connections tracking the state of the item.
+ * <p>
+ * The index is updated whenever a connection changes its tracked items, so a state change can be routed to the
+ * connections interested in it without looking at all of them. Lookups are lock free.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkItemIndex {
+
+    private final Map<String, Set<SseSinkItemInfo>> trackers = new ConcurrentHashMap<>();
+
+    /**
+     * Updates the tracked items of a connection.
+     *
+     * @param info the connection
+     * @param itemNames the names of the items the connection tracks from now on
+     */
+    public synchronized void update(SseSinkItemInfo info, Set<String> itemNames) {
+        Set<String> previousItemNames = info.getTrackedItems();
+        info.updateTrackedItems(itemNames);
+        for (String itemName : previousItemNames) {
+            if (!itemNames.contains(itemName)) {
+                removeTracker(itemName, info);
+            }
+        }
+        for (String itemName : itemNames) {
+            if (!previousItemNames.contains(itemName)) {
+                addTracker(itemName, info);
+            }
+        }
+    }
+
+    /**
+     * Removes a connection from the index.
+     *
+     * @param info the connection
+     */
+    public synchronized void remove(SseSinkItemInfo info) {
+        for (String itemName : info.getTrackedItems()) {
+            removeTracker(itemName, info);
+        }
+    }
+
+    /**
+     * Gets the connections that track the state of an item.
+     *
+     * @param itemName the name of the item
+     * @return an unmodifiable set of the connections, empty if the item is not tracked
+     */
+    public Set<SseSinkItemInfo> getTrackers(String itemName) {
+        Set<SseSinkItemInfo> itemTrackers = trackers.get(itemName);
+        return itemTrackers == null ? Set.of() : itemTrackers;
+    }
+
+    private void addTracker(String itemName, SseSinkItemInfo info) {
+        Set<SseSinkItemInfo> itemTrackers = new HashSet<>(getTrackers(itemName));
+        itemTrackers.add(info);
+        trackers.put(itemName, Set.copyOf(itemTrackers));
+    }
+
+    private void removeTracker(String itemName, SseSinkItemInfo info) {
+        Set<SseSinkItemInfo> itemTrackers = new HashSet<>(getTrackers(itemName));
+        itemTrackers.remove(info);
+        if (itemTrackers.isEmpty()) {
+            trackers.remove(itemName);
+        } else {
+            trackers.put(itemName, Set.copyOf(itemTrackers));
+        }
+    }
+}
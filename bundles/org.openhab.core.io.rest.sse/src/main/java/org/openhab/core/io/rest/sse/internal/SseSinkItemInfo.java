@@ -12,24 +12,51 @@
  */
 package org.openhab.core.io.rest.sse.internal;
 
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
+import javax.ws.rs.sse.SseEventSink;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
  * The specific information we need to hold for a SSE sink which tracks item state updates.
  *
  * @author Wouter Born - Initial contribution
+ * @author crnjan - Coalescing of item state updates
  */
 @NonNullByDefault
 public class SseSinkItemInfo {
 
+    private final SseEventSink sink;
     private final String connectionId = UUID.randomUUID().toString();
     private final Set<String> trackedItems = new CopyOnWriteArraySet<>();
 
+    // items with a state change not sent yet, guarded by this
+    private final Set<String> pendingItems = new LinkedHashSet<>();
+    private boolean sending = false;
+    private boolean deferred = false;
+
+    private final AtomicLong coalescedStates = new AtomicLong();
+    private final AtomicLong deferredFlushes = new AtomicLong();
+
+    public SseSinkItemInfo(SseEventSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Gets the sink of this connection
+     *
+     * @return the sink
+     */
+    public SseEventSink getSink() {
+        return sink;
+    }
+
     /**
      * Gets the connection identifier of this {@link SseSinkItemInfo}
      *
@@ -39,6 +66,15 @@ public class SseSinkItemInfo {
         return connectionId;
     }
 
+    /**
+     * Gets the names of the items tracked by this connection
+     *
+     * @return the item names
+     */
+    public Set<String> getTrackedItems() {
+        return Set.copyOf(trackedItems);
+    }
+
     /**
      * Updates the list of tracked items for a connection
      *
@@ -49,6 +85,75 @@ public class SseSinkItemInfo {
         trackedItems.addAll(itemNames);
     }
 
+    /**
+     * Queues a state change of an item for the next coalesced event of this connection. If a state change of the item
+     * is already queued, the previous one is superseded.
+     *
+     * @param itemName the name of the item
+     * @return the number of items with a queued state change
+     */
+    public synchronized int queueItem(String itemName) {
+        if (!pendingItems.add(itemName)) {
+            coalescedStates.incrementAndGet();
+        }
+        return pendingItems.size();
+    }
+
+    /**
+     * Takes the items with a queued state change for sending them. If the previous event of this connection is still
+     * being sent, nothing is returned and the items stay queued until {@link #sendCompleted()}. Such a postponed flush
+     * is counted once, no matter how often it is retried before the previous event has been sent.
+     *
+     * @return the names of the items to send, empty if there is nothing to send now
+     */
+    public synchronized Set<String> pollItems() {
+        if (pendingItems.isEmpty()) {
+            return Set.of();
+        }
+        if (sending) {
+            if (!deferred) {
+                deferred = true;
+                deferredFlushes.incrementAndGet();
+            }
+            return Set.of();
+        }
+        Set<String> items = Set.copyOf(pendingItems);
+        pendingItems.clear();
+        sending = true;
+        deferred = false;
+        return items;
+    }
+
+    /**
+     * Marks the event returned by {@link #pollItems()} as sent.
+     *
+     * @return true if state changes have been queued in the meantime
+     */
+    public synchronized boolean sendCompleted() {
+        sending = false;
+        return !pendingItems.isEmpty();
+    }
+
+    /**
+     * Gets the number of item state changes that have not been sent because a newer state of the same item has been
+     * queued before
+     *
+     * @return the number of superseded state changes
+     */
+    public long getCoalescedStates() {
+        return coalescedStates.get();
+    }
+
+    /**
+     * Gets the number of times sending queued state changes has been postponed because the connection was still busy
+     * with the previous event
+     *
+     * @return the number of postponed events
+     */
+    public long getDeferredFlushes() {
+        return deferredFlushes.get();
+    }
+
     public static Predicate<SseSinkItemInfo> hasConnectionId(String connectionId) {
         return info -> info.connectionId.equals(connectionId);
     }
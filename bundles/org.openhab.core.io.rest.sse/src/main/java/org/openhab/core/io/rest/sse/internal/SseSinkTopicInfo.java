@@ -14,6 +14,8 @@ package org.openhab.core.io.rest.sse.internal;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.io.rest.sse.internal.util.SseUtil;
@@ -22,17 +24,26 @@ import org.openhab.core.io.rest.sse.internal.util.SseUtil;
  * The specific information we need to hold for a SSE sink which subscribes to event topics.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author crnjan - Compile the topic filters once
  */
 @NonNullByDefault
 public class SseSinkTopicInfo {
 
-    private final List<String> regexFilters;
+    private final List<Pattern> filters;
 
     public SseSinkTopicInfo(String topicFilter) {
-        this.regexFilters = SseUtil.convertToRegex(topicFilter);
+        this.filters = SseUtil.convertToRegex(topicFilter).stream().map(Pattern::compile)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     public static Predicate<SseSinkTopicInfo> matchesTopic(final String topic) {
-        return info -> info.regexFilters.stream().anyMatch(topic::matches);
+        return info -> {
+            for (Pattern filter : info.filters) {
+                if (filter.matcher(topic).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 }
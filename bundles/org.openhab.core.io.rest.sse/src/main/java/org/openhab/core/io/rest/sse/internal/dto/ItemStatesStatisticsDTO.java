@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal.dto;
+
+/**
+ * A DTO class holding how many item state updates have been coalesced by the item state connections.
+ *
+ * @author crnjan - Initial contribution
+ */
+public class ItemStatesStatisticsDTO {
+    public int connections;
+    public long coalescedStates;
+    public long deferredFlushes;
+
+    public ItemStatesStatisticsDTO() {
+    }
+}
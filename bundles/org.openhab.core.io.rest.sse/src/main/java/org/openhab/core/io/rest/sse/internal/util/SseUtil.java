@@ -24,17 +24,23 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.events.Event;
 import org.openhab.core.io.rest.sse.internal.dto.EventDTO;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
 /**
  * Utility class containing helper methods for the SSE implementation.
  *
  * @author Ivan Iliev - Initial contribution
  * @author Dennis Nobel - Changed EventBean
  * @author Markus Rathgeb - Don't depend on specific application but use APIs if possible
+ * @author crnjan - Serialize event data only once for all sinks
  */
 @NonNullByDefault
 public class SseUtil {
     static final String TOPIC_VALIDATE_PATTERN = "(\\w*\\*?\\/?,?:?-?\\s*)*";
 
+    private static final Gson GSON = new GsonBuilder().create();
+
     public static EventDTO buildDTO(final Event event) {
         EventDTO dto = new EventDTO();
         dto.topic = event.getTopic();
@@ -51,14 +57,25 @@ public class SseUtil {
      * @return a new OutboundEvent
      */
     public static OutboundSseEvent buildEvent(OutboundSseEvent.Builder eventBuilder, EventDTO event) {
-        final OutboundSseEvent sseEvent = eventBuilder.name("message") //
-                .mediaType(MediaType.APPLICATION_JSON_TYPE) //
-                .data(event) //
-                .build();
+        final OutboundSseEvent sseEvent = jsonData(eventBuilder.name("message"), event).build();
 
         return sseEvent;
     }
 
+    /**
+     * Sets the given data serialized as JSON on the event builder.
+     * <p>
+     * The data is serialized immediately and passed on as plain text, so an event sent to many sinks is not serialized
+     * again for every one of them.
+     *
+     * @param eventBuilder the builder that should be used
+     * @param data the data of the event
+     * @return the builder
+     */
+    public static OutboundSseEvent.Builder jsonData(OutboundSseEvent.Builder eventBuilder, Object data) {
+        return eventBuilder.mediaType(MediaType.TEXT_PLAIN_TYPE).data(String.class, GSON.toJson(data));
+    }
+
     /**
      * Validates the given topicFilter
      *
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+
+import javax.ws.rs.sse.SseEventSink;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link SseSinkItemIndexTest} tests the {@link SseSinkItemIndex}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkItemIndexTest {
+
+    private final SseSinkItemIndex index = new SseSinkItemIndex();
+
+    @Test
+    public void testTrackersAreIndexedByItemName() {
+        SseSinkItemInfo info1 = new SseSinkItemInfo(mock(SseEventSink.class));
+        SseSinkItemInfo info2 = new SseSinkItemInfo(mock(SseEventSink.class));
+        index.update(info1, Set.of("ItemA", "ItemB"));
+        index.update(info2, Set.of("ItemB"));
+
+        assertThat(index.getTrackers("ItemA"), contains(info1));
+        assertThat(index.getTrackers("ItemB"), containsInAnyOrder(info1, info2));
+        assertThat(index.getTrackers("ItemC"), is(empty()));
+        assertThat(info1.getTrackedItems(), containsInAnyOrder("ItemA", "ItemB"));
+    }
+
+    @Test
+    public void testUpdateReplacesTrackedItems() {
+        SseSinkItemInfo info = new SseSinkItemInfo(mock(SseEventSink.class));
+        index.update(info, Set.of("ItemA", "ItemB"));
+        index.update(info, Set.of("ItemB", "ItemC"));
+
+        assertThat(index.getTrackers("ItemA"), is(empty()));
+        assertThat(index.getTrackers("ItemB"), contains(info));
+        assertThat(index.getTrackers("ItemC"), contains(info));
+    }
+
+    @Test
+    public void testRemovedConnectionsAreNoTrackersAnymore() {
+        SseSinkItemInfo info1 = new SseSinkItemInfo(mock(SseEventSink.class));
+        SseSinkItemInfo info2 = new SseSinkItemInfo(mock(SseEventSink.class));
+        index.update(info1, Set.of("ItemA"));
+        index.update(info2, Set.of("ItemA"));
+
+        index.remove(info1);
+
+        assertThat(index.getTrackers("ItemA"), contains(info2));
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+import javax.ws.rs.sse.SseEventSink;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link SseSinkItemInfoTest} tests the coalescing of item state changes in the {@link SseSinkItemInfo}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkItemInfoTest {
+
+    private final SseSinkItemInfo info = new SseSinkItemInfo(mock(SseEventSink.class));
+
+    @Test
+    public void testStateChangesOfAnItemAreCoalesced() {
+        assertThat(info.queueItem("ItemA"), is(1));
+        assertThat(info.queueItem("ItemB"), is(2));
+        assertThat(info.queueItem("ItemA"), is(2));
+
+        assertThat(info.pollItems(), containsInAnyOrder("ItemA", "ItemB"));
+        assertThat(info.getCoalescedStates(), is(1L));
+        assertThat(info.sendCompleted(), is(false));
+        assertThat(info.pollItems(), is(empty()));
+    }
+
+    @Test
+    public void testStateChangesAreDeferredWhileSending() {
+        info.queueItem("ItemA");
+        assertThat(info.pollItems(), contains("ItemA"));
+
+        assertThat(info.queueItem("ItemB"), is(1));
+        assertThat(info.pollItems(), is(empty()));
+        assertThat(info.queueItem("ItemC"), is(2));
+        assertThat(info.pollItems(), is(empty()));
+        assertThat(info.getDeferredFlushes(), is(1L));
+
+        assertThat(info.sendCompleted(), is(true));
+        assertThat(info.pollItems(), containsInAnyOrder("ItemB", "ItemC"));
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
@@ -36,6 +37,7 @@ import org.slf4j.LoggerFactory;
  * connection.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author crnjan - Send to a single sink
  *
  * @param <I> the type of the SSE event sink specific information
  */
@@ -98,24 +100,43 @@ public class SseBroadcaster<@NonNull I> implements Closeable {
                 return;
             }
 
-            if (sink.isClosed()) {
-                // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
-                // don't know if there is currently an iteration in progress or not, but it does not matter).
-                handleRemoval(sink);
-                return;
-            }
+            send(sink, event);
+        });
+    }
 
-            sink.send(event).exceptionally(throwable -> {
-                logger.debug("Sending event to sink failed", throwable);
+    /**
+     * Sends an event to a single sink of this broadcaster.
+     *
+     * @param sink the sink
+     * @param event the event
+     * @return a stage that completes once the event has been sent, or null if the sink is closed or not part of this
+     *         broadcaster
+     */
+    public @Nullable CompletionStage<?> sendTo(final SseEventSink sink, final OutboundSseEvent event) {
+        if (!sinks.containsKey(sink)) {
+            return null;
+        }
+        return send(sink, event);
+    }
 
-                close(sink);
+    private @Nullable CompletionStage<?> send(final SseEventSink sink, final OutboundSseEvent event) {
+        if (sink.isClosed()) {
+            // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
+            // don't know if there is currently an iteration in progress or not, but it does not matter).
+            handleRemoval(sink);
+            return null;
+        }
 
-                // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
-                // don't know if there is currently an iteration in progress or not, but it does not matter).
-                handleRemoval(sink);
+        return sink.send(event).exceptionally(throwable -> {
+            logger.debug("Sending event to sink failed", throwable);
+
+            close(sink);
+
+            // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
+            // don't know if there is currently an iteration in progress or not, but it does not matter).
+            handleRemoval(sink);
 
-                return null;
-            });
+            return null;
         });
     }
 
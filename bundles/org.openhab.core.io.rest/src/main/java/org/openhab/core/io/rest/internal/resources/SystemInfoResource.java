@@ -23,8 +23,10 @@ import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.auth.Role;
+import org.openhab.core.events.EventBusMetrics;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
+import org.openhab.core.io.rest.internal.resources.beans.EventBusMetricsBean;
 import org.openhab.core.io.rest.internal.resources.beans.SystemInfoBean;
 import org.openhab.core.service.StartLevelService;
 import org.osgi.service.component.annotations.Activate;
@@ -64,10 +66,13 @@ public class SystemInfoResource implements RESTResource {
     public static final String PATH_SYSTEMINFO = "systeminfo";
 
     private final StartLevelService startLevelService;
+    private final EventBusMetrics eventBusMetrics;
 
     @Activate
-    public SystemInfoResource(@Reference StartLevelService startLevelService) {
+    public SystemInfoResource(@Reference StartLevelService startLevelService,
+            @Reference EventBusMetrics eventBusMetrics) {
         this.startLevelService = startLevelService;
+        this.eventBusMetrics = eventBusMetrics;
     }
 
     @GET
@@ -79,4 +84,13 @@ public class SystemInfoResource implements RESTResource {
         final SystemInfoBean bean = new SystemInfoBean(startLevelService.getStartLevel());
         return Response.ok(bean).build();
     }
+
+    @GET
+    @Path("/eventbus")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getEventBusMetrics", summary = "Gets the runtime statistics of the event bus.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = EventBusMetricsBean.class))) })
+    public Response getEventBusMetrics(@Context UriInfo uriInfo) {
+        return Response.ok(new EventBusMetricsBean(eventBusMetrics)).build();
+    }
 }
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.internal.resources.beans;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.EventBusMetrics;
+import org.openhab.core.events.EventSubscriberMetrics;
+import org.openhab.core.events.EventTimingMetrics;
+
+/**
+ * This is a java bean that is used to define the event bus metrics for the REST interface.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetricsBean {
+
+    public final int queueSize;
+    public final long droppedEvents;
+    public final long coalescedEvents;
+    public final Map<String, Long> eventCounts;
+    public final Timing deliveryLatency;
+    public final List<Subscriber> subscribers;
+
+    public static class Timing {
+        public final long count;
+        public final double mean;
+        public final double p50;
+        public final double p99;
+        public final double max;
+
+        public Timing(EventTimingMetrics timingMetrics) {
+            count = timingMetrics.getCount();
+            mean = timingMetrics.getMean();
+            p50 = timingMetrics.getPercentile(50);
+            p99 = timingMetrics.getPercentile(99);
+            max = timingMetrics.getMax();
+        }
+    }
+
+    public static class Subscriber {
+        public final String name;
+        public final int pendingEvents;
+        public final long deliveredEvents;
+        public final long failedEvents;
+        public final long droppedEvents;
+        public final Timing processingTime;
+
+        public Subscriber(EventSubscriberMetrics subscriberMetrics) {
+            name = subscriberMetrics.getName();
+            pendingEvents = subscriberMetrics.getPendingEvents();
+            deliveredEvents = subscriberMetrics.getDeliveredEvents();
+            failedEvents = subscriberMetrics.getFailedEvents();
+            droppedEvents = subscriberMetrics.getDroppedEvents();
+            processingTime = new Timing(subscriberMetrics.getProcessingTime());
+        }
+    }
+
+    public EventBusMetricsBean(EventBusMetrics eventBusMetrics) {
+        queueSize = eventBusMetrics.getQueueSize();
+        droppedEvents = eventBusMetrics.getDroppedEvents();
+        coalescedEvents = eventBusMetrics.getCoalescedEvents();
+        eventCounts = new TreeMap<>(eventBusMetrics.getEventCounts());
+        deliveryLatency = new Timing(eventBusMetrics.getDeliveryLatency());
+        subscribers = eventBusMetrics.getSubscriberMetrics().stream().map(Subscriber::new)
+                .sorted(Comparator.comparing((Subscriber subscriber) -> subscriber.processingTime.p99).reversed())
+                .collect(Collectors.toList());
+    }
+}
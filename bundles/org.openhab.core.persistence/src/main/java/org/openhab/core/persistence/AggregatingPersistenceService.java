@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * A queryable {@link PersistenceService} which can aggregate the persisted states of an item itself, e.g. in the
+ * database, instead of returning all of them to openHAB.
+ * <p>
+ * The {@link org.openhab.core.persistence.extensions.PersistenceExtensions} use the aggregations supported by a
+ * service and calculate the other ones from the queried states.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface AggregatingPersistenceService extends QueryablePersistenceService {
+
+    /**
+     * The aggregations of the persisted states of an item within a time window.
+     */
+    enum Aggregation {
+        /** The persisted state with the lowest numeric value. */
+        MINIMUM,
+        /** The persisted state with the highest numeric value. */
+        MAXIMUM,
+        /** The sum of the numeric values of all persisted states. */
+        SUM,
+        /** The number of persisted states. */
+        COUNT,
+        /** The number of persisted states that differ from their preceding state within the time window. */
+        COUNT_CHANGES,
+        /**
+         * The difference between the numeric values of the last states persisted at or before the end and the begin of
+         * the time window.
+         */
+        DELTA,
+        /**
+         * The time-weighted average of the numeric values between the first and the last persisted state of the time
+         * window, where the value between two successive states is the mean of both.
+         */
+        TIME_WEIGHTED_AVERAGE
+    }
+
+    /**
+     * Returns the aggregations this service is able to calculate.
+     *
+     * @return the supported aggregations
+     */
+    Set<Aggregation> getSupportedAggregations();
+
+    /**
+     * Aggregates the persisted states of an item.
+     * <p>
+     * The filter contains the item name, the begin date and, optionally, the end date of the time window. Ordering,
+     * paging and state filtering do not apply.
+     * <p>
+     * Except for the {@link Aggregation#MINIMUM} and {@link Aggregation#MAXIMUM} aggregations, which return the
+     * persisted state with the extreme value, the state of the result is a {@link DecimalType} and the timestamp is the
+     * end of the time window. States that cannot be converted to a {@link DecimalType} are ignored by the numeric
+     * aggregations.
+     *
+     * @param filter the filter defining the item and the time window
+     * @param aggregation a supported aggregation
+     * @return the result, or null if there are no states to aggregate (less than two for the time-weighted average)
+     */
+    @Nullable
+    HistoricItem aggregate(FilterCriteria filter, Aggregation aggregation);
+}
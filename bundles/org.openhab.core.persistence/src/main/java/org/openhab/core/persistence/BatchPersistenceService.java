@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link PersistenceService} which stores item states in batches.
+ * <p>
+ * The persistence manager calls other services synchronously on every state update or change. For a service
+ * implementing this interface, it instead queues the item states of all strategies and passes them in batches to
+ * {@link #store(List)} on a separate thread.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface BatchPersistenceService extends PersistenceService {
+
+    /**
+     * Stores a batch of item states.
+     * <p>
+     * The states have been captured at the time of the update, change or strategy execution, so they might differ from
+     * the current item states and have to be stored with the timestamps of the entries. The persistence manager never
+     * calls this method concurrently for one service, but other calls to the service, e.g. by the persist action of
+     * rules, might run at the same time.
+     *
+     * @param entries the entries to store, in the order they have been queued
+     */
+    void store(List<PersistenceBatchEntry> entries);
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * A {@link PersistenceBatchEntry} is an item state queued for being stored by a {@link BatchPersistenceService}.
+ * <p>
+ * The state and timestamp are captured when the state update or change happened, so they might differ from the
+ * current state of the item by the time the entry is stored.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public final class PersistenceBatchEntry {
+
+    private final Item item;
+    private final @Nullable String alias;
+    private final State state;
+    private final ZonedDateTime timestamp;
+
+    public PersistenceBatchEntry(Item item, @Nullable String alias, State state, ZonedDateTime timestamp) {
+        this.item = item;
+        this.alias = alias;
+        this.state = state;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the item to store.
+     *
+     * @return the item
+     */
+    public Item getItem() {
+        return item;
+    }
+
+    /**
+     * Returns the alias the item should be persisted under.
+     *
+     * @return the alias, or null if the item name should be used
+     */
+    public @Nullable String getAlias() {
+        return alias;
+    }
+
+    /**
+     * Returns the state of the item at the time of the update.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the time of the update.
+     *
+     * @return the timestamp
+     */
+    public ZonedDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "PersistenceBatchEntry [item=" + item.getName() + ", alias=" + alias + ", state=" + state
+                + ", timestamp=" + timestamp + "]";
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link PersistenceQueueMetrics} provide runtime statistics of the queues of the item states to be stored by
+ * {@link BatchPersistenceService}s.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface PersistenceQueueMetrics {
+
+    /**
+     * Gets the ids of the persistence services whose item states are queued.
+     *
+     * @return the ids of the services storing in batches
+     */
+    Set<String> getQueuedServiceIds();
+
+    /**
+     * Gets the number of item states waiting to be stored by a persistence service.
+     *
+     * @param serviceId the id of the persistence service
+     * @return the number of pending entries, 0 if the service does not store in batches
+     */
+    int getPendingEntries(String serviceId);
+
+    /**
+     * Gets the number of item states that have been dropped because a persistence service could not keep up.
+     *
+     * @param serviceId the id of the persistence service
+     * @return the number of dropped entries, 0 if the service does not store in batches
+     */
+    long getDroppedEntries(String serviceId);
+}
@@ -17,13 +17,17 @@ import java.math.MathContext;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.AggregatingPersistenceService;
+import org.openhab.core.persistence.AggregatingPersistenceService.Aggregation;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
@@ -47,12 +51,16 @@ import org.slf4j.LoggerFactory;
  * @author Jan N. Klug - Added sumSince
  * @author John Cocula - Added sumSince
  * @author Jan N. Klug - Added interval methods and refactoring
+ * @author crnjan - Aggregation by persistence services and paged queries
  */
 @Component(immediate = true)
 public class PersistenceExtensions {
 
     private static final BigDecimal BIG_DECIMAL_TWO = BigDecimal.valueOf(2);
 
+    // the number of states queried at once when iterating over the states of a time window
+    static final int QUERY_PAGE_SIZE = 1000;
+
     private static PersistenceServiceRegistry registry;
 
     @Activate
@@ -452,6 +460,11 @@ public class PersistenceExtensions {
 
     private static @Nullable HistoricItem internalMaximum(final Item item, ZonedDateTime begin,
             @Nullable ZonedDateTime end, String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId, Aggregation.MAXIMUM);
+        if (aggregatingService != null) {
+            return aggregatedExtremeOrCurrentState(item, end, aggregatingService, Aggregation.MAXIMUM, begin, 1);
+        }
+
         Iterable<HistoricItem> result = getAllStatesBetween(item, begin, end, serviceId);
         Iterator<HistoricItem> it = result.iterator();
         HistoricItem maximumHistoricItem = null;
@@ -533,6 +546,11 @@ public class PersistenceExtensions {
 
     private static @Nullable HistoricItem internalMinimum(final Item item, ZonedDateTime begin,
             @Nullable ZonedDateTime end, String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId, Aggregation.MINIMUM);
+        if (aggregatingService != null) {
+            return aggregatedExtremeOrCurrentState(item, end, aggregatingService, Aggregation.MINIMUM, begin, -1);
+        }
+
         Iterable<HistoricItem> result = getAllStatesBetween(item, begin, end, serviceId);
         Iterator<HistoricItem> it = result.iterator();
         HistoricItem minimumHistoricItem = null;
@@ -770,6 +788,15 @@ public class PersistenceExtensions {
      *         calculation.
      */
     public static @Nullable DecimalType averageSince(Item item, ZonedDateTime timestamp, String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId,
+                Aggregation.TIME_WEIGHTED_AVERAGE);
+        if (aggregatingService != null) {
+            DecimalType average = aggregatedAverageSince(item, timestamp, aggregatingService);
+            if (average != null) {
+                return average;
+            }
+            // less than two persisted states, the average is determined from the current state
+        }
         Iterable<HistoricItem> result = getAllStatesBetween(item, timestamp, null, serviceId);
         Iterator<HistoricItem> it = result.iterator();
         return internalAverage(item, it, true);
@@ -789,6 +816,12 @@ public class PersistenceExtensions {
      */
     public static @Nullable DecimalType averageBetween(Item item, ZonedDateTime begin, ZonedDateTime end,
             String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId,
+                Aggregation.TIME_WEIGHTED_AVERAGE);
+        if (aggregatingService != null) {
+            return aggregateToDecimal(aggregatingService, createFilter(item, begin, end),
+                    Aggregation.TIME_WEIGHTED_AVERAGE);
+        }
         Iterable<HistoricItem> result = getAllStatesBetween(item, begin, end, serviceId);
         Iterator<HistoricItem> it = result.iterator();
         return internalAverage(item, it, false);
@@ -906,6 +939,12 @@ public class PersistenceExtensions {
 
     private static DecimalType internalSum(Item item, ZonedDateTime begin, @Nullable ZonedDateTime end,
             String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId, Aggregation.SUM);
+        if (aggregatingService != null) {
+            DecimalType sum = aggregateToDecimal(aggregatingService, createFilter(item, begin, end), Aggregation.SUM);
+            return sum != null ? sum : DecimalType.ZERO;
+        }
+
         Iterable<HistoricItem> result = getAllStatesBetween(item, begin, end, serviceId);
         Iterator<HistoricItem> it = result.iterator();
 
@@ -988,6 +1027,11 @@ public class PersistenceExtensions {
      */
     public static @Nullable DecimalType deltaBetween(Item item, ZonedDateTime begin, ZonedDateTime end,
             String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId, Aggregation.DELTA);
+        if (aggregatingService != null) {
+            return aggregateToDecimal(aggregatingService, createFilter(item, begin, end), Aggregation.DELTA);
+        }
+
         HistoricItem itemStart = historicState(item, begin, serviceId);
         HistoricItem itemStop = historicState(item, end, serviceId);
         if (itemStart != null && itemStop != null) {
@@ -1142,6 +1186,13 @@ public class PersistenceExtensions {
      * @return the number of values persisted for this item
      */
     public static long countBetween(Item item, ZonedDateTime begin, @Nullable ZonedDateTime end, String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId, Aggregation.COUNT);
+        if (aggregatingService != null) {
+            DecimalType count = aggregateToDecimal(aggregatingService, createFilter(item, begin, end),
+                    Aggregation.COUNT);
+            return count != null ? count.longValue() : 0;
+        }
+
         Iterable<HistoricItem> historicItems = getAllStatesBetween(item, begin, end, serviceId);
         if (historicItems instanceof Collection<?>) {
             return ((Collection<?>) historicItems).size();
@@ -1200,6 +1251,13 @@ public class PersistenceExtensions {
      */
     public static long countStateChangesBetween(Item item, ZonedDateTime begin, @Nullable ZonedDateTime end,
             String serviceId) {
+        AggregatingPersistenceService aggregatingService = getAggregatingService(serviceId, Aggregation.COUNT_CHANGES);
+        if (aggregatingService != null) {
+            DecimalType count = aggregateToDecimal(aggregatingService, createFilter(item, begin, end),
+                    Aggregation.COUNT_CHANGES);
+            return count != null ? count.longValue() : 0;
+        }
+
         Iterable<HistoricItem> result = getAllStatesBetween(item, begin, end, serviceId);
         Iterator<HistoricItem> it = result.iterator();
 
@@ -1248,19 +1306,18 @@ public class PersistenceExtensions {
         return null;
     }
 
+    /**
+     * Gets the states of an item within a time window in ascending order.
+     * <p>
+     * The states are queried page by page while iterating, so a large time window does not need to be held in memory
+     * at once.
+     */
     private static Iterable<HistoricItem> getAllStatesBetween(Item item, ZonedDateTime begin,
             @Nullable ZonedDateTime end, String serviceId) {
         PersistenceService service = getService(serviceId);
         if (service instanceof QueryablePersistenceService) {
             QueryablePersistenceService qService = (QueryablePersistenceService) service;
-            FilterCriteria filter = new FilterCriteria();
-            filter.setBeginDate(begin);
-            if (end != null) {
-                filter.setEndDate(end);
-            }
-            filter.setItemName(item.getName());
-            filter.setOrdering(Ordering.ASCENDING);
-            return qService.query(filter);
+            return () -> new PagedQueryIterator(qService, createFilter(item, begin, end));
         } else {
             LoggerFactory.getLogger(PersistenceExtensions.class)
                     .warn("There is no queryable persistence service registered with the id '{}'", serviceId);
@@ -1268,6 +1325,94 @@ public class PersistenceExtensions {
         }
     }
 
+    private static FilterCriteria createFilter(Item item, ZonedDateTime begin, @Nullable ZonedDateTime end) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setBeginDate(begin);
+        if (end != null) {
+            filter.setEndDate(end);
+        }
+        filter.setItemName(item.getName());
+        filter.setOrdering(Ordering.ASCENDING);
+        return filter;
+    }
+
+    private static @Nullable AggregatingPersistenceService getAggregatingService(String serviceId,
+            Aggregation aggregation) {
+        PersistenceService service = getService(serviceId);
+        if (service instanceof AggregatingPersistenceService
+                && ((AggregatingPersistenceService) service).getSupportedAggregations().contains(aggregation)) {
+            return (AggregatingPersistenceService) service;
+        }
+        return null;
+    }
+
+    private static @Nullable DecimalType aggregateToDecimal(AggregatingPersistenceService service,
+            FilterCriteria filter, Aggregation aggregation) {
+        HistoricItem result = service.aggregate(filter, aggregation);
+        return result != null ? result.getState().as(DecimalType.class) : null;
+    }
+
+    /**
+     * Determines the minimum or maximum through the service, the current state is included if no end time is given.
+     *
+     * @param signum 1 for the maximum, -1 for the minimum
+     */
+    private static @Nullable HistoricItem aggregatedExtremeOrCurrentState(Item item, @Nullable ZonedDateTime end,
+            AggregatingPersistenceService service, Aggregation aggregation, ZonedDateTime begin, int signum) {
+        DecimalType current = end == null ? item.getStateAs(DecimalType.class) : null;
+        HistoricItem extreme = service.aggregate(createFilter(item, begin, end), aggregation);
+        DecimalType value = extreme != null ? extreme.getState().as(DecimalType.class) : null;
+        if (value != null && (current == null || Integer.signum(value.compareTo(current)) == signum)) {
+            return extreme;
+        }
+        return historicItemOrCurrentState(item, null, current);
+    }
+
+    /**
+     * Extends the time-weighted average of the persisted states calculated by the service up to now by the
+     * current state.
+     *
+     * @return the average, or null if the service could not calculate the average of the persisted states
+     */
+    private static @Nullable DecimalType aggregatedAverageSince(Item item, ZonedDateTime timestamp,
+            AggregatingPersistenceService service) {
+        DecimalType persistedAverage = aggregateToDecimal(service, createFilter(item, timestamp, null),
+                Aggregation.TIME_WEIGHTED_AVERAGE);
+        if (persistedAverage == null) {
+            return null;
+        }
+        HistoricItem first = queryFirst(service, item, timestamp, Ordering.ASCENDING);
+        HistoricItem last = queryFirst(service, item, timestamp, Ordering.DESCENDING);
+        DecimalType lastState = last != null ? last.getState().as(DecimalType.class) : null;
+        DecimalType currentState = item.getStateAs(DecimalType.class);
+        if (first == null || last == null || lastState == null || currentState == null) {
+            return persistedAverage;
+        }
+
+        BigDecimal firstTimestamp = BigDecimal.valueOf(first.getTimestamp().toInstant().toEpochMilli());
+        BigDecimal lastTimestamp = BigDecimal.valueOf(last.getTimestamp().toInstant().toEpochMilli());
+        BigDecimal now = BigDecimal.valueOf(Instant.now().toEpochMilli());
+        BigDecimal total = persistedAverage.toBigDecimal().multiply(lastTimestamp.subtract(firstTimestamp),
+                MathContext.DECIMAL64);
+        BigDecimal average = currentState.toBigDecimal().add(lastState.toBigDecimal()).divide(BIG_DECIMAL_TWO,
+                MathContext.DECIMAL64);
+        total = total.add(average.multiply(now.subtract(lastTimestamp), MathContext.DECIMAL64));
+        BigDecimal timeSpan = now.subtract(firstTimestamp);
+        if (BigDecimal.ZERO.compareTo(timeSpan) == 0) {
+            return persistedAverage;
+        }
+        return new DecimalType(total.divide(timeSpan, MathContext.DECIMAL64));
+    }
+
+    private static @Nullable HistoricItem queryFirst(QueryablePersistenceService service, Item item,
+            ZonedDateTime begin, Ordering ordering) {
+        FilterCriteria filter = createFilter(item, begin, null);
+        filter.setOrdering(ordering);
+        filter.setPageSize(1);
+        Iterator<HistoricItem> it = service.query(filter).iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
     private static @Nullable HistoricItem historicItemOrCurrentState(Item item, HistoricItem historicItem,
             DecimalType value) {
         if (historicItem == null && value != null) {
@@ -1293,4 +1438,76 @@ public class PersistenceExtensions {
             return historicItem;
         }
     }
+
+    /**
+     * Iterates over the states of a query page by page.
+     * <p>
+     * Services ignoring the paging are detected: if a page contains more states than requested, it is considered to
+     * contain all of them, and if a page starts before the end of the previous one, the iteration stops.
+     */
+    private static class PagedQueryIterator implements Iterator<HistoricItem> {
+        private final QueryablePersistenceService service;
+        private final FilterCriteria filter;
+
+        private Iterator<HistoricItem> page = Collections.emptyIterator();
+        private int pageNumber = 0;
+        private int pageCount = QUERY_PAGE_SIZE;
+        private boolean done = false;
+        private @Nullable ZonedDateTime lastTimestamp;
+        private @Nullable HistoricItem next;
+
+        private PagedQueryIterator(QueryablePersistenceService service, FilterCriteria filter) {
+            this.service = service;
+            this.filter = filter;
+            filter.setPageSize(QUERY_PAGE_SIZE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = fetch();
+            }
+            return next != null;
+        }
+
+        @Override
+        public HistoricItem next() {
+            HistoricItem historicItem = next;
+            if (historicItem == null) {
+                historicItem = fetch();
+                if (historicItem == null) {
+                    throw new NoSuchElementException();
+                }
+            }
+            next = null;
+            return historicItem;
+        }
+
+        private @Nullable HistoricItem fetch() {
+            while (!done) {
+                if (page.hasNext()) {
+                    HistoricItem historicItem = page.next();
+                    ZonedDateTime timestamp = historicItem.getTimestamp();
+                    ZonedDateTime lastTimestamp = this.lastTimestamp;
+                    if (pageCount++ == 0 && pageNumber > 1 && lastTimestamp != null
+                            && timestamp.isBefore(lastTimestamp)) {
+                        // the service ignores the page number
+                        done = true;
+                        return null;
+                    }
+                    this.lastTimestamp = timestamp;
+                    return historicItem;
+                }
+                if (pageCount != QUERY_PAGE_SIZE) {
+                    // either the last page or the service ignores the page size and returned all states at once
+                    done = true;
+                    return null;
+                }
+                filter.setPageNumber(pageNumber++);
+                page = service.query(filter).iterator();
+                pageCount = 0;
+            }
+            return null;
+        }
+    }
 }
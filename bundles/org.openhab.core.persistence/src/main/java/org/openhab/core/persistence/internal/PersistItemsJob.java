@@ -12,11 +12,13 @@
  */
 package org.openhab.core.persistence.internal;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.items.Item;
+import org.openhab.core.persistence.PersistenceBatchEntry;
 import org.openhab.core.persistence.PersistenceItemConfiguration;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceConfiguration;
@@ -30,6 +32,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Markus Rathgeb - Separation of persistence core and model, drop Quartz usage.
+ * @author crnjan - Queue the item states of batch persistence services
  */
 @NonNullByDefault
 public class PersistItemsJob implements SchedulerRunnable {
@@ -53,9 +56,16 @@ public class PersistItemsJob implements SchedulerRunnable {
             final PersistenceServiceConfiguration config = manager.persistenceServiceConfigs.get(dbId);
 
             if (persistenceService != null) {
+                // services storing in batches get the states through their queue, so their batches never overlap
+                final PersistenceServiceQueue queue = manager.getQueue(dbId);
                 for (PersistenceItemConfiguration itemConfig : config.getConfigs()) {
                     if (hasStrategy(config.getDefaults(), itemConfig, strategyName)) {
                         for (Item item : manager.getAllItems(itemConfig)) {
+                            if (queue != null) {
+                                queue.add(new PersistenceBatchEntry(item, itemConfig.getAlias(), item.getState(),
+                                        ZonedDateTime.now()));
+                                continue;
+                            }
                             long startTime = System.nanoTime();
                             persistenceService.store(item, itemConfig.getAlias());
                             logger.trace("Storing item '{}' with persistence service '{}' took {}ms", item.getName(),
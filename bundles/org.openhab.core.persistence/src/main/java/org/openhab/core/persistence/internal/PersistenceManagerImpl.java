@@ -12,7 +12,9 @@
  */
 package org.openhab.core.persistence.internal;
 
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -29,6 +32,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.SafeCaller;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -36,10 +40,13 @@ import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.ItemRegistryChangeListener;
 import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.persistence.BatchPersistenceService;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceBatchEntry;
 import org.openhab.core.persistence.PersistenceItemConfiguration;
 import org.openhab.core.persistence.PersistenceManager;
+import org.openhab.core.persistence.PersistenceQueueMetrics;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.QueryablePersistenceService;
@@ -72,11 +79,16 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Markus Rathgeb - Separation of persistence core and model, drop Quartz usage.
+ * @author crnjan - Item routing table and asynchronous batched storing
  */
-@Component(immediate = true, service = PersistenceManager.class)
+@Component(immediate = true, service = { PersistenceManager.class, PersistenceQueueMetrics.class })
 @NonNullByDefault
 public class PersistenceManagerImpl
-        implements ItemRegistryChangeListener, PersistenceManager, StateChangeListener, ReadyTracker {
+        implements ItemRegistryChangeListener, PersistenceManager, PersistenceQueueMetrics, StateChangeListener,
+        ReadyTracker {
+
+    /** The name of the thread pool the item states are stored on. */
+    public static final String THREAD_POOL_NAME = "persistence";
 
     private final Logger logger = LoggerFactory.getLogger(PersistenceManagerImpl.class);
 
@@ -92,6 +104,10 @@ public class PersistenceManagerImpl
     final Map<String, PersistenceService> persistenceServices = new HashMap<>();
     final Map<String, @Nullable PersistenceServiceConfiguration> persistenceServiceConfigs = new HashMap<>();
     private final Map<String, Set<ScheduledCompletableFuture<?>>> persistenceJobs = new HashMap<>();
+    private final Map<String, PersistenceServiceQueue> persistenceQueues = new ConcurrentHashMap<>();
+
+    // the routes of the items by item name, replaced whenever the configurations, services or items change
+    private volatile Map<String, ItemRoutes> itemRoutes = new ConcurrentHashMap<>();
 
     @Activate
     public PersistenceManagerImpl(final @Reference CronScheduler scheduler, final @Reference ItemRegistry itemRegistry,
@@ -114,13 +130,27 @@ public class PersistenceManagerImpl
         started = false;
         removeTimers();
         removeItemStateChangeListeners();
+        persistenceQueues.values().forEach(PersistenceServiceQueue::close);
+        persistenceQueues.clear();
+        invalidateRoutes();
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addPersistenceService(PersistenceService persistenceService) {
         logger.debug("Initializing {} persistence service.", persistenceService.getId());
         persistenceServices.put(persistenceService.getId(), persistenceService);
+        PersistenceServiceQueue queue;
+        if (persistenceService instanceof BatchPersistenceService) {
+            queue = persistenceQueues.put(persistenceService.getId(), new PersistenceServiceQueue(
+                    (BatchPersistenceService) persistenceService, ThreadPoolManager.getPool(THREAD_POOL_NAME)));
+        } else {
+            queue = persistenceQueues.remove(persistenceService.getId());
+        }
+        if (queue != null) {
+            queue.close();
+        }
         persistenceServiceConfigs.putIfAbsent(persistenceService.getId(), getDefaultConfig(persistenceService));
+        invalidateRoutes();
         if (started) {
             stopEventHandling(persistenceService.getId());
             startEventHandling(persistenceService.getId());
@@ -130,32 +160,114 @@ public class PersistenceManagerImpl
     protected void removePersistenceService(PersistenceService persistenceService) {
         stopEventHandling(persistenceService.getId());
         persistenceServices.remove(persistenceService.getId());
+        PersistenceServiceQueue queue = persistenceQueues.remove(persistenceService.getId());
+        if (queue != null) {
+            queue.close();
+        }
+        invalidateRoutes();
     }
 
     /**
-     * Calls all persistence services which use change or update policy for the given item
+     * Calls all persistence services which use change or update policy for the given item, the item state is queued
+     * for services storing in batches.
      *
      * @param item the item to persist
+     * @param state the state of the item
      * @param onlyChanges true, if it has the change strategy, false otherwise
      */
-    private void handleStateEvent(Item item, boolean onlyChanges) {
+    private void handleStateEvent(Item item, State state, boolean onlyChanges) {
+        ItemRoutes routes = getRoutes(item);
+        List<Route> targets = onlyChanges ? routes.onChange : routes.onUpdate;
+        if (targets.isEmpty()) {
+            return;
+        }
+        ZonedDateTime timestamp = ZonedDateTime.now();
+        for (Route route : targets) {
+            PersistenceServiceQueue queue = route.queue;
+            if (queue != null) {
+                queue.add(new PersistenceBatchEntry(item, route.alias, state, timestamp));
+            } else {
+                route.service.store(item, route.alias);
+            }
+        }
+    }
+
+    /**
+     * Returns the queue of a persistence service.
+     *
+     * @param dbId the id of the persistence service
+     * @return the queue, or null if the service does not store in batches
+     */
+    @Nullable
+    PersistenceServiceQueue getQueue(String dbId) {
+        return persistenceQueues.get(dbId);
+    }
+
+    @Override
+    public Set<String> getQueuedServiceIds() {
+        return Set.copyOf(persistenceQueues.keySet());
+    }
+
+    @Override
+    public int getPendingEntries(String serviceId) {
+        PersistenceServiceQueue queue = persistenceQueues.get(serviceId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public long getDroppedEntries(String serviceId) {
+        PersistenceServiceQueue queue = persistenceQueues.get(serviceId);
+        return queue == null ? 0 : queue.getDroppedEntries();
+    }
+
+    private ItemRoutes getRoutes(Item item) {
+        Map<String, ItemRoutes> itemRoutes = this.itemRoutes;
+        ItemRoutes routes = itemRoutes.get(item.getName());
+        if (routes == null || routes.item != item) {
+            routes = createRoutes(item);
+            // if the routes have been invalidated in the meantime, they are put into the discarded map
+            itemRoutes.put(item.getName(), routes);
+        }
+        return routes;
+    }
+
+    /**
+     * Determines the persistence services (and aliases) an item is stored with on updates and on changes.
+     *
+     * @param item the item
+     * @return the routes of the item
+     */
+    private ItemRoutes createRoutes(Item item) {
+        List<Route> onUpdate = new ArrayList<>();
+        List<Route> onChange = new ArrayList<>();
         synchronized (persistenceServiceConfigs) {
             for (Entry<String, @Nullable PersistenceServiceConfiguration> entry : persistenceServiceConfigs
                     .entrySet()) {
-                final String serviceName = entry.getKey();
                 final PersistenceServiceConfiguration config = entry.getValue();
-                if (config != null && persistenceServices.containsKey(serviceName)) {
+                final PersistenceService service = persistenceServices.get(entry.getKey());
+                if (config != null && service != null) {
+                    final PersistenceServiceQueue queue = persistenceQueues.get(entry.getKey());
                     for (PersistenceItemConfiguration itemConfig : config.getConfigs()) {
-                        if (hasStrategy(config, itemConfig, onlyChanges ? PersistenceStrategy.Globals.CHANGE
-                                : PersistenceStrategy.Globals.UPDATE)) {
-                            if (appliesToItem(itemConfig, item)) {
-                                persistenceServices.get(serviceName).store(item, itemConfig.getAlias());
+                        boolean update = hasStrategy(config, itemConfig, PersistenceStrategy.Globals.UPDATE);
+                        boolean change = hasStrategy(config, itemConfig, PersistenceStrategy.Globals.CHANGE);
+                        if ((update || change) && appliesToItem(itemConfig, item)) {
+                            Route route = new Route(service, queue, itemConfig.getAlias());
+                            if (update) {
+                                onUpdate.add(route);
+                            }
+                            if (change) {
+                                onChange.add(route);
                             }
                         }
                     }
                 }
             }
         }
+        return new ItemRoutes(item, List.copyOf(onUpdate), List.copyOf(onChange));
+    }
+
+    private void invalidateRoutes() {
+        itemRoutes = new ConcurrentHashMap<>();
     }
 
     /**
@@ -200,16 +312,10 @@ public class PersistenceManagerImpl
             }
             if (itemCfg instanceof PersistenceGroupConfig) {
                 PersistenceGroupConfig groupItemConfig = (PersistenceGroupConfig) itemCfg;
-                try {
-                    Item gItem = itemRegistry.getItem(groupItemConfig.getGroup());
-                    if (gItem instanceof GroupItem) {
-                        GroupItem groupItem = (GroupItem) gItem;
-                        if (groupItem.getAllMembers().contains(item)) {
-                            return true;
-                        }
-                    }
-                } catch (ItemNotFoundException e) {
-                    // do nothing
+                // groups are not members in the sense of GroupItem#getAllMembers()
+                if (!(item instanceof GroupItem)
+                        && itemRegistry.getAllGroupNames(item.getName()).contains(groupItemConfig.getGroup())) {
+                    return true;
                 }
             }
         }
@@ -245,15 +351,11 @@ public class PersistenceManagerImpl
             if (itemCfg instanceof PersistenceGroupConfig) {
                 PersistenceGroupConfig groupItemConfig = (PersistenceGroupConfig) itemCfg;
                 String groupName = groupItemConfig.getGroup();
-                try {
-                    Item gItem = itemRegistry.getItem(groupName);
-                    if (gItem instanceof GroupItem) {
-                        GroupItem groupItem = (GroupItem) gItem;
-                        items.addAll(groupItem.getAllMembers());
-                    }
-                } catch (ItemNotFoundException e) {
-                    logger.debug("Item group '{}' does not exist.", groupName);
+                Set<Item> members = itemRegistry.getAllMembers(groupName);
+                if (members.isEmpty()) {
+                    logger.debug("Item group '{}' does not exist or has no members.", groupName);
                 }
+                items.addAll(members);
             }
         }
         return items;
@@ -389,6 +491,7 @@ public class PersistenceManagerImpl
                 stopEventHandling(dbId);
             }
             persistenceServiceConfigs.put(dbId, config);
+            invalidateRoutes();
             if (started && persistenceServices.containsKey(dbId)) {
                 startEventHandling(dbId);
             }
@@ -402,9 +505,11 @@ public class PersistenceManagerImpl
             PersistenceService persistenceService = persistenceServices.get(dbId);
             if (persistenceService != null) {
                 persistenceServiceConfigs.put(dbId, getDefaultConfig(persistenceService));
+                invalidateRoutes();
                 startEventHandling(dbId);
             } else {
                 persistenceServiceConfigs.remove(dbId);
+                invalidateRoutes();
             }
         }
     }
@@ -440,6 +545,7 @@ public class PersistenceManagerImpl
 
     @Override
     public void allItemsChanged(Collection<String> oldItemNames) {
+        invalidateRoutes();
         for (Item item : itemRegistry.getItems()) {
             added(item);
         }
@@ -447,6 +553,8 @@ public class PersistenceManagerImpl
 
     @Override
     public void added(Item item) {
+        // group memberships of other items might have changed
+        invalidateRoutes();
         initialize(item);
         if (item instanceof GenericItem) {
             GenericItem genericItem = (GenericItem) item;
@@ -456,6 +564,7 @@ public class PersistenceManagerImpl
 
     @Override
     public void removed(Item item) {
+        invalidateRoutes();
         if (item instanceof GenericItem) {
             GenericItem genericItem = (GenericItem) item;
             genericItem.removeStateChangeListener(this);
@@ -470,12 +579,12 @@ public class PersistenceManagerImpl
 
     @Override
     public void stateChanged(Item item, State oldState, State newState) {
-        handleStateEvent(item, true);
+        handleStateEvent(item, newState, true);
     }
 
     @Override
     public void stateUpdated(Item item, State state) {
-        handleStateEvent(item, false);
+        handleStateEvent(item, state, false);
     }
 
     @Override
@@ -497,4 +606,29 @@ public class PersistenceManagerImpl
     public void onReadyMarkerRemoved(ReadyMarker readyMarker) {
         readyService.unmarkReady(marker);
     }
+
+    private static class Route {
+        private final PersistenceService service;
+        // null if the service is called synchronously
+        private final @Nullable PersistenceServiceQueue queue;
+        private final @Nullable String alias;
+
+        private Route(PersistenceService service, @Nullable PersistenceServiceQueue queue, @Nullable String alias) {
+            this.service = service;
+            this.queue = queue;
+            this.alias = alias;
+        }
+    }
+
+    private static class ItemRoutes {
+        private final Item item;
+        private final List<Route> onUpdate;
+        private final List<Route> onChange;
+
+        private ItemRoutes(Item item, List<Route> onUpdate, List<Route> onChange) {
+            this.item = item;
+            this.onUpdate = onUpdate;
+            this.onChange = onChange;
+        }
+    }
 }
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.BatchPersistenceService;
+import org.openhab.core.persistence.PersistenceBatchEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PersistenceServiceQueue} queues the item states to be stored by a {@link BatchPersistenceService} and
+ * passes them in batches to {@link BatchPersistenceService#store(List)} on a shared thread pool.
+ * <p>
+ * At most one batch of a service is written at a time, so a slow service only delays its own entries. If a service
+ * cannot keep up and the queue reaches its capacity, the oldest entries are dropped. Dropped entries are logged and
+ * counted.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceServiceQueue implements Runnable {
+
+    static final int MAX_BATCH_SIZE = 100;
+    static final int CAPACITY = 10000;
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceServiceQueue.class);
+
+    private final BatchPersistenceService service;
+    private final Executor executor;
+    private final int capacity;
+    private final Deque<PersistenceBatchEntry> queue = new ArrayDeque<>();
+
+    private boolean scheduled = false;
+    private boolean closed = false;
+    // the entries dropped since the queue last caught up, and in total
+    private long droppedEntries = 0;
+    private long totalDroppedEntries = 0;
+
+    public PersistenceServiceQueue(BatchPersistenceService service, Executor executor) {
+        this(service, executor, CAPACITY);
+    }
+
+    PersistenceServiceQueue(BatchPersistenceService service, Executor executor, int capacity) {
+        this.service = service;
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queues an entry for being stored.
+     *
+     * @param entry the entry
+     */
+    public synchronized void add(PersistenceBatchEntry entry) {
+        if (closed) {
+            return;
+        }
+        if (queue.size() >= capacity) {
+            queue.poll();
+            totalDroppedEntries++;
+            if (droppedEntries++ == 0) {
+                logger.warn("Persistence service '{}' cannot keep up with storing the item states, dropping entries.",
+                        service.getId());
+            }
+        }
+        queue.add(entry);
+        if (!scheduled) {
+            scheduled = true;
+            submit();
+        }
+    }
+
+    /**
+     * Closes the queue, the entries that have not been stored yet are discarded.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (!queue.isEmpty()) {
+            logger.debug("Discarding {} entries not yet stored by persistence service '{}'.", queue.size(),
+                    service.getId());
+            queue.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries waiting to be stored.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of entries that have been dropped because the service could not keep up.
+     *
+     * @return the number of dropped entries
+     */
+    public synchronized long getDroppedEntries() {
+        return totalDroppedEntries;
+    }
+
+    @Override
+    public void run() {
+        List<PersistenceBatchEntry> batch = poll();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            service.store(batch);
+        } catch (Exception e) {
+            logger.warn("Persistence service '{}' failed to store {} entries: {}", service.getId(), batch.size(),
+                    e.getMessage(), e);
+        }
+        synchronized (this) {
+            if (queue.isEmpty() || closed) {
+                scheduled = false;
+            } else {
+                // give other services a chance before writing the next batch
+                submit();
+            }
+        }
+    }
+
+    private synchronized List<PersistenceBatchEntry> poll() {
+        List<PersistenceBatchEntry> batch = new ArrayList<>(Math.min(queue.size(), MAX_BATCH_SIZE));
+        while (batch.size() < MAX_BATCH_SIZE && !queue.isEmpty()) {
+            batch.add(queue.poll());
+        }
+        if (batch.isEmpty()) {
+            scheduled = false;
+        }
+        if (droppedEntries > 0 && queue.size() < capacity / 2) {
+            logger.warn("Persistence service '{}' caught up, {} entries have been dropped.", service.getId(),
+                    droppedEntries);
+            droppedEntries = 0;
+        }
+        return batch;
+    }
+
+    private void submit() {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Storing item states with persistence service '{}' failed, {} entries are dropped: {}",
+                    service.getId(), queue.size(), e.getMessage());
+            totalDroppedEntries += queue.size();
+            queue.clear();
+            scheduled = false;
+        }
+    }
+}
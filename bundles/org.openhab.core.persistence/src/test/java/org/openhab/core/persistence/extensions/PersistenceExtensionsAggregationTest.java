@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.extensions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.AggregatingPersistenceService;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.core.persistence.strategy.PersistenceStrategy;
+import org.openhab.core.types.State;
+
+/**
+ * Tests the paged queries of the {@link PersistenceExtensions} and the aggregations by an
+ * {@link AggregatingPersistenceService}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceExtensionsAggregationTest {
+
+    private static final String SERVICE_ID = "aggregating";
+    private static final int STATE_COUNT = 2500;
+    private static final long STATE_SUM = (long) STATE_COUNT * (STATE_COUNT - 1) / 2;
+
+    private final ZonedDateTime begin = ZonedDateTime.now().minusDays(1);
+    private final GenericItem item = new CoreItemFactory().createItem(CoreItemFactory.NUMBER, "number");
+    private final PagingPersistenceService service = new PagingPersistenceService();
+
+    @BeforeEach
+    public void setUp() {
+        new PersistenceExtensions(new PersistenceServiceRegistry() {
+            @Override
+            public @Nullable String getDefaultId() {
+                return null;
+            }
+
+            @Override
+            public @Nullable PersistenceService getDefault() {
+                return null;
+            }
+
+            @Override
+            public Set<PersistenceService> getAll() {
+                return Set.of(service);
+            }
+
+            @Override
+            public @Nullable PersistenceService get(@Nullable String serviceId) {
+                return SERVICE_ID.equals(serviceId) ? service : null;
+            }
+        });
+    }
+
+    @Test
+    public void testStatesAreQueriedInPages() {
+        assertEquals(STATE_COUNT, PersistenceExtensions.countSince(item, begin, SERVICE_ID));
+        assertEquals(List.of(0, 1, 2), service.queriedPages);
+        assertEquals(PersistenceExtensions.QUERY_PAGE_SIZE, service.queriedPageSize);
+    }
+
+    @Test
+    public void testServiceIgnoringPaging() {
+        service.ignorePaging = true;
+        assertEquals(STATE_COUNT, PersistenceExtensions.countSince(item, begin, SERVICE_ID));
+        assertEquals(List.of(0), service.queriedPages);
+    }
+
+    @Test
+    public void testServiceIgnoringPageNumber() {
+        service.ignorePageNumber = true;
+        assertEquals(PersistenceExtensions.QUERY_PAGE_SIZE, PersistenceExtensions.countSince(item, begin, SERVICE_ID));
+        assertEquals(List.of(0, 1), service.queriedPages);
+    }
+
+    @Test
+    public void testSupportedAggregationIsPushedDown() {
+        service.supportedAggregations = EnumSet.of(AggregatingPersistenceService.Aggregation.SUM,
+                AggregatingPersistenceService.Aggregation.COUNT);
+
+        DecimalType sum = PersistenceExtensions.sumSince(item, begin, SERVICE_ID);
+        assertEquals(STATE_SUM, sum.longValue());
+        assertEquals(STATE_COUNT, PersistenceExtensions.countSince(item, begin, SERVICE_ID));
+        assertEquals(
+                List.of(AggregatingPersistenceService.Aggregation.SUM, AggregatingPersistenceService.Aggregation.COUNT),
+                service.aggregations);
+        assertTrue(service.queriedPages.isEmpty());
+    }
+
+    @Test
+    public void testUnsupportedAggregationIsCalculatedFromStates() {
+        service.supportedAggregations = EnumSet.of(AggregatingPersistenceService.Aggregation.COUNT);
+
+        DecimalType sum = PersistenceExtensions.sumSince(item, begin, SERVICE_ID);
+        assertEquals(STATE_SUM, sum.longValue());
+        assertTrue(service.aggregations.isEmpty());
+        assertEquals(List.of(0, 1, 2), service.queriedPages);
+    }
+
+    @Test
+    public void testMaximumIsComparedWithCurrentState() {
+        service.supportedAggregations = EnumSet.of(AggregatingPersistenceService.Aggregation.MAXIMUM);
+
+        HistoricItem maximum = PersistenceExtensions.maximumSince(item, begin, SERVICE_ID);
+        assertNotNull(maximum);
+        assertEquals(new DecimalType(STATE_COUNT - 1), maximum.getState());
+
+        item.setState(new DecimalType(STATE_COUNT));
+        maximum = PersistenceExtensions.maximumSince(item, begin, SERVICE_ID);
+        assertNotNull(maximum);
+        assertEquals(new DecimalType(STATE_COUNT), maximum.getState());
+    }
+
+    private class PagingPersistenceService implements AggregatingPersistenceService {
+        private final List<HistoricItem> states = new ArrayList<>();
+        private final List<Integer> queriedPages = new ArrayList<>();
+        private final List<Aggregation> aggregations = new ArrayList<>();
+
+        private Set<Aggregation> supportedAggregations = Set.of();
+        private int queriedPageSize;
+        private boolean ignorePaging = false;
+        private boolean ignorePageNumber = false;
+
+        private PagingPersistenceService() {
+            for (int i = 0; i < STATE_COUNT; i++) {
+                states.add(historicItem(begin.plusSeconds(i + 1), new DecimalType(i)));
+            }
+        }
+
+        @Override
+        public String getId() {
+            return SERVICE_ID;
+        }
+
+        @Override
+        public String getLabel(@Nullable Locale locale) {
+            return SERVICE_ID;
+        }
+
+        @Override
+        public void store(Item item) {
+        }
+
+        @Override
+        public void store(Item item, @Nullable String alias) {
+        }
+
+        @Override
+        public List<PersistenceStrategy> getDefaultStrategies() {
+            return List.of();
+        }
+
+        @Override
+        public Set<PersistenceItemInfo> getItemInfo() {
+            return Set.of();
+        }
+
+        @Override
+        public Iterable<HistoricItem> query(FilterCriteria filter) {
+            List<HistoricItem> result = new ArrayList<>(states);
+            if (filter.getOrdering() == Ordering.DESCENDING) {
+                result = result.stream().sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
+                        .collect(Collectors.toList());
+            }
+            if (filter.getPageSize() == 1) {
+                // first or last state
+                return result.subList(0, 1);
+            }
+            queriedPages.add(filter.getPageNumber());
+            queriedPageSize = filter.getPageSize();
+            if (ignorePaging) {
+                return result;
+            }
+            int from = (ignorePageNumber ? 0 : filter.getPageNumber()) * filter.getPageSize();
+            return result.subList(Math.min(from, result.size()), Math.min(from + filter.getPageSize(), result.size()));
+        }
+
+        @Override
+        public Set<Aggregation> getSupportedAggregations() {
+            return supportedAggregations;
+        }
+
+        @Override
+        public @Nullable HistoricItem aggregate(FilterCriteria filter, Aggregation aggregation) {
+            aggregations.add(aggregation);
+            HistoricItem last = states.get(states.size() - 1);
+            switch (aggregation) {
+                case MAXIMUM:
+                    return last;
+                case SUM:
+                    return historicItem(last.getTimestamp(), new DecimalType(STATE_SUM));
+                case COUNT:
+                    return historicItem(last.getTimestamp(), new DecimalType(states.size()));
+                default:
+                    throw new UnsupportedOperationException();
+            }
+        }
+
+        private HistoricItem historicItem(ZonedDateTime timestamp, State state) {
+            return new HistoricItem() {
+                @Override
+                public ZonedDateTime getTimestamp() {
+                    return timestamp;
+                }
+
+                @Override
+                public State getState() {
+                    return state;
+                }
+
+                @Override
+                public String getName() {
+                    return item.getName();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.BatchPersistenceService;
+import org.openhab.core.persistence.PersistenceBatchEntry;
+import org.openhab.core.persistence.strategy.PersistenceStrategy;
+
+/**
+ * The {@link PersistenceServiceQueueTest} tests the {@link PersistenceServiceQueue}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceServiceQueueTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final NumberItem item = new NumberItem("Number");
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEntriesAreStoredInBatchesInOrder() throws InterruptedException {
+        RecordingService service = new RecordingService();
+        PersistenceServiceQueue queue = new PersistenceServiceQueue(service, executor);
+
+        int count = 3 * PersistenceServiceQueue.MAX_BATCH_SIZE;
+        for (int i = 0; i < count; i++) {
+            queue.add(entry(i));
+        }
+
+        service.awaitEntries(count);
+        assertEquals(IntStream.range(0, count).boxed().collect(Collectors.toList()), service.getStoredValues());
+        assertThat(service.batchSizes.stream().mapToInt(Integer::intValue).max().orElse(0),
+                is(lessThanOrEqualTo(PersistenceServiceQueue.MAX_BATCH_SIZE)));
+        assertFalse(service.concurrentCall);
+    }
+
+    @Test
+    public void testOldestEntriesAreDroppedAtCapacity() throws InterruptedException {
+        RecordingService service = new RecordingService();
+        service.block = true;
+        PersistenceServiceQueue queue = new PersistenceServiceQueue(service, executor, 10);
+
+        queue.add(entry(0));
+        service.awaitStoreStarted();
+        for (int i = 1; i <= 20; i++) {
+            queue.add(entry(i));
+        }
+        assertEquals(10, queue.size());
+        assertEquals(10, queue.getDroppedEntries());
+
+        service.release();
+        service.awaitEntries(11);
+        assertEquals(List.of(0, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20), service.getStoredValues());
+    }
+
+    @Test
+    public void testFailingServiceKeepsStoring() throws InterruptedException {
+        RecordingService service = new RecordingService();
+        service.failing = true;
+        PersistenceServiceQueue queue = new PersistenceServiceQueue(service, executor);
+
+        queue.add(entry(1));
+        service.awaitEntries(1);
+        queue.add(entry(2));
+        service.awaitEntries(2);
+    }
+
+    @Test
+    public void testClosedQueueDiscardsEntries() throws InterruptedException {
+        RecordingService service = new RecordingService();
+        service.block = true;
+        PersistenceServiceQueue queue = new PersistenceServiceQueue(service, executor);
+
+        queue.add(entry(0));
+        service.awaitStoreStarted();
+        queue.add(entry(1));
+        queue.close();
+        queue.add(entry(2));
+        assertEquals(0, queue.size());
+
+        service.release();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0), service.getStoredValues());
+    }
+
+    private PersistenceBatchEntry entry(int value) {
+        return new PersistenceBatchEntry(item, null, new DecimalType(value), ZonedDateTime.now());
+    }
+
+    private static class RecordingService implements BatchPersistenceService {
+        private final List<PersistenceBatchEntry> stored = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private volatile boolean block = false;
+        private volatile boolean failing = false;
+        private volatile boolean concurrentCall = false;
+        private boolean storing = false;
+        private boolean storeStarted = false;
+
+        @Override
+        public String getId() {
+            return "recording";
+        }
+
+        @Override
+        public String getLabel(@Nullable Locale locale) {
+            return "Recording";
+        }
+
+        @Override
+        public void store(Item item) {
+        }
+
+        @Override
+        public void store(Item item, @Nullable String alias) {
+        }
+
+        @Override
+        public void store(List<PersistenceBatchEntry> entries) {
+            synchronized (this) {
+                concurrentCall |= storing;
+                storing = true;
+                storeStarted = true;
+                notifyAll();
+                while (block) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            try {
+                if (failing) {
+                    throw new IllegalStateException("failure");
+                }
+            } finally {
+                synchronized (this) {
+                    stored.addAll(entries);
+                    batchSizes.add(entries.size());
+                    storing = false;
+                    notifyAll();
+                }
+            }
+        }
+
+        @Override
+        public List<PersistenceStrategy> getDefaultStrategies() {
+            return List.of();
+        }
+
+        synchronized void awaitStoreStarted() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!storeStarted && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+            assertTrue(storeStarted);
+        }
+
+        synchronized void release() {
+            block = false;
+            notifyAll();
+        }
+
+        synchronized void awaitEntries(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (stored.size() < count && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+            assertThat(stored, hasSize(count));
+        }
+
+        synchronized List<Integer> getStoredValues() {
+            return stored.stream().map(entry -> ((DecimalType) entry.getState()).intValue())
+                    .collect(Collectors.toList());
+        }
+    }
+}
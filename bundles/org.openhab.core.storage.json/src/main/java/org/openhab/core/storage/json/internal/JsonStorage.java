@@ -20,6 +20,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +56,12 @@ import com.google.gson.JsonSyntaxException;
  * deferred write mechanism of WRITE_DELAY milliseconds is used to improve
  * performance. The service keeps backups in a /backup folder, and maintains a
  * maximum of MAX_FILES at any time
+ * <p>
+ * In the {@link WriteMode#CHANGE_LOG} mode, the changed entries are appended to a
+ * {@link JsonStorageChangeLog} instead of rewriting the whole file. The change
+ * log is compacted into the file (and a backup) once it holds about as many
+ * changes as the storage has entries. Optionally, the deserialized objects are
+ * cached, so they are shared between all callers of {@link #get(String)}.
  *
  * @author Chris Jackson - Initial contribution
  * @author Stefan Triller - Removed dependency to internal GSon packages
@@ -60,10 +69,24 @@ import com.google.gson.JsonSyntaxException;
  *         de-/serialization, keep json structures in map
  * @author Sami Salonen - ordered inner and outer serialization of Maps,
  *         Sets and properties of Configuration
+ * @author crnjan - Change log write mode and object cache
  */
 @NonNullByDefault
 public class JsonStorage<T> implements Storage<T> {
 
+    /**
+     * The ways of writing changes to disk.
+     */
+    public enum WriteMode {
+        /** Every write rewrites the whole file and a backup. */
+        SNAPSHOT,
+        /** Writes append the changed entries to a change log that is compacted into the file from time to time. */
+        CHANGE_LOG
+    }
+
+    // the minimum number of changes in the change log before it is compacted
+    private static final int MIN_COMPACTION_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(JsonStorage.class);
 
     private final int maxBackupFiles;
@@ -84,6 +107,10 @@ public class JsonStorage<T> implements Storage<T> {
     private final @Nullable ClassLoader classLoader;
     private final Map<String, StorageEntry> map = new ConcurrentHashMap<>();
     private final Map<String, TypeMigrator> typeMigrators;
+    private final WriteMode writeMode;
+    private final JsonStorageChangeLog changeLog;
+    private final Set<String> changedKeys = ConcurrentHashMap.newKeySet();
+    private final @Nullable Map<String, CachedObject> objectCache;
 
     private final transient Gson internalMapper;
     private final transient Gson entityMapper;
@@ -92,12 +119,21 @@ public class JsonStorage<T> implements Storage<T> {
 
     public JsonStorage(File file, @Nullable ClassLoader classLoader, int maxBackupFiles, int writeDelay,
             int maxDeferredPeriod, List<TypeMigrator> typeMigrators) {
+        this(file, classLoader, maxBackupFiles, writeDelay, maxDeferredPeriod, typeMigrators, WriteMode.SNAPSHOT,
+                false);
+    }
+
+    public JsonStorage(File file, @Nullable ClassLoader classLoader, int maxBackupFiles, int writeDelay,
+            int maxDeferredPeriod, List<TypeMigrator> typeMigrators, WriteMode writeMode, boolean cacheObjects) {
         this.file = file;
         this.classLoader = classLoader;
         this.maxBackupFiles = maxBackupFiles;
         this.writeDelay = writeDelay;
         this.maxDeferredPeriod = maxDeferredPeriod;
         this.typeMigrators = typeMigrators.stream().collect(Collectors.toMap(e -> e.getOldType(), e -> e));
+        this.writeMode = writeMode;
+        this.changeLog = new JsonStorageChangeLog(file);
+        this.objectCache = cacheObjects ? new ConcurrentHashMap<>() : null;
 
         this.internalMapper = new GsonBuilder() //
                 .registerTypeHierarchyAdapter(Map.class, new OrderingMapSerializer())//
@@ -147,6 +183,12 @@ public class JsonStorage<T> implements Storage<T> {
             map.putAll(inputMap);
             logger.debug("Opened Json storage file at '{}'.", file.getAbsolutePath());
         }
+
+        changeLog.replay(map);
+        if (changeLog.size() > 0 && writeMode == WriteMode.SNAPSHOT) {
+            // the change log has been written in the change log mode, compact it
+            deferredCommit();
+        }
     }
 
     @Override
@@ -157,7 +199,7 @@ public class JsonStorage<T> implements Storage<T> {
 
         StorageEntry val = new StorageEntry(value.getClass().getName(), entityMapper.toJsonTree(value));
         StorageEntry previousValue = map.put(key, val);
-        deferredCommit();
+        changed(key);
         if (previousValue == null) {
             return null;
         }
@@ -167,7 +209,7 @@ public class JsonStorage<T> implements Storage<T> {
     @Override
     public @Nullable T remove(String key) {
         StorageEntry removedElement = map.remove(key);
-        deferredCommit();
+        changed(key);
         if (removedElement == null) {
             return null;
         }
@@ -185,7 +227,22 @@ public class JsonStorage<T> implements Storage<T> {
         if (value == null) {
             return null;
         }
-        return deserialize(value, key);
+        Map<String, CachedObject> objectCache = this.objectCache;
+        if (objectCache == null) {
+            return deserialize(value, key);
+        }
+
+        CachedObject cachedObject = objectCache.get(key);
+        if (cachedObject != null && cachedObject.entry == value) {
+            return cachedObject.object;
+        }
+        @Nullable
+        T object = deserialize(value, key);
+        if (object != null) {
+            // the entry is part of the cached object, a concurrently replaced entry invalidates it
+            objectCache.put(key, new CachedObject(value, object));
+        }
+        return object;
     }
 
     @Override
@@ -231,7 +288,7 @@ public class JsonStorage<T> implements Storage<T> {
                 entityValue = migrator.migrate(entityValue);
                 if (key != null) {
                     map.put(key, new StorageEntry(entityClassName, entityValue));
-                    deferredCommit();
+                    changed(key);
                 }
             }
 
@@ -331,6 +388,9 @@ public class JsonStorage<T> implements Storage<T> {
      * window for there to be no file if the system crashes during the write
      * process), or to copy the file when writing the backup copy (which would
      * require a read and write, and is thus slower).
+     * <p>
+     * In the {@link WriteMode#CHANGE_LOG} mode, only the changed entries are
+     * appended to the change log until it is due for compaction.
      */
     public synchronized void flush() {
         // Stop any existing timer
@@ -341,21 +401,24 @@ public class JsonStorage<T> implements Storage<T> {
         }
 
         if (dirty) {
-            String json = internalMapper.toJson(map);
+            // the keys are removed before their entries are read, so concurrent changes are not lost
+            Set<String> keys = new LinkedHashSet<>();
+            for (Iterator<String> iterator = changedKeys.iterator(); iterator.hasNext();) {
+                keys.add(iterator.next());
+                iterator.remove();
+            }
 
             synchronized (map) {
                 try {
-                    // Write the database file
-                    writeDatabaseFile(file, json);
-
-                    // And also write the backup
-                    writeDatabaseFile(new File(file.getParent() + File.separator + BACKUP_EXTENSION,
-                            System.currentTimeMillis() + SEPARATOR + file.getName()), json);
-
-                    cleanupBackups();
-
+                    if (writeMode == WriteMode.CHANGE_LOG
+                            && changeLog.size() + keys.size() <= Math.max(MIN_COMPACTION_SIZE, map.size())) {
+                        changeLog.append(getEntries(keys));
+                    } else {
+                        writeSnapshot(keys);
+                    }
                     dirty = false;
                 } catch (IOException e) {
+                    changedKeys.addAll(keys);
                     logger.error("{}", e.getMessage());
                 }
                 deferredSince = 0;
@@ -363,6 +426,34 @@ public class JsonStorage<T> implements Storage<T> {
         }
     }
 
+    private void writeSnapshot(Set<String> keys) throws IOException {
+        if (changeLog.size() > 0) {
+            // keeps the change log consistent with the file in case it cannot be deleted after writing the file
+            changeLog.append(getEntries(keys));
+        }
+
+        String json = internalMapper.toJson(map);
+
+        // Write the database file
+        writeDatabaseFile(file, json);
+
+        // And also write the backup
+        writeDatabaseFile(new File(file.getParent() + File.separator + BACKUP_EXTENSION,
+                System.currentTimeMillis() + SEPARATOR + file.getName()), json);
+
+        cleanupBackups();
+
+        changeLog.delete();
+    }
+
+    private Map<String, @Nullable StorageEntry> getEntries(Set<String> keys) {
+        Map<String, @Nullable StorageEntry> entries = new LinkedHashMap<>();
+        for (String key : keys) {
+            entries.put(key, map.get(key));
+        }
+        return entries;
+    }
+
     private void cleanupBackups() {
         List<Long> fileTimes = calculateFileTimes();
 
@@ -384,6 +475,15 @@ public class JsonStorage<T> implements Storage<T> {
         }
     }
 
+    private void changed(String key) {
+        changedKeys.add(key);
+        Map<String, CachedObject> objectCache = this.objectCache;
+        if (objectCache != null) {
+            objectCache.remove(key);
+        }
+        deferredCommit();
+    }
+
     public synchronized void deferredCommit() {
         dirty = true;
 
@@ -413,4 +513,14 @@ public class JsonStorage<T> implements Storage<T> {
         // Start the timer
         commitTimer.schedule(commitTimerTask, writeDelay);
     }
+
+    private class CachedObject {
+        private final StorageEntry entry;
+        private final T object;
+
+        private CachedObject(StorageEntry entry, T object) {
+            this.entry = entry;
+            this.object = object;
+        }
+    }
 }
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.json.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The change log of a {@link JsonStorage}.
+ * <p>
+ * Instead of rewriting the whole storage file, the changed entries are appended to a file next to it. Every line of
+ * this file is a JSON object holding the key and the new entry (in the same format as in the storage file) or only the
+ * key of a removed entry. The changes are applied on top of the storage file when it is read, and the log is deleted
+ * when the storage file is written again.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+class JsonStorageChangeLog {
+
+    static final String EXTENSION = ".changes";
+
+    private static final String KEY = "key";
+    private static final String ENTRY = "entry";
+
+    private final Logger logger = LoggerFactory.getLogger(JsonStorageChangeLog.class);
+
+    private final File file;
+    private int size;
+
+    /**
+     * Creates the change log of a storage file.
+     *
+     * @param storageFile the storage file
+     */
+    JsonStorageChangeLog(File storageFile) {
+        this.file = new File(storageFile.getPath() + EXTENSION);
+        this.size = 0;
+    }
+
+    /**
+     * Gets the number of changes in the log.
+     *
+     * @return the number of changes read or appended since the log has been deleted
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Applies the changes in the log to the entries of the storage.
+     * <p>
+     * An incomplete change at the end of the log, e.g. if the system crashed while appending it, is ignored.
+     *
+     * @param map the entries of the storage
+     */
+    void replay(Map<String, StorageEntry> map) {
+        if (!file.exists()) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonObject change = JsonParser.parseString(line).getAsJsonObject();
+                    String key = change.get(KEY).getAsString();
+                    JsonElement entry = change.get(ENTRY);
+                    if (entry == null || entry.isJsonNull()) {
+                        map.remove(key);
+                    } else {
+                        JsonObject entryObject = entry.getAsJsonObject();
+                        map.put(key, new StorageEntry(entryObject.get(JsonStorage.CLASS).getAsString(),
+                                entryObject.get(JsonStorage.VALUE)));
+                    }
+                    size++;
+                } catch (JsonParseException | IllegalStateException | NullPointerException e) {
+                    logger.warn("Ignoring incomplete change in Json storage change log '{}': {}",
+                            file.getAbsolutePath(), e.getMessage());
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error reading Json storage change log '{}'. Cause {}.", file.getPath(), e.getMessage());
+        }
+    }
+
+    /**
+     * Appends changes to the log.
+     *
+     * @param changes the new entries by their keys, {@code null} for removed entries
+     * @throws IOException if the changes could not be written
+     */
+    void append(Map<String, @Nullable StorageEntry> changes) throws IOException {
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8))) {
+            for (Map.Entry<String, @Nullable StorageEntry> change : changes.entrySet()) {
+                JsonObject record = new JsonObject();
+                record.addProperty(KEY, change.getKey());
+                StorageEntry entry = change.getValue();
+                if (entry != null) {
+                    JsonObject entryObject = new JsonObject();
+                    entryObject.addProperty(JsonStorage.CLASS, entry.getEntityClassName());
+                    entryObject.add(JsonStorage.VALUE, (JsonElement) entry.getValue());
+                    record.add(ENTRY, entryObject);
+                }
+                writer.write(record.toString());
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new IOException(String.format("Error writing Json storage change log to %s. Cause %s.",
+                    file.getPath(), e.getMessage()), e);
+        }
+        size += changes.size();
+    }
+
+    /**
+     * Deletes the log after its changes have been written to the storage file.
+     */
+    void delete() {
+        if (file.exists() && !file.delete()) {
+            logger.warn("Could not delete Json storage change log '{}'.", file.getAbsolutePath());
+        }
+        size = 0;
+    }
+}
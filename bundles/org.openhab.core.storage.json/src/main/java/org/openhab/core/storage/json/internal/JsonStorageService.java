@@ -25,6 +25,7 @@ import org.openhab.core.OpenHAB;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
+import org.openhab.core.storage.json.internal.JsonStorage.WriteMode;
 import org.openhab.core.storage.json.internal.migration.BridgeImplTypeMigrator;
 import org.openhab.core.storage.json.internal.migration.PersistedTransformationTypeMigrator;
 import org.openhab.core.storage.json.internal.migration.ThingImplTypeMigrator;
@@ -68,10 +69,14 @@ public class JsonStorageService implements StorageService {
     private static final String CFG_MAX_BACKUP_FILES = "backup_files";
     private static final String CFG_WRITE_DELAY = "write_delay";
     private static final String CFG_MAX_DEFER_DELAY = "max_defer_delay";
+    private static final String CFG_WRITE_MODE = "write_mode";
+    private static final String CFG_OBJECT_CACHE = "object_cache";
 
     private int maxBackupFiles = 5;
     private int writeDelay = 500;
     private int maxDeferredPeriod = 60000;
+    private WriteMode writeMode = WriteMode.SNAPSHOT;
+    private boolean cacheObjects = false;
 
     private final Map<String, JsonStorage<Object>> storageList = new HashMap<>();
 
@@ -118,6 +123,20 @@ public class JsonStorageService implements StorageService {
         } catch (NumberFormatException nfe) {
             logger.error("Value {} for {} is invalid. Using {}.", value, CFG_MAX_DEFER_DELAY, maxDeferredPeriod);
         }
+
+        value = properties.get(CFG_WRITE_MODE);
+        try {
+            if (value != null) {
+                writeMode = WriteMode.valueOf(value.toString());
+            }
+        } catch (IllegalArgumentException e) {
+            logger.error("Value {} for {} is invalid. Using {}.", value, CFG_WRITE_MODE, writeMode);
+        }
+
+        value = properties.get(CFG_OBJECT_CACHE);
+        if (value != null) {
+            cacheObjects = Boolean.parseBoolean(value.toString());
+        }
     }
 
     @Deactivate
@@ -145,7 +164,7 @@ public class JsonStorageService implements StorageService {
         }
 
         JsonStorage<T> newStorage = new JsonStorage<>(file, classLoader, maxBackupFiles, writeDelay, maxDeferredPeriod,
-                MIGRATORS.getOrDefault(name, List.of()));
+                MIGRATORS.getOrDefault(name, List.of()), writeMode, cacheObjects);
         storageList.put(name, (JsonStorage<Object>) newStorage);
 
         return newStorage;
@@ -20,6 +20,8 @@ import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -29,8 +31,10 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.test.java.JavaTest;
 
@@ -44,12 +48,14 @@ import com.google.gson.reflect.TypeToken;
  *
  * @author Stefan Triller - Initial contribution
  * @author Samie Salonen - test for ensuring ordering of keys in json
+ * @author crnjan - Change log and object cache tests
  */
 @NonNullByDefault
 public class JsonStorageTest extends JavaTest {
 
     private @NonNullByDefault({}) JsonStorage<DummyObject> objectStorage;
     private @NonNullByDefault({}) File tmpFile;
+    private @TempDir @NonNullByDefault({}) Path tempDir;
 
     @BeforeEach
     public void setUp() throws IOException {
@@ -58,6 +64,12 @@ public class JsonStorageTest extends JavaTest {
         objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of());
     }
 
+    @AfterEach
+    public void tearDown() {
+        // stops the deferred commit before the temporary files are deleted
+        objectStorage.flush();
+    }
+
     private void persistAndReadAgain() {
         objectStorage.flush();
         waitForAssert(() -> {
@@ -212,6 +224,81 @@ public class JsonStorageTest extends JavaTest {
                                 .keySet().toArray());
     }
 
+    @Test
+    public void testChangeLogModeAppendsChanges() throws IOException {
+        objectStorage = createStorage(JsonStorage.WriteMode.CHANGE_LOG, false);
+        objectStorage.put("a", new DummyObject());
+        objectStorage.put("b", new DummyObject());
+        objectStorage.flush();
+        objectStorage.remove("a");
+        objectStorage.flush();
+
+        assertFalse(getStorageFile().exists());
+        assertEquals(3, Files.readAllLines(getChangeLogFile().toPath()).size());
+
+        objectStorage = createStorage(JsonStorage.WriteMode.CHANGE_LOG, false);
+        assertFalse(objectStorage.containsKey("a"));
+        DummyObject dummy = objectStorage.get("b");
+        assertNotNull(dummy);
+        assertTrue(dummy.configuration.get("testInt") instanceof BigDecimal);
+    }
+
+    @Test
+    public void testChangeLogIsCompactedInSnapshotMode() throws IOException {
+        objectStorage = createStorage(JsonStorage.WriteMode.CHANGE_LOG, false);
+        objectStorage.put("a", new DummyObject());
+        objectStorage.flush();
+
+        objectStorage = createStorage(JsonStorage.WriteMode.SNAPSHOT, false);
+        objectStorage.flush();
+        assertFalse(getChangeLogFile().exists());
+        assertTrue(getStorageFile().exists());
+
+        objectStorage = createStorage(JsonStorage.WriteMode.CHANGE_LOG, false);
+        assertNotNull(objectStorage.get("a"));
+    }
+
+    @Test
+    public void testIncompleteChangeIsIgnored() throws IOException {
+        objectStorage = createStorage(JsonStorage.WriteMode.CHANGE_LOG, false);
+        objectStorage.put("a", new DummyObject());
+        objectStorage.flush();
+        Files.writeString(getChangeLogFile().toPath(), "{\"key\":\"b\",\"entry\":{\"cla", StandardOpenOption.APPEND);
+
+        objectStorage = createStorage(JsonStorage.WriteMode.CHANGE_LOG, false);
+        assertNotNull(objectStorage.get("a"));
+        assertFalse(objectStorage.containsKey("b"));
+    }
+
+    @Test
+    public void testObjectCache() {
+        objectStorage = createStorage(JsonStorage.WriteMode.SNAPSHOT, true);
+        objectStorage.put("a", new DummyObject());
+        DummyObject dummy = objectStorage.get("a");
+
+        assertNotNull(dummy);
+        assertSame(dummy, objectStorage.get("a"));
+
+        objectStorage.put("a", new DummyObject());
+        DummyObject updatedDummy = objectStorage.get("a");
+        assertNotNull(updatedDummy);
+        assertNotSame(dummy, updatedDummy);
+    }
+
+    private JsonStorage<DummyObject> createStorage(JsonStorage.WriteMode writeMode, boolean cacheObjects) {
+        new File(tempDir.toFile(), "backup").mkdirs();
+        return new JsonStorage<>(getStorageFile(), this.getClass().getClassLoader(), 0, 0, 0, List.of(), writeMode,
+                cacheObjects);
+    }
+
+    private File getStorageFile() {
+        return tempDir.resolve("storage.json").toFile();
+    }
+
+    private File getChangeLogFile() {
+        return new File(getStorageFile().getPath() + JsonStorageChangeLog.EXTENSION);
+    }
+
     private static class DummyObject {
 
         // For the test here we use Linked variants of Map and Set which preserve the insertion order
@@ -26,6 +26,7 @@ import org.eclipse.jdt.annotation.Nullable;
  * @author Dennis Nobel - Added channel group id
  * @author Kai Kreuzer - Changed creation of channels to not require a thing type
  * @author Christoph Weitkamp - Changed pattern for validating last segment to contain either a single `#` or none
+ * @author crnjan - Validation without regular expressions and cached thing UID
  */
 @NonNullByDefault
 public class ChannelUID extends UID {
@@ -33,6 +34,8 @@ public class ChannelUID extends UID {
     public static final String CHANNEL_SEGMENT_PATTERN = "[\\w-]*|[\\w-]*#[\\w-]*";
     public static final String CHANNEL_GROUP_SEPARATOR = "#";
 
+    private transient @Nullable ThingUID thingUID;
+
     /**
      * Default constructor in package scope only. Will allow to instantiate this
      * class by reflection. Not intended to be used for normal instantiation.
@@ -102,11 +105,9 @@ public class ChannelUID extends UID {
      * @return id id without group id
      */
     public String getIdWithoutGroup() {
-        if (!isInGroup()) {
-            return getId();
-        } else {
-            return getId().split(CHANNEL_GROUP_SEPARATOR)[1];
-        }
+        String id = getId();
+        int separator = id.indexOf(CHANNEL_GROUP_SEPARATOR);
+        return separator < 0 ? id : id.substring(separator + CHANNEL_GROUP_SEPARATOR.length());
     }
 
     public boolean isInGroup() {
@@ -119,7 +120,9 @@ public class ChannelUID extends UID {
      * @return group id or null if channel is not in a group
      */
     public @Nullable String getGroupId() {
-        return isInGroup() ? getId().split(CHANNEL_GROUP_SEPARATOR)[0] : null;
+        String id = getId();
+        int separator = id.indexOf(CHANNEL_GROUP_SEPARATOR);
+        return separator < 0 ? null : id.substring(0, separator);
     }
 
     @Override
@@ -132,7 +135,7 @@ public class ChannelUID extends UID {
         if (index < length - 1) {
             super.validateSegment(segment, index, length);
         } else {
-            if (!segment.matches(CHANNEL_SEGMENT_PATTERN)) {
+            if (!isValidChannelSegment(segment)) {
                 throw new IllegalArgumentException(String.format(
                         "UID segment '%s' contains invalid characters. The last segment of the channel UID must match the pattern '%s'.",
                         segment, CHANNEL_SEGMENT_PATTERN));
@@ -140,13 +143,28 @@ public class ChannelUID extends UID {
         }
     }
 
+    private static boolean isValidChannelSegment(String segment) {
+        int separator = segment.indexOf(CHANNEL_GROUP_SEPARATOR);
+        if (separator < 0) {
+            return isValidSegment(segment, 0, segment.length());
+        }
+        return isValidSegment(segment, 0, separator)
+                && isValidSegment(segment, separator + CHANNEL_GROUP_SEPARATOR.length(), segment.length());
+    }
+
     /**
      * Returns the thing UID
      *
      * @return the thing UID
      */
     public ThingUID getThingUID() {
-        List<String> allSegments = getAllSegments();
-        return new ThingUID(allSegments.subList(0, allSegments.size() - 1).toArray(new String[allSegments.size() - 1]));
+        ThingUID thingUID = this.thingUID;
+        if (thingUID == null) {
+            List<String> allSegments = getAllSegments();
+            thingUID = new ThingUID(
+                    allSegments.subList(0, allSegments.size() - 1).toArray(new String[allSegments.size() - 1]));
+            this.thingUID = thingUID;
+        }
+        return thingUID;
     }
 }
@@ -12,7 +12,6 @@
  */
 package org.openhab.core.thing.internal;
 
-import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,13 +27,13 @@ import javax.measure.Quantity;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.core.cache.ExpiringCacheMap;
 import org.openhab.core.common.AbstractUID;
 import org.openhab.core.common.SafeCaller;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.AcceptedTypeMatrix;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemFactory;
 import org.openhab.core.items.ItemRegistry;
@@ -54,6 +53,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.events.AbstractThingRegistryEvent;
 import org.openhab.core.thing.events.ChannelTriggeredEvent;
 import org.openhab.core.thing.events.ThingEventFactory;
+import org.openhab.core.thing.internal.ItemChannelRoutingTable.Route;
 import org.openhab.core.thing.internal.link.ItemChannelLinkConfigDescriptionProvider;
 import org.openhab.core.thing.internal.profiles.ProfileCallbackImpl;
 import org.openhab.core.thing.internal.profiles.SystemProfileFactory;
@@ -89,6 +89,7 @@ import org.slf4j.LoggerFactory;
  * It mainly mediates commands, state updates and triggers from ThingHandlers to the framework and vice versa.
  *
  * @author Simon Kaufmann - Initial contribution factored out of ThingManger
+ * @author crnjan - Route events through a precompiled item channel routing table
  */
 @NonNullByDefault
 @Component(service = { EventSubscriber.class, CommunicationManager.class }, immediate = true)
@@ -108,9 +109,6 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         }
     };
 
-    // how long to cache profile safe call instances
-    private static final Duration CACHE_EXPIRATION = Duration.ofMinutes(30);
-
     // the timeout to use for any item event processing
     public static final long THINGHANDLER_EVENT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
 
@@ -129,7 +127,41 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     private final SafeCaller safeCaller;
     private final ThingRegistry thingRegistry;
 
-    private final ExpiringCacheMap<Integer, Profile> profileSafeCallCache = new ExpiringCacheMap<>(CACHE_EXPIRATION);
+    private final ItemChannelRoutingTable routingTable;
+
+    private final RegistryChangeListener<Item> itemRegistryChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Item element) {
+            routingTable.itemChanged(element.getName());
+        }
+
+        @Override
+        public void removed(Item element) {
+            routingTable.itemChanged(element.getName());
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            routingTable.itemChanged(element.getName());
+        }
+    };
+
+    private final RegistryChangeListener<Thing> thingRegistryChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Thing element) {
+            routingTable.thingChanged(element.getUID());
+        }
+
+        @Override
+        public void removed(Thing element) {
+            routingTable.thingChanged(element.getUID());
+        }
+
+        @Override
+        public void updated(Thing oldElement, Thing element) {
+            routingTable.thingChanged(element.getUID());
+        }
+    };
 
     @Activate
     public CommunicationManager(final @Reference AutoUpdateManager autoUpdateManager,
@@ -150,13 +182,19 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         this.eventPublisher = eventPublisher;
         this.safeCaller = safeCaller;
         this.thingRegistry = thingRegistry;
+        this.routingTable = new ItemChannelRoutingTable(itemChannelLinkRegistry::getAll, this::getItem,
+                this::getThing, acceptedCommandTypeMap::get, acceptedStateTypeMap::get);
 
         itemChannelLinkRegistry.addRegistryChangeListener(this);
+        itemRegistry.addRegistryChangeListener(itemRegistryChangeListener);
+        thingRegistry.addRegistryChangeListener(thingRegistryChangeListener);
     }
 
     @Deactivate
     public void deactivate() {
         itemChannelLinkRegistry.removeRegistryChangeListener(this);
+        itemRegistry.removeRegistryChangeListener(itemRegistryChangeListener);
+        thingRegistry.removeRegistryChangeListener(thingRegistryChangeListener);
     }
 
     private final Set<ItemFactory> itemFactories = new CopyOnWriteArraySet<>();
@@ -171,6 +209,8 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
 
     private final Map<String, List<Class<? extends Command>>> acceptedCommandTypeMap = new ConcurrentHashMap<>();
     private final Map<String, List<Class<? extends State>>> acceptedStateTypeMap = new ConcurrentHashMap<>();
+    // accepted types of the maps above -> matrix, recalculated with them so no classes of removed factories are kept
+    private final Map<List<?>, AcceptedTypeMatrix> acceptedTypeMatrices = new ConcurrentHashMap<>();
 
     @Override
     public Set<String> getSubscribedEventTypes() {
@@ -205,8 +245,13 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     private Profile getProfile(ItemChannelLink link, Item item, @Nullable Thing thing) {
+        Profile profile = profiles.get(link.getUID());
+        if (profile != null) {
+            logger.trace("Using profile '{}' from cache for link '{}'", profile.getProfileTypeUID(), link);
+            return profile;
+        }
         synchronized (profiles) {
-            Profile profile = profiles.get(link.getUID());
+            profile = profiles.get(link.getUID());
             if (profile != null) {
                 logger.trace("Using profile '{}' from cache for link '{}'", profile.getProfileTypeUID(), link);
                 return profile;
@@ -338,22 +383,15 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             autoUpdateManager.receiveCommand(commandEvent, item);
         }
 
-        handleEvent(itemName, command, commandEvent.getSource(), s -> acceptedCommandTypeMap.get(s),
+        handleEvent(itemName, command, commandEvent.getSource(), Route::acceptedCommandTypes,
                 (profile, thing, convertedCommand) -> {
                     if (profile instanceof StateProfile) {
-                        int key = Objects.hash("COMMAND", profile, thing);
-                        Profile p = profileSafeCallCache.putIfAbsentAndGet(key, () -> {
-                            return safeCaller.create(((StateProfile) profile), StateProfile.class) //
-                                    .withAsync() //
-                                    .withIdentifier(thing) //
-                                    .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
-                                    .build();
-                        });
-                        if (p instanceof StateProfile) {
-                            ((StateProfile) p).onCommandFromItem(convertedCommand);
-                        } else {
-                            throw new IllegalStateException("ExpiringCache didn't provide a StateProfile instance!");
-                        }
+                        safeCaller.create(thing, () -> ((StateProfile) profile).onCommandFromItem(convertedCommand)) //
+                                .withDescription(
+                                        "StateProfile.onCommandFromItem() for thing '" + thing.getUID() + "'") //
+                                .withAsync() //
+                                .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
+                                .build().run();
                     }
                 });
     }
@@ -361,21 +399,13 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     private void receiveUpdate(ItemStateEvent updateEvent) {
         final String itemName = updateEvent.getItemName();
         final State newState = updateEvent.getItemState();
-        handleEvent(itemName, newState, updateEvent.getSource(), s -> acceptedStateTypeMap.get(s),
+        handleEvent(itemName, newState, updateEvent.getSource(), Route::acceptedStateTypes,
                 (profile, thing, convertedState) -> {
-                    int key = Objects.hash("UPDATE", profile, thing);
-                    Profile p = profileSafeCallCache.putIfAbsentAndGet(key, () -> {
-                        return safeCaller.create(profile, Profile.class) //
-                                .withAsync() //
-                                .withIdentifier(thing) //
-                                .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
-                                .build();
-                    });
-                    if (p != null) {
-                        p.onStateUpdateFromItem(convertedState);
-                    } else {
-                        throw new IllegalStateException("ExpiringCache didn't provide a Profile instance!");
-                    }
+                    safeCaller.create(thing, () -> profile.onStateUpdateFromItem(convertedState)) //
+                            .withDescription("Profile.onStateUpdateFromItem() for thing '" + thing.getUID() + "'") //
+                            .withAsync() //
+                            .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
+                            .build().run();
                 });
     }
 
@@ -385,25 +415,26 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     private <T extends Type> void handleEvent(String itemName, T type, @Nullable String source,
-            Function<@Nullable String, @Nullable List<Class<? extends T>>> acceptedTypesFunction,
-            ProfileAction<T> action) {
-        final Item item = getItem(itemName);
-        if (item == null) {
-            logger.debug("Received an event for item {} which does not exist", itemName);
-            return;
-        }
-
-        itemChannelLinkRegistry.getLinks(itemName).stream().filter(link -> {
+            Function<Route, @Nullable List<Class<? extends T>>> acceptedTypesFunction, ProfileAction<T> action) {
+        for (Route route : routingTable.getRoutes(itemName)) {
+            final Item item = route.item();
+            if (item == null) {
+                logger.debug("Received an event for item {} which does not exist", itemName);
+                return;
+            }
             // make sure the command event is not sent back to its source
-            return !link.getLinkedUID().toString().equals(source);
-        }).forEach(link -> {
+            if (route.channelUID().equals(source)) {
+                continue;
+            }
+
+            ItemChannelLink link = route.link();
             ChannelUID channelUID = link.getLinkedUID();
-            Thing thing = getThing(channelUID.getThingUID());
+            Thing thing = route.thing();
             if (thing != null) {
-                Channel channel = thing.getChannel(channelUID.getId());
+                Channel channel = route.channel();
                 if (channel != null) {
                     @Nullable
-                    T convertedType = toAcceptedType(type, channel, acceptedTypesFunction, item);
+                    T convertedType = toAcceptedType(type, channel, acceptedTypesFunction.apply(route), item);
                     if (convertedType != null) {
                         if (thing.getHandler() != null) {
                             Profile profile = getProfile(link, item, thing);
@@ -422,12 +453,12 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
                 logger.debug("Received  event '{}' for non-existing thing '{}', not forwarding it to the handler", type,
                         channelUID.getThingUID());
             }
-        });
+        }
     }
 
     @SuppressWarnings("unchecked")
     private <T extends Type> @Nullable T toAcceptedType(T originalType, Channel channel,
-            Function<@Nullable String, @Nullable List<Class<? extends T>>> acceptedTypesFunction, Item item) {
+            @Nullable List<Class<? extends T>> acceptedTypes, Item item) {
         String acceptedItemType = channel.getAcceptedItemType();
 
         // DecimalType command sent to a NumberItem with dimension defined:
@@ -458,31 +489,24 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             }
         }
 
-        if (acceptedItemType == null) {
-            return originalType;
-        }
-
-        List<Class<? extends T>> acceptedTypes = acceptedTypesFunction.apply(acceptedItemType);
-        if (acceptedTypes == null) {
+        if (acceptedItemType == null || acceptedTypes == null) {
             return originalType;
         }
 
-        if (acceptedTypes.contains(originalType.getClass())) {
+        Class<? extends Type> acceptedType = acceptedTypeMatrices
+                .computeIfAbsent(acceptedTypes, types -> AcceptedTypeMatrix.of(acceptedTypes))
+                .getAcceptedType(originalType.getClass());
+        if (acceptedType == originalType.getClass()) {
             return originalType;
-        } else {
-            // Look for class hierarchy and convert appropriately
-            for (Class<? extends T> typeClass : acceptedTypes) {
-                if (!typeClass.isEnum() && typeClass.isAssignableFrom(originalType.getClass()) //
-                        && State.class.isAssignableFrom(typeClass) && originalType instanceof State) {
-                    T ret = (T) ((State) originalType).as((Class<? extends State>) typeClass);
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("Converted '{}' ({}) to accepted type '{}' ({}) for channel '{}' ", originalType,
-                                originalType.getClass().getSimpleName(), ret, ret.getClass().getName(),
-                                channel.getUID());
-                    }
-                    return ret;
-                }
+        } else if (acceptedType != null && State.class.isAssignableFrom(acceptedType)
+                && originalType instanceof State) {
+            // convert a subclass of an accepted type appropriately
+            T ret = (T) ((State) originalType).as((Class<? extends State>) acceptedType);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Converted '{}' ({}) to accepted type '{}' ({}) for channel '{}' ", originalType,
+                        originalType.getClass().getSimpleName(), ret, ret.getClass().getName(), channel.getUID());
             }
+            return ret;
         }
         logger.debug("Received not accepted type '{}' for channel '{}'", originalType.getClass().getSimpleName(),
                 channel.getUID());
@@ -551,9 +575,8 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     private void receiveTrigger(ChannelTriggeredEvent channelTriggeredEvent) {
         final ChannelUID channelUID = channelTriggeredEvent.getChannel();
         final String event = channelTriggeredEvent.getEvent();
-        final Thing thing = getThing(channelUID.getThingUID());
 
-        handleCallFromHandler(channelUID, thing, profile -> {
+        handleCallFromHandler(channelUID, profile -> {
             if (profile instanceof TriggerProfile) {
                 ((TriggerProfile) profile).onTriggerFromHandler(event);
             }
@@ -561,9 +584,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     public void stateUpdated(ChannelUID channelUID, State state) {
-        final Thing thing = getThing(channelUID.getThingUID());
-
-        handleCallFromHandler(channelUID, thing, profile -> {
+        handleCallFromHandler(channelUID, profile -> {
             if (profile instanceof StateProfile) {
                 ((StateProfile) profile).onStateUpdateFromHandler(state);
             }
@@ -571,23 +592,21 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     public void postCommand(ChannelUID channelUID, Command command) {
-        final Thing thing = getThing(channelUID.getThingUID());
-
-        handleCallFromHandler(channelUID, thing, profile -> {
+        handleCallFromHandler(channelUID, profile -> {
             if (profile instanceof StateProfile) {
                 ((StateProfile) profile).onCommandFromHandler(command);
             }
         });
     }
 
-    void handleCallFromHandler(ChannelUID channelUID, @Nullable Thing thing, Consumer<Profile> action) {
-        itemChannelLinkRegistry.getLinks(channelUID).forEach(link -> {
-            final Item item = getItem(link.getItemName());
+    void handleCallFromHandler(ChannelUID channelUID, Consumer<Profile> action) {
+        for (Route route : routingTable.getRoutes(channelUID)) {
+            final Item item = route.item();
             if (item != null) {
-                final Profile profile = getProfile(link, item, thing);
+                final Profile profile = getProfile(route.link(), item, route.thing());
                 action.accept(profile);
             }
-        });
+        }
     }
 
     public void channelTriggered(Thing thing, ChannelUID channelUID, String event) {
@@ -603,16 +622,19 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
 
     @Override
     public void added(ItemChannelLink element) {
-        // nothing to do
+        routingTable.addLink(element);
     }
 
     @Override
     public void removed(ItemChannelLink element) {
+        routingTable.removeLink(element);
         cleanup(element);
     }
 
     @Override
     public void updated(ItemChannelLink oldElement, ItemChannelLink element) {
+        routingTable.removeLink(oldElement);
+        routingTable.addLink(element);
         cleanup(oldElement);
     }
 
@@ -654,6 +676,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     private synchronized void calculateAcceptedTypes() {
         acceptedCommandTypeMap.clear();
         acceptedStateTypeMap.clear();
+        acceptedTypeMatrices.clear();
         for (ItemFactory itemFactory : itemFactories) {
             for (String itemTypeName : itemFactory.getSupportedItemTypes()) {
                 Item item = itemFactory.createItem(itemTypeName, "tmp");
@@ -666,5 +689,6 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
                 }
             }
         }
+        routingTable.acceptedTypesChanged();
     }
 }
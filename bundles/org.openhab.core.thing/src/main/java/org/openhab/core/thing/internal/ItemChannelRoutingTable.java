@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.link.ItemChannelLink;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+
+/**
+ * All item channel links with their resolved item, thing, channel and the types accepted by the channel. It is used
+ * by the {@link CommunicationManager} to route events between items and channels without querying the registries.
+ *
+ * The table is built from all links on first use. Afterwards only the routes affected by a change of a link, an item
+ * or a thing are resolved again, so loading many things or items does not rebuild the table over and over.
+ *
+ * Lookups are lock free, changes are serialized.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+final class ItemChannelRoutingTable {
+
+    /**
+     * A link with its resolved item, thing, channel and accepted types.
+     *
+     * @param link the link
+     * @param channelUID the string representation of the linked channel UID, to compare it with event sources
+     * @param item the linked item or null if it does not exist
+     * @param thing the thing of the linked channel or null if it does not exist
+     * @param channel the linked channel or null if it does not exist
+     * @param acceptedCommandTypes the command types accepted by the item type of the channel or null if they are not
+     *            known
+     * @param acceptedStateTypes the state types accepted by the item type of the channel or null if they are not known
+     */
+    record Route(ItemChannelLink link, String channelUID, @Nullable Item item, @Nullable Thing thing,
+            @Nullable Channel channel, @Nullable List<Class<? extends Command>> acceptedCommandTypes,
+            @Nullable List<Class<? extends State>> acceptedStateTypes) {
+    }
+
+    private final Supplier<Collection<ItemChannelLink>> links;
+    private final Function<String, @Nullable Item> items;
+    private final Function<ThingUID, @Nullable Thing> things;
+    private final Function<String, @Nullable List<Class<? extends Command>>> acceptedCommandTypes;
+    private final Function<String, @Nullable List<Class<? extends State>>> acceptedStateTypes;
+
+    private final Map<String, List<Route>> routesByItem = new ConcurrentHashMap<>();
+    private final Map<ChannelUID, List<Route>> routesByChannel = new ConcurrentHashMap<>();
+    private final Map<ThingUID, List<Route>> routesByThing = new ConcurrentHashMap<>();
+    private volatile boolean built = false;
+
+    /**
+     * Creates a routing table.
+     *
+     * @param links supplies all item channel links
+     * @param items resolves an item by its name
+     * @param things resolves a thing by its UID
+     * @param acceptedCommandTypes resolves the command types accepted by an item type
+     * @param acceptedStateTypes resolves the state types accepted by an item type
+     */
+    ItemChannelRoutingTable(Supplier<Collection<ItemChannelLink>> links, Function<String, @Nullable Item> items,
+            Function<ThingUID, @Nullable Thing> things,
+            Function<String, @Nullable List<Class<? extends Command>>> acceptedCommandTypes,
+            Function<String, @Nullable List<Class<? extends State>>> acceptedStateTypes) {
+        this.links = links;
+        this.items = items;
+        this.things = things;
+        this.acceptedCommandTypes = acceptedCommandTypes;
+        this.acceptedStateTypes = acceptedStateTypes;
+    }
+
+    /**
+     * Returns the routes of all links of an item.
+     *
+     * @param itemName the name of the item
+     * @return the routes, empty if the item is not linked
+     */
+    List<Route> getRoutes(String itemName) {
+        ensureBuilt();
+        return routesByItem.getOrDefault(itemName, List.of());
+    }
+
+    /**
+     * Returns the routes of all links of a channel.
+     *
+     * @param channelUID the UID of the channel
+     * @return the routes, empty if the channel is not linked
+     */
+    List<Route> getRoutes(ChannelUID channelUID) {
+        ensureBuilt();
+        return routesByChannel.getOrDefault(channelUID, List.of());
+    }
+
+    /**
+     * Adds the route of a link or replaces it if the link is already known.
+     *
+     * @param link the added or updated link
+     */
+    synchronized void addLink(ItemChannelLink link) {
+        if (built) {
+            removeRoute(link);
+            addRoute(resolve(link));
+        }
+    }
+
+    /**
+     * Removes the route of a link.
+     *
+     * @param link the removed link
+     */
+    synchronized void removeLink(ItemChannelLink link) {
+        if (built) {
+            removeRoute(link);
+        }
+    }
+
+    /**
+     * Resolves the routes of the links of an item again after it has been added, updated or removed.
+     *
+     * @param itemName the name of the item
+     */
+    synchronized void itemChanged(String itemName) {
+        if (built) {
+            routesByItem.getOrDefault(itemName, List.of()).forEach(this::resolveAgain);
+        }
+    }
+
+    /**
+     * Resolves the routes of the links of the channels of a thing again after it has been added, updated or removed.
+     *
+     * @param thingUID the UID of the thing
+     */
+    synchronized void thingChanged(ThingUID thingUID) {
+        if (built) {
+            routesByThing.getOrDefault(thingUID, List.of()).forEach(this::resolveAgain);
+        }
+    }
+
+    /**
+     * Resolves all routes again after the types accepted by the item types have changed.
+     */
+    synchronized void acceptedTypesChanged() {
+        if (built) {
+            List.copyOf(routesByChannel.values()).forEach(routes -> routes.forEach(this::resolveAgain));
+        }
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            synchronized (this) {
+                if (!built) {
+                    for (ItemChannelLink link : links.get()) {
+                        addRoute(resolve(link));
+                    }
+                    built = true;
+                }
+            }
+        }
+    }
+
+    private Route resolve(ItemChannelLink link) {
+        ChannelUID channelUID = link.getLinkedUID();
+        Item item = items.apply(link.getItemName());
+        Thing thing = things.apply(channelUID.getThingUID());
+        Channel channel = thing != null ? thing.getChannel(channelUID.getId()) : null;
+        String acceptedItemType = channel != null ? channel.getAcceptedItemType() : null;
+        return new Route(link, channelUID.toString(), item, thing, channel,
+                acceptedItemType != null ? acceptedCommandTypes.apply(acceptedItemType) : null,
+                acceptedItemType != null ? acceptedStateTypes.apply(acceptedItemType) : null);
+    }
+
+    private void resolveAgain(Route route) {
+        removeRoute(route.link());
+        addRoute(resolve(route.link()));
+    }
+
+    private void addRoute(Route route) {
+        ItemChannelLink link = route.link();
+        add(routesByItem, link.getItemName(), route);
+        add(routesByChannel, link.getLinkedUID(), route);
+        add(routesByThing, link.getLinkedUID().getThingUID(), route);
+    }
+
+    private void removeRoute(ItemChannelLink link) {
+        remove(routesByItem, link.getItemName(), link);
+        remove(routesByChannel, link.getLinkedUID(), link);
+        remove(routesByThing, link.getLinkedUID().getThingUID(), link);
+    }
+
+    private static <K> void add(Map<K, List<Route>> routesByKey, K key, Route route) {
+        List<Route> routes = new ArrayList<>(routesByKey.getOrDefault(key, List.of()));
+        routes.add(route);
+        routesByKey.put(key, List.copyOf(routes));
+    }
+
+    private static <K> void remove(Map<K, List<Route>> routesByKey, K key, ItemChannelLink link) {
+        List<Route> routes = routesByKey.get(key);
+        if (routes == null) {
+            return;
+        }
+        List<Route> remainingRoutes = routes.stream().filter(route -> !route.link().getUID().equals(link.getUID()))
+                .toList();
+        if (remainingRoutes.isEmpty()) {
+            routesByKey.remove(key);
+        } else if (remainingRoutes.size() != routes.size()) {
+            routesByKey.put(key, remainingRoutes);
+        }
+    }
+}
@@ -43,6 +43,7 @@ import org.openhab.core.thing.binding.builder.ThingStatusInfoBuilder;
  * @author Thomas Höfer - Added thing and thing type properties
  * @author Simon Kaufmann - Added label
  * @author Christoph Weitkamp - Added method `getChannel(ChannelUID)`
+ * @author crnjan - Lookup of channels by id without creating a channel UID
  */
 @NonNullByDefault
 public class ThingImpl implements Thing {
@@ -53,6 +54,10 @@ public class ThingImpl implements Thing {
 
     private final Map<ChannelUID, Channel> channels = new HashMap<>();
 
+    // built on first use from the channels, as the channels might also be set by deserialization; it is built and
+    // reset while holding the lock of this thing, so it never misses a channel added or set meanwhile
+    private transient volatile @Nullable Map<String, Channel> channelsById;
+
     private Configuration configuration = new Configuration();
 
     private Map<String, String> properties = new HashMap<>();
@@ -122,9 +127,33 @@ public class ThingImpl implements Thing {
 
     @Override
     public @Nullable Channel getChannel(String channelId) {
+        Map<String, Channel> channelsById = this.channelsById;
+        if (channelsById == null) {
+            channelsById = getChannelsById();
+        }
+        Channel channel = channelsById.get(channelId);
+        if (channel != null) {
+            return channel;
+        }
+        // rejects an invalid channel id with an IllegalArgumentException as before
         return getChannel(new ChannelUID(uid, channelId));
     }
 
+    private synchronized Map<String, Channel> getChannelsById() {
+        Map<String, Channel> channelsById = this.channelsById;
+        if (channelsById == null) {
+            channelsById = new HashMap<>();
+            for (Channel channel : channels.values()) {
+                ChannelUID channelUID = channel.getUID();
+                if (uid.equals(channelUID.getThingUID())) {
+                    channelsById.put(channelUID.getId(), channel);
+                }
+            }
+            this.channelsById = channelsById;
+        }
+        return channelsById;
+    }
+
     @Override
     public @Nullable Channel getChannel(ChannelUID channelUID) {
         return this.channels.get(channelUID);
@@ -160,12 +189,14 @@ public class ThingImpl implements Thing {
         this.bridgeUID = bridgeUID;
     }
 
-    public void addChannel(Channel channel) {
+    public synchronized void addChannel(Channel channel) {
         this.channels.put(channel.getUID(), channel);
+        this.channelsById = null;
     }
 
-    public void setChannels(List<Channel> channels) {
+    public synchronized void setChannels(List<Channel> channels) {
         this.channels.clear();
+        this.channelsById = null;
         channels.forEach(this::addChannel);
     }
 
@@ -178,8 +209,9 @@ public class ThingImpl implements Thing {
         this.thingHandler = thingHandler;
     }
 
-    public void setId(ThingUID id) {
+    public synchronized void setId(ThingUID id) {
         this.uid = id;
+        this.channelsById = null;
     }
 
     @Override
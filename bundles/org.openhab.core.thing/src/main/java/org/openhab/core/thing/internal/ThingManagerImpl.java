@@ -630,7 +630,7 @@ public class ThingManagerImpl
 
                         try {
                             validate(newThing, getThingType(newThing));
-                            safeCaller.create(thingHandler, ThingHandler.class).build().thingUpdated(newThing);
+                            safeCaller.run(thingHandler, () -> thingHandler.thingUpdated(newThing));
                         } catch (ConfigValidationException e) {
                             final ThingHandlerFactory thingHandlerFactory = findThingHandlerFactory(
                                     newThing.getThingTypeUID());
@@ -897,16 +897,18 @@ public class ThingManagerImpl
     private void doInitializeHandler(final ThingHandler thingHandler) {
         logger.debug("Calling initialize handler for thing '{}' at '{}'.", thingHandler.getThing().getUID(),
                 thingHandler);
-        safeCaller.create(thingHandler, ThingHandler.class).onTimeout(() -> {
-            logger.warn("Initializing handler for thing '{}' takes more than {}ms.", thingHandler.getThing().getUID(),
-                    SafeCaller.DEFAULT_TIMEOUT);
-        }).onException(e -> {
-            ThingStatusInfo statusInfo = buildStatusInfo(ThingStatus.UNINITIALIZED,
-                    ThingStatusDetail.HANDLER_INITIALIZING_ERROR, e.getMessage());
-            setThingStatus(thingHandler.getThing(), statusInfo);
-            logger.error("Exception occurred while initializing handler of thing '{}': {}",
-                    thingHandler.getThing().getUID(), e.getMessage(), e);
-        }).build().initialize();
+        safeCaller.create(thingHandler, thingHandler::initialize)
+                .withDescription("ThingHandler.initialize() for thing '" + thingHandler.getThing().getUID() + "'")
+                .onTimeout(() -> {
+                    logger.warn("Initializing handler for thing '{}' takes more than {}ms.",
+                            thingHandler.getThing().getUID(), SafeCaller.DEFAULT_TIMEOUT);
+                }).onException(e -> {
+                    ThingStatusInfo statusInfo = buildStatusInfo(ThingStatus.UNINITIALIZED,
+                            ThingStatusDetail.HANDLER_INITIALIZING_ERROR, e.getMessage());
+                    setThingStatus(thingHandler.getThing(), statusInfo);
+                    logger.error("Exception occurred while initializing handler of thing '{}': {}",
+                            thingHandler.getThing().getUID(), e.getMessage(), e);
+                }).build().run();
     }
 
     private boolean isInitializing(Thing thing) {
@@ -972,7 +974,8 @@ public class ThingManagerImpl
                     }
                 }
             }
-        }, Runnable.class).build().run();
+        }, Runnable.class).withDescription("ThingHandlerFactory.unregisterHandler() for thing '" + thing.getUID() + "'")
+                .build().run();
     }
 
     private void disposeHandler(Thing thing, ThingHandler thingHandler) {
@@ -991,13 +994,15 @@ public class ThingManagerImpl
     private void doDisposeHandler(final ThingHandler thingHandler) {
         logger.debug("Calling dispose handler for thing '{}' at '{}'.", thingHandler.getThing().getUID(), thingHandler);
         setThingStatus(thingHandler.getThing(), buildStatusInfo(ThingStatus.UNINITIALIZED, ThingStatusDetail.NONE));
-        safeCaller.create(thingHandler, ThingHandler.class).onTimeout(() -> {
-            logger.warn("Disposing handler for thing '{}' takes more than {}ms.", thingHandler.getThing().getUID(),
-                    SafeCaller.DEFAULT_TIMEOUT);
-        }).onException(e -> {
-            logger.error("Exception occurred while disposing handler of thing '{}': {}",
-                    thingHandler.getThing().getUID(), e.getMessage(), e);
-        }).build().dispose();
+        safeCaller.create(thingHandler, thingHandler::dispose)
+                .withDescription("ThingHandler.dispose() for thing '" + thingHandler.getThing().getUID() + "'")
+                .onTimeout(() -> {
+                    logger.warn("Disposing handler for thing '{}' takes more than {}ms.",
+                            thingHandler.getThing().getUID(), SafeCaller.DEFAULT_TIMEOUT);
+                }).onException(e -> {
+                    logger.error("Exception occurred while disposing handler of thing '{}': {}",
+                            thingHandler.getThing().getUID(), e.getMessage(), e);
+                }).build().run();
     }
 
     private void unregisterAndDisposeChildHandlers(Bridge bridge, ThingHandlerFactory thingHandlerFactory) {
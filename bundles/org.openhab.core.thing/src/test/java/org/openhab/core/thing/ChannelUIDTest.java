@@ -49,6 +49,13 @@ public class ChannelUIDTest {
                 () -> new ChannelUID("binding:thing-type:thing:group#id#what_ever"));
     }
 
+    @Test
+    public void testEmptyGroupOrChannelId() {
+        assertEquals("id", new ChannelUID("binding:thing-type:thing:#id").getIdWithoutGroup());
+        assertEquals("", new ChannelUID("binding:thing-type:thing:#id").getGroupId());
+        assertEquals("group", new ChannelUID("binding:thing-type:thing:group#").getGroupId());
+    }
+
     @Test
     public void testChannelUID() {
         ChannelUID channelUID = new ChannelUID(THING_UID, CHANNEL_ID);
@@ -14,6 +14,8 @@ package org.openhab.core.thing.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.CoreItemFactory;
@@ -74,4 +76,25 @@ public class ThingImplTest {
         assertNotNull(thing.getChannel(SECOND_CHANNEL_ID));
         assertEquals(SECOND_CHANNEL_UID, thing.getChannel(SECOND_CHANNEL_ID).getUID());
     }
+
+    @Test
+    public void testGetChannelByIdAfterChannelsChanged() {
+        ThingImpl thing = new ThingImpl(THING_TYPE_UID, THING_UID);
+        assertNull(thing.getChannel(FIRST_CHANNEL_ID));
+
+        thing.addChannel(ChannelBuilder.create(FIRST_CHANNEL_UID, CoreItemFactory.STRING).build());
+        assertNotNull(thing.getChannel(FIRST_CHANNEL_ID));
+
+        thing.setChannels(List.of(ChannelBuilder.create(SECOND_CHANNEL_UID, CoreItemFactory.STRING).build()));
+        assertNull(thing.getChannel(FIRST_CHANNEL_ID));
+        assertNotNull(thing.getChannel(SECOND_CHANNEL_ID));
+    }
+
+    @Test
+    public void testGetChannelByInvalidIdIsRejected() {
+        ThingImpl thing = new ThingImpl(THING_TYPE_UID, THING_UID);
+        thing.addChannel(ChannelBuilder.create(FIRST_CHANNEL_UID, CoreItemFactory.STRING).build());
+
+        assertThrows(IllegalArgumentException.class, () -> thing.getChannel("invalid channel"));
+    }
 }
@@ -12,23 +12,44 @@
  */
 package org.openhab.core.transform;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.transform.internal.CachingTransformationService;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Helper methods for applying transformations.
+ *
+ * While the component is active, the available transformation services are tracked by their type, so that looking up
+ * a service does not query the OSGi service registry. Services registered with the
+ * {@link TransformationService#TRANSFORM_CACHEABLE_PROPERTY} property are returned wrapped in a bounded result cache,
+ * which is cleared whenever a {@link Transformation} is added, updated or removed.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author crnjan - Track transformation services and cache results of pure transformations
  */
+@Component(immediate = true)
 @NonNullByDefault
 public class TransformationHelper {
 
@@ -36,10 +57,108 @@ public class TransformationHelper {
 
     public static final String FUNCTION_VALUE_DELIMITER = ":";
 
+    private static final String TRANSFORMATION_TYPE_PROPERTY = "openhab.transform";
+    private static final int MAX_CACHED_RESULTS = 1000;
+
+    // the active component, whose tracked services are used instead of querying the service registry
+    private static volatile @Nullable TransformationHelper activeHelper;
+
+    // transformation type -> services of this type, ordered by their ranking
+    private final Map<String, List<TrackedService>> transformationServices = new ConcurrentHashMap<>();
+
+    private final RegistryChangeListener<Transformation> transformationListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Transformation element) {
+            clearCachedResults();
+        }
+
+        @Override
+        public void removed(Transformation element) {
+            clearCachedResults();
+        }
+
+        @Override
+        public void updated(Transformation oldElement, Transformation element) {
+            clearCachedResults();
+        }
+    };
+
     /* RegEx to extract and parse a function String <code>'(.*?)\((.*)\):(.*)'</code> */
     protected static final Pattern EXTRACT_TRANSFORMFUNCTION_PATTERN = Pattern
             .compile("(.*?)\\((.*)\\)" + FUNCTION_VALUE_DELIMITER + "(.*)");
 
+    @Activate
+    protected void activate() {
+        synchronized (TransformationHelper.class) {
+            activeHelper = this;
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        synchronized (TransformationHelper.class) {
+            // a new instance may have been activated already
+            if (activeHelper == this) {
+                activeHelper = null;
+            }
+        }
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addTransformationService(TransformationService service, Map<String, Object> properties) {
+        Object type = properties.get(TRANSFORMATION_TYPE_PROPERTY);
+        if (type instanceof String) {
+            boolean cacheable = Boolean
+                    .parseBoolean(String.valueOf(properties.get(TransformationService.TRANSFORM_CACHEABLE_PROPERTY)));
+            TrackedService trackedService = new TrackedService(service,
+                    cacheable ? new CachingTransformationService(service, MAX_CACHED_RESULTS) : service, properties);
+            transformationServices.compute((String) type, (key, services) -> {
+                List<TrackedService> newServices = services == null ? new ArrayList<>() : new ArrayList<>(services);
+                newServices.add(trackedService);
+                newServices.sort(null);
+                return List.copyOf(newServices);
+            });
+        }
+    }
+
+    protected void removeTransformationService(TransformationService service, Map<String, Object> properties) {
+        Object type = properties.get(TRANSFORMATION_TYPE_PROPERTY);
+        if (type instanceof String) {
+            // another service of the same type takes over, if there is one
+            transformationServices.computeIfPresent((String) type, (key, services) -> {
+                List<TrackedService> newServices = services.stream().filter(tracked -> tracked.service != service)
+                        .toList();
+                return newServices.isEmpty() ? null : newServices;
+            });
+        }
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setTransformationRegistry(TransformationRegistry transformationRegistry) {
+        transformationRegistry.addRegistryChangeListener(transformationListener);
+        clearCachedResults();
+    }
+
+    protected void unsetTransformationRegistry(TransformationRegistry transformationRegistry) {
+        transformationRegistry.removeRegistryChangeListener(transformationListener);
+        clearCachedResults();
+    }
+
+    private void clearCachedResults() {
+        for (List<TrackedService> services : transformationServices.values()) {
+            for (TrackedService service : services) {
+                if (service.trackedService instanceof CachingTransformationService) {
+                    ((CachingTransformationService) service.trackedService).clear();
+                }
+            }
+        }
+    }
+
+    private @Nullable TransformationService getTrackedService(String transformationType) {
+        List<TrackedService> services = transformationServices.get(transformationType);
+        return services == null ? null : services.get(0).trackedService;
+    }
+
     /**
      * determines whether a pattern refers to a transformation service
      *
@@ -51,8 +170,8 @@ public class TransformationHelper {
     }
 
     /**
-     * Queries the OSGi service registry for a service that provides a transformation service of
-     * a given transformation type (e.g. REGEX, XSLT, etc.)
+     * Returns the transformation service of a given transformation type (e.g. REGEX, XSLT, etc.). The tracked services
+     * are used while this component is active, otherwise the OSGi service registry is queried.
      *
      * @param context the bundle context which can be null
      * @param transformationType the desired transformation type
@@ -60,8 +179,17 @@ public class TransformationHelper {
      */
     public static @Nullable TransformationService getTransformationService(@Nullable BundleContext context,
             String transformationType) {
+        TransformationHelper helper = activeHelper;
+        if (helper != null) {
+            TransformationService service = helper.getTrackedService(transformationType);
+            if (service == null) {
+                LOGGER.debug("Cannot get service reference for transformation service of type {}",
+                        transformationType);
+            }
+            return service;
+        }
         if (context != null) {
-            String filter = "(openhab.transform=" + transformationType + ")";
+            String filter = "(" + TRANSFORMATION_TYPE_PROPERTY + "=" + transformationType + ")";
             try {
                 Collection<ServiceReference<TransformationService>> refs = context
                         .getServiceReferences(TransformationService.class, filter);
@@ -127,4 +255,31 @@ public class TransformationHelper {
             throw new TransformationException("Cannot format state '" + state + "' to format '" + format + "'", e);
         }
     }
+
+    /**
+     * A tracked transformation service. Services are ordered like service references, i.e. by descending ranking and
+     * ascending service id.
+     */
+    private static class TrackedService implements Comparable<TrackedService> {
+        private final TransformationService service;
+        private final TransformationService trackedService;
+        private final int ranking;
+        private final long serviceId;
+
+        TrackedService(TransformationService service, TransformationService trackedService,
+                Map<String, Object> properties) {
+            this.service = service;
+            this.trackedService = trackedService;
+            Object ranking = properties.get(Constants.SERVICE_RANKING);
+            this.ranking = ranking instanceof Integer ? (Integer) ranking : 0;
+            Object serviceId = properties.get(Constants.SERVICE_ID);
+            this.serviceId = serviceId instanceof Long ? (Long) serviceId : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int compareTo(TrackedService other) {
+            int result = Integer.compare(other.ranking, ranking);
+            return result != 0 ? result : Long.compare(serviceId, other.serviceId);
+        }
+    }
 }
@@ -35,6 +35,12 @@ public interface TransformationService {
     public static final String TRANSFORM_FOLDER_NAME = "transform";
     public static final String TRANSFORM_PROFILE_SCOPE = "transform";
 
+    /**
+     * Service property marking a pure transformation service, i.e. its result only depends on the function, the source
+     * and the {@link Transformation}s of the {@link TransformationRegistry}. The results of such a service are cached.
+     */
+    public static final String TRANSFORM_CACHEABLE_PROPERTY = "openhab.transform.cacheable";
+
     /**
      * Transforms the input <code>source</code> by means of the given <code>function</code> and returns the transformed
      * output. The transformation may return <code>null</code> to express its operation resulted in a <code>null</code>
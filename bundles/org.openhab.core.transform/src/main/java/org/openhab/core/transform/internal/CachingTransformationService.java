@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+
+/**
+ * A {@link TransformationService} which remembers the results of a pure transformation service in a bounded least
+ * recently used cache.
+ *
+ * Only non-null results are cached. Failed transformations are always passed to the wrapped service again.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class CachingTransformationService implements TransformationService {
+
+    private final TransformationService delegate;
+    private final Map<CacheKey, String> results;
+
+    private long generation = 0;
+
+    /**
+     * Creates a caching wrapper.
+     *
+     * @param delegate the pure transformation service to wrap
+     * @param maxSize the maximum number of results to keep
+     */
+    public CachingTransformationService(TransformationService delegate, int maxSize) {
+        this.delegate = delegate;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 5862340961530493113L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<CacheKey, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public @Nullable String transform(String function, String source) throws TransformationException {
+        CacheKey key = new CacheKey(function, source);
+        long currentGeneration;
+        synchronized (this) {
+            String result = results.get(key);
+            if (result != null) {
+                return result;
+            }
+            currentGeneration = generation;
+        }
+
+        String result = delegate.transform(function, source);
+        if (result != null) {
+            synchronized (this) {
+                // do not cache a result computed with a configuration that has been changed meanwhile
+                if (currentGeneration == generation) {
+                    results.put(key, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the wrapped transformation service.
+     *
+     * @return the wrapped service
+     */
+    public TransformationService getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Removes all cached results, e.g. because a transformation configuration has changed.
+     */
+    public synchronized void clear() {
+        generation++;
+        results.clear();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private record CacheKey(String function, String source) {
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.Constants;
+
+/**
+ * The {@link TransformationHelperTest} contains tests for the tracking of transformation services by the
+ * {@link TransformationHelper}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class TransformationHelperTest {
+
+    private final TransformationHelper helper = new TransformationHelper();
+    private final TransformationService lowRanked = (function, source) -> "low";
+    private final TransformationService highRanked = (function, source) -> "high";
+
+    @BeforeEach
+    public void setup() {
+        helper.activate();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        helper.deactivate();
+    }
+
+    @Test
+    public void testServiceWithHighestRankingIsUsed() {
+        helper.addTransformationService(lowRanked, properties(1L, 0));
+        helper.addTransformationService(highRanked, properties(2L, 10));
+
+        assertThat(TransformationHelper.getTransformationService(null, "TEST"), is(sameInstance(highRanked)));
+    }
+
+    @Test
+    public void testRemainingServiceIsUsedAfterRemoval() {
+        helper.addTransformationService(lowRanked, properties(1L, 0));
+        helper.addTransformationService(highRanked, properties(2L, 10));
+
+        helper.removeTransformationService(highRanked, properties(2L, 10));
+        assertThat(TransformationHelper.getTransformationService(null, "TEST"), is(sameInstance(lowRanked)));
+
+        helper.removeTransformationService(lowRanked, properties(1L, 0));
+        assertThat(TransformationHelper.getTransformationService(null, "TEST"), is(nullValue()));
+    }
+
+    @Test
+    public void testDeactivationOfReplacedHelperKeepsNewHelperActive() {
+        helper.addTransformationService(highRanked, properties(2L, 10));
+        TransformationHelper newHelper = new TransformationHelper();
+        newHelper.addTransformationService(lowRanked, properties(1L, 0));
+        newHelper.activate();
+
+        // the old instance is deactivated after the new one has been activated
+        helper.deactivate();
+        assertThat(TransformationHelper.getTransformationService(null, "TEST"), is(sameInstance(lowRanked)));
+        newHelper.deactivate();
+    }
+
+    private Map<String, Object> properties(long serviceId, int ranking) {
+        return Map.of("openhab.transform", "TEST", Constants.SERVICE_ID, serviceId, Constants.SERVICE_RANKING,
+                ranking);
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+
+/**
+ * The {@link CachingTransformationServiceTest} includes tests for the {@link CachingTransformationService}
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CachingTransformationServiceTest {
+
+    private static final String FUNCTION = "en.map";
+
+    private @Mock @NonNullByDefault({}) TransformationService serviceMock;
+
+    private @NonNullByDefault({}) CachingTransformationService service;
+
+    @BeforeEach
+    public void setup() throws TransformationException {
+        when(serviceMock.transform(eq(FUNCTION), anyString()))
+                .thenAnswer(invocation -> "mapped-" + invocation.getArgument(1));
+
+        service = new CachingTransformationService(serviceMock, 2);
+    }
+
+    @Test
+    public void testResultIsCached() throws TransformationException {
+        assertThat(service.transform(FUNCTION, "ON"), is("mapped-ON"));
+        assertThat(service.transform(FUNCTION, "ON"), is("mapped-ON"));
+
+        verify(serviceMock, times(1)).transform(FUNCTION, "ON");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResultIsEvicted() throws TransformationException {
+        service.transform(FUNCTION, "ON");
+        service.transform(FUNCTION, "OFF");
+        service.transform(FUNCTION, "ON");
+        service.transform(FUNCTION, "UNDEF");
+
+        // OFF has been evicted, ON has been used more recently
+        service.transform(FUNCTION, "ON");
+        service.transform(FUNCTION, "OFF");
+
+        verify(serviceMock, times(1)).transform(FUNCTION, "ON");
+        verify(serviceMock, times(2)).transform(FUNCTION, "OFF");
+    }
+
+    @Test
+    public void testClearRemovesCachedResults() throws TransformationException {
+        service.transform(FUNCTION, "ON");
+        service.clear();
+        service.transform(FUNCTION, "ON");
+
+        verify(serviceMock, times(2)).transform(FUNCTION, "ON");
+    }
+
+    @Test
+    public void testNullResultIsNotCached() throws TransformationException {
+        when(serviceMock.transform(FUNCTION, "NULL")).thenReturn(null);
+
+        assertThat(service.transform(FUNCTION, "NULL"), is(nullValue()));
+        assertThat(service.transform(FUNCTION, "NULL"), is(nullValue()));
+
+        verify(serviceMock, times(2)).transform(FUNCTION, "NULL");
+    }
+
+    @Test
+    public void testFailedTransformationIsNotCached() throws TransformationException {
+        when(serviceMock.transform(FUNCTION, "ERR")).thenThrow(new TransformationException("failed"));
+
+        assertThrows(TransformationException.class, () -> service.transform(FUNCTION, "ERR"));
+        assertThrows(TransformationException.class, () -> service.transform(FUNCTION, "ERR"));
+
+        verify(serviceMock, times(2)).transform(FUNCTION, "ERR");
+    }
+}
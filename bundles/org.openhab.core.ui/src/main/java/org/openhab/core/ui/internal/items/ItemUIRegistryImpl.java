@@ -64,7 +64,6 @@ import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.PlayPauseType;
 import org.openhab.core.library.types.QuantityType;
-import org.openhab.core.library.types.StringType;
 import org.openhab.core.model.sitemap.sitemap.ColorArray;
 import org.openhab.core.model.sitemap.sitemap.Default;
 import org.openhab.core.model.sitemap.sitemap.Group;
@@ -82,10 +81,10 @@ import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.CommandDescription;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescription;
-import org.openhab.core.types.StateOption;
 import org.openhab.core.types.UnDefType;
 import org.openhab.core.types.util.UnitUtils;
 import org.openhab.core.ui.internal.UIActivator;
+import org.openhab.core.ui.internal.items.WidgetLabelFormat.ValueFormat;
 import org.openhab.core.ui.items.ItemUIProvider;
 import org.openhab.core.ui.items.ItemUIRegistry;
 import org.osgi.framework.Constants;
@@ -107,6 +106,7 @@ import org.slf4j.LoggerFactory;
  * @author Chris Jackson - Initial contribution
  * @author Stefan Triller - Method to convert a state into something a sitemap entity can understand
  * @author Erdoan Hadzhiyusein - Adapted the class to work with the new DateTimeType
+ * @author crnjan - Compile widget labels once
  */
 @NonNullByDefault
 @Component(immediate = true, configurationPid = "org.openhab.sitemap", //
@@ -134,6 +134,7 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
     private final ItemRegistry itemRegistry;
 
     private final Map<Widget, Widget> defaultWidgets = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<Widget, WidgetLabelFormat> labelFormats = Collections.synchronizedMap(new WeakHashMap<>());
 
     private String groupMembersSorting = DEFAULT_SORTING;
 
@@ -321,18 +322,16 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
 
         String itemName = w.getItem();
         if (itemName == null || itemName.isBlank()) {
-            return transform(label, true, null);
+            WidgetLabelFormat labelFormat = getLabelFormat(w, label, null, false);
+            ValueFormat format = labelFormat.format;
+            return format != null && format.isTransformation() ? transform(labelFormat, format, format.valuePattern())
+                    : label;
         }
 
-        String labelMappedOption = null;
-        State state = null;
+        Item item = null;
         StateDescription stateDescription = null;
-        String formatPattern = getFormatPattern(label);
-
-        // now insert the value, if the state is a string or decimal value and there is some formatting pattern defined
-        // in the label (i.e. it contains at least a %)
         try {
-            final Item item = getItem(itemName);
+            item = getItem(itemName);
 
             // There is a known issue in the implementation of the method getStateDescription() of class Item
             // in the following case:
@@ -343,144 +342,110 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
             // In this case, the result is no display of value by UIs because no pattern is set in the
             // returned StateDescription. What is expected is the display of a value using the pattern
             // provided by the channel state description provider.
+            // The compiled label therefore adds the pattern of the state description if the label has none.
             stateDescription = item.getStateDescription();
-            if (formatPattern == null && stateDescription != null && stateDescription.getPattern() != null) {
-                label = label + " [" + stateDescription.getPattern() + "]";
-            }
-
-            String updatedPattern = getFormatPattern(label);
-            if (updatedPattern != null) {
-                formatPattern = updatedPattern;
-                state = item.getState();
-
-                if (formatPattern.contains("%d")) {
-                    if (!(state instanceof Number)) {
-                        // States which do not provide a Number will be converted to DecimalType.
-                        // e.g.: GroupItem can provide a count of items matching the active state
-                        // for some group functions.
-                        state = item.getStateAs(DecimalType.class);
-                    }
-
-                    // for fraction digits in state we don't want to risk format exceptions,
-                    // so treat everything as floats:
-                    formatPattern = formatPattern.replaceAll("%d", "%.0f");
-                }
-            }
         } catch (ItemNotFoundException e) {
             logger.error("Cannot retrieve item '{}' for widget {}", itemName, w.eClass().getInstanceTypeName());
         }
 
-        boolean considerTransform = false;
-        if (formatPattern != null) {
-            if (formatPattern.isEmpty()) {
-                label = label.substring(0, label.indexOf("[")).trim();
-            } else {
-                if (state == null || state instanceof UnDefType) {
-                    formatPattern = formatUndefined(formatPattern);
-                    considerTransform = true;
-                } else {
-                    // if the channel contains options, we build a label with the mapped option value
-                    if (stateDescription != null) {
-                        for (StateOption option : stateDescription.getOptions()) {
-                            if (option.getValue().equals(state.toString()) && option.getLabel() != null) {
-                                State stateOption = new StringType(option.getLabel());
-                                try {
-                                    String formatPatternOption = stateOption.format(formatPattern);
-                                    labelMappedOption = label.trim();
-                                    labelMappedOption = labelMappedOption.substring(0,
-                                            labelMappedOption.indexOf("[") + 1) + formatPatternOption + "]";
-                                } catch (IllegalArgumentException e) {
-                                    logger.debug(
-                                            "Mapping option value '{}' for item {} using format '{}' failed ({}); mapping is ignored",
-                                            stateOption, itemName, formatPattern, e.getMessage());
-                                    labelMappedOption = null;
-                                }
-                                break;
-                            }
-                        }
-                    }
+        WidgetLabelFormat labelFormat = getLabelFormat(w, label, stateDescription, true);
+        String formatPattern = labelFormat.formatPattern;
+        if (formatPattern == null) {
+            return labelFormat.label;
+        } else if (formatPattern.isEmpty()) {
+            return labelFormat.plainLabel;
+        }
 
-                    if (state instanceof DecimalType) {
-                        // for DecimalTypes we don't want to risk format exceptions, if pattern contains unit
-                        // placeholder
-                        if (formatPattern.contains(UnitUtils.UNIT_PLACEHOLDER)) {
-                            formatPattern = formatPattern.replaceAll(UnitUtils.UNIT_PLACEHOLDER, "").stripTrailing();
-                        }
-                    } else if (state instanceof QuantityType) {
-                        QuantityType<?> quantityState = (QuantityType<?>) state;
-                        // sanity convert current state to the item state description unit in case it was updated in the
-                        // meantime. The item state is still in the "original" unit while the state description will
-                        // display the new unit:
-                        Unit<?> patternUnit = UnitUtils.parseUnit(formatPattern);
-                        if (patternUnit != null && !quantityState.getUnit().equals(patternUnit)) {
-                            quantityState = quantityState.toInvertibleUnit(patternUnit);
-                        }
+        // now insert the value, if the state is a string or decimal value and there is some formatting pattern defined
+        // in the label (i.e. it contains at least a %)
+        State state = null;
+        if (item != null) {
+            state = item.getState();
+            if (labelFormat.integerFormat && !(state instanceof Number)) {
+                // States which do not provide a Number will be converted to DecimalType.
+                // e.g.: GroupItem can provide a count of items matching the active state
+                // for some group functions.
+                state = item.getStateAs(DecimalType.class);
+            }
+        }
 
-                        // The widget may define its own unit in the widget label. Convert to this unit:
-                        if (quantityState != null) {
-                            quantityState = convertStateToWidgetUnit(quantityState, w);
-                            state = quantityState;
-                        }
-                    } else if (state instanceof DateTimeType) {
-                        // Translate a DateTimeType state to the local time zone
-                        try {
-                            state = ((DateTimeType) state).toLocaleZone();
-                        } catch (DateTimeException ignored) {
-                        }
-                    }
+        if (state == null || state instanceof UnDefType) {
+            ValueFormat undefinedFormat = Objects.requireNonNull(labelFormat.undefinedFormat);
+            return undefinedFormat.isTransformation()
+                    ? transform(labelFormat, undefinedFormat, undefinedFormat.valuePattern())
+                    : labelFormat.insert(undefinedFormat.pattern());
+        }
 
-                    // The following exception handling has been added to work around a Java bug with formatting
-                    // numbers. See http://bugs.sun.com/view_bug.do?bug_id=6476425
-                    // Without this catch, the whole sitemap, or page can not be displayed!
-                    // This also handles IllegalFormatConversionException, which is a subclass of IllegalArgument.
-                    try {
-                        Matcher matcher = EXTRACT_TRANSFORM_FUNCTION_PATTERN.matcher(formatPattern);
-                        if (matcher.find()) {
-                            considerTransform = true;
-                            String type = matcher.group(1);
-                            String pattern = matcher.group(2);
-                            String value = matcher.group(3);
-                            formatPattern = type + "(" + pattern + "):" + state.format(value);
-                        } else {
-                            formatPattern = state.format(formatPattern);
-                        }
-                    } catch (IllegalArgumentException e) {
-                        logger.warn("Exception while formatting value '{}' of item {} with format '{}': {}", state,
-                                itemName, formatPattern, e.getMessage());
-                        formatPattern = "Err";
-                    }
-                }
+        // if the channel contains options, we build a label with the mapped option value
+        String labelMappedOption = labelFormat.optionLabels.get(state.toString());
+
+        ValueFormat format = Objects.requireNonNull(labelFormat.format);
+        if (state instanceof DecimalType) {
+            // for DecimalTypes we don't want to risk format exceptions, if pattern contains unit placeholder
+            format = Objects.requireNonNull(labelFormat.decimalFormat);
+        } else if (state instanceof QuantityType) {
+            QuantityType<?> quantityState = (QuantityType<?>) state;
+            // sanity convert current state to the item state description unit in case it was updated in the
+            // meantime. The item state is still in the "original" unit while the state description will
+            // display the new unit:
+            Unit<?> patternUnit = labelFormat.patternUnit;
+            if (patternUnit != null && !quantityState.getUnit().equals(patternUnit)) {
+                quantityState = quantityState.toInvertibleUnit(patternUnit);
+            }
 
-                label = label.trim();
-                label = label.substring(0, label.indexOf("[") + 1) + formatPattern + "]";
+            // The widget may define its own unit in the widget label. Convert to this unit:
+            if (quantityState != null) {
+                quantityState = convertStateToWidgetUnit(quantityState, labelFormat.widgetUnit);
+                state = quantityState;
+            }
+        } else if (state instanceof DateTimeType) {
+            // Translate a DateTimeType state to the local time zone
+            try {
+                state = ((DateTimeType) state).toLocaleZone();
+            } catch (DateTimeException ignored) {
             }
         }
 
-        return transform(label, considerTransform, labelMappedOption);
-    }
-
-    private QuantityType<?> convertStateToWidgetUnit(QuantityType<?> quantityState, Widget w) {
-        Unit<?> widgetUnit = UnitUtils.parseUnit(getFormatPattern(w.getLabel()));
-        if (widgetUnit != null && !widgetUnit.equals(quantityState.getUnit())) {
-            return Objects.requireNonNullElse(quantityState.toInvertibleUnit(widgetUnit), quantityState);
+        // The following exception handling has been added to work around a Java bug with formatting
+        // numbers. See http://bugs.sun.com/view_bug.do?bug_id=6476425
+        // Without this catch, the whole sitemap, or page can not be displayed!
+        // This also handles IllegalFormatConversionException, which is a subclass of IllegalArgument.
+        String value;
+        try {
+            value = state.format(format.valuePattern());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Exception while formatting value '{}' of item {} with format '{}': {}", state, itemName,
+                    format.pattern(), e.getMessage());
+            return labelMappedOption != null ? labelMappedOption : labelFormat.insert("Err");
         }
 
-        return quantityState;
+        if (format.isTransformation()) {
+            return transform(labelFormat, format, value);
+        }
+        return labelMappedOption != null ? labelMappedOption : labelFormat.insert(value);
     }
 
-    private @Nullable String getFormatPattern(@Nullable String label) {
-        if (label == null) {
-            return null;
+    /**
+     * Returns the compiled label of a widget, compiling it again if the label or the state description has changed.
+     */
+    private WidgetLabelFormat getLabelFormat(Widget w, String label, @Nullable StateDescription stateDescription,
+            boolean itemWidget) {
+        String widgetLabel = w.getLabel();
+        WidgetLabelFormat labelFormat = labelFormats.get(w);
+        if (labelFormat == null || !labelFormat.isCompiledFrom(label, widgetLabel, stateDescription, itemWidget)) {
+            labelFormat = new WidgetLabelFormat(label, widgetLabel, stateDescription, itemWidget,
+                    EXTRACT_TRANSFORM_FUNCTION_PATTERN, this::formatUndefined);
+            labelFormats.put(w, labelFormat);
         }
-        String pattern = label.trim();
-        int indexOpenBracket = pattern.indexOf("[");
-        int indexCloseBracket = pattern.endsWith("]") ? pattern.length() - 1 : -1;
+        return labelFormat;
+    }
 
-        if ((indexOpenBracket >= 0) && (indexCloseBracket > indexOpenBracket)) {
-            return pattern.substring(indexOpenBracket + 1, indexCloseBracket);
-        } else {
-            return null;
+    private QuantityType<?> convertStateToWidgetUnit(QuantityType<?> quantityState, @Nullable Unit<?> widgetUnit) {
+        if (widgetUnit != null && !widgetUnit.equals(quantityState.getUnit())) {
+            return Objects.requireNonNullElse(quantityState.toInvertibleUnit(widgetUnit), quantityState);
         }
+
+        return quantityState;
     }
 
     private String getLabelFromWidget(Widget w) {
@@ -523,54 +488,34 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         }
     }
 
-    private String insertInLabel(String label, Object o) {
-        return label.substring(0, label.indexOf("[") + 1) + o + "]";
-    }
-
     /*
-     * check if there is a status value being displayed on the right side of the
-     * label (the right side is signified by being enclosed in square brackets [].
-     * If so, check if the value starts with the call to a transformation service
-     * (e.g. "[MAP(en.map):%s]") and execute the transformation in this case.
-     * If the value does not start with the call to a transformation service,
-     * we return the label with the mapped option value if provided (not null).
+     * The value of the label calls a transformation service (e.g. "[MAP(en.map):%s]"), so execute the
+     * transformation with the formatted value.
      */
-    private String transform(String label, boolean matchTransform, @Nullable String labelMappedOption) {
-        String ret = label;
-        String formatPattern = getFormatPattern(label);
-        if (formatPattern != null) {
-            Matcher matcher = EXTRACT_TRANSFORM_FUNCTION_PATTERN.matcher(formatPattern);
-            if (matchTransform && matcher.find()) {
-                String type = matcher.group(1);
-                String pattern = matcher.group(2);
-                String value = matcher.group(3);
-                TransformationService transformation = TransformationHelper
-                        .getTransformationService(UIActivator.getContext(), type);
-                if (transformation != null) {
-                    try {
-                        String transformationResult = transformation.transform(pattern, value);
-                        if (transformationResult != null) {
-                            ret = insertInLabel(label, transformationResult);
-                        } else {
-                            logger.warn("transformation of type {} did not return a valid result", type);
-                            ret = insertInLabel(label, UnDefType.NULL);
-                        }
-                    } catch (TransformationException e) {
-                        logger.error("transformation throws exception [transformation={}, value={}]", transformation,
-                                value, e);
-                        ret = insertInLabel(label, value);
-                    }
+    private String transform(WidgetLabelFormat labelFormat, ValueFormat format, String value) {
+        String type = Objects.requireNonNull(format.transformationType());
+        String function = Objects.requireNonNull(format.transformationFunction());
+        TransformationService transformation = TransformationHelper.getTransformationService(UIActivator.getContext(),
+                type);
+        if (transformation != null) {
+            try {
+                String transformationResult = transformation.transform(function, value);
+                if (transformationResult != null) {
+                    return labelFormat.insert(transformationResult);
                 } else {
-                    logger.warn(
-                            "couldn't transform value in label because transformationService of type '{}' is unavailable",
-                            type);
-                    ret = insertInLabel(label, value);
+                    logger.warn("transformation of type {} did not return a valid result", type);
+                    return labelFormat.insert(UnDefType.NULL);
                 }
-            } else if (labelMappedOption != null) {
-                ret = labelMappedOption;
+            } catch (TransformationException e) {
+                logger.error("transformation throws exception [transformation={}, value={}]", transformation, value,
+                        e);
+                return labelFormat.insert(value);
             }
+        } else {
+            logger.warn("couldn't transform value in label because transformationService of type '{}' is unavailable",
+                    type);
+            return labelFormat.insert(value);
         }
-        return ret;
     }
 
     @Override
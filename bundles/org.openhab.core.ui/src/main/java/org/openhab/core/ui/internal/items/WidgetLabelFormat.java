@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.ui.internal.items;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.StateDescription;
+import org.openhab.core.types.StateOption;
+import org.openhab.core.types.util.UnitUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The compiled label of a widget. It holds everything which can be derived from the label and the state description of
+ * the item without knowing the state, so that rendering the label only has to format the state.
+ *
+ * Instances are immutable. They are compiled again if the label or the state description changes.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+final class WidgetLabelFormat {
+
+    /**
+     * A format pattern which is either a plain format or a transformation (e.g. <code>MAP(en.map):%s</code>).
+     *
+     * @param pattern the whole format pattern
+     * @param transformationType the type of the transformation or null if the pattern is no transformation
+     * @param transformationFunction the function of the transformation or null if the pattern is no transformation
+     * @param valuePattern the format of the value passed to the transformation or the whole format pattern
+     */
+    record ValueFormat(String pattern, @Nullable String transformationType, @Nullable String transformationFunction,
+            String valuePattern) {
+
+        static ValueFormat compile(String pattern, Pattern transformFunctionPattern) {
+            Matcher matcher = transformFunctionPattern.matcher(pattern);
+            if (matcher.find()) {
+                return new ValueFormat(pattern, matcher.group(1), matcher.group(2), matcher.group(3));
+            }
+            return new ValueFormat(pattern, null, null, pattern);
+        }
+
+        boolean isTransformation() {
+            return transformationType != null;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(WidgetLabelFormat.class);
+
+    private final String sourceLabel;
+    private final @Nullable String widgetLabel;
+    private final @Nullable StateDescription stateDescription;
+    private final boolean itemWidget;
+
+    final String label;
+    final @Nullable String formatPattern;
+    final boolean integerFormat;
+    final String labelPrefix;
+    final String plainLabel;
+    final @Nullable ValueFormat format;
+    final @Nullable ValueFormat decimalFormat;
+    final @Nullable ValueFormat undefinedFormat;
+    final @Nullable Unit<?> patternUnit;
+    final @Nullable Unit<?> widgetUnit;
+    final Map<String, String> optionLabels;
+
+    /**
+     * Compiles the label of a widget.
+     *
+     * @param sourceLabel the label of the widget or of its item
+     * @param widgetLabel the label defined in the widget itself
+     * @param stateDescription the state description of the item or null
+     * @param itemWidget true if the widget refers to an item
+     * @param transformFunctionPattern the pattern to detect transformations in the format pattern
+     * @param undefinedFormatter formats the format pattern for an undefined state
+     */
+    WidgetLabelFormat(String sourceLabel, @Nullable String widgetLabel, @Nullable StateDescription stateDescription,
+            boolean itemWidget, Pattern transformFunctionPattern, UnaryOperator<String> undefinedFormatter) {
+        this.sourceLabel = sourceLabel;
+        this.widgetLabel = widgetLabel;
+        this.stateDescription = stateDescription;
+        this.itemWidget = itemWidget;
+
+        String label = sourceLabel;
+        if (itemWidget && stateDescription != null && getFormatPattern(label) == null
+                && stateDescription.getPattern() != null) {
+            label = label + " [" + stateDescription.getPattern() + "]";
+        }
+        this.label = label;
+
+        String formatPattern = getFormatPattern(label);
+        boolean integerFormat = false;
+        if (itemWidget && formatPattern != null && formatPattern.contains("%d")) {
+            // for fraction digits in state we don't want to risk format exceptions,
+            // so treat everything as floats:
+            integerFormat = true;
+            formatPattern = formatPattern.replaceAll("%d", "%.0f");
+        }
+        this.formatPattern = formatPattern;
+        this.integerFormat = integerFormat;
+
+        int indexOpenBracket = label.indexOf("[");
+        String trimmedLabel = label.trim();
+        this.plainLabel = indexOpenBracket >= 0 ? label.substring(0, indexOpenBracket).trim() : trimmedLabel;
+        // a label without item keeps its leading whitespace, as the original label is transformed
+        String prefixLabel = itemWidget ? trimmedLabel : label;
+        this.labelPrefix = prefixLabel.substring(0, prefixLabel.indexOf("[") + 1);
+
+        if (formatPattern == null || formatPattern.isEmpty()) {
+            this.format = null;
+            this.decimalFormat = null;
+            this.undefinedFormat = null;
+            this.patternUnit = null;
+            this.optionLabels = Map.of();
+        } else if (!itemWidget) {
+            this.format = ValueFormat.compile(formatPattern, transformFunctionPattern);
+            this.decimalFormat = null;
+            this.undefinedFormat = null;
+            this.patternUnit = null;
+            this.optionLabels = Map.of();
+        } else {
+            this.format = ValueFormat.compile(formatPattern, transformFunctionPattern);
+            // for DecimalTypes we don't want to risk format exceptions, if pattern contains unit placeholder
+            this.decimalFormat = formatPattern.contains(UnitUtils.UNIT_PLACEHOLDER)
+                    ? ValueFormat.compile(formatPattern.replaceAll(UnitUtils.UNIT_PLACEHOLDER, "").stripTrailing(),
+                            transformFunctionPattern)
+                    : this.format;
+            this.undefinedFormat = ValueFormat.compile(undefinedFormatter.apply(formatPattern),
+                    transformFunctionPattern);
+            this.patternUnit = UnitUtils.parseUnit(formatPattern);
+            this.optionLabels = compileOptionLabels(formatPattern);
+        }
+
+        this.widgetUnit = widgetLabel != null ? UnitUtils.parseUnit(getFormatPattern(widgetLabel)) : null;
+    }
+
+    /**
+     * Determines whether this compiled label is still valid for the given labels and state description.
+     *
+     * @return true if this label has been compiled from the given values
+     */
+    boolean isCompiledFrom(String sourceLabel, @Nullable String widgetLabel,
+            @Nullable StateDescription stateDescription, boolean itemWidget) {
+        return this.itemWidget == itemWidget && this.sourceLabel.equals(sourceLabel)
+                && Objects.equals(this.widgetLabel, widgetLabel)
+                && Objects.equals(this.stateDescription, stateDescription);
+    }
+
+    /**
+     * Returns the label with the given value inserted as the formatted state.
+     *
+     * @param value the formatted state
+     * @return the label with the value
+     */
+    String insert(Object value) {
+        return labelPrefix + value + "]";
+    }
+
+    /**
+     * Builds the labels of the state options, i.e. the option label of the first option with a label for each value,
+     * formatted with the format pattern.
+     */
+    private Map<String, String> compileOptionLabels(String formatPattern) {
+        StateDescription stateDescription = this.stateDescription;
+        if (stateDescription == null || stateDescription.getOptions().isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> optionLabels = new HashMap<>();
+        Set<String> mappedValues = new HashSet<>();
+        for (StateOption option : stateDescription.getOptions()) {
+            String optionLabel = option.getLabel();
+            if (optionLabel == null || !mappedValues.add(option.getValue())) {
+                continue;
+            }
+            StringType stateOption = new StringType(optionLabel);
+            try {
+                optionLabels.put(option.getValue(), insert(stateOption.format(formatPattern)));
+            } catch (IllegalArgumentException e) {
+                logger.debug("Mapping option value '{}' using format '{}' failed ({}); mapping is ignored",
+                        stateOption, formatPattern, e.getMessage());
+            }
+        }
+        return Collections.unmodifiableMap(optionLabels);
+    }
+
+    static @Nullable String getFormatPattern(@Nullable String label) {
+        if (label == null) {
+            return null;
+        }
+        String pattern = label.trim();
+        int indexOpenBracket = pattern.indexOf("[");
+        int indexCloseBracket = pattern.endsWith("]") ? pattern.length() - 1 : -1;
+
+        if ((indexOpenBracket >= 0) && (indexCloseBracket > indexOpenBracket)) {
+            return pattern.substring(indexOpenBracket + 1, indexCloseBracket);
+        } else {
+            return null;
+        }
+    }
+}
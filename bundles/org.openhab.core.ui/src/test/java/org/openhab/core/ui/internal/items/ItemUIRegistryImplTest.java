@@ -716,6 +716,36 @@ public class ItemUIRegistryImplTest {
         assertEquals("Label [State]", label);
     }
 
+    @Test
+    public void getLabelLabelWithChangedState() {
+        String testLabel = "Label [%s]";
+
+        when(widgetMock.getLabel()).thenReturn(testLabel);
+        when(itemMock.getState()).thenReturn(new StringType("State0"));
+        assertEquals("Label [State0]", uiRegistry.getLabel(widgetMock));
+
+        when(itemMock.getState()).thenReturn(UnDefType.UNDEF);
+        assertEquals("Label [-]", uiRegistry.getLabel(widgetMock));
+
+        when(itemMock.getState()).thenReturn(new StringType("State1"));
+        assertEquals("Label [State1]", uiRegistry.getLabel(widgetMock));
+    }
+
+    @Test
+    public void getLabelLabelWithChangedStateDescription() {
+        String testLabel = "Label";
+
+        when(widgetMock.getLabel()).thenReturn(testLabel);
+        when(itemMock.getState()).thenReturn(new StringType("State0"));
+        when(itemMock.getStateDescription())
+                .thenReturn(StateDescriptionFragmentBuilder.create().withPattern("%s").build().toStateDescription());
+        assertEquals("Label [State0]", uiRegistry.getLabel(widgetMock));
+
+        when(itemMock.getStateDescription()).thenReturn(StateDescriptionFragmentBuilder.create().withPattern("(%s)")
+                .withOption(new StateOption("State0", "This is the state 0")).build().toStateDescription());
+        assertEquals("Label [(This is the state 0)]", uiRegistry.getLabel(widgetMock));
+    }
+
     @Test
     public void getLabelTransformationContainingPercentS() throws ItemNotFoundException {
         // It doesn't matter that "FOO" doesn't exist - this is to assert it doesn't fail before because of the two "%s"
@@ -12,6 +12,7 @@
  */
 package org.openhab.core.common;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -21,8 +22,11 @@ import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * A non specific base class for unique identifiers.
+ * <p>
+ * The segments are parsed and validated once on construction, the hash code is computed on first use and kept.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author crnjan - Validation without regular expressions and cached hash code
  */
 @NonNullByDefault
 public abstract class AbstractUID {
@@ -31,6 +35,7 @@ public abstract class AbstractUID {
     public static final String SEPARATOR = ":";
     private final List<String> segments;
     private String uid = "";
+    private transient int hash;
 
     /**
      * Constructor must be public, otherwise it can not be called by subclasses from another package.
@@ -97,7 +102,7 @@ public abstract class AbstractUID {
     }
 
     protected void validateSegment(String segment, int index, int length) {
-        if (!segment.matches(SEGMENT_PATTERN)) {
+        if (!isValidSegment(segment, 0, segment.length())) {
             throw new IllegalArgumentException(String.format(
                     "ID segment '%s' contains invalid characters. Each segment of the ID must match the pattern %s.",
                     segment, SEGMENT_PATTERN));
@@ -116,15 +121,54 @@ public abstract class AbstractUID {
         return uid;
     }
 
+    /**
+     * Checks if a part of a segment matches the {@link #SEGMENT_PATTERN}.
+     *
+     * @param segment the segment
+     * @param beginIndex the index of the first character to check
+     * @param endIndex the index after the last character to check
+     * @return true if all characters are word characters or '-'
+     */
+    protected static boolean isValidSegment(String segment, int beginIndex, int endIndex) {
+        for (int i = beginIndex; i < endIndex; i++) {
+            char c = segment.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static List<String> splitToSegments(final String id) {
-        return Arrays.asList(id.split(SEPARATOR));
+        // same result as String#split, i.e. trailing empty segments are removed
+        int end = id.indexOf(SEPARATOR);
+        if (end < 0) {
+            return List.of(id);
+        }
+        List<String> segments = new ArrayList<>();
+        int begin = 0;
+        while (end >= 0) {
+            segments.add(id.substring(begin, end));
+            begin = end + SEPARATOR.length();
+            end = id.indexOf(SEPARATOR, begin);
+        }
+        segments.add(id.substring(begin));
+        int size = segments.size();
+        while (size > 0 && segments.get(size - 1).isEmpty()) {
+            segments.remove(--size);
+        }
+        return segments;
     }
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + segments.hashCode();
+        int result = hash;
+        if (result == 0) {
+            final int prime = 31;
+            result = 1;
+            result = prime * result + segments.hashCode();
+            hash = result;
+        }
         return result;
     }
 
@@ -140,6 +184,6 @@ public abstract class AbstractUID {
             return false;
         }
         AbstractUID other = (AbstractUID) obj;
-        return segments.equals(other.segments);
+        return hashCode() == other.hashCode() && segments.equals(other.segments);
     }
 }
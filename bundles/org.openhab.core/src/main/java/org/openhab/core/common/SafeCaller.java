@@ -40,4 +40,28 @@ public interface SafeCaller {
      * @return a safe call builder instance.
      */
     <T> SafeCallerBuilder<T> create(T target, Class<T> interfaceType);
+
+    /**
+     * Create a safe call builder for an action, e.g. {@code create(handler, () -> handler.handleCommand(...))}.
+     *
+     * The implementation of the framework calls the action directly instead of through a dynamic proxy and
+     * reflection, which makes it the preferred way for frequent calls.
+     *
+     * @param identifier the identifier to which the action belongs, e.g. the handler whose method is called
+     * @param action the action which should be protected by the safe caller
+     * @return a safe call builder instance.
+     */
+    default SafeCallerBuilder<Runnable> create(Object identifier, Runnable action) {
+        return create(action, Runnable.class).withIdentifier(identifier);
+    }
+
+    /**
+     * Synchronously run an action with the default timeout.
+     *
+     * @param identifier the identifier to which the action belongs
+     * @param action the action which should be protected by the safe caller
+     */
+    default void run(Object identifier, Runnable action) {
+        create(identifier, action).build().run();
+    }
 }
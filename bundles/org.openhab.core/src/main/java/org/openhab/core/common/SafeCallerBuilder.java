@@ -51,6 +51,18 @@ public interface SafeCallerBuilder<T> {
      */
     SafeCallerBuilder<T> withIdentifier(Object identifier);
 
+    /**
+     * Specifies what an action created by {@link SafeCaller#create(Object, Runnable)} does, e.g.
+     * {@code "ThingHandler.handleCommand()"}. It is used in the log messages about timeouts and errors of the action
+     * instead of the generic name of the run method of the action.
+     *
+     * @param description the description of the action
+     * @return the SafeCallerBuilder itself
+     */
+    default SafeCallerBuilder<T> withDescription(String description) {
+        return this;
+    }
+
     /**
      * Specifies a callback in case of execution errors.
      *
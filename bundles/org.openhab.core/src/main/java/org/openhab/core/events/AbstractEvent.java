@@ -12,6 +12,8 @@
  */
 package org.openhab.core.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -25,7 +27,9 @@ public abstract class AbstractEvent implements Event {
 
     private final String topic;
 
-    private final String payload;
+    private volatile @Nullable String payload;
+
+    private final @Nullable Supplier<String> payloadSupplier;
 
     private final @Nullable String source;
 
@@ -39,6 +43,25 @@ public abstract class AbstractEvent implements Event {
     public AbstractEvent(String topic, String payload, @Nullable String source) {
         this.topic = topic;
         this.payload = payload;
+        this.payloadSupplier = null;
+        this.source = source;
+    }
+
+    /**
+     * Must be called in subclass constructor to create a new event whose payload is only serialized on first access.
+     *
+     * Events that are delivered in-process are handed to the subscribers as they are, so the serialized payload is
+     * only needed if someone (e.g. a REST or websocket client) actually asks for it. The supplier is called at most
+     * once per event in the common case, and must always produce the same non-empty result.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier creating the payload
+     * @param source the source
+     */
+    protected AbstractEvent(String topic, Supplier<String> payloadSupplier, @Nullable String source) {
+        this.topic = topic;
+        this.payload = null;
+        this.payloadSupplier = payloadSupplier;
         this.source = source;
     }
 
@@ -49,9 +72,24 @@ public abstract class AbstractEvent implements Event {
 
     @Override
     public String getPayload() {
+        String payload = this.payload;
+        if (payload == null) {
+            Supplier<String> payloadSupplier = this.payloadSupplier;
+            payload = payloadSupplier == null ? "" : payloadSupplier.get();
+            this.payload = payload;
+        }
         return payload;
     }
 
+    /**
+     * Checks whether the payload of this event is created lazily and has not been requested yet.
+     *
+     * @return true if the payload has not been serialized yet, false otherwise
+     */
+    public boolean isPayloadDeferred() {
+        return payload == null;
+    }
+
     @Override
     public @Nullable String getSource() {
         return source;
@@ -61,7 +99,7 @@ public abstract class AbstractEvent implements Event {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + ((payload == null) ? 0 : payload.hashCode());
+        result = prime * result + getPayload().hashCode();
         result = prime * result + ((source == null) ? 0 : source.hashCode());
         result = prime * result + ((topic == null) ? 0 : topic.hashCode());
         return result;
@@ -79,11 +117,7 @@ public abstract class AbstractEvent implements Event {
             return false;
         }
         AbstractEvent other = (AbstractEvent) obj;
-        if (payload == null) {
-            if (other.payload != null) {
-                return false;
-            }
-        } else if (!payload.equals(other.payload)) {
+        if (!getPayload().equals(other.getPayload())) {
             return false;
         }
         if (source == null) {
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EventBusMetrics} provide runtime statistics of the openHAB event bus, e.g. to size an installation or to
+ * find {@link EventSubscriber}s that slow down the event processing.
+ * <p>
+ * All counters are cumulative since the start of the event bus, rates (like events per second) are derived by the
+ * consumers of the metrics.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface EventBusMetrics {
+
+    /**
+     * Gets the number of events that have been received by the event bus but not yet dispatched to the subscribers.
+     *
+     * @return the queue size
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the number of events that have been dispatched, indexed by the event type.
+     *
+     * @return an unmodifiable snapshot of the event counts
+     */
+    Map<String, Long> getEventCounts();
+
+    /**
+     * Gets the number of events of a type that have been dispatched.
+     *
+     * @param type the event type
+     * @return the number of dispatched events
+     */
+    long getEventCount(String type);
+
+    /**
+     * Gets the number of events that have been dropped by the event bus before they could be dispatched to the
+     * subscribers. Events dropped for a single subscriber are reported by its {@link EventSubscriberMetrics}.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEvents();
+
+    /**
+     * Gets the number of pending state events that have been replaced by a newer state event of the same item.
+     *
+     * @return the number of coalesced events
+     */
+    long getCoalescedEvents();
+
+    /**
+     * Gets the time between publishing an event and passing it to a subscriber.
+     *
+     * @return the delivery latency
+     */
+    EventTimingMetrics getDeliveryLatency();
+
+    /**
+     * Gets the metrics of all subscribers that have received events.
+     *
+     * @return an unmodifiable snapshot of the subscriber metrics
+     */
+    Collection<EventSubscriberMetrics> getSubscriberMetrics();
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EventSubscriberMetrics} provide the runtime statistics of a single {@link EventSubscriber}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface EventSubscriberMetrics {
+
+    /**
+     * Gets the name of the subscriber, i.e. its class name. The metrics of subscribers of the same class are combined.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Gets the number of events that are waiting to be passed to the subscriber.
+     *
+     * @return the number of pending events
+     */
+    int getPendingEvents();
+
+    /**
+     * Gets the number of events that have been passed to the subscriber, including the failed ones.
+     *
+     * @return the number of delivered events
+     */
+    long getDeliveredEvents();
+
+    /**
+     * Gets the number of events the subscriber has thrown an exception for.
+     *
+     * @return the number of failed events
+     */
+    long getFailedEvents();
+
+    /**
+     * Gets the number of events that have been dropped instead of being passed to the subscriber.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEvents();
+
+    /**
+     * Gets the time the subscriber has spent processing the events.
+     *
+     * @return the processing time
+     */
+    EventTimingMetrics getProcessingTime();
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EventTimingMetrics} describe the distribution of durations measured by the event bus.
+ * <p>
+ * Percentiles are estimated from logarithmic buckets and are accurate to a factor of two, which is sufficient to tell
+ * a sub-millisecond subscriber from one that takes seconds.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface EventTimingMetrics {
+
+    /**
+     * Gets the number of measured durations.
+     *
+     * @return the count
+     */
+    long getCount();
+
+    /**
+     * Gets the mean duration.
+     *
+     * @return the mean duration in milliseconds, 0 if nothing has been measured
+     */
+    double getMean();
+
+    /**
+     * Gets the maximum duration.
+     *
+     * @return the maximum duration in milliseconds, 0 if nothing has been measured
+     */
+    double getMax();
+
+    /**
+     * Gets an estimation of a percentile of the durations.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration in milliseconds below which the given percentage of the durations fall, 0 if nothing has
+     *         been measured
+     */
+    double getPercentile(double percentile);
+}
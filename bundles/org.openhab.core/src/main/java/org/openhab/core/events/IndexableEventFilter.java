@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An {@link IndexableEventFilter} is an {@link EventFilter} that knows whether it can only apply to the events of a
+ * single entity, i.e. events whose topic starts with {@code openhab/<entity type>/<entity id>/}.
+ * <p>
+ * The event bus uses this information to only offer an event to the subscribers that can match it, so the entity
+ * topic returned by a filter must not change over its lifetime and an {@link EventSubscriber} must keep returning the
+ * same filter instance.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface IndexableEventFilter extends EventFilter {
+
+    /**
+     * Gets the entity topic of all events this filter can apply to, e.g. {@code openhab/items/MyItem}.
+     *
+     * @return the entity topic, or null if the filter is not restricted to a single entity
+     */
+    @Nullable
+    String getEntityTopic();
+
+    /**
+     * Gets the entity topic of a topic, i.e. the topic up to (excluding) its third '/' separator.
+     *
+     * @param topic the topic, e.g. {@code openhab/items/MyItem/state}
+     * @return the entity topic, e.g. {@code openhab/items/MyItem}, or null if the topic has less than four segments
+     */
+    static @Nullable String getEntityTopic(String topic) {
+        int index = -1;
+        for (int i = 0; i < 3; i++) {
+            index = topic.indexOf('/', index + 1);
+            if (index < 0) {
+                return null;
+            }
+        }
+        return topic.substring(0, index);
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.core.events;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link TopicEventFilter} is a default openHAB {@link EventFilter} implementation that ensures filtering
@@ -23,9 +24,13 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  * @author Stefan Bußweiler - Initial contribution
  */
 @NonNullByDefault
-public class TopicEventFilter implements EventFilter {
+public class TopicEventFilter implements IndexableEventFilter {
+
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String REGEX_QUANTIFIERS = "?*+{";
 
     private final Pattern topicRegex;
+    private final @Nullable String entityTopic;
 
     /**
      * Constructs a new topic event filter.
@@ -35,10 +40,36 @@ public class TopicEventFilter implements EventFilter {
      */
     public TopicEventFilter(String topicRegex) {
         this.topicRegex = Pattern.compile(topicRegex);
+        this.entityTopic = getLiteralEntityTopic(topicRegex);
     }
 
     @Override
     public boolean apply(Event event) {
         return topicRegex.matcher(event.getTopic()).matches();
     }
+
+    @Override
+    public @Nullable String getEntityTopic() {
+        return entityTopic;
+    }
+
+    /**
+     * Determines the entity topic from the literal beginning of the regular expression, e.g. the regular expression
+     * {@code ^openhab/things/binding:type:id/.*$} can only match topics of {@code openhab/things/binding:type:id}.
+     */
+    private static @Nullable String getLiteralEntityTopic(String topicRegex) {
+        if (topicRegex.indexOf('|') >= 0) {
+            return null;
+        }
+        int start = topicRegex.startsWith("^") ? 1 : 0;
+        int end = start;
+        while (end < topicRegex.length() && REGEX_META_CHARACTERS.indexOf(topicRegex.charAt(end)) < 0) {
+            end++;
+        }
+        if (end < topicRegex.length() && REGEX_QUANTIFIERS.indexOf(topicRegex.charAt(end)) >= 0) {
+            // the last literal character is optional or repeated
+            end--;
+        }
+        return end > start ? IndexableEventFilter.getEntityTopic(topicRegex.substring(start, end)) : null;
+    }
 }
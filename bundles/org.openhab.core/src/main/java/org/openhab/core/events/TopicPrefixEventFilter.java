@@ -13,6 +13,7 @@
 package org.openhab.core.events;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link TopicPrefixEventFilter} is a default openHAB {@link EventFilter} implementation that ensures filtering
@@ -21,9 +22,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
-public class TopicPrefixEventFilter implements EventFilter {
+public class TopicPrefixEventFilter implements IndexableEventFilter {
 
     private final String topicPrefix;
+    private final @Nullable String entityTopic;
 
     /**
      * Constructs a new topic event filter.
@@ -32,10 +34,16 @@ public class TopicPrefixEventFilter implements EventFilter {
      */
     public TopicPrefixEventFilter(String topicPrefix) {
         this.topicPrefix = topicPrefix;
+        this.entityTopic = IndexableEventFilter.getEntityTopic(topicPrefix);
     }
 
     @Override
     public boolean apply(Event event) {
         return event.getTopic().startsWith(topicPrefix);
     }
+
+    @Override
+    public @Nullable String getEntityTopic() {
+        return entityTopic;
+    }
 }
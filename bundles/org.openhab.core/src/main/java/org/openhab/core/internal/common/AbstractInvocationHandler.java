@@ -12,6 +12,7 @@
  */
 package org.openhab.core.internal.common;
 
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -33,7 +34,7 @@ import org.slf4j.LoggerFactory;
  * @param <T>
  */
 @NonNullByDefault
-abstract class AbstractInvocationHandler<T> {
+abstract class AbstractInvocationHandler<T> implements InvocationHandler {
 
     private static final String MSG_TIMEOUT_R = "Timeout of {}ms exceeded while calling\n{}\nThread '{}' ({}) is in state '{}'\n{}";
     private static final String MSG_TIMEOUT_Q = "Timeout of {}ms exceeded while calling\n{}\nThe task was still queued.";
@@ -45,16 +46,18 @@ abstract class AbstractInvocationHandler<T> {
     private final SafeCallManager manager;
     private final T target;
     private final Object identifier;
+    private final @Nullable String description;
     private final long timeout;
 
     private final @Nullable Consumer<Throwable> exceptionHandler;
     private final @Nullable Runnable timeoutHandler;
 
-    AbstractInvocationHandler(SafeCallManager manager, T target, Object identifier, long timeout,
-            @Nullable Consumer<Throwable> exceptionHandler, @Nullable Runnable timeoutHandler) {
+    AbstractInvocationHandler(SafeCallManager manager, T target, Object identifier, @Nullable String description,
+            long timeout, @Nullable Consumer<Throwable> exceptionHandler, @Nullable Runnable timeoutHandler) {
         this.manager = manager;
         this.target = target;
         this.identifier = identifier;
+        this.description = description;
         this.timeout = timeout;
         this.exceptionHandler = exceptionHandler;
         this.timeoutHandler = timeoutHandler;
@@ -72,6 +75,11 @@ abstract class AbstractInvocationHandler<T> {
         return identifier;
     }
 
+    @Nullable
+    String getDescription() {
+        return description;
+    }
+
     long getTimeout() {
         return timeout;
     }
@@ -86,30 +94,32 @@ abstract class AbstractInvocationHandler<T> {
         return timeoutHandler;
     }
 
-    void handleExecutionException(Method method, ExecutionException e) {
+    void handleExecutionException(Invocation invocation, ExecutionException e) {
         Throwable cause = e.getCause();
         if (cause instanceof DuplicateExecutionException) {
-            handleDuplicate(method, (DuplicateExecutionException) cause);
+            handleDuplicate(invocation, (DuplicateExecutionException) cause);
         } else if (cause instanceof InvocationTargetException) {
-            handleException(method, (InvocationTargetException) cause);
+            handleException(invocation, (InvocationTargetException) cause);
         }
     }
 
-    void handleException(Method method, InvocationTargetException e) {
+    void handleException(Invocation invocation, InvocationTargetException e) {
         Throwable cause = e.getCause();
-        logger.error(MSG_ERROR, toString(method), target, cause == null ? "" : cause.getMessage(), e.getCause());
+        logger.error(MSG_ERROR, invocation.getMethodName(), invocation.getCallee(),
+                cause == null ? "" : cause.getMessage(), e.getCause());
         if (exceptionHandler != null) {
             exceptionHandler.accept(cause == null ? e : cause);
         }
     }
 
-    void handleDuplicate(Method method, DuplicateExecutionException e) {
+    void handleDuplicate(Invocation invocation, DuplicateExecutionException e) {
         Thread thread = e.getCallable().getThread();
-        logger.debug(MSG_DUPLICATE, toString(method), target, toString(e.getCallable().getMethod()), thread.getName(),
-                thread.getId(), thread.getState().toString(), getStacktrace(thread));
+        logger.debug(MSG_DUPLICATE, invocation.getMethodName(), invocation.getCallee(),
+                e.getCallable().getMethodName(), thread.getName(), thread.getId(), thread.getState().toString(),
+                getStacktrace(thread));
     }
 
-    void handleTimeout(Method method, Invocation invocation) {
+    void handleTimeout(Invocation invocation) {
         final Thread thread = invocation.getThread();
         if (thread != null) {
             logger.debug(MSG_TIMEOUT_R, timeout, toString(invocation.getInvocationStack()), thread.getName(),
@@ -123,8 +133,8 @@ abstract class AbstractInvocationHandler<T> {
     }
 
     private String toString(Collection<Invocation> invocationStack) {
-        return invocationStack.stream().map(invocation -> "\t'" + toString(invocation.getMethod()) + "' on '"
-                + invocation.getInvocationHandler().getTarget() + "'").collect(Collectors.joining(" via\n"));
+        return invocationStack.stream().map(invocation -> "\t'" + invocation.getMethodName() + "' on '"
+                + invocation.getCallee() + "'").collect(Collectors.joining(" via\n"));
     }
 
     private String getStacktrace(final Thread thread) {
@@ -132,10 +142,39 @@ abstract class AbstractInvocationHandler<T> {
         return Arrays.stream(elements).map(element -> "\tat " + element).collect(Collectors.joining("\n"));
     }
 
-    String toString(Method method) {
-        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + "()";
+    @Override
+    public @Nullable Object invoke(Object proxy, @Nullable Method method, @Nullable Object @Nullable [] args)
+            throws Throwable {
+        if (method != null) {
+            return execute(new Invocation(this, method, args));
+        }
+        return null;
     }
 
+    /**
+     * Runs the target, which has to be a {@link Runnable}, without going through a proxy.
+     */
+    void run() {
+        try {
+            execute(new Invocation(this));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IllegalAccessException e) {
+            // cannot happen as a runnable is called without reflection
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Executes a call to the target.
+     *
+     * @param invocation the call
+     * @return the result of the call or {@code null} if it has not been executed synchronously
+     * @throws InterruptedException if the calling thread has been interrupted while waiting for the result
+     * @throws IllegalAccessException if the called method is not accessible
+     */
+    abstract @Nullable Object execute(Invocation invocation) throws InterruptedException, IllegalAccessException;
+
     @Nullable
     Object invokeDirect(Invocation invocation) throws IllegalAccessException, IllegalArgumentException {
         try {
@@ -144,9 +183,9 @@ abstract class AbstractInvocationHandler<T> {
             return null;
         }
         try {
-            return invocation.getMethod().invoke(target, invocation.getArgs());
+            return invocation.invokeTarget();
         } catch (InvocationTargetException e) {
-            handleException(invocation.getMethod(), e);
+            handleException(invocation, e);
             return null;
         } finally {
             manager.recordCallEnd(invocation);
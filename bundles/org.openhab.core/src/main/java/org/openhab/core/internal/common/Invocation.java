@@ -12,6 +12,7 @@
  */
 package org.openhab.core.internal.common;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Deque;
 import java.util.LinkedList;
@@ -22,11 +23,16 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * Represents a call to the dynamic proxy which wraps a {@link Callable} and tracks the executing thread.
  *
+ * An invocation without a method is a direct call of a {@link Runnable} target which needs neither a proxy nor
+ * reflection.
+ *
  * @author Simon Kaufmann - Initial contribution
  */
 class Invocation implements Callable<Object> {
 
-    private final Method method;
+    private static final String RUN_METHOD_NAME = "run";
+
+    private final @Nullable Method method;
     private final @Nullable Object @Nullable [] args;
     private final AbstractInvocationHandler<?> invocationHandler;
     private final Deque<Invocation> invocationStack = new LinkedList<>();
@@ -41,6 +47,13 @@ class Invocation implements Callable<Object> {
         this.invocationStack.push(this);
     }
 
+    Invocation(AbstractInvocationHandler<?> invocationHandler) {
+        this.method = null;
+        this.args = null;
+        this.invocationHandler = invocationHandler;
+        this.invocationStack.push(this);
+    }
+
     @Nullable
     Thread getThread() {
         return thread;
@@ -52,12 +65,50 @@ class Invocation implements Callable<Object> {
         return invocationHandler.invokeDirect(this);
     }
 
-    Method getMethod() {
-        return method;
+    /**
+     * Calls the target, either through reflection or directly if it is a {@link Runnable}.
+     *
+     * @return the result of the call
+     * @throws InvocationTargetException if the call threw an exception
+     * @throws IllegalAccessException if the method is not accessible
+     */
+    @Nullable
+    Object invokeTarget() throws InvocationTargetException, IllegalAccessException {
+        Method method = this.method;
+        if (method != null) {
+            return method.invoke(invocationHandler.getTarget(), args);
+        }
+        try {
+            ((Runnable) invocationHandler.getTarget()).run();
+            return null;
+        } catch (RuntimeException | Error e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Returns the object the call is made on, to be used in log messages. This is the identifier for a direct call, as
+     * the target is just a lambda in most cases then.
+     *
+     * @return the target or the identifier
+     */
+    Object getCallee() {
+        return method != null ? invocationHandler.getTarget() : invocationHandler.getIdentifier();
     }
 
-    Object[] getArgs() {
-        return args;
+    /**
+     * Returns the name of the called method, to be used in log messages. This is the description given by the caller
+     * for a direct call, if any.
+     *
+     * @return the method name or the description
+     */
+    String getMethodName() {
+        Method method = this.method;
+        if (method != null) {
+            return method.getDeclaringClass().getSimpleName() + "." + method.getName() + "()";
+        }
+        String description = invocationHandler.getDescription();
+        return description != null ? description : Runnable.class.getSimpleName() + "." + RUN_METHOD_NAME + "()";
     }
 
     long getTimeout() {
@@ -74,7 +125,9 @@ class Invocation implements Callable<Object> {
 
     @Override
     public String toString() {
-        return "invocation of '" + method.getName() + "()' on '" + invocationHandler.getTarget() + "'";
+        Method method = this.method;
+        return "invocation of '" + (method != null ? method.getName() + "()" : getMethodName()) + "' on '"
+                + getCallee() + "'";
     }
 
     Deque<Invocation> getInvocationStack() {
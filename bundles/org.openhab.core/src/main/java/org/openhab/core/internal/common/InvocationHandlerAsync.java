@@ -13,7 +13,6 @@
 package org.openhab.core.internal.common;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -30,22 +29,20 @@ import org.eclipse.jdt.annotation.Nullable;
  * @param <T>
  */
 @NonNullByDefault
-class InvocationHandlerAsync<T> extends AbstractInvocationHandler<T> implements InvocationHandler {
+class InvocationHandlerAsync<T> extends AbstractInvocationHandler<T> {
 
-    InvocationHandlerAsync(SafeCallManager manager, T target, Object identifier, long timeout,
-            @Nullable Consumer<Throwable> exceptionHandler, @Nullable Runnable timeoutHandler) {
-        super(manager, target, identifier, timeout, exceptionHandler, timeoutHandler);
+    InvocationHandlerAsync(SafeCallManager manager, T target, Object identifier, @Nullable String description,
+            long timeout, @Nullable Consumer<Throwable> exceptionHandler, @Nullable Runnable timeoutHandler) {
+        super(manager, target, identifier, description, timeout, exceptionHandler, timeoutHandler);
     }
 
     @Override
-    public @Nullable Object invoke(Object proxy, @Nullable Method method, @Nullable Object @Nullable [] args)
-            throws Throwable {
-        if (method != null) {
-            try {
-                getManager().enqueue(new Invocation(this, method, args));
-            } catch (DuplicateExecutionException e) {
-                handleDuplicate(method, e);
-            }
+    @Nullable
+    Object execute(Invocation invocation) {
+        try {
+            getManager().enqueue(invocation);
+        } catch (DuplicateExecutionException e) {
+            handleDuplicate(invocation, e);
         }
         return null;
     }
@@ -12,8 +12,6 @@
  */
 package org.openhab.core.internal.common;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -33,43 +31,40 @@ import org.slf4j.LoggerFactory;
  * @param <T>
  */
 @NonNullByDefault
-public class InvocationHandlerSync<T> extends AbstractInvocationHandler<T> implements InvocationHandler {
+public class InvocationHandlerSync<T> extends AbstractInvocationHandler<T> {
 
     private static final String MSG_CONTEXT = "Already in a safe-call context, executing '{}' directly on '{}'.";
 
     private final Logger logger = LoggerFactory.getLogger(InvocationHandlerSync.class);
 
-    public InvocationHandlerSync(SafeCallManager manager, T target, Object identifier, long timeout,
-            @Nullable Consumer<Throwable> exceptionHandler, @Nullable Runnable timeoutHandler) {
-        super(manager, target, identifier, timeout, exceptionHandler, timeoutHandler);
+    public InvocationHandlerSync(SafeCallManager manager, T target, Object identifier, @Nullable String description,
+            long timeout, @Nullable Consumer<Throwable> exceptionHandler, @Nullable Runnable timeoutHandler) {
+        super(manager, target, identifier, description, timeout, exceptionHandler, timeoutHandler);
     }
 
     @Override
-    public @Nullable Object invoke(Object proxy, @Nullable Method method, @Nullable Object @Nullable [] args)
-            throws Throwable {
-        if (method != null) {
-            Invocation invocation = new Invocation(this, method, args);
-            Invocation activeInvocation = getManager().getActiveInvocation();
-            if (activeInvocation != null) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug(MSG_CONTEXT, toString(method), getTarget());
-                }
-                try {
-                    activeInvocation.getInvocationStack().push(invocation);
-                    return invokeDirect(invocation);
-                } finally {
-                    activeInvocation.getInvocationStack().poll();
-                }
+    @Nullable
+    Object execute(Invocation invocation) throws InterruptedException, IllegalAccessException {
+        Invocation activeInvocation = getManager().getActiveInvocation();
+        if (activeInvocation != null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(MSG_CONTEXT, invocation.getMethodName(), invocation.getCallee());
             }
             try {
-                Future<Object> future = getManager().getScheduler().submit(invocation);
-                return future.get(getTimeout(), TimeUnit.MILLISECONDS);
-            } catch (TimeoutException e) {
-                handleTimeout(method, invocation);
-            } catch (ExecutionException e) {
-                handleExecutionException(method, e);
+                activeInvocation.getInvocationStack().push(invocation);
+                return invokeDirect(invocation);
+            } finally {
+                activeInvocation.getInvocationStack().poll();
             }
         }
+        try {
+            Future<Object> future = getManager().getScheduler().submit(invocation);
+            return future.get(getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            handleTimeout(invocation);
+        } catch (ExecutionException e) {
+            handleExecutionException(invocation, e);
+        }
         return null;
     }
 }
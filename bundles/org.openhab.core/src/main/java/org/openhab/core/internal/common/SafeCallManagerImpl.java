@@ -12,13 +12,14 @@
  */
 package org.openhab.core.internal.common;
 
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -31,6 +32,9 @@ import org.slf4j.LoggerFactory;
  * It therefore tracks the executions in order to detect parallel execution and offers some helper methods for the
  * invocation handlers.
  *
+ * The executions are tracked per identifier, so calls for different identifiers do not contend for a common lock. The
+ * state of an identifier only exists while it has a running, scheduled or queued invocation.
+ *
  * @author Simon Kaufmann - Initial contribution
  */
 @NonNullByDefault
@@ -38,13 +42,12 @@ public class SafeCallManagerImpl implements SafeCallManager {
 
     private final Logger logger = LoggerFactory.getLogger(SafeCallManagerImpl.class);
 
-    private final Map<Object, Queue<Invocation>> queues = new HashMap<>();
-    private final Map<Object, Invocation> activeIdentifiers = new HashMap<>();
-    private final Map<Object, Invocation> activeAsyncInvocations = new HashMap<>();
+    private final Map<Object, IdentifierState> states = new ConcurrentHashMap<>();
+    private final ThreadLocal<@Nullable Invocation> activeInvocation = new ThreadLocal<>();
 
     private final ScheduledExecutorService watcher;
     private final ExecutorService scheduler;
-    private boolean enforceSingleThreadPerIdentifier;
+    private volatile boolean enforceSingleThreadPerIdentifier;
 
     public SafeCallManagerImpl(ScheduledExecutorService watcher, ExecutorService scheduler,
             boolean enforceSingleThreadPerIdentifier) {
@@ -55,16 +58,22 @@ public class SafeCallManagerImpl implements SafeCallManager {
 
     @Override
     public void recordCallStart(Invocation invocation) {
-        synchronized (activeIdentifiers) {
-            Invocation otherInvocation = activeIdentifiers.get(invocation.getIdentifier());
+        IdentifierState state = lock(invocation.getIdentifier());
+        try {
+            Invocation otherInvocation = state.active;
             if (enforceSingleThreadPerIdentifier && otherInvocation != null) {
                 // another call to the same identifier is (still) running,
                 // therefore queue it instead for async execution later on.
                 // Inform the caller about the timeout by means of the exception.
-                enqueue(invocation);
+                state.queue.add(invocation);
                 throw new DuplicateExecutionException(otherInvocation);
             }
-            activeIdentifiers.put(invocation.getIdentifier(), invocation);
+            state.active = invocation;
+        } finally {
+            unlock(state);
+        }
+        if (invocation.getThread() == Thread.currentThread() && activeInvocation.get() == null) {
+            activeInvocation.set(invocation);
         }
         if (invocation.getInvocationHandler() instanceof InvocationHandlerAsync) {
             watch(invocation);
@@ -73,11 +82,15 @@ public class SafeCallManagerImpl implements SafeCallManager {
 
     @Override
     public void recordCallEnd(Invocation invocation) {
-        synchronized (activeIdentifiers) {
-            activeIdentifiers.remove(invocation.getIdentifier());
+        IdentifierState state = lock(invocation.getIdentifier());
+        try {
+            state.active = null;
+            state.activeAsync = null;
+        } finally {
+            unlock(state);
         }
-        synchronized (activeAsyncInvocations) {
-            activeAsyncInvocations.remove(invocation.getIdentifier());
+        if (activeInvocation.get() == invocation) {
+            activeInvocation.remove();
         }
         logger.trace("Finished {}", invocation);
         trigger(invocation.getIdentifier());
@@ -85,71 +98,69 @@ public class SafeCallManagerImpl implements SafeCallManager {
 
     @Override
     public void enqueue(Invocation invocation) {
-        synchronized (queues) {
-            Queue<Invocation> queue = queues.get(invocation.getIdentifier());
-            if (queue == null) {
-                queue = new LinkedList<>();
-                queues.put(invocation.getIdentifier(), queue);
-            }
-            queue.add(invocation);
+        IdentifierState state = lock(invocation.getIdentifier());
+        try {
+            state.queue.add(invocation);
+        } finally {
+            unlock(state);
         }
         trigger(invocation.getIdentifier());
     }
 
     private void trigger(Object identifier) {
         logger.trace("Triggering submissions for '{}'", identifier);
-        synchronized (activeIdentifiers) {
-            if (enforceSingleThreadPerIdentifier && activeIdentifiers.containsKey(identifier)) {
+        Invocation next;
+        IdentifierState state = lock(identifier);
+        try {
+            if (enforceSingleThreadPerIdentifier && state.active != null) {
                 logger.trace("Identifier '{}' is already running", identifier);
                 return;
             }
-        }
-        synchronized (activeAsyncInvocations) {
-            if (activeAsyncInvocations.containsKey(identifier)) {
+            if (state.activeAsync != null) {
                 logger.trace("Identifier '{}' is already scheduled for asynchronous execution", identifier);
                 return;
             }
-            Invocation next = dequeue(identifier);
-            if (next != null) {
-                logger.trace("Scheduling {} for asynchronous execution", next);
-                activeAsyncInvocations.put(identifier, next);
-                getScheduler().submit(next);
-                logger.trace("Submitted {} for asynchronous execution", next);
+            next = state.queue.poll();
+            if (next == null) {
+                return;
             }
+            state.activeAsync = next;
+        } finally {
+            unlock(state);
         }
+        logger.trace("Scheduling {} for asynchronous execution", next);
+        getScheduler().submit(next);
+        logger.trace("Submitted {} for asynchronous execution", next);
     }
 
     private void handlePotentialTimeout(Invocation invocation) {
-        Object identifier = invocation.getIdentifier();
-        Invocation activeAsyncInvocation = activeAsyncInvocations.get(identifier);
-        if (activeAsyncInvocation == invocation) {
-            Invocation activeInvocation = activeIdentifiers.get(identifier);
-            if (activeInvocation != null) {
-                invocation.getInvocationHandler().handleTimeout(invocation.getMethod(), activeInvocation);
+        Invocation runningInvocation;
+        IdentifierState state = lock(invocation.getIdentifier());
+        try {
+            if (state.activeAsync != invocation) {
+                return;
             }
+            runningInvocation = state.active;
+        } finally {
+            unlock(state);
+        }
+        if (runningInvocation != null) {
+            invocation.getInvocationHandler().handleTimeout(runningInvocation);
         }
     }
 
     public @Nullable Invocation dequeue(Object identifier) {
-        synchronized (queues) {
-            Queue<Invocation> queue = queues.get(identifier);
-            if (queue != null) {
-                return queue.poll();
-            }
+        IdentifierState state = lock(identifier);
+        try {
+            return state.queue.poll();
+        } finally {
+            unlock(state);
         }
-        return null;
     }
 
     @Override
     public @Nullable Invocation getActiveInvocation() {
-        synchronized (activeIdentifiers) {
-            for (Invocation invocation : activeIdentifiers.values()) {
-                if (invocation.getThread() == Thread.currentThread()) {
-                    return invocation;
-                }
-            }
-        }
-        return null;
+        return activeInvocation.get();
     }
 
     @Override
@@ -167,4 +178,50 @@ public class SafeCallManagerImpl implements SafeCallManager {
     public void setEnforceSingleThreadPerIdentifier(boolean enforceSingleThreadPerIdentifier) {
         this.enforceSingleThreadPerIdentifier = enforceSingleThreadPerIdentifier;
     }
+
+    /**
+     * Returns the locked state of an identifier, which is created if it does not exist yet.
+     *
+     * @param identifier the identifier
+     * @return the state, which has to be passed to {@link #unlock(IdentifierState)} afterwards
+     */
+    private IdentifierState lock(Object identifier) {
+        while (true) {
+            IdentifierState state = states.computeIfAbsent(identifier, IdentifierState::new);
+            state.lock.lock();
+            if (!state.removed) {
+                return state;
+            }
+            // the state has been removed in the meantime, so use the new one
+            state.lock.unlock();
+        }
+    }
+
+    private void unlock(IdentifierState state) {
+        if (state.isIdle()) {
+            state.removed = true;
+            states.remove(state.identifier, state);
+        }
+        state.lock.unlock();
+    }
+
+    /**
+     * The invocations of an identifier, guarded by its lock.
+     */
+    private static class IdentifierState {
+        private final Object identifier;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Queue<Invocation> queue = new LinkedList<>();
+        private @Nullable Invocation active;
+        private @Nullable Invocation activeAsync;
+        private boolean removed;
+
+        IdentifierState(Object identifier) {
+            this.identifier = identifier;
+        }
+
+        boolean isIdle() {
+            return active == null && activeAsync == null && queue.isEmpty();
+        }
+    }
 }
@@ -12,7 +12,6 @@
  */
 package org.openhab.core.internal.common;
 
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.function.Consumer;
@@ -37,6 +36,7 @@ public class SafeCallerBuilderImpl<T> implements SafeCallerBuilder<T> {
     private final Class<?>[] interfaceTypes;
     private long timeout;
     private Object identifier;
+    private @Nullable String description;
     private @Nullable Consumer<Throwable> exceptionHandler;
     private @Nullable Runnable timeoutHandler;
     private boolean async;
@@ -54,13 +54,17 @@ public class SafeCallerBuilderImpl<T> implements SafeCallerBuilder<T> {
     @SuppressWarnings("unchecked")
     @Override
     public T build() {
-        InvocationHandler handler;
+        AbstractInvocationHandler<T> handler;
         if (async) {
-            handler = new InvocationHandlerAsync<>(manager, target, identifier, timeout, exceptionHandler,
-                    timeoutHandler);
+            handler = new InvocationHandlerAsync<>(manager, target, identifier, description, timeout,
+                    exceptionHandler, timeoutHandler);
         } else {
-            handler = new InvocationHandlerSync<>(manager, target, identifier, timeout, exceptionHandler,
-                    timeoutHandler);
+            handler = new InvocationHandlerSync<>(manager, target, identifier, description, timeout,
+                    exceptionHandler, timeoutHandler);
+        }
+        if (interfaceTypes.length == 1 && interfaceTypes[0] == Runnable.class) {
+            // a runnable is called directly, without the overhead of a proxy and reflection
+            return (T) (Runnable) handler::run;
         }
         ClassLoader classLoader = getClass().getClassLoader();
         if (classLoader == null) {
@@ -85,6 +89,12 @@ public class SafeCallerBuilderImpl<T> implements SafeCallerBuilder<T> {
         return this;
     }
 
+    @Override
+    public SafeCallerBuilder<T> withDescription(String description) {
+        this.description = description;
+        return this;
+    }
+
     @Override
     public SafeCallerBuilder<T> onException(Consumer<Throwable> exceptionHandler) {
         this.exceptionHandler = exceptionHandler;
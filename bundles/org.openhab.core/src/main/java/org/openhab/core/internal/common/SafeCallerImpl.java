@@ -66,6 +66,12 @@ public class SafeCallerImpl implements SafeCaller {
         return new SafeCallerBuilderImpl<T>(target, new Class<?>[] { interfaceType }, manager);
     }
 
+    @Override
+    public SafeCallerBuilder<Runnable> create(Object identifier, Runnable action) {
+        return new SafeCallerBuilderImpl<Runnable>(action, new Class<?>[] { Runnable.class }, manager)
+                .withIdentifier(identifier);
+    }
+
     protected ExecutorService getScheduler() {
         return ThreadPoolManager.getPool(SAFE_CALL_POOL_NAME);
     }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.EventBusMetrics;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.EventSubscriberMetrics;
+
+/**
+ * The {@link EventBusMetricsCollector} collects the {@link EventBusMetrics} of the event bus.
+ * <p>
+ * It is updated from the event handling and dispatching threads, so all counters are lock-free.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetricsCollector implements EventBusMetrics {
+
+    private final Map<String, LongAdder> eventCounts = new ConcurrentHashMap<>();
+    // subscribers of the same class share their metrics, so the metrics are identified by a stable name
+    private final Map<String, SubscriberMetrics> subscriberMetrics = new ConcurrentHashMap<>();
+    private final Map<EventSubscriber, SubscriberMetrics> subscriberMetricsBySubscriber = new ConcurrentHashMap<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder coalescedEvents = new LongAdder();
+    private final TimingHistogram deliveryLatency = new TimingHistogram();
+
+    private volatile IntSupplier queueSize = () -> 0;
+
+    void setQueueSizeSupplier(IntSupplier queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    void eventDispatched(String type) {
+        LongAdder counter = eventCounts.get(type);
+        if (counter == null) {
+            counter = eventCounts.computeIfAbsent(type, t -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    void eventDropped() {
+        droppedEvents.increment();
+    }
+
+    void eventCoalesced() {
+        coalescedEvents.increment();
+    }
+
+    void eventReceived(long latencyNanos) {
+        deliveryLatency.record(latencyNanos);
+    }
+
+    SubscriberMetrics getSubscriberMetrics(EventSubscriber eventSubscriber) {
+        SubscriberMetrics metrics = subscriberMetricsBySubscriber.get(eventSubscriber);
+        if (metrics != null) {
+            return metrics;
+        }
+        synchronized (this) {
+            metrics = subscriberMetricsBySubscriber.get(eventSubscriber);
+            if (metrics == null) {
+                metrics = subscriberMetrics.computeIfAbsent(eventSubscriber.getClass().getName(),
+                        SubscriberMetrics::new);
+                metrics.addSubscriber();
+                subscriberMetricsBySubscriber.put(eventSubscriber, metrics);
+            }
+            return metrics;
+        }
+    }
+
+    synchronized void removeSubscriber(EventSubscriber eventSubscriber) {
+        SubscriberMetrics metrics = subscriberMetricsBySubscriber.remove(eventSubscriber);
+        // the metrics are kept as long as another subscriber of the same class is left
+        if (metrics != null && metrics.removeSubscriber() == 0) {
+            subscriberMetrics.remove(eventSubscriber.getClass().getName(), metrics);
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queueSize.getAsInt();
+    }
+
+    @Override
+    public Map<String, Long> getEventCounts() {
+        return eventCounts.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    @Override
+    public long getEventCount(String type) {
+        LongAdder counter = eventCounts.get(type);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    @Override
+    public long getCoalescedEvents() {
+        return coalescedEvents.sum();
+    }
+
+    @Override
+    public TimingHistogram getDeliveryLatency() {
+        return deliveryLatency;
+    }
+
+    @Override
+    public Collection<EventSubscriberMetrics> getSubscriberMetrics() {
+        return List.copyOf(subscriberMetrics.values());
+    }
+}
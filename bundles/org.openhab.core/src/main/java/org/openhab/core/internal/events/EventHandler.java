@@ -13,22 +13,16 @@
 package org.openhab.core.internal.events;
 
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventSubscriberIndex.TypeEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,33 +34,32 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class EventHandler implements AutoCloseable {
 
-    private static final long EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS = TimeUnit.SECONDS.toMillis(5);
-
     private final Logger logger = LoggerFactory.getLogger(EventHandler.class);
 
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers;
+    private final EventSubscriberIndex eventSubscriberIndex;
     private final Map<String, EventFactory> typedEventFactories;
+    private final EventBusMetricsCollector metrics;
 
-    private final ScheduledExecutorService watcher = Executors
-            .newSingleThreadScheduledExecutor(new NamedThreadFactory("eventwatcher"));
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(new NamedThreadFactory("eventexecutor"));
+    private final EventSubscriberDispatcher dispatcher;
 
     /**
      * Create a new event handler.
      *
-     * @param typedEventSubscribers the event subscribers indexed by the event type
+     * @param eventSubscriberIndex the event subscribers indexed by the event type and entity topic
      * @param typedEventFactories the event factories indexed by the event type
+     * @param metrics the collector of the event bus metrics
      */
-    public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
-        this.typedEventSubscribers = typedEventSubscribers;
+    public EventHandler(final EventSubscriberIndex eventSubscriberIndex,
+            final Map<String, EventFactory> typedEventFactories, final EventBusMetricsCollector metrics) {
+        this.eventSubscriberIndex = eventSubscriberIndex;
         this.typedEventFactories = typedEventFactories;
+        this.metrics = metrics;
+        this.dispatcher = new EventSubscriberDispatcher(metrics);
     }
 
     @Override
     public void close() {
-        watcher.shutdownNow();
-        executor.shutdownNow();
+        dispatcher.close();
     }
 
     public void handleEvent(org.osgi.service.event.Event osgiEvent) {
@@ -74,14 +67,22 @@ public class EventHandler implements AutoCloseable {
         Object payloadObj = osgiEvent.getProperty("payload");
         Object topicObj = osgiEvent.getProperty("topic");
         Object sourceObj = osgiEvent.getProperty("source");
+        Object eventObj = osgiEvent.getProperty(OSGiEventPublisher.PROPERTY_EVENT);
+        Object publishedObj = osgiEvent.getProperty(OSGiEventPublisher.PROPERTY_PUBLISHED);
+        long published = publishedObj instanceof Long ? (Long) publishedObj : System.nanoTime();
 
-        if (typeObj instanceof String && payloadObj instanceof String && topicObj instanceof String) {
+        if (eventObj instanceof Event && typeObj instanceof String && topicObj instanceof String) {
+            String typeStr = (String) typeObj;
+            if (!typeStr.isEmpty() && !((String) topicObj).isEmpty()) {
+                handleEvent(typeStr, (Event) eventObj, published);
+            }
+        } else if (typeObj instanceof String && payloadObj instanceof String && topicObj instanceof String) {
             String typeStr = (String) typeObj;
             String payloadStr = (String) payloadObj;
             String topicStr = (String) topicObj;
             String sourceStr = (sourceObj instanceof String) ? (String) sourceObj : null;
             if (!typeStr.isEmpty() && !payloadStr.isEmpty() && !topicStr.isEmpty()) {
-                handleEvent(typeStr, payloadStr, topicStr, sourceStr);
+                handleEvent(typeStr, payloadStr, topicStr, sourceStr, published);
             }
         } else {
             logger.error(
@@ -90,39 +91,44 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private void handleEvent(final String type, final String payload, final String topic,
-            final @Nullable String source) {
+    private void handleEvent(final String type, final String payload, final String topic, final @Nullable String source,
+            final long published) {
         final EventFactory eventFactory = typedEventFactories.get(type);
         if (eventFactory == null) {
             logger.debug("Could not find an Event Factory for the event type '{}'.", type);
             return;
         }
+        metrics.eventDispatched(type);
 
-        final Set<EventSubscriber> eventSubscribers = getEventSubscribers(type);
-        if (eventSubscribers.isEmpty()) {
+        final TypeEntry eventSubscribers = eventSubscriberIndex.getEntry(type);
+        if (eventSubscribers.getUnindexed().isEmpty() && eventSubscribers.getIndexed(topic).isEmpty()) {
             return;
         }
 
         final Event event = createEvent(eventFactory, type, payload, topic, source);
         if (event == null) {
+            metrics.eventDropped();
             return;
         }
 
-        dispatchEvent(eventSubscribers, event);
+        dispatchEvent(eventSubscribers, event, published);
     }
 
-    private Set<EventSubscriber> getEventSubscribers(String eventType) {
-        Set<EventSubscriber> eventTypeSubscribers = typedEventSubscribers.get(eventType);
-        Set<EventSubscriber> allEventTypeSubscribers = typedEventSubscribers.get(EventSubscriber.ALL_EVENT_TYPES);
-
-        Set<EventSubscriber> subscribers = new HashSet<>();
-        if (eventTypeSubscribers != null) {
-            subscribers.addAll(eventTypeSubscribers);
+    private void handleEvent(final String type, final Event event, final long published) {
+        // the event has been created in-process, it does not need to be reconstructed by its factory but we keep the
+        // same delivery semantics and only dispatch events whose type is known to the event bus
+        if (!typedEventFactories.containsKey(type)) {
+            logger.debug("Could not find an Event Factory for the event type '{}'.", type);
+            return;
         }
-        if (allEventTypeSubscribers != null) {
-            subscribers.addAll(allEventTypeSubscribers);
+        metrics.eventDispatched(type);
+
+        final TypeEntry eventSubscribers = eventSubscriberIndex.getEntry(type);
+        if (eventSubscribers.isEmpty()) {
+            return;
         }
-        return subscribers;
+
+        dispatchEvent(eventSubscribers, event, published);
     }
 
     private @Nullable Event createEvent(final EventFactory eventFactory, final String type, final String payload,
@@ -137,24 +143,17 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private synchronized void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event) {
+    private synchronized void dispatchEvent(final TypeEntry eventSubscribers, final Event event, final long published) {
+        dispatchEvent(eventSubscribers.getUnindexed(), event, published);
+        dispatchEvent(eventSubscribers.getIndexed(event.getTopic()), event, published);
+    }
+
+    private void dispatchEvent(final List<EventSubscriber> eventSubscribers, final Event event, final long published) {
         for (final EventSubscriber eventSubscriber : eventSubscribers) {
             EventFilter filter = eventSubscriber.getEventFilter();
             if (filter == null || filter.apply(event)) {
                 logger.trace("Delegate event to subscriber ({}).", eventSubscriber.getClass());
-                executor.submit(() -> {
-                    ScheduledFuture<?> logTimeout = watcher.schedule(
-                            () -> logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.",
-                                    eventSubscriber, EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS),
-                            EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS, TimeUnit.MILLISECONDS);
-                    try {
-                        eventSubscriber.receive(event);
-                    } catch (final Exception ex) {
-                        logger.warn("Dispatching/filtering event for subscriber '{}' failed: {}",
-                                EventSubscriber.class.getName(), ex.getMessage(), ex);
-                    }
-                    logTimeout.cancel(false);
-                });
+                dispatcher.dispatch(eventSubscriber, event, published);
             } else {
                 logger.trace("Skip event subscriber ({}) because of its filter.", eventSubscriber.getClass());
             }
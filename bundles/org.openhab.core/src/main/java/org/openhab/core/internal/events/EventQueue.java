@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.osgi.service.event.Event;
+
+/**
+ * The {@link EventQueue} buffers the OSGi events received by the event bus until they are dispatched.
+ * <p>
+ * The queue is unbounded by default. If a capacity is set, the {@link OverloadPolicy} decides what happens to events
+ * arriving at a full queue. Independently of the capacity, pending {@link ItemStateEvent}s can be coalesced: a new
+ * state event of an item replaces a still pending one, so only the newest state is delivered. The replacement is
+ * appended at the end of the queue, so it never overtakes events that have been published before it.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventQueue {
+
+    /**
+     * Defines how events are handled that arrive at a full queue.
+     */
+    public enum OverloadPolicy {
+        /**
+         * The thread putting the event waits until there is space in the queue. Events are posted asynchronously
+         * through the OSGi EventAdmin, so this is the EventAdmin delivery thread and not the publisher.
+         */
+        BLOCK,
+        /** The arriving event is dropped. */
+        DROP_NEWEST,
+        /** The oldest pending event is dropped to make space for the arriving one. */
+        DROP_OLDEST
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    // coalesced events leave an empty slot behind, so the deque may contain more slots than there are events
+    private final Queue<Slot> slots = new ArrayDeque<>();
+    private final Map<String, Slot> pendingStateEvents = new HashMap<>();
+    private final EventBusMetricsCollector metrics;
+
+    private int size = 0;
+    private int capacity = 0;
+    private OverloadPolicy overloadPolicy = OverloadPolicy.BLOCK;
+    private boolean coalesceStateEvents = false;
+    private boolean closed = false;
+
+    public EventQueue(EventBusMetricsCollector metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Configures the queue.
+     *
+     * @param capacity the maximum number of pending events, 0 for an unbounded queue
+     * @param overloadPolicy the policy for events arriving at a full queue
+     * @param coalesceStateEvents true if pending state events of an item should be replaced by newer ones
+     */
+    public void configure(int capacity, OverloadPolicy overloadPolicy, boolean coalesceStateEvents) {
+        lock.lock();
+        try {
+            this.capacity = Math.max(0, capacity);
+            this.overloadPolicy = overloadPolicy;
+            if (this.coalesceStateEvents && !coalesceStateEvents) {
+                pendingStateEvents.clear();
+            }
+            this.coalesceStateEvents = coalesceStateEvents;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an event to the queue, applying the configured coalescing and overload policy.
+     *
+     * @param event the event
+     * @throws InterruptedException if interrupted while waiting for space in the queue
+     */
+    public void put(Event event) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (closed) {
+                return;
+            }
+            String coalescingKey = getCoalescingKey(event);
+            if (coalescingKey != null) {
+                Slot pending = pendingStateEvents.remove(coalescingKey);
+                if (pending != null && pending.event != null) {
+                    pending.event = null;
+                    size--;
+                    metrics.eventCoalesced();
+                }
+            }
+            while (isFull()) {
+                switch (overloadPolicy) {
+                    case DROP_NEWEST:
+                        metrics.eventDropped();
+                        return;
+                    case DROP_OLDEST:
+                        removeOldest();
+                        metrics.eventDropped();
+                        break;
+                    case BLOCK:
+                    default:
+                        notFull.await();
+                        if (closed) {
+                            return;
+                        }
+                        break;
+                }
+            }
+            Slot slot = new Slot(event, coalescingKey);
+            slots.add(slot);
+            size++;
+            if (coalescingKey != null) {
+                pendingStateEvents.put(coalescingKey, slot);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes the oldest event, waiting if necessary until an event becomes available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit the unit of the timeout
+     * @return the event, or null if the timeout elapsed or the queue has been closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public @Nullable Event poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (closed || nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return removeOldest();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of pending events.
+     *
+     * @return the number of pending events
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the queue, waking up all waiting threads. Events are neither accepted nor returned afterwards.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            slots.clear();
+            pendingStateEvents.clear();
+            size = 0;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull() {
+        return capacity > 0 && size >= capacity;
+    }
+
+    private @Nullable Event removeOldest() {
+        Slot slot;
+        while ((slot = slots.poll()) != null) {
+            Event event = slot.event;
+            if (event != null) {
+                String coalescingKey = slot.coalescingKey;
+                if (coalescingKey != null) {
+                    pendingStateEvents.remove(coalescingKey, slot);
+                }
+                size--;
+                notFull.signal();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    private @Nullable String getCoalescingKey(Event event) {
+        if (coalesceStateEvents && ItemStateEvent.TYPE.equals(event.getProperty("type"))
+                && event.getProperty("topic") instanceof String) {
+            return (String) event.getProperty("topic");
+        }
+        return null;
+    }
+
+    private static class Slot {
+        private @Nullable Event event;
+        private final @Nullable String coalescingKey;
+
+        private Slot(Event event, @Nullable String coalescingKey) {
+            this.event = event;
+            this.coalescingKey = coalescingKey;
+        }
+    }
+}
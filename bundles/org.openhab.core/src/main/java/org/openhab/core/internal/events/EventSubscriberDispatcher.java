@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link EventSubscriberDispatcher} delivers events to the {@link EventSubscriber}s.
+ * <p>
+ * Every subscriber gets its own lane: the events of a lane are delivered one after another in the order they have
+ * been dispatched, but different lanes are processed in parallel on the shared {@value #THREAD_POOL_NAME} thread pool
+ * (its size can be configured through the {@link ThreadPoolManager}). A slow subscriber therefore only delays its own
+ * events.
+ * <p>
+ * Instead of scheduling a watchdog task for every single delivery, a periodic sweep checks the start time of the
+ * in-flight deliveries and logs a warning for the ones taking too long.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventSubscriberDispatcher implements AutoCloseable {
+
+    /** The name of the thread pool the subscribers are called on. */
+    public static final String THREAD_POOL_NAME = "events";
+
+    private static final long EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final long SWEEP_INTERVAL_MS = 1000;
+    private static final long IDLE_LANE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final int MAX_EVENTS_PER_RUN = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(EventSubscriberDispatcher.class);
+
+    private final Map<EventSubscriber, Lane> lanes = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final EventBusMetricsCollector metrics;
+    private final ScheduledExecutorService watcher = Executors
+            .newSingleThreadScheduledExecutor(new NamedThreadFactory("eventwatcher"));
+
+    private volatile boolean closed = false;
+
+    public EventSubscriberDispatcher(EventBusMetricsCollector metrics) {
+        this(ThreadPoolManager.getPool(THREAD_POOL_NAME), metrics);
+    }
+
+    EventSubscriberDispatcher(ExecutorService executor, EventBusMetricsCollector metrics) {
+        this.executor = executor;
+        this.metrics = metrics;
+        watcher.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL_MS, SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        watcher.shutdownNow();
+        lanes.clear();
+    }
+
+    /**
+     * Queues an event for delivery to a subscriber.
+     *
+     * @param eventSubscriber the subscriber
+     * @param event the event
+     * @param published the {@link System#nanoTime()} the event has been published at
+     */
+    public void dispatch(EventSubscriber eventSubscriber, Event event, long published) {
+        if (closed) {
+            return;
+        }
+        QueuedEvent queuedEvent = new QueuedEvent(event, published);
+        while (true) {
+            Lane lane = lanes.computeIfAbsent(eventSubscriber, Lane::new);
+            if (lane.offer(queuedEvent)) {
+                return;
+            }
+            // the lane has been retired concurrently, remove it here so a new one is created on the next attempt
+            lanes.remove(eventSubscriber, lane);
+        }
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        for (Lane lane : lanes.values()) {
+            lane.checkDuration(now);
+            if (lane.retireIfIdle(now)) {
+                lanes.remove(lane.eventSubscriber, lane);
+            }
+        }
+    }
+
+    private class Lane implements Runnable {
+        private final EventSubscriber eventSubscriber;
+        private final SubscriberMetrics subscriberMetrics;
+        private final Queue<QueuedEvent> queue = new ArrayDeque<>();
+
+        private boolean scheduled = false;
+        private boolean retired = false;
+        private long lastActivity = System.nanoTime();
+
+        private volatile long deliveryStart = 0;
+        private volatile @Nullable Event deliveredEvent;
+        private long reportedDeliveryStart = 0;
+
+        private Lane(EventSubscriber eventSubscriber) {
+            this.eventSubscriber = eventSubscriber;
+            this.subscriberMetrics = metrics.getSubscriberMetrics(eventSubscriber);
+        }
+
+        synchronized boolean offer(QueuedEvent event) {
+            if (retired) {
+                return false;
+            }
+            queue.add(event);
+            subscriberMetrics.eventQueued();
+            lastActivity = System.nanoTime();
+            if (!scheduled) {
+                scheduled = true;
+                submit();
+            }
+            return true;
+        }
+
+        synchronized boolean retireIfIdle(long now) {
+            if (!scheduled && queue.isEmpty()
+                    && now - lastActivity > TimeUnit.MILLISECONDS.toNanos(IDLE_LANE_TIMEOUT_MS)) {
+                retired = true;
+            }
+            return retired;
+        }
+
+        private synchronized @Nullable QueuedEvent poll() {
+            QueuedEvent event = queue.poll();
+            if (event == null) {
+                scheduled = false;
+            } else {
+                subscriberMetrics.eventDequeued();
+            }
+            return event;
+        }
+
+        private void submit() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Dispatching events to subscriber '{}' failed, the events are dropped: {}", eventSubscriber,
+                        e.getMessage());
+                synchronized (this) {
+                    subscriberMetrics.eventsDropped(queue.size());
+                    queue.clear();
+                    scheduled = false;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_EVENTS_PER_RUN; i++) {
+                QueuedEvent event = poll();
+                if (event == null) {
+                    return;
+                }
+                if (!closed) {
+                    deliver(event);
+                }
+            }
+            // give other lanes a chance before continuing with the remaining events of this lane
+            submit();
+        }
+
+        private void deliver(QueuedEvent queuedEvent) {
+            long start = System.nanoTime();
+            metrics.eventReceived(start - queuedEvent.published);
+            deliveredEvent = queuedEvent.event;
+            deliveryStart = start;
+            boolean failed = false;
+            try {
+                eventSubscriber.receive(queuedEvent.event);
+            } catch (final Exception ex) {
+                failed = true;
+                logger.warn("Dispatching/filtering event for subscriber '{}' failed: {}",
+                        EventSubscriber.class.getName(), ex.getMessage(), ex);
+            } finally {
+                deliveryStart = 0;
+                deliveredEvent = null;
+                subscriberMetrics.eventDelivered(System.nanoTime() - start, failed);
+            }
+        }
+
+        void checkDuration(long now) {
+            long start = deliveryStart;
+            if (start != 0 && start != reportedDeliveryStart
+                    && now - start > TimeUnit.MILLISECONDS.toNanos(EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS)) {
+                reportedDeliveryStart = start;
+                logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.", eventSubscriber,
+                        EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS);
+                logger.debug("The event taking too long is: {}", deliveredEvent);
+            }
+        }
+    }
+
+    private static class QueuedEvent {
+        private final Event event;
+        private final long published;
+
+        private QueuedEvent(Event event, long published) {
+            this.event = event;
+            this.published = published;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.IndexableEventFilter;
+
+/**
+ * The {@link EventSubscriberIndex} is a copy-on-write dispatch table of the registered {@link EventSubscriber}s.
+ * <p>
+ * Subscribers are indexed by the event types they are subscribed to and - if their {@link EventFilter} is an
+ * {@link IndexableEventFilter} - by the entity topic of the events they can match. Looking up the subscribers of an
+ * event is lock- and allocation-free, the (comparably rare) registration changes rebuild the affected table entries.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventSubscriberIndex {
+
+    private static final TypeEntry EMPTY_ENTRY = new TypeEntry(List.of(), Map.of());
+
+    private final Map<String, Set<EventSubscriber>> typedEventSubscribers = new HashMap<>();
+    private final Map<EventSubscriber, Registration> registrations = new HashMap<>();
+
+    private volatile Map<String, TypeEntry> table = Map.of();
+    private volatile TypeEntry allEventTypesEntry = EMPTY_ENTRY;
+
+    /**
+     * Adds a subscriber to the index.
+     *
+     * The subscribed event types and the event filter are read once on registration.
+     *
+     * @param eventSubscriber the subscriber
+     */
+    public synchronized void add(EventSubscriber eventSubscriber) {
+        if (registrations.containsKey(eventSubscriber)) {
+            return;
+        }
+        Set<String> eventTypes = Set.copyOf(eventSubscriber.getSubscribedEventTypes());
+        EventFilter eventFilter = eventSubscriber.getEventFilter();
+        String entityTopic = eventFilter instanceof IndexableEventFilter
+                ? ((IndexableEventFilter) eventFilter).getEntityTopic()
+                : null;
+        registrations.put(eventSubscriber, new Registration(eventTypes, entityTopic));
+        for (String eventType : eventTypes) {
+            typedEventSubscribers.computeIfAbsent(eventType, type -> new LinkedHashSet<>()).add(eventSubscriber);
+        }
+        rebuild(eventTypes);
+    }
+
+    /**
+     * Removes a subscriber from the index.
+     *
+     * @param eventSubscriber the subscriber
+     */
+    public synchronized void remove(EventSubscriber eventSubscriber) {
+        Registration registration = registrations.remove(eventSubscriber);
+        if (registration == null) {
+            return;
+        }
+        for (String eventType : registration.eventTypes) {
+            Set<EventSubscriber> entries = typedEventSubscribers.get(eventType);
+            if (entries != null) {
+                entries.remove(eventSubscriber);
+                if (entries.isEmpty()) {
+                    typedEventSubscribers.remove(eventType);
+                }
+            }
+        }
+        rebuild(registration.eventTypes);
+    }
+
+    /**
+     * Gets the table entry with all subscribers of an event type, including the subscribers of all event types.
+     *
+     * @param eventType the event type
+     * @return the table entry
+     */
+    public TypeEntry getEntry(String eventType) {
+        TypeEntry entry = table.get(eventType);
+        return entry == null ? allEventTypesEntry : entry;
+    }
+
+    private void rebuild(Set<String> eventTypes) {
+        Map<String, TypeEntry> newTable = new HashMap<>(table);
+        if (eventTypes.contains(EventSubscriber.ALL_EVENT_TYPES)) {
+            // subscribers of all event types are part of every entry
+            newTable.clear();
+            for (String eventType : typedEventSubscribers.keySet()) {
+                if (!EventSubscriber.ALL_EVENT_TYPES.equals(eventType)) {
+                    newTable.put(eventType, createEntry(eventType));
+                }
+            }
+            allEventTypesEntry = createEntry(EventSubscriber.ALL_EVENT_TYPES);
+        } else {
+            for (String eventType : eventTypes) {
+                if (typedEventSubscribers.containsKey(eventType)) {
+                    newTable.put(eventType, createEntry(eventType));
+                } else {
+                    newTable.remove(eventType);
+                }
+            }
+        }
+        table = Map.copyOf(newTable);
+    }
+
+    private TypeEntry createEntry(String eventType) {
+        Set<EventSubscriber> subscribers = new LinkedHashSet<>();
+        subscribers.addAll(typedEventSubscribers.getOrDefault(eventType, Set.of()));
+        subscribers.addAll(typedEventSubscribers.getOrDefault(EventSubscriber.ALL_EVENT_TYPES, Set.of()));
+
+        List<EventSubscriber> unindexed = new ArrayList<>();
+        Map<String, List<EventSubscriber>> indexed = new HashMap<>();
+        for (EventSubscriber subscriber : subscribers) {
+            Registration registration = registrations.get(subscriber);
+            String entityTopic = registration == null ? null : registration.entityTopic;
+            if (entityTopic == null) {
+                unindexed.add(subscriber);
+            } else {
+                indexed.computeIfAbsent(entityTopic, topic -> new ArrayList<>()).add(subscriber);
+            }
+        }
+        Map<String, List<EventSubscriber>> immutableIndexed = new HashMap<>();
+        indexed.forEach((topic, list) -> immutableIndexed.put(topic, List.copyOf(list)));
+        return new TypeEntry(List.copyOf(unindexed), Map.copyOf(immutableIndexed));
+    }
+
+    /**
+     * An immutable entry of the dispatch table holding all subscribers of one event type.
+     */
+    public static class TypeEntry {
+        private final List<EventSubscriber> unindexed;
+        private final Map<String, List<EventSubscriber>> indexed;
+
+        private TypeEntry(List<EventSubscriber> unindexed, Map<String, List<EventSubscriber>> indexed) {
+            this.unindexed = unindexed;
+            this.indexed = indexed;
+        }
+
+        /**
+         * Checks if there are no subscribers at all.
+         *
+         * @return true if the entry is empty
+         */
+        public boolean isEmpty() {
+            return unindexed.isEmpty() && indexed.isEmpty();
+        }
+
+        /**
+         * Gets the subscribers that could not be indexed and need to be offered every event of the type.
+         *
+         * @return the subscribers
+         */
+        public List<EventSubscriber> getUnindexed() {
+            return unindexed;
+        }
+
+        /**
+         * Gets the indexed subscribers whose filters can match events with the given topic.
+         *
+         * @param topic the topic of the event
+         * @return the subscribers
+         */
+        public List<EventSubscriber> getIndexed(String topic) {
+            if (indexed.isEmpty()) {
+                return List.of();
+            }
+            String entityTopic = IndexableEventFilter.getEntityTopic(topic);
+            List<EventSubscriber> subscribers = entityTopic == null ? null : indexed.get(entityTopic);
+            return subscribers == null ? List.of() : subscribers;
+        }
+    }
+
+    private static class Registration {
+        private final Set<String> eventTypes;
+        private final @Nullable String entityTopic;
+
+        private Registration(Set<String> eventTypes, @Nullable String entityTopic) {
+            this.eventTypes = eventTypes;
+            this.entityTopic = entityTopic;
+        }
+    }
+}
@@ -15,19 +15,24 @@ package org.openhab.core.internal.events;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.openhab.core.events.Event;
+import org.openhab.core.events.EventBusMetrics;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventQueue.OverloadPolicy;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link OSGiEventManager} provides an OSGi based default implementation of the openHAB event bus.
@@ -36,27 +41,81 @@ import org.osgi.service.event.EventHandler;
  * implementing the OSGi {@link EventHandler} interface) and dispatches the received OSGi events as OH {@link Event}s
  * to the {@link EventSubscriber}s if the provided filter applies.
  *
+ * The statistics of the event bus are provided as {@link EventBusMetrics} service.
+ *
+ * The queue of the received events is unbounded by default, it can be limited by setting {@code queueCapacity}. The
+ * {@code overloadPolicy} ({@code BLOCK}, {@code DROP_NEWEST} or {@code DROP_OLDEST}) then defines what happens to
+ * events arriving at a full queue. {@code BLOCK} does not slow down the publishers, which post their events
+ * asynchronously: it stalls the EventAdmin thread delivering the events to this handler, so a dropping policy should be
+ * preferred if the events are not allowed to delay other event handlers. Setting {@code coalesceStateEvents} lets a
+ * new state event of an item replace a still pending one.
+ *
  * @author Stefan Bußweiler - Initial contribution
  * @author Markus Rathgeb - Return on received events as fast as possible (handle event in another thread)
  */
-@Component(immediate = true, property = { "event.topics:String=openhab" })
+@Component(immediate = true, configurationPid = "org.openhab.eventbus", property = { "event.topics:String=openhab" })
 public class OSGiEventManager implements EventHandler {
 
-    /** The event subscribers indexed by the event type. */
+    private static final String CONFIG_QUEUE_CAPACITY = "queueCapacity";
+    private static final String CONFIG_OVERLOAD_POLICY = "overloadPolicy";
+    private static final String CONFIG_COALESCE_STATE_EVENTS = "coalesceStateEvents";
+
+    private final Logger logger = LoggerFactory.getLogger(OSGiEventManager.class);
+
+    /** The event subscribers indexed by the event type and the entity topic of their filters. */
+    private final EventSubscriberIndex eventSubscriberIndex = new EventSubscriberIndex();
     // Use a concurrent hash map because the map is written and read by different threads!
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers = new ConcurrentHashMap<>();
     private final Map<String, EventFactory> typedEventFactories = new ConcurrentHashMap<>();
 
+    private final EventBusMetricsCollector eventBusMetrics = new EventBusMetricsCollector();
+
     private ThreadedEventHandler eventHandler;
+    private ServiceRegistration<EventBusMetrics> eventBusMetricsRegistration;
 
     @Activate
-    protected void activate(ComponentContext componentContext) {
-        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories);
+    protected void activate(ComponentContext componentContext, Map<String, Object> properties) {
+        eventHandler = new ThreadedEventHandler(eventSubscriberIndex, typedEventFactories, eventBusMetrics);
+        modified(properties);
         eventHandler.open();
+        eventBusMetricsRegistration = componentContext.getBundleContext().registerService(EventBusMetrics.class,
+                eventBusMetrics, null);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> properties) {
+        int capacity = 0;
+        Object capacityValue = properties.get(CONFIG_QUEUE_CAPACITY);
+        if (capacityValue != null) {
+            try {
+                capacity = Integer.parseInt(capacityValue.toString());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid event queue capacity '{}'.", capacityValue);
+            }
+        }
+        OverloadPolicy overloadPolicy = OverloadPolicy.BLOCK;
+        Object overloadPolicyValue = properties.get(CONFIG_OVERLOAD_POLICY);
+        if (overloadPolicyValue != null) {
+            try {
+                overloadPolicy = OverloadPolicy.valueOf(overloadPolicyValue.toString().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring invalid event queue overload policy '{}'.", overloadPolicyValue);
+            }
+        }
+        Object coalesceValue = properties.get(CONFIG_COALESCE_STATE_EVENTS);
+        boolean coalesceStateEvents = coalesceValue != null && Boolean.parseBoolean(coalesceValue.toString());
+
+        ThreadedEventHandler eventHandler = this.eventHandler;
+        if (eventHandler != null) {
+            eventHandler.configure(capacity, overloadPolicy, coalesceStateEvents);
+        }
     }
 
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
+        if (eventBusMetricsRegistration != null) {
+            eventBusMetricsRegistration.unregister();
+            eventBusMetricsRegistration = null;
+        }
         if (eventHandler != null) {
             eventHandler.close();
             eventHandler = null;
@@ -65,29 +124,12 @@ public class OSGiEventManager implements EventHandler {
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addEventSubscriber(final EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries == null) {
-                // Use a copy on write array set because the set is written and read by different threads!
-                typedEventSubscribers.put(subscribedEventType, new CopyOnWriteArraySet<>(Set.of(eventSubscriber)));
-            } else {
-                entries.add(eventSubscriber);
-            }
-        }
+        eventSubscriberIndex.add(eventSubscriber);
     }
 
     protected void removeEventSubscriber(EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries != null) {
-                entries.remove(eventSubscriber);
-                if (entries.isEmpty()) {
-                    typedEventSubscribers.remove(subscribedEventType);
-                }
-            }
-        }
+        eventSubscriberIndex.remove(eventSubscriber);
+        eventBusMetrics.removeSubscriber(eventSubscriber);
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -14,11 +14,15 @@ package org.openhab.core.internal.events;
 
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.Map;
 
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.AbstractEvent;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.event.EventAdmin;
 
@@ -28,17 +32,40 @@ import org.osgi.service.event.EventAdmin;
  *
  * Events are send in an asynchronous way via OSGi Event Admin mechanism.
  *
+ * By default the original {@link Event} instance is attached to the OSGi event, so in-process subscribers receive it
+ * without a serialize/deserialize round trip and lazily created payloads are only serialized if someone asks for them.
+ * Setting {@code typedDelivery} to {@code false} restores the purely string based transport.
+ *
  * @author Stefan Bußweiler - Initial contribution
  * @author Simon Kaufmann - separated from OSGiEventManager
  */
-@Component
+@Component(configurationPid = "org.openhab.eventpublisher")
 public class OSGiEventPublisher implements EventPublisher {
 
+    /** The OSGi event property holding the original openHAB event if it is delivered typed. */
+    static final String PROPERTY_EVENT = "event";
+
+    /** The OSGi event property holding the {@link System#nanoTime()} the event has been published at. */
+    static final String PROPERTY_PUBLISHED = "published";
+
+    private static final String CONFIG_TYPED_DELIVERY = "typedDelivery";
+
     private final EventAdmin osgiEventAdmin;
 
+    private volatile boolean typedDelivery = true;
+
     @Activate
-    public OSGiEventPublisher(final @Reference EventAdmin eventAdmin) {
+    public OSGiEventPublisher(final @Reference EventAdmin eventAdmin, @Nullable Map<String, Object> properties) {
         this.osgiEventAdmin = eventAdmin;
+        modified(properties);
+    }
+
+    @Modified
+    protected void modified(@Nullable Map<String, Object> properties) {
+        if (properties != null) {
+            Object value = properties.get(CONFIG_TYPED_DELIVERY);
+            typedDelivery = value == null || Boolean.parseBoolean(value.toString());
+        }
     }
 
     @Override
@@ -51,9 +78,17 @@ public class OSGiEventPublisher implements EventPublisher {
 
     private void postAsOSGiEvent(final EventAdmin eventAdmin, final Event event) throws IllegalStateException {
         try {
-            Dictionary<String, Object> properties = new Hashtable<>(3);
+            Dictionary<String, Object> properties = new Hashtable<>(6);
             properties.put("type", event.getType());
-            properties.put("payload", event.getPayload());
+            properties.put(PROPERTY_PUBLISHED, System.nanoTime());
+            if (typedDelivery) {
+                properties.put(PROPERTY_EVENT, event);
+                if (!isPayloadDeferred(event)) {
+                    properties.put("payload", event.getPayload());
+                }
+            } else {
+                properties.put("payload", event.getPayload());
+            }
             properties.put("topic", event.getTopic());
             String source = event.getSource();
             if (source != null) {
@@ -77,7 +112,7 @@ public class OSGiEventPublisher implements EventPublisher {
         if ((value = event.getType()) == null || value.isEmpty()) {
             throw new IllegalArgumentException(String.format(errorMsg, "type"));
         }
-        if ((value = event.getPayload()) == null || value.isEmpty()) {
+        if (!(typedDelivery && isPayloadDeferred(event)) && ((value = event.getPayload()) == null || value.isEmpty())) {
             throw new IllegalArgumentException(String.format(errorMsg, "payload"));
         }
         if ((value = event.getTopic()) == null || value.isEmpty()) {
@@ -85,6 +120,10 @@ public class OSGiEventPublisher implements EventPublisher {
         }
     }
 
+    private boolean isPayloadDeferred(Event event) {
+        return event instanceof AbstractEvent && ((AbstractEvent) event).isPayloadDeferred();
+    }
+
     private void assertValidState(EventAdmin eventAdmin) throws IllegalStateException {
         if (eventAdmin == null) {
             throw new IllegalStateException("The event bus module is not available!");
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.EventSubscriberMetrics;
+
+/**
+ * The {@link SubscriberMetrics} are the {@link EventSubscriberMetrics} updated by the
+ * {@link EventSubscriberDispatcher}. They are shared by all subscribers of the same class.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class SubscriberMetrics implements EventSubscriberMetrics {
+
+    private final String name;
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final LongAdder deliveredEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final TimingHistogram processingTime = new TimingHistogram();
+
+    // the number of subscribers sharing these metrics, guarded by the EventBusMetricsCollector
+    private int subscribers;
+
+    SubscriberMetrics(String name) {
+        this.name = name;
+    }
+
+    int addSubscriber() {
+        return ++subscribers;
+    }
+
+    int removeSubscriber() {
+        return --subscribers;
+    }
+
+    void eventQueued() {
+        pendingEvents.incrementAndGet();
+    }
+
+    void eventDequeued() {
+        pendingEvents.decrementAndGet();
+    }
+
+    void eventDelivered(long processingNanos, boolean failed) {
+        deliveredEvents.increment();
+        if (failed) {
+            failedEvents.increment();
+        }
+        processingTime.record(processingNanos);
+    }
+
+    void eventsDropped(int count) {
+        pendingEvents.addAndGet(-count);
+        droppedEvents.add(count);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getPendingEvents() {
+        return pendingEvents.get();
+    }
+
+    @Override
+    public long getDeliveredEvents() {
+        return deliveredEvents.sum();
+    }
+
+    @Override
+    public long getFailedEvents() {
+        return failedEvents.sum();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    @Override
+    public TimingHistogram getProcessingTime() {
+        return processingTime;
+    }
+}
@@ -13,17 +13,13 @@
 package org.openhab.core.internal.events;
 
 import java.io.Closeable;
-import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.events.EventFactory;
-import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventQueue.OverloadPolicy;
 import org.osgi.service.event.Event;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,20 +36,22 @@ public class ThreadedEventHandler implements Closeable {
 
     private final Thread thread;
 
-    private final Event notifyEvent = new Event("notify", Collections.emptyMap());
-    private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
+    private final EventQueue queue;
     private final AtomicBoolean running = new AtomicBoolean(true);
 
     /**
      * Create a new threaded event handler.
      *
-     * @param typedEventSubscribers the event subscribers
+     * @param eventSubscriberIndex the event subscribers
      * @param typedEventFactories the event factories indexed by the event type
+     * @param metrics the collector of the event bus metrics
      */
-    ThreadedEventHandler(Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
+    ThreadedEventHandler(EventSubscriberIndex eventSubscriberIndex, final Map<String, EventFactory> typedEventFactories,
+            final EventBusMetricsCollector metrics) {
+        queue = new EventQueue(metrics);
+        metrics.setQueueSizeSupplier(queue::size);
         thread = new Thread(() -> {
-            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories)) {
+            try (EventHandler worker = new EventHandler(eventSubscriberIndex, typedEventFactories, metrics)) {
                 while (running.get()) {
                     try {
                         logger.trace("wait for event");
@@ -61,8 +59,6 @@ public class ThreadedEventHandler implements Closeable {
                         logger.trace("inspect event: {}", event);
                         if (event == null) {
                             logger.debug("Hey, you have really very few events.");
-                        } else if (event.equals(notifyEvent)) {
-                            // received an internal notification
                         } else {
                             worker.handleEvent(event);
                         }
@@ -83,7 +79,7 @@ public class ThreadedEventHandler implements Closeable {
     @Override
     public void close() {
         running.set(false);
-        queue.add(notifyEvent);
+        queue.close();
         thread.interrupt();
         try {
             thread.join();
@@ -92,7 +88,23 @@ public class ThreadedEventHandler implements Closeable {
         }
     }
 
+    /**
+     * Configures the queue of the pending events.
+     *
+     * @param capacity the maximum number of pending events, 0 for an unbounded queue
+     * @param overloadPolicy the policy for events arriving at a full queue
+     * @param coalesceStateEvents true if pending state events of an item should be replaced by newer ones
+     */
+    void configure(int capacity, OverloadPolicy overloadPolicy, boolean coalesceStateEvents) {
+        queue.configure(capacity, overloadPolicy, coalesceStateEvents);
+    }
+
     void handleEvent(Event event) {
-        queue.add(event);
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            logger.debug("Interrupted while waiting for space in the event queue, the event is dropped.");
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -13,10 +13,13 @@
 package org.openhab.core.internal.items;
 
 import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -31,6 +34,7 @@ import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.ExpireMetrics;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -63,11 +67,12 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Michael Wyraz - Author of the 1.x expire binding, which this class is based on
+ * @author crnjan - Schedule expirations by deadline instead of checking all items every second
  */
 @NonNullByDefault
-@Component(immediate = true, service = { ExpireManager.class,
-        EventSubscriber.class }, configurationPid = "org.openhab.expire", configurationPolicy = ConfigurationPolicy.OPTIONAL)
-public class ExpireManager implements EventSubscriber, RegistryChangeListener<Item> {
+@Component(immediate = true, service = { ExpireManager.class, EventSubscriber.class,
+        ExpireMetrics.class }, configurationPid = "org.openhab.expire", configurationPolicy = ConfigurationPolicy.OPTIONAL)
+public class ExpireManager implements EventSubscriber, RegistryChangeListener<Item>, ExpireMetrics {
 
     protected static final String EVENT_SOURCE = "org.openhab.core.expire";
     protected static final String METADATA_NAMESPACE = "expire";
@@ -79,7 +84,11 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
     private final Logger logger = LoggerFactory.getLogger(ExpireManager.class);
 
     private final Map<String, Optional<ExpireConfig>> itemExpireConfig = new ConcurrentHashMap<>();
-    private final Map<String, Instant> itemExpireMap = new ConcurrentHashMap<>();
+
+    // pending expirations ordered by their deadline and indexed by item name, both guarded by expiries
+    private final TreeSet<Expiry> expiries = new TreeSet<>();
+    private final Map<String, Expiry> itemExpiries = new HashMap<>();
+    private long expirySequence = 0;
 
     private final ScheduledExecutorService threadPool = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
@@ -91,7 +100,9 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
 
     private boolean enabled = true;
 
+    // the job expiring the items due at expireJobDeadline, guarded by expiries
     private @Nullable ScheduledFuture<?> expireJob;
+    private long expireJobDeadline;
 
     @Activate
     public ExpireManager(Map<String, @Nullable Object> configuration, final @Reference EventPublisher eventPublisher,
@@ -110,18 +121,6 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
             enabled = Boolean.parseBoolean(valueEnabled.toString());
         }
         if (enabled) {
-            ScheduledFuture<?> localExpireJob = expireJob;
-            if (localExpireJob == null) {
-                expireJob = threadPool.scheduleWithFixedDelay(() -> {
-                    if (!itemExpireMap.isEmpty()) {
-                        for (String itemName : itemExpireConfig.keySet()) {
-                            if (isReadyToExpire(itemName)) {
-                                expire(itemName);
-                            }
-                        }
-                    }
-                }, 1, 1, TimeUnit.SECONDS);
-            }
             itemRegistry.addRegistryChangeListener(this);
             metadataRegistry.addRegistryChangeListener(metadataChangeListener);
         } else {
@@ -131,14 +130,24 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
 
     @Deactivate
     protected void deactivate() {
-        ScheduledFuture<?> localExpireJob = expireJob;
-        if (localExpireJob != null) {
-            localExpireJob.cancel(true);
-            expireJob = null;
-        }
         itemRegistry.removeRegistryChangeListener(this);
         metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
-        itemExpireMap.clear();
+        synchronized (expiries) {
+            ScheduledFuture<?> localExpireJob = expireJob;
+            if (localExpireJob != null) {
+                localExpireJob.cancel(true);
+                expireJob = null;
+            }
+            expiries.clear();
+            itemExpiries.clear();
+        }
+    }
+
+    @Override
+    public int getPendingExpirations() {
+        synchronized (expiries) {
+            return itemExpiries.size();
+        }
     }
 
     private void processEvent(String itemName, Type stateOrCommand, ExpireConfig expireConfig, Class<?> eventClz) {
@@ -149,12 +158,12 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
         if ((expireCommand != null && expireCommand.equals(stateOrCommand))
                 || (expireState != null && expireState.equals(stateOrCommand))) {
             // New event is expired command or state -> no further action needed
-            itemExpireMap.remove(itemName); // remove expire trigger until next update or command
+            cancelExpiry(itemName); // remove expire trigger until next update or command
             logger.debug("Item {} received '{}'; stopping any future expiration.", itemName, stateOrCommand);
         } else {
             // New event is not the expired command or state, so add the trigger to the map
             Duration duration = expireConfig.duration;
-            itemExpireMap.put(itemName, Instant.now().plus(duration));
+            scheduleExpiry(itemName, duration);
             logger.debug("Item {} will expire (with '{}' {}) in {} ms", itemName,
                     expireCommand == null ? expireState : expireCommand, expireCommand == null ? "state" : "command",
                     duration);
@@ -196,13 +205,69 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
         eventPublisher.post(ItemEventFactory.createStateEvent(itemName, state, EVENT_SOURCE));
     }
 
-    private boolean isReadyToExpire(String itemName) {
-        Instant nextExpiry = itemExpireMap.get(itemName);
-        return (nextExpiry != null) && Instant.now().isAfter(nextExpiry);
+    private void scheduleExpiry(String itemName, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        synchronized (expiries) {
+            Expiry expiry = new Expiry(deadline, expirySequence++, itemName);
+            Expiry previous = itemExpiries.put(itemName, expiry);
+            if (previous != null) {
+                expiries.remove(previous);
+            }
+            expiries.add(expiry);
+            scheduleExpireJob();
+        }
+    }
+
+    private void cancelExpiry(String itemName) {
+        synchronized (expiries) {
+            Expiry expiry = itemExpiries.remove(itemName);
+            if (expiry != null) {
+                expiries.remove(expiry);
+            }
+            // a job for an earlier deadline is kept, it just reschedules itself for the next deadline
+        }
+    }
+
+    /**
+     * Makes sure the expire job runs at the earliest deadline. Must be called while holding the lock of expiries.
+     */
+    private void scheduleExpireJob() {
+        if (expiries.isEmpty()) {
+            return;
+        }
+        long deadline = expiries.first().deadline();
+        ScheduledFuture<?> localExpireJob = expireJob;
+        if (localExpireJob != null && !localExpireJob.isDone()) {
+            if (expireJobDeadline - deadline <= 0) {
+                // the job runs before the earliest deadline anyway
+                return;
+            }
+            localExpireJob.cancel(false);
+        }
+        expireJobDeadline = deadline;
+        expireJob = threadPool.schedule(this::expireDueItems, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void expireDueItems() {
+        List<String> dueItems = new ArrayList<>();
+        synchronized (expiries) {
+            long now = System.nanoTime();
+            while (!expiries.isEmpty() && expiries.first().deadline() - now <= 0) {
+                Expiry expiry = expiries.first();
+                expiries.remove(expiry);
+                itemExpiries.remove(expiry.itemName());
+                dueItems.add(expiry.itemName());
+            }
+            if (expireJobDeadline - now <= 0) {
+                // this is the current job, otherwise it has been replaced by a job for an earlier deadline
+                expireJob = null;
+            }
+            scheduleExpireJob();
+        }
+        dueItems.forEach(this::expire);
     }
 
     private void expire(String itemName) {
-        itemExpireMap.remove(itemName); // disable expire trigger until next update or command
         Optional<ExpireConfig> expireConfig = itemExpireConfig.get(itemName);
 
         if (expireConfig != null && expireConfig.isPresent()) {
@@ -266,6 +331,7 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
     @Override
     public void removed(Item item) {
         itemExpireConfig.remove(item.getName());
+        cancelExpiry(item.getName());
     }
 
     @Override
@@ -273,6 +339,21 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
         itemExpireConfig.remove(item.getName());
     }
 
+    /**
+     * The expiration of an item at a deadline in {@link System#nanoTime()}, ordered by the deadline.
+     */
+    private record Expiry(long deadline, long sequence, String itemName) implements Comparable<Expiry> {
+
+        @Override
+        public int compareTo(Expiry other) {
+            long difference = deadline - other.deadline;
+            if (difference != 0) {
+                return difference < 0 ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
     class MetadataChangeListener implements RegistryChangeListener<Metadata> {
 
         @Override
@@ -282,7 +363,11 @@ public class ExpireManager implements EventSubscriber, RegistryChangeListener<It
 
         @Override
         public void removed(Metadata element) {
-            itemExpireConfig.remove(element.getUID().getItemName());
+            String itemName = element.getUID().getItemName();
+            itemExpireConfig.remove(itemName);
+            if (METADATA_NAMESPACE.equals(element.getUID().getNamespace())) {
+                cancelExpiry(itemName);
+            }
         }
 
         @Override
@@ -0,0 +1,446 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GroupFunction;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.ArithmeticGroupFunction;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.QuantityTypeArithmeticGroupFunction;
+import org.openhab.core.library.types.QuantityTypeArithmeticGroupFunction.DimensionalGroupFunction;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * A {@link GroupStateAggregation} maintains the running state of a {@link GroupFunction} over the members of a group.
+ * <p>
+ * Instead of iterating over all members whenever one of them is updated, every member's contribution to the group
+ * state is kept, so an update only replaces the contribution of the updated member. The resulting states are the same
+ * as the ones calculated by the function itself.
+ * <p>
+ * Aggregations are only available for the (exact) {@link ArithmeticGroupFunction} and
+ * {@link QuantityTypeArithmeticGroupFunction} implementations. They are not thread-safe.
+ *
+ * @author crnjan - Initial contribution
+ *
+ * @param <C> the type of a member's contribution
+ */
+@NonNullByDefault
+public abstract class GroupStateAggregation<C> {
+
+    private final Set<Item> members = new HashSet<>();
+    private final Map<Item, C> contributions = new HashMap<>();
+
+    /**
+     * Creates an aggregation for a group function.
+     *
+     * @param function the group function
+     * @return the aggregation, or null if the function cannot be aggregated incrementally
+     */
+    public static @Nullable GroupStateAggregation<?> create(GroupFunction function) {
+        Class<?> functionClass = function.getClass();
+        if (functionClass == ArithmeticGroupFunction.And.class || functionClass == ArithmeticGroupFunction.NAnd.class
+                || functionClass == ArithmeticGroupFunction.Or.class
+                || functionClass == ArithmeticGroupFunction.NOr.class) {
+            State[] parameters = function.getParameters();
+            return new LogicalAggregation(parameters[0], parameters[1],
+                    functionClass == ArithmeticGroupFunction.And.class
+                            || functionClass == ArithmeticGroupFunction.NAnd.class,
+                    functionClass == ArithmeticGroupFunction.NAnd.class
+                            || functionClass == ArithmeticGroupFunction.NOr.class);
+        } else if (functionClass == ArithmeticGroupFunction.Count.class) {
+            return new CountAggregation(Pattern.compile(function.getParameters()[0].toString()));
+        } else if (functionClass == ArithmeticGroupFunction.Sum.class) {
+            return new DecimalSumAggregation(false);
+        } else if (functionClass == ArithmeticGroupFunction.Avg.class) {
+            return new DecimalSumAggregation(true);
+        } else if (functionClass == ArithmeticGroupFunction.Min.class) {
+            return new DecimalExtremeAggregation(false);
+        } else if (functionClass == ArithmeticGroupFunction.Max.class) {
+            return new DecimalExtremeAggregation(true);
+        } else if (functionClass == QuantityTypeArithmeticGroupFunction.Sum.class) {
+            return new QuantitySumAggregation(((DimensionalGroupFunction) function).getDimension(), false);
+        } else if (functionClass == QuantityTypeArithmeticGroupFunction.Avg.class) {
+            return new QuantitySumAggregation(((DimensionalGroupFunction) function).getDimension(), true);
+        } else if (functionClass == QuantityTypeArithmeticGroupFunction.Min.class) {
+            return new QuantityExtremeAggregation(((DimensionalGroupFunction) function).getDimension(), false);
+        } else if (functionClass == QuantityTypeArithmeticGroupFunction.Max.class) {
+            return new QuantityExtremeAggregation(((DimensionalGroupFunction) function).getDimension(), true);
+        }
+        return null;
+    }
+
+    /**
+     * Adds a member with its current state to the aggregation.
+     *
+     * @param member the member
+     */
+    public void add(Item member) {
+        if (members.add(member)) {
+            addContribution(member);
+        }
+    }
+
+    /**
+     * Replaces the contribution of a member by the one of its current state.
+     *
+     * @param member the member
+     * @return true if the member is part of the aggregation, false otherwise (the aggregation is unchanged then)
+     */
+    public boolean update(Item member) {
+        if (!members.contains(member)) {
+            return false;
+        }
+        removeContribution(member);
+        addContribution(member);
+        return true;
+    }
+
+    /**
+     * Removes a member from the aggregation.
+     *
+     * @param member the member
+     */
+    public void remove(Item member) {
+        if (members.remove(member)) {
+            removeContribution(member);
+        }
+    }
+
+    /**
+     * Gets the aggregated state of all members.
+     *
+     * @return the state
+     */
+    public abstract State getState();
+
+    /**
+     * Gets the number of members of the aggregation.
+     *
+     * @return the number of members
+     */
+    protected int getMemberCount() {
+        return members.size();
+    }
+
+    /**
+     * Gets the number of members contributing to the aggregation.
+     *
+     * @return the number of contributions
+     */
+    protected int getContributionCount() {
+        return contributions.size();
+    }
+
+    /**
+     * Gets the contribution of a member's current state.
+     *
+     * @param member the member
+     * @return the contribution, or null if the member does not contribute
+     */
+    protected abstract @Nullable C getContribution(Item member);
+
+    protected void contributionAdded(C contribution) {
+    }
+
+    protected void contributionRemoved(C contribution) {
+    }
+
+    private void addContribution(Item member) {
+        @Nullable
+        C contribution = getContribution(member);
+        if (contribution != null) {
+            contributions.put(member, contribution);
+            contributionAdded(contribution);
+        }
+    }
+
+    private void removeContribution(Item member) {
+        @Nullable
+        C contribution = contributions.remove(member);
+        if (contribution != null) {
+            contributionRemoved(contribution);
+        }
+    }
+
+    private static boolean isSameDimension(Class<? extends Quantity<?>> dimension, @Nullable Item item) {
+        if (item instanceof GroupItem) {
+            return isSameDimension(dimension, ((GroupItem) item).getBaseItem());
+        }
+        return item instanceof NumberItem && dimension.equals(((NumberItem) item).getDimension());
+    }
+
+    /**
+     * Counts the members in the active state for the AND, NAND, OR and NOR functions.
+     */
+    private static class LogicalAggregation extends GroupStateAggregation<Boolean> {
+        private final State activeState;
+        private final State passiveState;
+        private final boolean and;
+        private final boolean negate;
+
+        private LogicalAggregation(State activeState, State passiveState, boolean and, boolean negate) {
+            this.activeState = activeState;
+            this.passiveState = passiveState;
+            this.and = and;
+            this.negate = negate;
+        }
+
+        @Override
+        protected @Nullable Boolean getContribution(Item member) {
+            return activeState.equals(member.getStateAs(activeState.getClass())) ? Boolean.TRUE : null;
+        }
+
+        @Override
+        public State getState() {
+            int active = getContributionCount();
+            boolean result = and ? getMemberCount() > 0 && active == getMemberCount() : active > 0;
+            return result != negate ? activeState : passiveState;
+        }
+    }
+
+    /**
+     * Counts the members whose state matches a regular expression.
+     */
+    private static class CountAggregation extends GroupStateAggregation<Boolean> {
+        private final Pattern pattern;
+
+        private CountAggregation(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected @Nullable Boolean getContribution(Item member) {
+            return pattern.matcher(member.getState().toString()).matches() ? Boolean.TRUE : null;
+        }
+
+        @Override
+        public State getState() {
+            return new DecimalType(getContributionCount());
+        }
+    }
+
+    /**
+     * Maintains an exact sum of the contributions.
+     * <p>
+     * The scale of a {@link BigDecimal} sum is the largest scale of its summands, which would otherwise be kept even
+     * after the member with the largest scale has been removed. The scales of all contributions are therefore tracked
+     * to represent the sum the same way as it would be by adding up all contributions.
+     */
+    private abstract static class SumAggregation extends GroupStateAggregation<BigDecimal> {
+        private final TreeMap<Integer, Integer> scales = new TreeMap<>();
+        private BigDecimal sum = BigDecimal.ZERO;
+
+        @Override
+        protected void contributionAdded(BigDecimal contribution) {
+            sum = sum.add(contribution);
+            scales.merge(contribution.scale(), 1, Integer::sum);
+        }
+
+        @Override
+        protected void contributionRemoved(BigDecimal contribution) {
+            sum = sum.subtract(contribution);
+            Integer count = scales.get(contribution.scale());
+            if (count != null && count > 1) {
+                scales.put(contribution.scale(), count - 1);
+            } else {
+                scales.remove(contribution.scale());
+            }
+        }
+
+        protected BigDecimal getSum() {
+            int scale = scales.isEmpty() ? 0 : Math.max(0, scales.lastKey());
+            return sum.setScale(scale);
+        }
+
+        protected BigDecimal getAverage() {
+            return getSum().divide(BigDecimal.valueOf(getContributionCount()), MathContext.DECIMAL128);
+        }
+    }
+
+    private static class DecimalSumAggregation extends SumAggregation {
+        private final boolean average;
+
+        private DecimalSumAggregation(boolean average) {
+            this.average = average;
+        }
+
+        @Override
+        protected @Nullable BigDecimal getContribution(Item member) {
+            DecimalType state = member.getStateAs(DecimalType.class);
+            return state == null ? null : state.toBigDecimal();
+        }
+
+        @Override
+        public State getState() {
+            if (!average) {
+                return new DecimalType(getSum());
+            }
+            return getContributionCount() > 0 ? new DecimalType(getAverage()) : UnDefType.UNDEF;
+        }
+    }
+
+    /**
+     * Sums up the quantities in the unit of the first contributing member, the conversion of every member's state is
+     * kept to exactly remove it again.
+     */
+    private static class QuantitySumAggregation extends SumAggregation {
+        private final Class<? extends Quantity<?>> dimension;
+        private final boolean average;
+        private @Nullable Unit<?> unit;
+
+        private QuantitySumAggregation(Class<? extends Quantity<?>> dimension, boolean average) {
+            this.dimension = dimension;
+            this.average = average;
+        }
+
+        @Override
+        protected @Nullable BigDecimal getContribution(Item member) {
+            if (!isSameDimension(dimension, member)) {
+                return null;
+            }
+            QuantityType<?> state = member.getStateAs(QuantityType.class);
+            if (state == null) {
+                return null;
+            }
+            Unit<?> unit = this.unit;
+            if (unit == null) {
+                this.unit = state.getUnit();
+                return state.toBigDecimal();
+            }
+            QuantityType<?> converted = average ? state.toInvertibleUnit(unit) : state.toUnit(unit);
+            return converted == null ? null : converted.toBigDecimal();
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public State getState() {
+            Unit<?> unit = this.unit;
+            if (unit == null || getContributionCount() == 0) {
+                return UnDefType.UNDEF;
+            }
+            return new QuantityType(average ? getAverage() : getSum(), unit);
+        }
+    }
+
+    /**
+     * Keeps the contributions ordered to determine the minimum or maximum.
+     */
+    private abstract static class ExtremeAggregation extends GroupStateAggregation<Extreme> {
+        private final TreeSet<Extreme> extremes = new TreeSet<>(Comparator.comparing((Extreme extreme) -> extreme.value)
+                .thenComparingLong(extreme -> extreme.sequence));
+        private final boolean max;
+        private long sequence = 0;
+
+        private ExtremeAggregation(boolean max) {
+            this.max = max;
+        }
+
+        protected Extreme createExtreme(BigDecimal value, State state) {
+            return new Extreme(value, state, sequence++);
+        }
+
+        @Override
+        protected void contributionAdded(Extreme contribution) {
+            extremes.add(contribution);
+        }
+
+        @Override
+        protected void contributionRemoved(Extreme contribution) {
+            extremes.remove(contribution);
+        }
+
+        @Override
+        public State getState() {
+            if (extremes.isEmpty()) {
+                return UnDefType.UNDEF;
+            }
+            return (max ? extremes.last() : extremes.first()).state;
+        }
+    }
+
+    private static class DecimalExtremeAggregation extends ExtremeAggregation {
+        private DecimalExtremeAggregation(boolean max) {
+            super(max);
+        }
+
+        @Override
+        protected @Nullable Extreme getContribution(Item member) {
+            DecimalType state = member.getStateAs(DecimalType.class);
+            return state == null ? null : createExtreme(state.toBigDecimal(), new DecimalType(state.toBigDecimal()));
+        }
+    }
+
+    /**
+     * Orders the quantities by their value in the unit of the first contributing member, the minimum or maximum is
+     * the original state of the member.
+     */
+    private static class QuantityExtremeAggregation extends ExtremeAggregation {
+        private final Class<? extends Quantity<?>> dimension;
+        private @Nullable Unit<?> unit;
+
+        private QuantityExtremeAggregation(Class<? extends Quantity<?>> dimension, boolean max) {
+            super(max);
+            this.dimension = dimension;
+        }
+
+        @Override
+        protected @Nullable Extreme getContribution(Item member) {
+            if (!isSameDimension(dimension, member)) {
+                return null;
+            }
+            QuantityType<?> state = member.getStateAs(QuantityType.class);
+            if (state == null) {
+                return null;
+            }
+            Unit<?> unit = this.unit;
+            if (unit == null) {
+                this.unit = state.getUnit();
+                return createExtreme(state.toBigDecimal(), state);
+            }
+            QuantityType<?> converted = state.toUnit(unit);
+            return converted == null ? null : createExtreme(converted.toBigDecimal(), state);
+        }
+    }
+
+    private static class Extreme {
+        private final BigDecimal value;
+        private final State state;
+        private final long sequence;
+
+        private Extreme(BigDecimal value, State state, long sequence) {
+            this.value = value;
+            this.state = state;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+
+/**
+ * The {@link ItemMembershipIndex} keeps track of the group memberships of the registered items.
+ * <p>
+ * Memberships are indexed by name as declared by {@link Item#getGroupNames()}, only registered {@link GroupItem}s are
+ * taken into account. The transitive closures - the groups an item is a direct or indirect member of and the non-group
+ * members of a group including the ones of its subgroups - are calculated on first access and cached until a
+ * registration change affects them, so repeated lookups neither walk the group tree nor allocate.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class ItemMembershipIndex {
+
+    private final Map<String, Item> items = new HashMap<>();
+    private final Map<String, Set<String>> directMembers = new HashMap<>();
+
+    private final Map<String, Set<String>> allGroupNames = new ConcurrentHashMap<>();
+    private final Map<String, Set<Item>> allMembers = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a registered item to the index.
+     *
+     * @param item the item
+     */
+    public synchronized void add(Item item) {
+        String name = item.getName();
+        items.put(name, item);
+        for (String groupName : item.getGroupNames()) {
+            Set<String> members = directMembers.get(groupName);
+            if (members == null) {
+                members = new LinkedHashSet<>();
+                directMembers.put(groupName, members);
+            }
+            members.add(name);
+        }
+        invalidate(item);
+    }
+
+    /**
+     * Removes an item from the index.
+     *
+     * @param item the item
+     */
+    public synchronized void remove(Item item) {
+        String name = item.getName();
+        if (!items.remove(name, item)) {
+            return;
+        }
+        for (String groupName : item.getGroupNames()) {
+            Set<String> members = directMembers.get(groupName);
+            if (members != null) {
+                members.remove(name);
+                if (members.isEmpty()) {
+                    directMembers.remove(groupName);
+                }
+            }
+        }
+        invalidate(item);
+    }
+
+    /**
+     * Replaces an item in the index by its updated version.
+     *
+     * @param oldItem the previously registered item
+     * @param item the updated item
+     */
+    public synchronized void update(Item oldItem, Item item) {
+        remove(oldItem);
+        add(item);
+    }
+
+    /**
+     * Gets the names of all groups an item is a direct or indirect member of.
+     *
+     * @param itemName the name of the item
+     * @return an unmodifiable set of group names, empty if the item is not registered
+     */
+    public Set<String> getAllGroupNames(String itemName) {
+        Set<String> groupNames = allGroupNames.get(itemName);
+        if (groupNames != null) {
+            return groupNames;
+        }
+        synchronized (this) {
+            Item item = items.get(itemName);
+            if (item == null) {
+                return Set.of();
+            }
+            groupNames = collectGroupNames(item);
+            allGroupNames.put(itemName, groupNames);
+            return groupNames;
+        }
+    }
+
+    /**
+     * Gets all members of a group and, recursively, of its subgroups. The subgroups themselves are not contained, as
+     * in {@link GroupItem#getAllMembers()}.
+     *
+     * @param groupName the name of the group
+     * @return an unmodifiable set of items, empty if there is no such group
+     */
+    public Set<Item> getAllMembers(String groupName) {
+        Set<Item> members = allMembers.get(groupName);
+        if (members != null) {
+            return members;
+        }
+        synchronized (this) {
+            if (!(items.get(groupName) instanceof GroupItem)) {
+                return Set.of();
+            }
+            members = collectMembers(groupName);
+            allMembers.put(groupName, members);
+            return members;
+        }
+    }
+
+    private Set<String> collectGroupNames(Item item) {
+        Set<String> groupNames = new LinkedHashSet<>();
+        Deque<List<String>> pending = new ArrayDeque<>();
+        pending.push(item.getGroupNames());
+        while (!pending.isEmpty()) {
+            for (String groupName : pending.pop()) {
+                Item groupItem = items.get(groupName);
+                if (groupItem instanceof GroupItem && groupNames.add(groupName)) {
+                    pending.push(groupItem.getGroupNames());
+                }
+            }
+        }
+        return Collections.unmodifiableSet(groupNames);
+    }
+
+    private Set<Item> collectMembers(String groupName) {
+        Set<Item> members = new LinkedHashSet<>();
+        Set<String> visitedGroups = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        visitedGroups.add(groupName);
+        pending.push(groupName);
+        while (!pending.isEmpty()) {
+            for (String memberName : directMembers.getOrDefault(pending.pop(), Set.of())) {
+                Item member = items.get(memberName);
+                if (member instanceof GroupItem) {
+                    if (visitedGroups.add(memberName)) {
+                        pending.push(memberName);
+                    }
+                } else if (member != null) {
+                    members.add(member);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(members);
+    }
+
+    private void invalidate(Item item) {
+        if (item instanceof GroupItem) {
+            // the group names of all its (indirect) members might have changed
+            allGroupNames.clear();
+        } else {
+            allGroupNames.remove(item.getName());
+        }
+        allMembers.clear();
+    }
+}
@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -67,6 +68,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     private final Logger logger = LoggerFactory.getLogger(ItemRegistryImpl.class);
 
     private final List<RegistryHook<Item>> registryHooks = new CopyOnWriteArrayList<>();
+    private final ItemMembershipIndex membershipIndex = new ItemMembershipIndex();
     private @Nullable StateDescriptionService stateDescriptionService;
     private @Nullable CommandDescriptionService commandDescriptionService;
     private final MetadataRegistry metadataRegistry;
@@ -231,6 +233,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     @Override
     protected void onAddElement(Item element) throws IllegalArgumentException {
         initializeItem(element);
+        membershipIndex.add(element);
     }
 
     @Override
@@ -239,6 +242,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             ((GenericItem) element).dispose();
         }
         removeFromGroupItems(element, element.getGroupNames());
+        membershipIndex.remove(element);
     }
 
     @Override
@@ -262,6 +266,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             addMembersToGroupItem((GroupItem) item);
         }
         injectServices(item);
+        membershipIndex.update(oldItem, item);
     }
 
     @Override
@@ -367,6 +372,16 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         return filteredItems;
     }
 
+    @Override
+    public Set<String> getAllGroupNames(String itemName) {
+        return membershipIndex.getAllGroupNames(itemName);
+    }
+
+    @Override
+    public Set<Item> getAllMembers(String groupName) {
+        return membershipIndex.getAllMembers(groupName);
+    }
+
     @Override
     public @Nullable Item remove(String itemName, boolean recursive) {
         return ((ManagedItemProvider) getManagedProvider()
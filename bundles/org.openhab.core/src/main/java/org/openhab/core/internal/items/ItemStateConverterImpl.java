@@ -18,6 +18,7 @@ import javax.measure.Unit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.i18n.UnitProvider;
+import org.openhab.core.items.AcceptedTypeMatrix;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemStateConverter;
 import org.openhab.core.library.items.NumberItem;
@@ -131,6 +132,8 @@ public class ItemStateConverterImpl implements ItemStateConverter {
     }
 
     private boolean isAccepted(Item item, State state) {
-        return item.getAcceptedDataTypes().contains(state.getClass());
+        // only a state of an accepted type is kept, a subclass of an accepted type is converted
+        Class<? extends State> stateClass = state.getClass();
+        return AcceptedTypeMatrix.ofDataTypes(item).getAcceptedType(stateClass) == stateClass;
     }
 }
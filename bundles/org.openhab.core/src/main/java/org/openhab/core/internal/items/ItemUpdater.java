@@ -14,6 +14,7 @@ package org.openhab.core.internal.items;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.AcceptedTypeMatrix;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -55,25 +56,7 @@ public class ItemUpdater extends AbstractItemEventSubscriber {
         State newState = updateEvent.getItemState();
         try {
             GenericItem item = (GenericItem) itemRegistry.getItem(itemName);
-            boolean isAccepted = false;
-            if (item.getAcceptedDataTypes().contains(newState.getClass())) {
-                isAccepted = true;
-            } else {
-                // Look for class hierarchy
-                for (Class<? extends State> state : item.getAcceptedDataTypes()) {
-                    try {
-                        if (!state.isEnum() && state.getDeclaredConstructor().newInstance().getClass()
-                                .isAssignableFrom(newState.getClass())) {
-                            isAccepted = true;
-                            break;
-                        }
-                    } catch (ReflectiveOperationException e) {
-                        // Should never happen
-                        logger.warn("{} while creating {} instance: {}", e.getClass().getSimpleName(),
-                                state.getClass().getSimpleName(), e.getMessage());
-                    }
-                }
-            }
+            boolean isAccepted = AcceptedTypeMatrix.ofDataTypes(item).isAccepted(newState.getClass());
             if (isAccepted) {
                 item.setState(newState);
             } else {
@@ -0,0 +1,400 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel to run a large number of tasks after a delay.
+ * <p>
+ * Scheduling and cancelling a task only enqueue it, so both take constant time. A single worker thread advances the
+ * wheel once per tick, moves newly scheduled tasks into their bucket, removes cancelled ones and passes all tasks of
+ * the current bucket that are due to the executor. Tasks run at the first tick at or after their deadline, i.e. with a
+ * delay of up to one tick. When the timer is stopped, the tasks that are not yet due are cancelled and returned.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class HashedWheelTimer {
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    private final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private final ExecutorService executor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final Thread workerThread;
+    // the timeouts left in the wheel when the worker stopped, read by stop() after the worker has terminated
+    private final List<Timeout> unprocessedTimeouts = new ArrayList<>();
+
+    private volatile long startTime;
+    private long tick;
+
+    /**
+     * Creates a timing wheel. The worker thread is started with the first scheduled task.
+     *
+     * @param executor the executor running the due tasks
+     * @param tickDuration the duration of a tick
+     * @param unit the unit of the tick duration
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     * @param threadName the name of the worker thread
+     */
+    public HashedWheelTimer(ExecutorService executor, long tickDuration, TimeUnit unit, int ticksPerWheel,
+            String threadName) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("The tick duration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("The number of ticks per wheel is out of range: " + ticksPerWheel);
+        }
+        this.executor = executor;
+        this.tickNanos = unit.toNanos(tickDuration);
+        int wheelSize = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.workerThread = new Thread(this::runWorker, threadName);
+        workerThread.setDaemon(true);
+    }
+
+    /**
+     * Schedules a task to be passed to the executor after a delay.
+     *
+     * @param task the task
+     * @param delay the delay, a negative delay is treated as zero
+     * @param unit the unit of the delay
+     * @return the handle to cancel the task
+     * @throws IllegalStateException if the timer has been stopped
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        start();
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startTime;
+        Timeout timeout = new Timeout(task, deadline);
+        pendingTimeouts.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+        if (workerState.get() == WORKER_SHUTDOWN && timeout.cancelOnStop()) {
+            // stopped concurrently, after the pending timeouts have been collected
+            throw new IllegalStateException("The timer has been stopped");
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of tasks that are scheduled and not yet due or cancelled.
+     *
+     * @return the number of pending tasks
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Stops the worker thread. Tasks that are not yet due are not run anymore, they are cancelled and returned to the
+     * caller, which is responsible to complete whatever waits for them.
+     *
+     * @return the timeouts of the tasks that have been cancelled
+     */
+    public List<Timeout> stop() {
+        if (Thread.currentThread() == workerThread) {
+            throw new IllegalStateException("The timer cannot be stopped by one of its tasks");
+        }
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            workerThread.interrupt();
+            try {
+                workerThread.join(tickNanos / 1_000_000 + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Timeout> cancelled = new ArrayList<>();
+        if (!workerThread.isAlive()) {
+            for (Timeout timeout : unprocessedTimeouts) {
+                if (timeout.cancelOnStop()) {
+                    cancelled.add(timeout);
+                }
+            }
+        } else {
+            logger.warn("Timing wheel did not stop in time, its pending tasks are not cancelled");
+        }
+        Timeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            if (timeout.cancelOnStop()) {
+                cancelled.add(timeout);
+            }
+        }
+        return cancelled;
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    long now = System.nanoTime();
+                    // 0 means not yet started
+                    startTime = now == 0 ? 1 : now;
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("The timer has been stopped");
+        }
+        while (startTime == 0) {
+            // wait until the start time has been set by the thread that started the worker
+            Thread.onSpinWait();
+        }
+    }
+
+    private void runWorker() {
+        while (workerState.get() == WORKER_STARTED) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            removeCancelledTimeouts();
+            transferScheduledTimeouts();
+            wheel[(int) (tick & mask)].expireTimeouts();
+            tick++;
+        }
+        for (Bucket bucket : wheel) {
+            bucket.clearTimeouts(unprocessedTimeouts);
+        }
+        logger.debug("Timing wheel has been stopped with {} pending tasks", pendingTimeouts.get());
+    }
+
+    /**
+     * Waits until the current tick is due.
+     *
+     * @return false if the timer has been stopped
+     */
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepNanos = deadline - currentTime;
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (workerState.get() == WORKER_SHUTDOWN) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferScheduledTimeouts() {
+        // limit the number of transferred timeouts per tick to keep the ticks on time
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = scheduledTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // a timeout with a deadline in the past is run at the current tick
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            Bucket bucket = timeout.bucket;
+            if (bucket != null) {
+                bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * The handle of a scheduled task.
+     */
+    public final class Timeout {
+
+        private static final int STATE_SCHEDULED = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_SCHEDULED);
+        private volatile @Nullable Future<?> future;
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+        private @Nullable Timeout next;
+        private @Nullable Timeout previous;
+        private @Nullable Bucket bucket;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task. A task which has already been passed to the executor is cancelled like a {@link Future}.
+         *
+         * @param mayInterruptIfRunning true if the thread running the task should be interrupted
+         * @return true if the task has been cancelled by this call
+         */
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (state.compareAndSet(STATE_SCHEDULED, STATE_CANCELLED)) {
+                pendingTimeouts.decrementAndGet();
+                cancelledTimeouts.add(this);
+                return true;
+            }
+            Future<?> future = this.future;
+            return future != null && future.cancel(mayInterruptIfRunning);
+        }
+
+        /**
+         * Returns the task of this timeout.
+         *
+         * @return the task
+         */
+        public Runnable getTask() {
+            return task;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private boolean cancelOnStop() {
+            if (state.compareAndSet(STATE_SCHEDULED, STATE_CANCELLED)) {
+                pendingTimeouts.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_SCHEDULED, STATE_EXPIRED)) {
+                return;
+            }
+            pendingTimeouts.decrementAndGet();
+            try {
+                future = executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Scheduled task could not be run: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts of a bucket, only accessed by the worker thread.
+     */
+    private final class Bucket {
+
+        private @Nullable Timeout head;
+        private @Nullable Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            Timeout tail = this.tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            this.tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            Timeout previous = timeout.previous;
+            if (previous != null) {
+                previous.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.previous = previous;
+            } else {
+                tail = previous;
+            }
+            timeout.next = null;
+            timeout.previous = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Removes all timeouts of this bucket.
+         *
+         * @param timeouts the list the timeouts are added to
+         */
+        void clearTimeouts(List<Timeout> timeouts) {
+            Timeout timeout;
+            while ((timeout = head) != null) {
+                remove(timeout);
+                timeouts.add(timeout);
+            }
+        }
+
+        /**
+         * Passes all timeouts of this bucket which are due to the executor.
+         */
+        void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    // the deadline is at the latest in this tick, which has passed already
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
@@ -38,7 +39,12 @@ import org.openhab.core.scheduler.ScheduledCompletableFuture;
 import org.openhab.core.scheduler.Scheduler;
 import org.openhab.core.scheduler.SchedulerRunnable;
 import org.openhab.core.scheduler.SchedulerTemporalAdjuster;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,18 +54,94 @@ import org.slf4j.LoggerFactory;
  * @author Peter Kriens - Initial contribution
  * @author Simon Kaufmann - ported to CompletableFuture
  * @author Hilbrand Bouwkamp - improved implementation and moved cron and periodic to own implementations.
+ * @author crnjan - Optional timing wheel to schedule the tasks
  */
-@Component(service = SchedulerImpl.class, immediate = true)
+@Component(service = SchedulerImpl.class, immediate = true, configurationPid = "org.openhab.scheduler", //
+        configurationPolicy = ConfigurationPolicy.OPTIONAL, property = { //
+                Constants.SERVICE_PID + "=org.openhab.scheduler", //
+                "service.config.label=Scheduler", //
+                "service.config.category=system", //
+                "service.config.description.uri=system:scheduler" })
 @NonNullByDefault
 public class SchedulerImpl implements Scheduler {
 
+    static final String CONFIG_TIMING_WHEEL = "timingWheel";
+    static final String CONFIG_TICK_MILLISECONDS = "tickMilliseconds";
+
     private static final String SCHEDULER_THREAD_POOL = "scheduler";
     private static final int ALLOWED_DEVIATION_MILLISECONDS = 2000;
+    private static final int DEFAULT_TICK_MILLISECONDS = 10;
+    private static final int TICKS_PER_WHEEL = 512;
 
     private final Logger logger = LoggerFactory.getLogger(SchedulerImpl.class);
 
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool(SCHEDULER_THREAD_POOL);
 
+    // when set, tasks are scheduled by the timing wheel and run by the executor
+    private @Nullable HashedWheelTimer timingWheel;
+
+    /**
+     * Selects how tasks are scheduled. By default they are scheduled by the executor. If the configuration enables
+     * the timing wheel, they are scheduled by a timing wheel, which scales better to many tasks that are scheduled and
+     * cancelled, e.g. timers of rules, and run by the executor.
+     *
+     * @param configuration the configuration of the scheduler
+     */
+    @Activate
+    protected void activate(Map<String, @Nullable Object> configuration) {
+        if (isTimingWheelEnabled(configuration)) {
+            int tickMilliseconds = getTickMilliseconds(configuration);
+            timingWheel = new HashedWheelTimer(executor, tickMilliseconds, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL,
+                    "OH-" + SCHEDULER_THREAD_POOL + "-wheel");
+            logger.debug("Scheduling tasks with a timing wheel with a tick of {} ms", tickMilliseconds);
+        }
+    }
+
+    @Modified
+    protected void modified(Map<String, @Nullable Object> configuration) {
+        HashedWheelTimer timingWheel = this.timingWheel;
+        if (isTimingWheelEnabled(configuration) != (timingWheel != null)) {
+            // the tasks already scheduled cannot be moved to another timer
+            logger.info("Changing the timer of the scheduler takes effect after a restart.");
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        HashedWheelTimer timingWheel = this.timingWheel;
+        if (timingWheel != null) {
+            this.timingWheel = null;
+            // complete the tasks that will not run anymore, so nobody keeps waiting for them
+            for (HashedWheelTimer.Timeout timeout : timingWheel.stop()) {
+                if (timeout.getTask() instanceof DeferredTask) {
+                    ((DeferredTask) timeout.getTask()).deferred.cancel(true);
+                }
+            }
+        }
+    }
+
+    private boolean isTimingWheelEnabled(Map<String, @Nullable Object> configuration) {
+        Object value = configuration.get(CONFIG_TIMING_WHEEL);
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    private int getTickMilliseconds(Map<String, @Nullable Object> configuration) {
+        Object value = configuration.get(CONFIG_TICK_MILLISECONDS);
+        if (value != null) {
+            try {
+                int tickMilliseconds = Integer.parseInt(value.toString());
+                if (tickMilliseconds > 0) {
+                    return tickMilliseconds;
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the warning
+            }
+            logger.warn("Invalid value '{}' for {}, using {} ms", value, CONFIG_TICK_MILLISECONDS,
+                    DEFAULT_TICK_MILLISECONDS);
+        }
+        return DEFAULT_TICK_MILLISECONDS;
+    }
+
     @Override
     public ScheduledCompletableFuture<Instant> after(Duration duration) {
         final Instant start = Instant.now();
@@ -73,9 +155,9 @@ public class SchedulerImpl implements Scheduler {
 
     private <T> ScheduledCompletableFutureOnce<T> afterInternal(ScheduledCompletableFutureOnce<T> deferred,
             Callable<T> callable) {
-        final long duration = Math.max(100,
-                deferred.getScheduledTime().minus(currentTimeMillis(), ChronoUnit.MILLIS).toInstant().toEpochMilli());
-        final ScheduledFuture<?> future = executor.schedule(() -> {
+        final long delay = deferred.getScheduledTime().minus(currentTimeMillis(), ChronoUnit.MILLIS).toInstant()
+                .toEpochMilli();
+        final Runnable task = () -> {
             try {
                 final long timeLeft = deferred.getDelay(TimeUnit.MILLISECONDS);
 
@@ -94,14 +176,28 @@ public class SchedulerImpl implements Scheduler {
                         Objects.requireNonNullElse(deferred.identifier, "<unknown>"), e);
                 deferred.completeExceptionally(e);
             }
-        }, duration, TimeUnit.MILLISECONDS);
+        };
+        final Runnable cancelTask;
+        final long duration;
+        HashedWheelTimer timingWheel = this.timingWheel;
+        if (timingWheel != null) {
+            // the timing wheel runs tasks at the next tick after their delay
+            duration = Math.max(0, delay);
+            HashedWheelTimer.Timeout timeout = timingWheel.schedule(new DeferredTask(deferred, task), duration,
+                    TimeUnit.MILLISECONDS);
+            cancelTask = () -> timeout.cancel(true);
+        } else {
+            duration = Math.max(100, delay);
+            ScheduledFuture<?> future = executor.schedule(task, duration, TimeUnit.MILLISECONDS);
+            cancelTask = () -> future.cancel(true);
+        }
         if (logger.isTraceEnabled()) {
             logger.trace("Scheduled a task to run in {} seconds.", TimeUnit.MILLISECONDS.toSeconds(duration));
         }
         deferred.exceptionally(e -> {
             logger.trace("Scheduled task stopped with exception ", e);
             if (e instanceof CancellationException) {
-                future.cancel(true);
+                cancelTask.run();
             }
             return null;
         });
@@ -193,6 +289,24 @@ public class SchedulerImpl implements Scheduler {
         });
     }
 
+    /**
+     * A task scheduled by the timing wheel, which knows the future to complete if the task is not run anymore.
+     */
+    private static class DeferredTask implements Runnable {
+        private final ScheduledCompletableFutureOnce<?> deferred;
+        private final Runnable task;
+
+        DeferredTask(ScheduledCompletableFutureOnce<?> deferred, Runnable task) {
+            this.deferred = deferred;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
     /**
      * {@link ScheduledCompletableFuture} that is intended to keep track of jobs that only run recurring.
      * Calling get() on this class will only return if the job is stopped or if the related scheduler
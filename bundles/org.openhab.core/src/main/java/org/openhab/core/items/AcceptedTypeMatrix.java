@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+import org.openhab.core.types.Type;
+
+/**
+ * The {@link AcceptedTypeMatrix} tells which of the accepted data or command types of an item a state or command type
+ * corresponds to.
+ * <p>
+ * A type corresponds to an accepted type if it is the accepted type itself or if it is a subclass of an accepted type
+ * which is not an enum (e.g. a {@link org.openhab.core.library.types.PercentType} for an item accepting
+ * {@link org.openhab.core.library.types.DecimalType}). A state only corresponds to an accepted type which is a
+ * {@link State} as well, so it can be converted to it. The result is computed once per matrix and type class and
+ * reused afterwards, so the class hierarchy is not inspected for every state update or command.
+ * <p>
+ * The matrix of the accepted data types of an item is kept with the class of the item (or of the base item of a
+ * group) and its results with the class of the state or command, so nothing is kept after the classes of an add-on
+ * have been unloaded. Matrices created by {@link #of(List)} are kept by the caller.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public final class AcceptedTypeMatrix {
+
+    // item class -> matrix of its accepted data types, kept with the item class
+    private static final ClassValue<AtomicReference<@Nullable AcceptedTypeMatrix>> DATA_TYPE_MATRICES = //
+            new ClassValue<>() {
+                @Override
+                protected AtomicReference<@Nullable AcceptedTypeMatrix> computeValue(Class<?> itemClass) {
+                    return new AtomicReference<>();
+                }
+            };
+
+    private final List<Class<? extends Type>> acceptedTypes;
+    private final @Nullable ClassValue<Optional<Class<? extends Type>>> acceptedTypeByClass;
+
+    private AcceptedTypeMatrix(List<Class<? extends Type>> acceptedTypes, boolean cached) {
+        this.acceptedTypes = acceptedTypes;
+        this.acceptedTypeByClass = cached ? new ClassValue<>() {
+            @Override
+            protected Optional<Class<? extends Type>> computeValue(Class<?> typeClass) {
+                return Optional.ofNullable(resolveAcceptedType(typeClass));
+            }
+        } : null;
+    }
+
+    /**
+     * Returns the matrix for the accepted data types of an item.
+     *
+     * @param item the item
+     * @return the matrix
+     */
+    @SuppressWarnings("unchecked")
+    public static AcceptedTypeMatrix ofDataTypes(Item item) {
+        List<? extends Class<? extends Type>> acceptedTypes = item.getAcceptedDataTypes();
+        Item typeItem = getTypeItem(item);
+        if (typeItem == null) {
+            // the accepted types of a group without base item depend on its members, so they are not cached
+            return new AcceptedTypeMatrix((List<Class<? extends Type>>) acceptedTypes, false);
+        }
+        AtomicReference<@Nullable AcceptedTypeMatrix> holder = DATA_TYPE_MATRICES.get(typeItem.getClass());
+        AcceptedTypeMatrix matrix = holder.get();
+        if (matrix == null || !matrix.acceptedTypes.equals(acceptedTypes)) {
+            // the first item of this class or one accepting different types than the other items of its class
+            matrix = of(acceptedTypes);
+            holder.set(matrix);
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates a matrix for a list of accepted types. The matrix caches its results, so the caller should keep it as
+     * long as the accepted types are in use.
+     *
+     * @param acceptedTypes the accepted types
+     * @return the matrix
+     */
+    @SuppressWarnings("unchecked")
+    public static AcceptedTypeMatrix of(List<? extends Class<? extends Type>> acceptedTypes) {
+        return new AcceptedTypeMatrix(List.copyOf((List<Class<? extends Type>>) acceptedTypes), true);
+    }
+
+    private static @Nullable Item getTypeItem(Item item) {
+        Item typeItem = item;
+        while (typeItem instanceof GroupItem) {
+            typeItem = ((GroupItem) typeItem).getBaseItem();
+        }
+        return typeItem;
+    }
+
+    /**
+     * Returns the accepted type a type corresponds to.
+     *
+     * @param typeClass the class of a state or command
+     * @return the class itself if it is accepted, the accepted superclass if there is one or null otherwise
+     */
+    public @Nullable Class<? extends Type> getAcceptedType(Class<? extends Type> typeClass) {
+        ClassValue<Optional<Class<? extends Type>>> acceptedTypeByClass = this.acceptedTypeByClass;
+        return acceptedTypeByClass == null ? resolveAcceptedType(typeClass)
+                : acceptedTypeByClass.get(typeClass).orElse(null);
+    }
+
+    /**
+     * Determines whether a type is accepted, either directly or through its class hierarchy.
+     *
+     * @param typeClass the class of a state or command
+     * @return true if the type corresponds to an accepted type
+     */
+    public boolean isAccepted(Class<? extends Type> typeClass) {
+        return getAcceptedType(typeClass) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Class<? extends Type> resolveAcceptedType(Class<?> typeClass) {
+        if (acceptedTypes.contains(typeClass)) {
+            return (Class<? extends Type>) typeClass;
+        }
+        boolean isState = State.class.isAssignableFrom(typeClass);
+        for (Class<? extends Type> acceptedType : acceptedTypes) {
+            if (!acceptedType.isEnum() && acceptedType.isAssignableFrom(typeClass)
+                    && (!isState || State.class.isAssignableFrom(acceptedType))) {
+                return acceptedType;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ExpireMetrics} provide runtime statistics of the expiration of item states configured by the
+ * <code>expire</code> metadata.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public interface ExpireMetrics {
+
+    /**
+     * Gets the number of items that will expire unless they receive the expire state or command before.
+     *
+     * @return the number of pending expirations
+     */
+    int getPendingExpirations();
+}
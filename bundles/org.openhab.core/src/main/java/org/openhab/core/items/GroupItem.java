@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.i18n.UnitProvider;
+import org.openhab.core.internal.items.GroupStateAggregation;
 import org.openhab.core.items.events.ItemEventFactory;
 import org.openhab.core.service.CommandDescriptionService;
 import org.openhab.core.service.StateDescriptionService;
@@ -49,6 +50,10 @@ public class GroupItem extends GenericItem implements StateChangeListener {
     protected @Nullable GroupFunction function;
     protected final CopyOnWriteArrayList<Item> members;
 
+    private final Object aggregationLock = new Object();
+    private @Nullable GroupStateAggregation<?> aggregation;
+    private boolean aggregationValid = false;
+
     /**
      * Creates a plain GroupItem
      *
@@ -175,6 +180,7 @@ public class GroupItem extends GenericItem implements StateChangeListener {
             ((GenericItem) item).addGroupName(getName());
         }
         registerStateListener(item);
+        invalidateAggregation();
     }
 
     private void registerStateListener(Item item) {
@@ -201,6 +207,7 @@ public class GroupItem extends GenericItem implements StateChangeListener {
             unregisterStateListener(old);
         }
         registerStateListener(newItem);
+        invalidateAggregation();
     }
 
     /**
@@ -215,6 +222,7 @@ public class GroupItem extends GenericItem implements StateChangeListener {
         }
         members.remove(item);
         unregisterStateListener(item);
+        invalidateAggregation();
     }
 
     /**
@@ -225,6 +233,7 @@ public class GroupItem extends GenericItem implements StateChangeListener {
             unregisterStateListener(member);
         }
         members.clear();
+        invalidateAggregation();
     }
 
     /**
@@ -365,18 +374,57 @@ public class GroupItem extends GenericItem implements StateChangeListener {
 
     @Override
     public void stateUpdated(Item item, State state) {
-        State oldState = this.state;
-        State newState = oldState;
-        if (function != null && baseItem != null && itemStateConverter != null) {
-            State calculatedState = function.calculate(getStateMembers(getMembers()));
-            newState = itemStateConverter.convertToAcceptedState(calculatedState, baseItem);
-            setState(newState);
+        State oldState;
+        State newState;
+        synchronized (aggregationLock) {
+            oldState = this.state;
+            newState = oldState;
+            GroupFunction function = this.function;
+            if (function != null && baseItem != null && itemStateConverter != null) {
+                State calculatedState = calculateState(function, item);
+                newState = itemStateConverter.convertToAcceptedState(calculatedState, baseItem);
+                setState(newState);
+            }
         }
         if (!oldState.equals(newState)) {
             sendGroupStateChangedEvent(item.getName(), newState, oldState);
         }
     }
 
+    /**
+     * Calculates the group state after a member has been updated.
+     *
+     * If the function supports it, the state is aggregated incrementally, i.e. only the contribution of the updated
+     * member is recalculated. The aggregation is rebuilt over all members whenever the membership changes. Groups
+     * having groups as direct members are always recalculated completely, as the members of nested groups do not
+     * notify this group about their updates.
+     */
+    private State calculateState(GroupFunction function, Item updatedMember) {
+        GroupStateAggregation<?> aggregation = this.aggregation;
+        if (!aggregationValid) {
+            aggregation = canAggregate() ? GroupStateAggregation.create(function) : null;
+            if (aggregation != null) {
+                members.forEach(aggregation::add);
+            }
+            this.aggregation = aggregation;
+            aggregationValid = true;
+        } else if (aggregation != null) {
+            aggregation.update(updatedMember);
+        }
+        return aggregation != null ? aggregation.getState() : function.calculate(getStateMembers(getMembers()));
+    }
+
+    private boolean canAggregate() {
+        return members.stream().allMatch(member -> member instanceof GenericItem && !isGroupItem(member));
+    }
+
+    private void invalidateAggregation() {
+        synchronized (aggregationLock) {
+            aggregation = null;
+            aggregationValid = false;
+        }
+    }
+
     @Override
     public void setState(State state) {
         State oldState = this.state;
@@ -12,7 +12,12 @@
  */
 package org.openhab.core.items;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -100,6 +105,41 @@ public interface ItemRegistry extends Registry<Item, String> {
      */
     public <T extends Item> Collection<T> getItemsByTag(Class<T> typeFilter, String... tags);
 
+    /**
+     * This method retrieves the names of all groups an item is a direct or indirect member of.
+     *
+     * @param itemName the item name
+     * @return an unmodifiable set of the group names, empty if the item does not exist
+     */
+    public default Set<String> getAllGroupNames(String itemName) {
+        Item item = get(itemName);
+        if (item == null) {
+            return Set.of();
+        }
+        Set<String> groupNames = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>(item.getGroupNames());
+        while (!pending.isEmpty()) {
+            String groupName = pending.pop();
+            Item groupItem = get(groupName);
+            if (groupItem instanceof GroupItem && groupNames.add(groupName)) {
+                pending.addAll(groupItem.getGroupNames());
+            }
+        }
+        return Collections.unmodifiableSet(groupNames);
+    }
+
+    /**
+     * This method retrieves all members of a group and recursively the members of its subgroups, the subgroups
+     * themselves are not contained (see {@link GroupItem#getAllMembers()}).
+     *
+     * @param groupName the group name
+     * @return an unmodifiable set of the members, empty if the group does not exist
+     */
+    public default Set<Item> getAllMembers(String groupName) {
+        Item item = get(groupName);
+        return item instanceof GroupItem ? ((GroupItem) item).getAllMembers() : Set.of();
+    }
+
     /**
      * @see ManagedItemProvider#remove(String, boolean)
      */
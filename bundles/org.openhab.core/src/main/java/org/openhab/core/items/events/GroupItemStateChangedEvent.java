@@ -12,6 +12,8 @@
  */
 package org.openhab.core.items.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.types.State;
 
@@ -38,6 +40,12 @@ public class GroupItemStateChangedEvent extends ItemStateChangedEvent {
         this.memberName = memberName;
     }
 
+    protected GroupItemStateChangedEvent(String topic, Supplier<String> payloadSupplier, String itemName,
+            String memberName, State newItemState, State oldItemState) {
+        super(topic, payloadSupplier, itemName, newItemState, oldItemState);
+        this.memberName = memberName;
+    }
+
     /**
      * @return the name of the changed group member
      */
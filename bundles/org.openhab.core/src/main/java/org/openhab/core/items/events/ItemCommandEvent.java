@@ -12,6 +12,8 @@
  */
 package org.openhab.core.items.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.types.Command;
@@ -47,6 +49,21 @@ public class ItemCommandEvent extends ItemEvent {
         this.command = command;
     }
 
+    /**
+     * Constructs a new item command event object whose payload is serialized on first access.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier creating the payload
+     * @param itemName the item name
+     * @param command the command
+     * @param source the source, can be null
+     */
+    protected ItemCommandEvent(String topic, Supplier<String> payloadSupplier, String itemName, Command command,
+            @Nullable String source) {
+        super(topic, payloadSupplier, itemName, source);
+        this.command = command;
+    }
+
     @Override
     public String getType() {
         return TYPE;
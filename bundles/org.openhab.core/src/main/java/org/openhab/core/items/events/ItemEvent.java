@@ -12,6 +12,8 @@
  */
 package org.openhab.core.items.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.events.AbstractEvent;
@@ -39,6 +41,19 @@ public abstract class ItemEvent extends AbstractEvent {
         this.itemName = itemName;
     }
 
+    /**
+     * Constructs a new item event whose payload is serialized on first access.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier creating the payload
+     * @param itemName the item name
+     * @param source the source, can be null
+     */
+    protected ItemEvent(String topic, Supplier<String> payloadSupplier, String itemName, @Nullable String source) {
+        super(topic, payloadSupplier, source);
+        this.itemName = itemName;
+    }
+
     /**
      * Gets the item name.
      *
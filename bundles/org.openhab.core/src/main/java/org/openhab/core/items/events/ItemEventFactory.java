@@ -12,11 +12,10 @@
  */
 package org.openhab.core.items.events;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -30,6 +29,7 @@ import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.Type;
+import org.openhab.core.types.TypeParserRegistry;
 import org.openhab.core.types.UnDefType;
 import org.osgi.service.component.annotations.Component;
 
@@ -44,8 +44,6 @@ import org.osgi.service.component.annotations.Component;
 public class ItemEventFactory extends AbstractEventFactory {
     private static final String TYPE_POSTFIX = "Type";
 
-    private static final String CORE_LIBRARY_PACKAGE = "org.openhab.core.library.types.";
-
     private static final String ITEM_COMAND_EVENT_TOPIC = "openhab/items/{itemName}/command";
 
     private static final String ITEM_STATE_EVENT_TOPIC = "openhab/items/{itemName}/state";
@@ -175,20 +173,15 @@ public class ItemEventFactory extends AbstractEventFactory {
             return RefreshType.valueOf(valueToParse);
         }
 
+        Function<String, ? extends Type> parser = TypeParserRegistry.getParser(simpleClassName);
+        if (parser == null) {
+            throw new IllegalArgumentException("Error getting parser for simple name: '" + simpleClassName + "'.");
+        }
         try {
-            Class<?> stateClass = Class.forName(CORE_LIBRARY_PACKAGE + simpleClassName);
-            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
-            return valueOfMethod.invoke(stateClass, valueToParse);
-        } catch (ClassNotFoundException e) {
-            throw new IllegalArgumentException("Error getting class for simple name: '" + simpleClassName
-                    + "' using package name '" + CORE_LIBRARY_PACKAGE + "'.", e);
-        } catch (NoSuchMethodException | SecurityException e) {
-            throw new IllegalStateException(
-                    "Error getting method #valueOf(String) of class '" + CORE_LIBRARY_PACKAGE + simpleClassName + "'.",
+            return parser.apply(valueToParse);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Error parsing value '" + valueToParse + "' as '" + simpleClassName + "'.",
                     e);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            throw new IllegalStateException("Error invoking #valueOf(String) on class '" + CORE_LIBRARY_PACKAGE
-                    + simpleClassName + "' with value '" + valueToParse + "'.", e);
         }
     }
 
@@ -222,9 +215,9 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemCommandEvent createCommandEvent(String itemName, Command command, @Nullable String source) {
         assertValidArguments(itemName, command, "command");
         String topic = buildTopic(ITEM_COMAND_EVENT_TOPIC, itemName);
-        ItemEventPayloadBean bean = new ItemEventPayloadBean(getCommandType(command), command.toString());
-        String payload = serializePayload(bean);
-        return new ItemCommandEvent(topic, payload, itemName, command, source);
+        return new ItemCommandEvent(topic,
+                () -> serializePayload(new ItemEventPayloadBean(getCommandType(command), command.toString())), itemName,
+                command, source);
     }
 
     /**
@@ -251,9 +244,9 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemStateEvent createStateEvent(String itemName, State state, @Nullable String source) {
         assertValidArguments(itemName, state, "state");
         String topic = buildTopic(ITEM_STATE_EVENT_TOPIC, itemName);
-        ItemEventPayloadBean bean = new ItemEventPayloadBean(getStateType(state), state.toFullString());
-        String payload = serializePayload(bean);
-        return new ItemStateEvent(topic, payload, itemName, state, source);
+        return new ItemStateEvent(topic,
+                () -> serializePayload(new ItemEventPayloadBean(getStateType(state), state.toFullString())), itemName,
+                state, source);
     }
 
     /**
@@ -281,10 +274,9 @@ public class ItemEventFactory extends AbstractEventFactory {
             boolean isConfirmation) {
         assertValidArguments(itemName, state, "state");
         String topic = buildTopic(ITEM_STATE_PREDICTED_EVENT_TOPIC, itemName);
-        ItemStatePredictedEventPayloadBean bean = new ItemStatePredictedEventPayloadBean(getStateType(state),
-                state.toFullString(), isConfirmation);
-        String payload = serializePayload(bean);
-        return new ItemStatePredictedEvent(topic, payload, itemName, state, isConfirmation);
+        return new ItemStatePredictedEvent(topic, () -> serializePayload(
+                new ItemStatePredictedEventPayloadBean(getStateType(state), state.toFullString(), isConfirmation)),
+                itemName, state, isConfirmation);
     }
 
     /**
@@ -299,10 +291,8 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemStateChangedEvent createStateChangedEvent(String itemName, State newState, State oldState) {
         assertValidArguments(itemName, newState, "state");
         String topic = buildTopic(ITEM_STATE_CHANGED_EVENT_TOPIC, itemName);
-        ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
-                newState.toFullString(), getStateType(oldState), oldState.toFullString());
-        String payload = serializePayload(bean);
-        return new ItemStateChangedEvent(topic, payload, itemName, newState, oldState);
+        return new ItemStateChangedEvent(topic, () -> serializeStateChangedPayload(newState, oldState), itemName,
+                newState, oldState);
     }
 
     /**
@@ -319,10 +309,8 @@ public class ItemEventFactory extends AbstractEventFactory {
             State newState, State oldState) {
         assertValidArguments(itemName, memberName, newState, "state");
         String topic = buildGroupTopic(GROUPITEM_STATE_CHANGED_EVENT_TOPIC, itemName, memberName);
-        ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
-                newState.toFullString(), getStateType(oldState), oldState.toFullString());
-        String payload = serializePayload(bean);
-        return new GroupItemStateChangedEvent(topic, payload, itemName, memberName, newState, oldState);
+        return new GroupItemStateChangedEvent(topic, () -> serializeStateChangedPayload(newState, oldState), itemName,
+                memberName, newState, oldState);
     }
 
     /**
@@ -384,6 +372,11 @@ public class ItemEventFactory extends AbstractEventFactory {
         return buildTopic(topic, itemName).replace("{memberName}", memberName);
     }
 
+    private static String serializeStateChangedPayload(State newState, State oldState) {
+        return serializePayload(new ItemStateChangedEventPayloadBean(getStateType(newState), newState.toFullString(),
+                getStateType(oldState), oldState.toFullString()));
+    }
+
     private static ItemDTO map(Item item) {
         return ItemDTOMapper.map(item);
     }
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.items.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.types.State;
 
@@ -50,6 +52,22 @@ public class ItemStateChangedEvent extends ItemEvent {
         this.oldItemState = oldItemState;
     }
 
+    /**
+     * Constructs a new item state changed event whose payload is serialized on first access.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier creating the payload
+     * @param itemName the item name
+     * @param newItemState the new item state
+     * @param oldItemState the old item state
+     */
+    protected ItemStateChangedEvent(String topic, Supplier<String> payloadSupplier, String itemName, State newItemState,
+            State oldItemState) {
+        super(topic, payloadSupplier, itemName, null);
+        this.itemState = newItemState;
+        this.oldItemState = oldItemState;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.items.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.types.State;
 
@@ -53,6 +55,22 @@ public class ItemStatePredictedEvent extends ItemEvent {
         this.isConfirmation = isConfirmation;
     }
 
+    /**
+     * Constructs a new item state predicted event whose payload is serialized on first access.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier creating the payload
+     * @param itemName the item name
+     * @param predictedState the predicted item state
+     * @param isConfirmation the confirmation of previous item state
+     */
+    protected ItemStatePredictedEvent(String topic, Supplier<String> payloadSupplier, String itemName,
+            State predictedState, boolean isConfirmation) {
+        super(topic, payloadSupplier, itemName, null);
+        this.predictedState = predictedState;
+        this.isConfirmation = isConfirmation;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -43,6 +43,15 @@ public interface QuantityTypeArithmeticGroupFunction extends GroupFunction {
             this.dimension = dimension;
         }
 
+        /**
+         * Returns the dimension of the item states this function is calculated over.
+         *
+         * @return the dimension
+         */
+        public Class<? extends Quantity<?>> getDimension() {
+            return dimension;
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
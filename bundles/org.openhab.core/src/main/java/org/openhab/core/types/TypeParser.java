@@ -12,9 +12,8 @@
  */
 package org.openhab.core.types;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -22,6 +21,8 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * This is a helper class that helps parsing a string into an openHAB type (state or command).
  *
+ * The parsers of the types are provided by the {@link TypeParserRegistry}.
+ *
  * @author Kai Kreuzer - Initial contribution
  */
 @NonNullByDefault
@@ -33,8 +34,6 @@ public final class TypeParser {
     private TypeParser() {
     }
 
-    private static final String CORE_LIBRARY_PACKAGE = "org.openhab.core.library.types.";
-
     /**
      * Parses a string into a type.
      *
@@ -43,14 +42,7 @@ public final class TypeParser {
      * @return Parsed type or null, if the type couldn't be parsed.
      */
     public static @Nullable Type parseType(String typeName, String input) {
-        try {
-            Class<?> stateClass = Class.forName(CORE_LIBRARY_PACKAGE + typeName);
-            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
-            return (Type) valueOfMethod.invoke(stateClass, input);
-        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-        }
-        return null;
+        return parse(TypeParserRegistry.getParser(typeName), input);
     }
 
     /**
@@ -68,14 +60,9 @@ public final class TypeParser {
      */
     public static @Nullable State parseState(List<Class<? extends State>> types, String s) {
         for (Class<? extends State> type : types) {
-            try {
-                Method valueOf = type.getMethod("valueOf", String.class);
-                State state = (State) valueOf.invoke(type, s);
-                if (state != null) {
-                    return state;
-                }
-            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException
-                    | InvocationTargetException e) {
+            State state = parse(TypeParserRegistry.getParser(type), s);
+            if (state != null) {
+                return state;
             }
         }
         return null;
@@ -96,16 +83,22 @@ public final class TypeParser {
      */
     public static @Nullable Command parseCommand(List<Class<? extends Command>> types, String s) {
         for (Class<? extends Command> type : types) {
-            try {
-                Method valueOf = type.getMethod("valueOf", String.class);
-                Command value = (Command) valueOf.invoke(type, s);
-                if (value != null) {
-                    return value;
-                }
-            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException
-                    | InvocationTargetException e) {
+            Command value = parse(TypeParserRegistry.getParser(type), s);
+            if (value != null) {
+                return value;
             }
         }
         return null;
     }
+
+    private static <T extends Type> @Nullable T parse(@Nullable Function<String, ? extends T> parser, String input) {
+        if (parser == null) {
+            return null;
+        }
+        try {
+            return parser.apply(input);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
 }
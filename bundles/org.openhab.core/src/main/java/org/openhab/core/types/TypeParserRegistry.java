@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.types;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.NextPreviousType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PlayPauseType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.RawType;
+import org.openhab.core.library.types.RewindFastforwardType;
+import org.openhab.core.library.types.StopMoveType;
+import org.openhab.core.library.types.StringListType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+
+/**
+ * The {@link TypeParserRegistry} holds the parsers turning string values back into openHAB types (states or
+ * commands), so that parsing does not need to look up and invoke {@code valueOf(String)} by reflection every time.
+ * <p>
+ * The parsers of all core types are registered from the start. Add-ons providing their own types can register a
+ * parser for them, which makes them available by their class and by their simple class name. As types are looked up
+ * by their simple class name in events, a type cannot be registered under the simple class name of a core type or of
+ * another registered type. Types without a registered parser are resolved once through their public static
+ * {@code valueOf(String)} method.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public final class TypeParserRegistry {
+
+    private static final String CORE_LIBRARY_PACKAGE = "org.openhab.core.library.types.";
+
+    // the types of the core library by their simple class name, the only ones that have been parsed by name before
+    private static final Map<String, Function<String, ? extends Type>> CORE_PARSERS_BY_NAME = new ConcurrentHashMap<>();
+    // the types registered by add-ons by their simple class name
+    private static final Map<String, Registration> PARSERS_BY_NAME = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Function<String, ? extends Type>> PARSERS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Optional<Function<String, ? extends Type>>> VALUE_OF_PARSERS = new ClassValue<>() {
+        @Override
+        protected @Nullable Optional<Function<String, ? extends Type>> computeValue(@Nullable Class<?> type) {
+            return type == null ? Optional.empty() : Optional.ofNullable(createValueOfParser(type));
+        }
+    };
+
+    static {
+        PARSERS_BY_CLASS.put(UnDefType.class, UnDefType::valueOf);
+        PARSERS_BY_CLASS.put(RefreshType.class, RefreshType::valueOf);
+        registerCore(DateTimeType.class, DateTimeType::valueOf);
+        registerCore(DecimalType.class, DecimalType::valueOf);
+        registerCore(HSBType.class, HSBType::valueOf);
+        registerCore(IncreaseDecreaseType.class, IncreaseDecreaseType::valueOf);
+        registerCore(NextPreviousType.class, NextPreviousType::valueOf);
+        registerCore(OnOffType.class, OnOffType::valueOf);
+        registerCore(OpenClosedType.class, OpenClosedType::valueOf);
+        registerCore(PercentType.class, PercentType::valueOf);
+        registerCore(PlayPauseType.class, PlayPauseType::valueOf);
+        registerCore(PointType.class, PointType::valueOf);
+        registerCore(QuantityType.class, QuantityType::valueOf);
+        registerCore(RawType.class, RawType::valueOf);
+        registerCore(RewindFastforwardType.class, RewindFastforwardType::valueOf);
+        registerCore(StopMoveType.class, StopMoveType::valueOf);
+        registerCore(StringListType.class, StringListType::valueOf);
+        registerCore(StringType.class, StringType::valueOf);
+        registerCore(UpDownType.class, UpDownType::valueOf);
+    }
+
+    /**
+     * No instances allowed.
+     */
+    private TypeParserRegistry() {
+    }
+
+    private static <T extends Type> void registerCore(Class<T> type, Function<String, ? extends T> parser) {
+        PARSERS_BY_CLASS.put(type, parser);
+        CORE_PARSERS_BY_NAME.put(type.getSimpleName(), parser);
+    }
+
+    /**
+     * Registers a parser for a type. An already registered parser for the same type is replaced.
+     *
+     * @param type the class of the type
+     * @param parser the parser creating an instance of the type from its string value
+     * @throws IllegalArgumentException if the type is a core type or its simple class name is already used by a core
+     *             type or another registered type
+     */
+    public static synchronized <T extends Type> void register(Class<T> type, Function<String, ? extends T> parser) {
+        String name = type.getSimpleName();
+        if (isCoreTypeName(name)) {
+            throw new IllegalArgumentException(
+                    "The type '" + type.getName() + "' cannot be registered, '" + name + "' is a core type.");
+        }
+        Registration registration = PARSERS_BY_NAME.get(name);
+        if (registration != null && registration.type != type) {
+            throw new IllegalArgumentException("The type '" + type.getName() + "' cannot be registered, '" + name
+                    + "' is already registered for '" + registration.type.getName() + "'.");
+        }
+        PARSERS_BY_CLASS.put(type, parser);
+        PARSERS_BY_NAME.put(name, new Registration(type, parser));
+    }
+
+    /**
+     * Removes the parser of a registered type.
+     *
+     * @param type the class of the type
+     */
+    public static synchronized void unregister(Class<? extends Type> type) {
+        Registration registration = PARSERS_BY_NAME.get(type.getSimpleName());
+        if (registration != null && registration.type == type) {
+            PARSERS_BY_NAME.remove(type.getSimpleName());
+            PARSERS_BY_CLASS.remove(type);
+        }
+    }
+
+    /**
+     * Gets the parser of a type.
+     *
+     * @param type the class of the type
+     * @return the parser, or null if the type can neither be found in the registry nor has a public static
+     *         {@code valueOf(String)} method
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> @Nullable Function<String, ? extends T> getParser(Class<T> type) {
+        Function<String, ? extends Type> parser = PARSERS_BY_CLASS.get(type);
+        if (parser == null) {
+            parser = getValueOfParser(type);
+        }
+        return (Function<String, ? extends T>) parser;
+    }
+
+    /**
+     * Gets the parser of a type by its simple class name, e.g. {@code DecimalType}.
+     * <p>
+     * Only the types of the core library ({@code org.openhab.core.library.types}) and registered types can be found by
+     * their name, {@link UnDefType} and {@link RefreshType} cannot.
+     *
+     * @param simpleClassName the simple class name of a registered type or a type of the core library
+     * @return the parser, or null if no such type exists
+     */
+    public static @Nullable Function<String, ? extends Type> getParser(String simpleClassName) {
+        Function<String, ? extends Type> parser = getCoreParser(simpleClassName);
+        if (parser != null) {
+            return parser;
+        }
+        Registration registration = PARSERS_BY_NAME.get(simpleClassName);
+        return registration == null ? null : registration.parser;
+    }
+
+    private static @Nullable Function<String, ? extends Type> getCoreParser(String simpleClassName) {
+        Function<String, ? extends Type> parser = CORE_PARSERS_BY_NAME.get(simpleClassName);
+        if (parser != null) {
+            return parser;
+        }
+        Class<?> type = getCoreLibraryClass(simpleClassName);
+        if (type != null) {
+            parser = getValueOfParser(type);
+            if (parser != null) {
+                CORE_PARSERS_BY_NAME.putIfAbsent(simpleClassName, parser);
+            }
+        }
+        return parser;
+    }
+
+    private static boolean isCoreTypeName(String simpleClassName) {
+        return UnDefType.class.getSimpleName().equals(simpleClassName)
+                || RefreshType.class.getSimpleName().equals(simpleClassName)
+                || CORE_PARSERS_BY_NAME.containsKey(simpleClassName) || getCoreLibraryClass(simpleClassName) != null;
+    }
+
+    private static @Nullable Class<?> getCoreLibraryClass(String simpleClassName) {
+        try {
+            Class<?> type = Class.forName(CORE_LIBRARY_PACKAGE + simpleClassName);
+            return Type.class.isAssignableFrom(type) ? type : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Function<String, ? extends Type> getValueOfParser(Class<?> type) {
+        Optional<Function<String, ? extends Type>> parser = VALUE_OF_PARSERS.get(type);
+        return parser == null ? null : parser.orElse(null);
+    }
+
+    private static @Nullable Function<String, ? extends Type> createValueOfParser(Class<?> type) {
+        try {
+            Method valueOf = type.getMethod("valueOf", String.class);
+            if (!Modifier.isStatic(valueOf.getModifiers()) || !Type.class.isAssignableFrom(valueOf.getReturnType())) {
+                return null;
+            }
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(valueOf)
+                    .asType(MethodType.methodType(Type.class, String.class));
+            return value -> invoke(handle, value);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static class Registration {
+        private final Class<?> type;
+        private final Function<String, ? extends Type> parser;
+
+        private Registration(Class<?> type, Function<String, ? extends Type> parser) {
+            this.type = type;
+            this.parser = parser;
+        }
+    }
+
+    private static Type invoke(MethodHandle handle, String value) {
+        try {
+            return (Type) handle.invokeExact(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
@@ -17,6 +17,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 
@@ -64,6 +66,27 @@ public class AbstractUIDTest {
         assertThat(testUID1, is(testUID2));
     }
 
+    @Test
+    public void nonAsciiCharactersNotAllowed() {
+        assertThrows(IllegalArgumentException.class, () -> new TestUID("seg1", "seg2", "seg\u00e4"));
+    }
+
+    @Test
+    public void trailingSeparatorsAreIgnored() {
+        TestUID testUID = new TestUID("seg1::seg3::");
+        assertThat(testUID.getAllSegments(), is(List.of("seg1", "", "seg3")));
+        assertThrows(IllegalArgumentException.class, () -> new TestUID(":::"));
+    }
+
+    @Test
+    public void equalUIDsHaveEqualHashCodes() {
+        TestUID testUID1 = new TestUID("seg1", "seg2", "seg3");
+        TestUID testUID2 = new TestUID("seg1:seg2:seg3");
+
+        assertThat(testUID1.hashCode(), is(testUID2.hashCode()));
+        assertThat(testUID1.equals(new TestUID("seg1:seg2:seg4")), is(false));
+    }
+
     private static class TestUID extends AbstractUID {
 
         public TestUID(String... segments) {
@@ -22,6 +22,7 @@ import java.lang.Thread.State;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Proxy;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.Instant;
@@ -335,6 +336,80 @@ public class SafeCallerImplTest extends JavaTest {
         assertThat(res, is("Hello World!"));
     }
 
+    @Test
+    public void testRunnableIsNotProxied() {
+        assertThat(Proxy.isProxyClass(safeCaller.create(mock(Runnable.class), Runnable.class).build().getClass()),
+                is(false));
+        assertThat(Proxy.isProxyClass(safeCaller.create(new Target(), ITarget.class).build().getClass()), is(true));
+    }
+
+    @Test
+    public void testAction() {
+        Runnable mock = mock(Runnable.class);
+
+        safeCaller.run(new Object(), mock);
+        verify(mock).run();
+    }
+
+    @Test
+    public void testActionExceptionHandler() {
+        safeCaller.create(new Object(), () -> {
+            throw new IllegalStateException();
+        }).onException(errorHandlerMock).build().run();
+        verify(errorHandlerMock).accept(isA(IllegalStateException.class));
+    }
+
+    @Test
+    public void testActionTimeoutHandler() {
+        assertDurationBetween(TIMEOUT - GRACE, BLOCK - GRACE, () -> safeCaller.create(new Object(), () -> sleep(BLOCK))
+                .withTimeout(TIMEOUT).onTimeout(timeoutHandlerMock).build().run());
+        verify(timeoutHandlerMock).run();
+    }
+
+    @Test
+    public void testActionIsDescribedInLogMessages() {
+        SafeCallManager manager = mock(SafeCallManager.class);
+        Runnable action = mock(Runnable.class);
+
+        Invocation described = new Invocation(new InvocationHandlerSync<>(manager, action, "thing",
+                "ThingHandler.initialize()", TIMEOUT, null, null));
+        assertThat(described.getMethodName(), is("ThingHandler.initialize()"));
+        assertThat(described.getCallee(), is("thing"));
+        assertThat(described.toString(), is("invocation of 'ThingHandler.initialize()' on 'thing'"));
+
+        Invocation undescribed = new Invocation(
+                new InvocationHandlerSync<>(manager, action, "thing", null, TIMEOUT, null, null));
+        assertThat(undescribed.getMethodName(), is("Runnable.run()"));
+    }
+
+    @Test
+    public void testAsyncActionSequentialSameIdentifier() {
+        Object identifier = new Object();
+        Queue<String> order = new ConcurrentLinkedQueue<>();
+
+        assertDurationBelow(GRACE, () -> {
+            safeCaller.create(identifier, () -> {
+                sleep(TIMEOUT);
+                order.add("first");
+            }).withAsync().withTimeout(BLOCK).build().run();
+            safeCaller.create(identifier, () -> order.add("second")).withAsync().withTimeout(BLOCK).build().run();
+        });
+        waitForAssert(() -> assertThat(order, contains("first", "second")));
+    }
+
+    @Test
+    public void testActionCallWrapped() {
+        AtomicReference<String> outerThreadName = new AtomicReference<>();
+        AtomicReference<String> innerThreadName = new AtomicReference<>();
+
+        safeCaller.run(new Object(), () -> {
+            outerThreadName.set(Thread.currentThread().getName());
+            safeCaller.run(new Object(), () -> innerThreadName.set(Thread.currentThread().getName()));
+        });
+        assertThat(innerThreadName.get(), is(notNullValue()));
+        assertThat(innerThreadName.get(), is(outerThreadName.get()));
+    }
+
     @Test
     public void testAsyncReturnsImmediately() {
         Runnable mock1 = mock(Runnable.class);
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.EventSubscriberMetrics;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+import org.osgi.service.event.EventAdmin;
+
+/**
+ * The {@link EventHandlerTest} tests the typed and the serialized delivery of the {@link EventHandler}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class EventHandlerTest {
+
+    private static final String ITEM_NAME = "Sensor";
+
+    private final EventSubscriberIndex eventSubscriberIndex = new EventSubscriberIndex();
+    private final Map<String, EventFactory> typedEventFactories = new ConcurrentHashMap<>();
+    private final EventBusMetricsCollector metrics = new EventBusMetricsCollector();
+
+    private @Mock @NonNullByDefault({}) EventAdmin eventAdminMock;
+    private @Mock @NonNullByDefault({}) EventSubscriber subscriberMock;
+
+    private @NonNullByDefault({}) ItemEventFactory itemEventFactory;
+    private @NonNullByDefault({}) EventHandler eventHandler;
+
+    @BeforeEach
+    public void setup() {
+        itemEventFactory = spy(new ItemEventFactory());
+        typedEventFactories.put(ItemStateEvent.TYPE, itemEventFactory);
+        when(subscriberMock.getSubscribedEventTypes()).thenReturn(Set.of(ItemStateEvent.TYPE));
+        eventSubscriberIndex.add(subscriberMock);
+        eventHandler = new EventHandler(eventSubscriberIndex, typedEventFactories, metrics);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventHandler.close();
+    }
+
+    @Test
+    public void testTypedDeliveryHandsOverOriginalEvent() throws Exception {
+        ItemStateEvent event = ItemEventFactory.createStateEvent(ITEM_NAME, new DecimalType(42), null);
+
+        eventHandler.handleEvent(publish(event, Map.of()));
+
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(subscriberMock, timeout(1000)).receive(captor.capture());
+        assertSame(event, captor.getValue());
+        assertTrue(event.isPayloadDeferred());
+        verify(itemEventFactory, never()).createEvent(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testSerializedDeliveryRecreatesEvent() throws Exception {
+        ItemStateEvent event = ItemEventFactory.createStateEvent(ITEM_NAME, new DecimalType(42), null);
+
+        eventHandler.handleEvent(publish(event, Map.of("typedDelivery", "false")));
+
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(subscriberMock, timeout(1000)).receive(captor.capture());
+        assertNotSame(event, captor.getValue());
+        assertEquals(event, captor.getValue());
+        verify(itemEventFactory).createEvent(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testTypedDeliveryRequiresEventFactory() throws Exception {
+        typedEventFactories.clear();
+
+        eventHandler.handleEvent(
+                publish(ItemEventFactory.createStateEvent(ITEM_NAME, new DecimalType(42), null), Map.of()));
+
+        verify(subscriberMock, after(100).never()).receive(any());
+    }
+
+    @Test
+    public void testMetricsAreCollected() throws Exception {
+        eventHandler.handleEvent(
+                publish(ItemEventFactory.createStateEvent(ITEM_NAME, new DecimalType(42), null), Map.of()));
+
+        verify(subscriberMock, timeout(1000)).receive(any());
+        assertEquals(Map.of(ItemStateEvent.TYPE, 1L), metrics.getEventCounts());
+        assertEquals(1, metrics.getDeliveryLatency().getCount());
+        assertEquals(1, metrics.getSubscriberMetrics().size());
+        EventSubscriberMetrics subscriberMetrics = metrics.getSubscriberMetrics().iterator().next();
+        assertEquals(0, subscriberMetrics.getFailedEvents());
+        assertEquals(0, subscriberMetrics.getPendingEvents());
+    }
+
+    @Test
+    public void testLazyPayloadIsSerializedOnDemand() {
+        ItemStateEvent event = ItemEventFactory.createStateEvent(ITEM_NAME, new DecimalType(42), null);
+        assertTrue(event.isPayloadDeferred());
+
+        assertEquals("{\"type\":\"Decimal\",\"value\":\"42\"}", event.getPayload());
+        assertFalse(event.isPayloadDeferred());
+    }
+
+    private org.osgi.service.event.Event publish(Event event, Map<String, Object> config) {
+        new OSGiEventPublisher(eventAdminMock, config).post(event);
+        ArgumentCaptor<org.osgi.service.event.Event> captor = ArgumentCaptor
+                .forClass(org.osgi.service.event.Event.class);
+        verify(eventAdminMock).postEvent(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.internal.events.EventQueue.OverloadPolicy;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.osgi.service.event.Event;
+
+/**
+ * The {@link EventQueueTest} tests the {@link EventQueue}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventQueueTest {
+
+    private final EventBusMetricsCollector metrics = new EventBusMetricsCollector();
+    private final EventQueue queue = new EventQueue(metrics);
+
+    @Test
+    public void testUnboundedQueueKeepsAllEventsInOrder() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            queue.put(stateEvent("Item", i));
+        }
+
+        assertEquals(10, queue.size());
+        assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), drain());
+    }
+
+    @Test
+    public void testCoalescedStateEventsDoNotOvertakeEarlierEvents() throws InterruptedException {
+        queue.configure(0, OverloadPolicy.BLOCK, true);
+
+        queue.put(stateEvent("ItemA", 1));
+        queue.put(stateEvent("ItemB", 1));
+        queue.put(commandEvent("ItemA", 2));
+        queue.put(stateEvent("ItemA", 3));
+        queue.put(stateEvent("ItemA", 4));
+
+        assertEquals(3, queue.size());
+        assertEquals(List.of("1", "2", "4"), drain());
+        assertEquals(2, metrics.getCoalescedEvents());
+    }
+
+    @Test
+    public void testDropNewest() throws InterruptedException {
+        queue.configure(2, OverloadPolicy.DROP_NEWEST, false);
+
+        queue.put(stateEvent("Item", 1));
+        queue.put(stateEvent("Item", 2));
+        queue.put(stateEvent("Item", 3));
+
+        assertEquals(List.of("1", "2"), drain());
+        assertEquals(1, metrics.getDroppedEvents());
+    }
+
+    @Test
+    public void testDropOldest() throws InterruptedException {
+        queue.configure(2, OverloadPolicy.DROP_OLDEST, false);
+
+        queue.put(stateEvent("Item", 1));
+        queue.put(stateEvent("Item", 2));
+        queue.put(stateEvent("Item", 3));
+
+        assertEquals(List.of("2", "3"), drain());
+        assertEquals(1, metrics.getDroppedEvents());
+    }
+
+    @Test
+    public void testCoalescingMakesSpaceInFullQueue() throws InterruptedException {
+        queue.configure(1, OverloadPolicy.DROP_NEWEST, true);
+
+        queue.put(stateEvent("Item", 1));
+        queue.put(stateEvent("Item", 2));
+
+        assertEquals(List.of("2"), drain());
+        assertEquals(0, metrics.getDroppedEvents());
+        assertEquals(1, metrics.getCoalescedEvents());
+    }
+
+    @Test
+    public void testBlockWaitsForSpace() throws Exception {
+        queue.configure(1, OverloadPolicy.BLOCK, false);
+        queue.put(stateEvent("Item", 1));
+
+        CompletableFuture<@Nullable Void> blockedPut = CompletableFuture.runAsync(() -> {
+            try {
+                queue.put(stateEvent("Item", 2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(blockedPut.isDone());
+
+        assertEquals("1", getValue(queue.poll(1, TimeUnit.SECONDS)));
+        blockedPut.get(1, TimeUnit.SECONDS);
+        assertEquals(List.of("2"), drain());
+    }
+
+    @Test
+    public void testCloseWakesUpWaitingConsumer() throws Exception {
+        CompletableFuture<@Nullable Event> blockedPoll = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.poll(1, TimeUnit.HOURS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        Thread.sleep(100);
+
+        queue.close();
+
+        assertNull(blockedPoll.get(1, TimeUnit.SECONDS));
+    }
+
+    private List<String> drain() throws InterruptedException {
+        List<String> values = new ArrayList<>();
+        Event event;
+        while ((event = queue.poll(0, TimeUnit.MILLISECONDS)) != null) {
+            values.add(getValue(event));
+        }
+        return values;
+    }
+
+    private String getValue(@Nullable Event event) {
+        assertNotNull(event);
+        return (String) event.getProperty("payload");
+    }
+
+    private Event stateEvent(String itemName, int value) {
+        return new Event("openhab", Map.of("type", ItemStateEvent.TYPE, "topic", "openhab/items/" + itemName + "/state",
+                "payload", Integer.toString(value)));
+    }
+
+    private Event commandEvent(String itemName, int value) {
+        return new Event("openhab", Map.of("type", ItemCommandEvent.TYPE, "topic",
+                "openhab/items/" + itemName + "/command", "payload", Integer.toString(value)));
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.JavaTest;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * The {@link EventSubscriberDispatcherTest} tests the {@link EventSubscriberDispatcher}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventSubscriberDispatcherTest extends JavaTest {
+
+    private static final int EVENT_COUNT = 500;
+
+    private final EventBusMetricsCollector metrics = new EventBusMetricsCollector();
+
+    private @NonNullByDefault({}) ExecutorService executor;
+    private @NonNullByDefault({}) EventSubscriberDispatcher dispatcher;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+        dispatcher = new EventSubscriberDispatcher(executor, metrics);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dispatcher.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEventsArriveInOrderPerSubscriber() throws InterruptedException {
+        RecordingSubscriber subscriber1 = new RecordingSubscriber(EVENT_COUNT);
+        RecordingSubscriber subscriber2 = new RecordingSubscriber(EVENT_COUNT);
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = ItemEventFactory.createStateEvent("Item", new DecimalType(i), null);
+            dispatcher.dispatch(subscriber1, event, System.nanoTime());
+            dispatcher.dispatch(subscriber2, event, System.nanoTime());
+        }
+
+        List<Integer> expected = IntStream.range(0, EVENT_COUNT).boxed().collect(Collectors.toList());
+        assertTrue(subscriber1.latch.await(5, TimeUnit.SECONDS));
+        assertTrue(subscriber2.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(expected, subscriber1.received);
+        assertEquals(expected, subscriber2.received);
+    }
+
+    @Test
+    public void testSlowSubscriberDoesNotBlockOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        EventSubscriber blockingSubscriber = new EventSubscriber() {
+            @Override
+            public Set<String> getSubscribedEventTypes() {
+                return Set.of(EventSubscriber.ALL_EVENT_TYPES);
+            }
+
+            @Override
+            public void receive(Event event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        Event event = ItemEventFactory.createStateEvent("Item", new DecimalType(1), null);
+        dispatcher.dispatch(blockingSubscriber, event, System.nanoTime());
+        dispatcher.dispatch(blockingSubscriber, event, System.nanoTime());
+        dispatcher.dispatch(subscriber, event, System.nanoTime());
+
+        assertTrue(subscriber.latch.await(5, TimeUnit.SECONDS));
+        waitForAssert(() -> assertEquals(1, metrics.getSubscriberMetrics(blockingSubscriber).getPendingEvents()));
+        release.countDown();
+    }
+
+    @Test
+    public void testSubscriberMetrics() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        EventSubscriber failingSubscriber = new EventSubscriber() {
+            @Override
+            public Set<String> getSubscribedEventTypes() {
+                return Set.of(EventSubscriber.ALL_EVENT_TYPES);
+            }
+
+            @Override
+            public void receive(Event event) {
+                latch.countDown();
+                throw new IllegalStateException("failure");
+            }
+        };
+
+        Event event = ItemEventFactory.createStateEvent("Item", new DecimalType(1), null);
+        dispatcher.dispatch(failingSubscriber, event, System.nanoTime());
+        dispatcher.dispatch(failingSubscriber, event, System.nanoTime());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        SubscriberMetrics subscriberMetrics = metrics.getSubscriberMetrics(failingSubscriber);
+        waitForAssert(() -> assertEquals(2, subscriberMetrics.getDeliveredEvents()));
+        assertEquals(2, subscriberMetrics.getFailedEvents());
+        assertEquals(0, subscriberMetrics.getPendingEvents());
+        assertEquals(2, subscriberMetrics.getProcessingTime().getCount());
+        assertEquals(2, metrics.getDeliveryLatency().getCount());
+    }
+
+    @Test
+    public void testSubscribersOfSameClassShareMetrics() {
+        RecordingSubscriber subscriber1 = new RecordingSubscriber(1);
+        RecordingSubscriber subscriber2 = new RecordingSubscriber(1);
+
+        SubscriberMetrics subscriberMetrics = metrics.getSubscriberMetrics(subscriber1);
+        assertSame(subscriberMetrics, metrics.getSubscriberMetrics(subscriber2));
+        assertEquals(RecordingSubscriber.class.getName(), subscriberMetrics.getName());
+
+        metrics.removeSubscriber(subscriber1);
+        assertEquals(1, metrics.getSubscriberMetrics().size());
+        metrics.removeSubscriber(subscriber2);
+        assertTrue(metrics.getSubscriberMetrics().isEmpty());
+    }
+
+    private static class RecordingSubscriber implements EventSubscriber {
+        private final List<Integer> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        private RecordingSubscriber(int expectedEvents) {
+            latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Set.of(EventSubscriber.ALL_EVENT_TYPES);
+        }
+
+        @Override
+        public void receive(Event event) {
+            received.add(((DecimalType) ((ItemStateEvent) event).getItemState()).intValue());
+            latch.countDown();
+        }
+    }
+}
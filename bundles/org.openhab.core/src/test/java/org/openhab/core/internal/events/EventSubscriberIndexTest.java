@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicEventFilter;
+import org.openhab.core.events.TopicPrefixEventFilter;
+import org.openhab.core.internal.events.EventSubscriberIndex.TypeEntry;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+
+/**
+ * The {@link EventSubscriberIndexTest} tests the {@link EventSubscriberIndex}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class EventSubscriberIndexTest {
+
+    private static final String ITEM_A_STATE_TOPIC = "openhab/items/ItemA/state";
+    private static final String ITEM_B_STATE_TOPIC = "openhab/items/ItemB/state";
+
+    private final EventSubscriberIndex index = new EventSubscriberIndex();
+
+    @Test
+    public void testIndexedSubscribersOnlyGetMatchingEntityTopics() {
+        EventSubscriber itemA = subscriber(Set.of(ItemStateEvent.TYPE),
+                new TopicPrefixEventFilter("openhab/items/ItemA/"));
+        EventSubscriber itemB = subscriber(Set.of(ItemStateEvent.TYPE),
+                new TopicEventFilter("^openhab/items/ItemB/.*$"));
+        EventSubscriber unfiltered = subscriber(Set.of(ItemStateEvent.TYPE), null);
+        index.add(itemA);
+        index.add(itemB);
+        index.add(unfiltered);
+
+        TypeEntry entry = index.getEntry(ItemStateEvent.TYPE);
+        assertThat(entry.getUnindexed(), contains(unfiltered));
+        assertThat(entry.getIndexed(ITEM_A_STATE_TOPIC), contains(itemA));
+        assertThat(entry.getIndexed(ITEM_B_STATE_TOPIC), contains(itemB));
+        assertThat(entry.getIndexed("openhab/items/ItemC/state"), is(empty()));
+    }
+
+    @Test
+    public void testAllEventTypesSubscribersArePartOfEveryEntry() {
+        EventSubscriber stateSubscriber = subscriber(Set.of(ItemStateEvent.TYPE), null);
+        EventSubscriber allSubscriber = subscriber(Set.of(EventSubscriber.ALL_EVENT_TYPES),
+                new TopicPrefixEventFilter("openhab/items/ItemA/"));
+        index.add(stateSubscriber);
+        index.add(allSubscriber);
+
+        assertThat(index.getEntry(ItemStateEvent.TYPE).getUnindexed(), contains(stateSubscriber));
+        assertThat(index.getEntry(ItemStateEvent.TYPE).getIndexed(ITEM_A_STATE_TOPIC), contains(allSubscriber));
+        assertThat(index.getEntry(ItemCommandEvent.TYPE).getUnindexed(), is(empty()));
+        assertThat(index.getEntry(ItemCommandEvent.TYPE).getIndexed("openhab/items/ItemA/command"),
+                contains(allSubscriber));
+
+        index.remove(allSubscriber);
+        assertTrue(index.getEntry(ItemCommandEvent.TYPE).isEmpty());
+        assertThat(index.getEntry(ItemStateEvent.TYPE).getIndexed(ITEM_A_STATE_TOPIC), is(empty()));
+    }
+
+    @Test
+    public void testSubscriberOfSeveralTypesIsOnlyListedOncePerType() {
+        EventSubscriber subscriber = subscriber(
+                Set.of(ItemStateEvent.TYPE, ItemCommandEvent.TYPE, EventSubscriber.ALL_EVENT_TYPES), null);
+        index.add(subscriber);
+        index.add(subscriber);
+
+        assertThat(index.getEntry(ItemStateEvent.TYPE).getUnindexed(), contains(subscriber));
+        assertThat(index.getEntry(ItemCommandEvent.TYPE).getUnindexed(), contains(subscriber));
+
+        index.remove(subscriber);
+        assertTrue(index.getEntry(ItemStateEvent.TYPE).isEmpty());
+        assertTrue(index.getEntry(ItemCommandEvent.TYPE).isEmpty());
+    }
+
+    @Test
+    public void testFiltersThatCannotBeIndexed() {
+        EventSubscriber wildcard = subscriber(Set.of(ItemStateEvent.TYPE),
+                new TopicEventFilter("^openhab/things/binding:.*?/.*$"));
+        EventSubscriber alternative = subscriber(Set.of(ItemStateEvent.TYPE),
+                new TopicEventFilter("openhab/items/ItemA/.*|openhab/items/ItemB/.*"));
+        EventSubscriber optional = subscriber(Set.of(ItemStateEvent.TYPE),
+                new TopicEventFilter("openhab/items/ItemA?/.*"));
+        EventSubscriber shortPrefix = subscriber(Set.of(ItemStateEvent.TYPE),
+                new TopicPrefixEventFilter("openhab/items/Item"));
+        index.add(wildcard);
+        index.add(alternative);
+        index.add(optional);
+        index.add(shortPrefix);
+
+        assertThat(index.getEntry(ItemStateEvent.TYPE).getUnindexed(),
+                containsInAnyOrder(wildcard, alternative, optional, shortPrefix));
+    }
+
+    private EventSubscriber subscriber(Set<String> eventTypes, @Nullable EventFilter eventFilter) {
+        EventSubscriber subscriber = mock(EventSubscriber.class);
+        when(subscriber.getSubscribedEventTypes()).thenReturn(eventTypes);
+        when(subscriber.getEventFilter()).thenReturn(eventFilter);
+        return subscriber;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link TimingHistogramTest} tests the {@link TimingHistogram}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class TimingHistogramTest {
+
+    private final TimingHistogram histogram = new TimingHistogram();
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0.0, histogram.getMax());
+        assertEquals(0.0, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void testPercentilesAreAccurateToAFactorOfTwo() {
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(200.0, histogram.getMax());
+        assertEquals(3.98, histogram.getMean(), 0.001);
+        assertThat(histogram.getPercentile(50), is(both(greaterThanOrEqualTo(1.0)).and(lessThan(2.1))));
+        assertThat(histogram.getPercentile(99), is(both(greaterThanOrEqualTo(100.0)).and(lessThan(200.1))));
+        assertEquals(200.0, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testNegativeDurationsAreRecordedAsZero() {
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0.0, histogram.getMax());
+    }
+}
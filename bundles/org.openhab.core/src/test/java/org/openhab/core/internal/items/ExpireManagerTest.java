@@ -83,6 +83,44 @@ class ExpireManagerTest {
                 .post(eq(ItemEventFactory.createStateEvent(ITEMNAME, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
     }
 
+    @Test
+    void testExpiryIsPostedAtDeadline() throws InterruptedException {
+        when(metadataRegistryMock.get(METADATA_KEY)).thenReturn(new Metadata(METADATA_KEY, "1s", null));
+
+        expireManager.receive(ItemEventFactory.createCommandEvent(ITEMNAME, OnOffType.ON));
+        assertEquals(1, expireManager.getPendingExpirations());
+
+        Thread.sleep(800L);
+        verify(eventPublisherMock, never()).post(any());
+        verify(eventPublisherMock, timeout(500L))
+                .post(eq(ItemEventFactory.createStateEvent(ITEMNAME, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
+        assertEquals(0, expireManager.getPendingExpirations());
+    }
+
+    @Test
+    void testExpiryOfSeveralItemsInDeadlineOrder() throws InterruptedException {
+        String otherItemName = "Other";
+        MetadataKey otherMetadataKey = new MetadataKey(ExpireManager.METADATA_NAMESPACE, otherItemName);
+        when(metadataRegistryMock.get(METADATA_KEY)).thenReturn(config("2s"));
+        when(metadataRegistryMock.get(otherMetadataKey)).thenReturn(new Metadata(otherMetadataKey, "1s", null));
+
+        expireManager.receive(ItemEventFactory.createCommandEvent(ITEMNAME, OnOffType.ON));
+        expireManager.receive(ItemEventFactory.createCommandEvent(otherItemName, OnOffType.ON));
+        assertEquals(2, expireManager.getPendingExpirations());
+
+        Thread.sleep(1500L);
+        verify(eventPublisherMock).post(
+                eq(ItemEventFactory.createStateEvent(otherItemName, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
+        verify(eventPublisherMock, never())
+                .post(eq(ItemEventFactory.createStateEvent(ITEMNAME, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
+        assertEquals(1, expireManager.getPendingExpirations());
+
+        Thread.sleep(1000L);
+        verify(eventPublisherMock)
+                .post(eq(ItemEventFactory.createStateEvent(ITEMNAME, UnDefType.UNDEF, ExpireManager.EVENT_SOURCE)));
+        assertEquals(0, expireManager.getPendingExpirations());
+    }
+
     @Test
     void testStateExpiryWithCustomState() throws InterruptedException, ItemNotFoundException {
         Item testItem = new SwitchItem(ITEMNAME);
@@ -258,6 +296,36 @@ class ExpireManagerTest {
         verify(eventPublisherMock, never()).post(any());
     }
 
+    @Test
+    void testItemRemovalCancelsExpiry() throws InterruptedException {
+        when(metadataRegistryMock.get(METADATA_KEY)).thenReturn(new Metadata(METADATA_KEY, "1s", null));
+
+        expireManager.receive(ItemEventFactory.createCommandEvent(ITEMNAME, OnOffType.ON));
+        assertEquals(1, expireManager.getPendingExpirations());
+
+        expireManager.removed(new SwitchItem(ITEMNAME));
+        assertEquals(0, expireManager.getPendingExpirations());
+        Thread.sleep(1500L);
+        verify(eventPublisherMock, never()).post(any());
+    }
+
+    @Test
+    void testMetadataRemovalCancelsExpiry() throws InterruptedException {
+        Metadata md = new Metadata(METADATA_KEY, "1s", null);
+        when(metadataRegistryMock.get(METADATA_KEY)).thenReturn(md);
+
+        expireManager.receive(ItemEventFactory.createCommandEvent(ITEMNAME, OnOffType.ON));
+        assertEquals(1, expireManager.getPendingExpirations());
+
+        expireManager.metadataChangeListener.removed(new Metadata(new MetadataKey("other", ITEMNAME), "", null));
+        assertEquals(1, expireManager.getPendingExpirations());
+
+        expireManager.metadataChangeListener.removed(md);
+        assertEquals(0, expireManager.getPendingExpirations());
+        Thread.sleep(1500L);
+        verify(eventPublisherMock, never()).post(any());
+    }
+
     @Test
     void testExpireConfig() {
         Item testItem = new SwitchItem(ITEMNAME);
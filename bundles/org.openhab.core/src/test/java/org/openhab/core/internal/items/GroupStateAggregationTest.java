@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.measure.quantity.Power;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.i18n.UnitProvider;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.GroupFunction;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.ArithmeticGroupFunction;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.QuantityTypeArithmeticGroupFunction;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * The {@link GroupStateAggregationTest} verifies that the {@link GroupStateAggregation}s result in the same states as
+ * their {@link GroupFunction}s.
+ *
+ * @author crnjan - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class GroupStateAggregationTest {
+
+    private static final int MEMBER_COUNT = 20;
+    private static final int UPDATE_COUNT = 500;
+
+    private @NonNullByDefault({}) @Mock UnitProvider unitProvider;
+
+    private final Random random = new Random(42);
+
+    static Stream<GroupFunction> logicalFunctions() {
+        return Stream.of(new ArithmeticGroupFunction.And(OnOffType.ON, OnOffType.OFF),
+                new ArithmeticGroupFunction.NAnd(OnOffType.ON, OnOffType.OFF),
+                new ArithmeticGroupFunction.Or(OnOffType.ON, OnOffType.OFF),
+                new ArithmeticGroupFunction.NOr(OnOffType.ON, OnOffType.OFF),
+                new ArithmeticGroupFunction.Count(new StringType("ON")));
+    }
+
+    static Stream<GroupFunction> decimalFunctions() {
+        return Stream.of(new ArithmeticGroupFunction.Sum(), new ArithmeticGroupFunction.Avg(),
+                new ArithmeticGroupFunction.Min(), new ArithmeticGroupFunction.Max(),
+                new ArithmeticGroupFunction.Count(new StringType("1.*")));
+    }
+
+    static Stream<GroupFunction> quantityFunctions() {
+        return Stream.of(new QuantityTypeArithmeticGroupFunction.Sum(Power.class),
+                new QuantityTypeArithmeticGroupFunction.Avg(Power.class),
+                new QuantityTypeArithmeticGroupFunction.Min(Power.class),
+                new QuantityTypeArithmeticGroupFunction.Max(Power.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("logicalFunctions")
+    public void testLogicalFunctions(GroupFunction function) {
+        List<GenericItem> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(new SwitchItem("Switch" + i));
+        }
+        // mostly active members to reach the 'all active' state of the AND functions
+        assertAggregation(function, members, () -> random.nextInt(10) == 0 ? OnOffType.OFF : OnOffType.ON);
+        members.forEach(member -> member.setState(OnOffType.ON));
+        assertAggregation(function, members, () -> random.nextBoolean() ? OnOffType.ON : UnDefType.NULL);
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimalFunctions")
+    public void testDecimalFunctions(GroupFunction function) {
+        List<GenericItem> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(new NumberItem("Number" + i));
+        }
+        assertAggregation(function, members, () -> random.nextInt(5) == 0 ? UnDefType.UNDEF
+                : new DecimalType(BigDecimal.valueOf(random.nextInt(2000) - 1000, random.nextInt(4))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantityFunctions")
+    public void testQuantityFunctions(GroupFunction function) {
+        List<GenericItem> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            NumberItem member = new NumberItem(CoreItemFactory.NUMBER + ":" + Power.class.getSimpleName(), "Power" + i);
+            member.setUnitProvider(unitProvider);
+            members.add(member);
+        }
+        members.add(new NumberItem("Dimensionless"));
+        assertAggregation(function, members, () -> {
+            int value = random.nextInt(2000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    return UnDefType.NULL;
+                case 1:
+                    return new QuantityType<>(value + " kW");
+                default:
+                    return new QuantityType<>(value + " W");
+            }
+        });
+    }
+
+    @Test
+    public void testSumScaleFollowsMembers() {
+        NumberItem member1 = new NumberItem("Number1");
+        NumberItem member2 = new NumberItem("Number2");
+        member1.setState(new DecimalType(new BigDecimal("1.25")));
+        member2.setState(new DecimalType(new BigDecimal("2")));
+
+        GroupStateAggregation<?> aggregation = createAggregation(new ArithmeticGroupFunction.Sum(),
+                List.of(member1, member2));
+        assertEquals(new BigDecimal("3.25"), ((DecimalType) aggregation.getState()).toBigDecimal());
+
+        member1.setState(new DecimalType(new BigDecimal("1")));
+        aggregation.update(member1);
+        assertEquals(new BigDecimal("3"), ((DecimalType) aggregation.getState()).toBigDecimal());
+    }
+
+    @Test
+    public void testUnknownMembersAreIgnored() {
+        NumberItem member = new NumberItem("Number1");
+        NumberItem other = new NumberItem("Number2");
+        member.setState(new DecimalType(1));
+        other.setState(new DecimalType(2));
+
+        GroupStateAggregation<?> aggregation = createAggregation(new ArithmeticGroupFunction.Sum(), List.of(member));
+        assertFalse(aggregation.update(other));
+        assertEquals(new DecimalType(1), aggregation.getState());
+
+        aggregation.remove(member);
+        assertEquals(new DecimalType(0), aggregation.getState());
+    }
+
+    @Test
+    public void testNotAggregatableFunctions() {
+        assertNull(GroupStateAggregation.create(new GroupFunction.Equality()));
+        assertNull(GroupStateAggregation.create(new ArithmeticGroupFunction.Sum() {
+            @Override
+            public State calculate(@Nullable Set<Item> items) {
+                return UnDefType.UNDEF;
+            }
+        }));
+    }
+
+    private void assertAggregation(GroupFunction function, List<GenericItem> members, Supplier<State> states) {
+        members.forEach(member -> member.setState(states.get()));
+        GroupStateAggregation<?> aggregation = createAggregation(function, members);
+        assertEquals(function.calculate(new LinkedHashSet<>(members)), aggregation.getState());
+
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            GenericItem member = members.get(random.nextInt(members.size()));
+            member.setState(states.get());
+            assertTrue(aggregation.update(member));
+            assertEquals(function.calculate(new LinkedHashSet<>(members)), aggregation.getState());
+        }
+    }
+
+    private GroupStateAggregation<?> createAggregation(GroupFunction function, List<? extends Item> members) {
+        GroupStateAggregation<?> aggregation = GroupStateAggregation.create(function);
+        assertNotNull(aggregation);
+        members.forEach(aggregation::add);
+        return aggregation;
+    }
+}
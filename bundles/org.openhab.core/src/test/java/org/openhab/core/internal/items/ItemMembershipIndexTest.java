@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+
+/**
+ * The {@link ItemMembershipIndexTest} tests the {@link ItemMembershipIndex}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class ItemMembershipIndexTest {
+
+    private final ItemMembershipIndex index = new ItemMembershipIndex();
+
+    private final GroupItem home = new GroupItem("gHome");
+    private final GroupItem floor = group("gFloor", "gHome");
+    private final GroupItem room = group("gRoom", "gFloor");
+    private final SwitchItem light = item(new SwitchItem("Light"), "gRoom", "gHome");
+    private final NumberItem power = item(new NumberItem("Power"), "gFloor");
+
+    @BeforeEach
+    public void setup() {
+        List.of(home, floor, room, light, power).forEach(index::add);
+    }
+
+    @Test
+    public void testTransitiveMembership() {
+        assertThat(index.getAllGroupNames("Light"), containsInAnyOrder("gRoom", "gFloor", "gHome"));
+        assertThat(index.getAllGroupNames("Power"), containsInAnyOrder("gFloor", "gHome"));
+        assertThat(index.getAllGroupNames("gRoom"), containsInAnyOrder("gFloor", "gHome"));
+        assertThat(index.getAllGroupNames("Unknown"), is(empty()));
+
+        assertThat(index.getAllMembers("gHome"), containsInAnyOrder(light, power));
+        assertThat(index.getAllMembers("gFloor"), containsInAnyOrder(light, power));
+        assertThat(index.getAllMembers("gRoom"), contains(light));
+        assertThat(index.getAllMembers("Light"), is(empty()));
+    }
+
+    @Test
+    public void testRemovingGroupUpdatesIndirectMemberships() {
+        assertThat(index.getAllGroupNames("Light"), hasItem("gFloor"));
+
+        index.remove(room);
+
+        assertThat(index.getAllGroupNames("Light"), containsInAnyOrder("gHome"));
+        assertThat(index.getAllMembers("gFloor"), contains(power));
+        assertThat(index.getAllMembers("gRoom"), is(empty()));
+
+        index.add(room);
+
+        assertThat(index.getAllGroupNames("Light"), containsInAnyOrder("gRoom", "gFloor", "gHome"));
+        assertThat(index.getAllMembers("gFloor"), containsInAnyOrder(light, power));
+    }
+
+    @Test
+    public void testUpdatedItemReplacesMemberships() {
+        assertThat(index.getAllMembers("gRoom"), contains(light));
+
+        SwitchItem updatedLight = item(new SwitchItem("Light"), "gHome");
+        index.update(light, updatedLight);
+
+        assertThat(index.getAllGroupNames("Light"), contains("gHome"));
+        assertThat(index.getAllMembers("gRoom"), is(empty()));
+        assertThat(index.getAllMembers("gHome"), containsInAnyOrder(updatedLight, power));
+    }
+
+    @Test
+    public void testCyclicMembership() {
+        GroupItem cycle1 = group("gCycle1", "gCycle2");
+        GroupItem cycle2 = group("gCycle2", "gCycle1");
+        SwitchItem member = item(new SwitchItem("Member"), "gCycle1");
+        List.of(cycle1, cycle2, member).forEach(index::add);
+
+        assertThat(index.getAllGroupNames("Member"), containsInAnyOrder("gCycle1", "gCycle2"));
+        assertThat(index.getAllMembers("gCycle2"), contains(member));
+    }
+
+    private static GroupItem group(String name, String... groupNames) {
+        return item(new GroupItem(name), groupNames);
+    }
+
+    private static <T extends GenericItem> T item(T item, String... groupNames) {
+        item.addGroupNames(groupNames);
+        return item;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.internal.scheduler.HashedWheelTimer.Timeout;
+
+/**
+ * Test class for {@link HashedWheelTimer}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class HashedWheelTimerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private @NonNullByDefault({}) HashedWheelTimer timer;
+
+    @BeforeEach
+    public void beforeEach() {
+        // a small wheel to have timeouts spanning several rounds
+        timer = new HashedWheelTimer(executor, 10, TimeUnit.MILLISECONDS, 8, "test-wheel");
+    }
+
+    @AfterEach
+    public void afterEach() {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @org.junit.jupiter.api.Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testTaskRunsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        timer.schedule(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        latch.await();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 200, "Task ran too early after " + elapsedMillis + " ms");
+        assertTrue(elapsedMillis < 400, "Task ran too late after " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @org.junit.jupiter.api.Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testCancelledTaskDoesNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        Timeout timeout = timer.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        assertEquals(1, timer.getPendingTimeouts());
+
+        assertTrue(timeout.cancel(false));
+        assertFalse(timeout.cancel(false));
+        assertEquals(0, timer.getPendingTimeouts());
+
+        Thread.sleep(300);
+        assertEquals(0, runs.get());
+        assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    @org.junit.jupiter.api.Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void testManyTasksScheduledAndCancelled() throws InterruptedException {
+        int tasks = 10_000;
+        CountDownLatch latch = new CountDownLatch(tasks / 2);
+        AtomicInteger runs = new AtomicInteger();
+        List<Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            timeouts.add(timer.schedule(() -> {
+                runs.incrementAndGet();
+                latch.countDown();
+            }, i % 500, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < tasks; i += 2) {
+            timeouts.get(i).cancel(false);
+        }
+
+        latch.await();
+        Thread.sleep(200);
+        assertEquals(tasks / 2, runs.get());
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    @org.junit.jupiter.api.Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testStopCancelsPendingTasks() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        Timeout due = timer.schedule(runs::incrementAndGet, 0, TimeUnit.MILLISECONDS);
+        Thread.sleep(100);
+        Timeout pending = timer.schedule(runs::incrementAndGet, 10, TimeUnit.SECONDS);
+        Timeout nextRound = timer.schedule(runs::incrementAndGet, 20, TimeUnit.SECONDS);
+
+        List<Timeout> cancelled = timer.stop();
+        assertEquals(2, cancelled.size());
+        assertTrue(cancelled.contains(pending));
+        assertTrue(cancelled.contains(nextRound));
+        assertTrue(pending.isCancelled());
+        assertTrue(nextRound.isCancelled());
+        assertTrue(due.isExpired());
+        assertEquals(0, timer.getPendingTimeouts());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void testScheduleAfterStopFails() {
+        timer.stop();
+        assertThrows(IllegalStateException.class, () -> timer.schedule(() -> {
+        }, 10, TimeUnit.MILLISECONDS));
+    }
+}
@@ -59,7 +59,7 @@ import ch.qos.logback.core.read.ListAppender;
  */
 @NonNullByDefault
 public class SchedulerImplTest extends JavaTest {
-    private @NonNullByDefault({}) SchedulerImpl scheduler;
+    protected @NonNullByDefault({}) SchedulerImpl scheduler;
 
     @BeforeEach
     public void beforeEach() {
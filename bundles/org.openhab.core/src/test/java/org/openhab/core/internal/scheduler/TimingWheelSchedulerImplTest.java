@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openhab.core.scheduler.ScheduledCompletableFuture;
+
+/**
+ * Runs the tests of {@link SchedulerImplTest} with a {@link SchedulerImpl} scheduling its tasks with a timing wheel.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class TimingWheelSchedulerImplTest extends SchedulerImplTest {
+
+    @Override
+    @BeforeEach
+    public void beforeEach() {
+        scheduler = new SchedulerImpl();
+        scheduler.activate(Map.<String, @Nullable Object> of(SchedulerImpl.CONFIG_TIMING_WHEEL, "true",
+                SchedulerImpl.CONFIG_TICK_MILLISECONDS, "10"));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        scheduler.deactivate();
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testDeactivateCancelsPendingTasks() {
+        ScheduledCompletableFuture<Boolean> future = scheduler.after(() -> Boolean.TRUE, Duration.ofMinutes(1));
+
+        scheduler.deactivate();
+        assertTrue(future.isCancelled());
+        assertThrows(CancellationException.class, () -> future.get());
+    }
+}
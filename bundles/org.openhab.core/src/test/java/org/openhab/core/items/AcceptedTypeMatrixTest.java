@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link AcceptedTypeMatrixTest} contains tests for the {@link AcceptedTypeMatrix}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class AcceptedTypeMatrixTest {
+
+    private final AcceptedTypeMatrix numberMatrix = AcceptedTypeMatrix.ofDataTypes(new NumberItem("number"));
+
+    @Test
+    public void testAcceptedTypeIsReturnedForItself() {
+        assertThat(numberMatrix.getAcceptedType(DecimalType.class), is(equalTo(DecimalType.class)));
+        assertThat(numberMatrix.isAccepted(DecimalType.class), is(true));
+    }
+
+    @Test
+    public void testAcceptedSuperclassIsReturnedForSubclass() {
+        assertThat(numberMatrix.getAcceptedType(PercentType.class), is(equalTo(DecimalType.class)));
+        assertThat(numberMatrix.getAcceptedType(HSBType.class), is(equalTo(DecimalType.class)));
+        assertThat(numberMatrix.isAccepted(HSBType.class), is(true));
+    }
+
+    @Test
+    public void testNotAcceptedType() {
+        assertThat(numberMatrix.getAcceptedType(StringType.class), is(nullValue()));
+        assertThat(numberMatrix.isAccepted(OnOffType.class), is(false));
+        assertThat(AcceptedTypeMatrix.ofDataTypes(new SwitchItem("switch")).isAccepted(PercentType.class), is(false));
+    }
+
+    @Test
+    public void testStateCorrespondsToAcceptedStateOnly() {
+        // a state is converted to an accepted state, even if a more general accepted type is listed first
+        AcceptedTypeMatrix matrix = AcceptedTypeMatrix.of(List.of(Command.class, DecimalType.class));
+
+        assertThat(matrix.getAcceptedType(PercentType.class), is(equalTo(DecimalType.class)));
+        assertThat(matrix.getAcceptedType(StringType.class), is(nullValue()));
+        assertThat(matrix.getAcceptedType(TestCommand.class), is(equalTo(Command.class)));
+    }
+
+    @Test
+    public void testMatrixIsSharedForItemsOfTheSameClass() {
+        assertThat(AcceptedTypeMatrix.ofDataTypes(new NumberItem("other")), is(sameInstance(numberMatrix)));
+        assertThat(AcceptedTypeMatrix.ofDataTypes(new GroupItem("group", new NumberItem("base"))),
+                is(sameInstance(numberMatrix)));
+    }
+
+    @Test
+    public void testMatrixOfGroupWithoutBaseItemFollowsMembers() {
+        GroupItem group = new GroupItem("group");
+        group.addMember(new NumberItem("number"));
+        assertThat(AcceptedTypeMatrix.ofDataTypes(group).isAccepted(DecimalType.class), is(true));
+
+        group.addMember(new SwitchItem("switch"));
+        assertThat(AcceptedTypeMatrix.ofDataTypes(group).isAccepted(DecimalType.class), is(false));
+    }
+
+    @Test
+    public void testMatrixIsNotAffectedByChangedList() {
+        List<Class<? extends State>> acceptedTypes = new ArrayList<>(new NumberItem("number").getAcceptedDataTypes());
+        AcceptedTypeMatrix matrix = AcceptedTypeMatrix.of(acceptedTypes);
+
+        acceptedTypes.add(StringType.class);
+        assertThat(matrix.isAccepted(StringType.class), is(false));
+    }
+
+    private static class TestCommand implements Command {
+        @Override
+        public String format(String pattern) {
+            return "";
+        }
+
+        @Override
+        public String toFullString() {
+            return "";
+        }
+    }
+}
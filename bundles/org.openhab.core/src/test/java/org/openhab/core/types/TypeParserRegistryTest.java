@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.types;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.SIUnits;
+
+/**
+ * Test the {@link TypeParserRegistry}.
+ *
+ * @author crnjan - Initial contribution
+ */
+@NonNullByDefault
+public class TypeParserRegistryTest {
+
+    public enum CustomType implements State, Command {
+        FOO,
+        BAR;
+
+        @Override
+        public String format(String pattern) {
+            return String.format(pattern, this.toString());
+        }
+
+        @Override
+        public String toFullString() {
+            return toString();
+        }
+    }
+
+    public static class AddOn {
+        public enum OnOffType implements State, Command {
+            ON;
+
+            @Override
+            public String format(String pattern) {
+                return String.format(pattern, this.toString());
+            }
+
+            @Override
+            public String toFullString() {
+                return toString();
+            }
+        }
+
+        public enum CustomType implements State, Command {
+            FOO;
+
+            @Override
+            public String format(String pattern) {
+                return String.format(pattern, this.toString());
+            }
+
+            @Override
+            public String toFullString() {
+                return toString();
+            }
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TypeParserRegistry.unregister(CustomType.class);
+    }
+
+    @Test
+    public void testCoreTypesAreRegistered() {
+        Function<String, ? extends Type> parser = TypeParserRegistry.getParser("DecimalType");
+        assertNotNull(parser);
+        assertEquals(new DecimalType(42), parser.apply("42"));
+
+        parser = TypeParserRegistry.getParser("QuantityType");
+        assertNotNull(parser);
+        assertEquals(new QuantityType<>(21.5, SIUnits.CELSIUS), parser.apply("21.5 °C"));
+
+        assertEquals(OnOffType.ON, TypeParserRegistry.getParser(OnOffType.class).apply("ON"));
+        assertEquals(UnDefType.UNDEF, TypeParserRegistry.getParser(UnDefType.class).apply("UNDEF"));
+        assertNull(TypeParserRegistry.getParser("UnknownType"));
+    }
+
+    @Test
+    public void testRegisteredParserIsFoundByClassAndSimpleName() {
+        assertNull(TypeParserRegistry.getParser(CustomType.class.getSimpleName()));
+
+        TypeParserRegistry.register(CustomType.class, value -> CustomType.valueOf(value.toUpperCase()));
+
+        Function<String, ? extends Type> parser = TypeParserRegistry.getParser(CustomType.class.getSimpleName());
+        assertNotNull(parser);
+        assertEquals(CustomType.FOO, parser.apply("foo"));
+        assertEquals(CustomType.BAR, TypeParserRegistry.getParser(CustomType.class).apply("bar"));
+        assertEquals(CustomType.FOO, TypeParser.parseState(List.of(CustomType.class, OnOffType.class), "foo"));
+
+        TypeParserRegistry.unregister(CustomType.class);
+        assertNull(TypeParserRegistry.getParser(CustomType.class.getSimpleName()));
+    }
+
+    @Test
+    public void testUnregisteredTypeFallsBackToValueOf() {
+        Function<String, ? extends CustomType> parser = TypeParserRegistry.getParser(CustomType.class);
+        assertNotNull(parser);
+        assertEquals(CustomType.FOO, parser.apply("FOO"));
+        assertThrows(IllegalArgumentException.class, () -> parser.apply("foo"));
+        assertNull(TypeParser.parseCommand(List.of(CustomType.class), "foo"));
+    }
+
+    @Test
+    public void testCoreTypeNamesCannotBeRegistered() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TypeParserRegistry.register(AddOn.OnOffType.class, AddOn.OnOffType::valueOf));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypeParserRegistry.register(DecimalType.class, DecimalType::valueOf));
+        assertEquals(OnOffType.ON, TypeParserRegistry.getParser("OnOffType").apply("ON"));
+    }
+
+    @Test
+    public void testSimpleNameOfRegisteredTypeCannotBeRegisteredTwice() {
+        TypeParserRegistry.register(CustomType.class, CustomType::valueOf);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> TypeParserRegistry.register(AddOn.CustomType.class, AddOn.CustomType::valueOf));
+        TypeParserRegistry.unregister(AddOn.CustomType.class);
+        assertEquals(CustomType.FOO, TypeParserRegistry.getParser("CustomType").apply("FOO"));
+    }
+
+    @Test
+    public void testUnDefTypeAndRefreshTypeAreNotParsedByName() {
+        assertNull(TypeParserRegistry.getParser("UnDefType"));
+        assertNull(TypeParser.parseType("UnDefType", "UNDEF"));
+        assertNull(TypeParser.parseType("RefreshType", "REFRESH"));
+        assertEquals(new DecimalType(1), TypeParser.parseType("DecimalType", "1"));
+    }
+}
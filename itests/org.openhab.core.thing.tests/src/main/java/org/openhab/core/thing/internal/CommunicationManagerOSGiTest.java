@@ -253,6 +253,36 @@ public class CommunicationManagerOSGiTest extends JavaOSGiTest {
         verifyNoMoreInteractions(triggerProfileMock);
     }
 
+    @Test
+    public void testStateUpdatedLinkAddedAfterRouting() {
+        manager.stateUpdated(STATE_CHANNEL_UID_1, OnOffType.ON);
+        waitForAssert(() -> {
+            verify(stateProfileMock).onStateUpdateFromHandler(eq(OnOffType.ON));
+        });
+
+        iclRegistry.addProvider(new ItemChannelLinkProvider() {
+            @Override
+            public void addProviderChangeListener(ProviderChangeListener<ItemChannelLink> listener) {
+            }
+
+            @Override
+            public void removeProviderChangeListener(ProviderChangeListener<ItemChannelLink> listener) {
+            }
+
+            @Override
+            public Collection<ItemChannelLink> getAll() {
+                return List.of(new ItemChannelLink(ITEM_NAME_2, STATE_CHANNEL_UID_1));
+            }
+        });
+
+        manager.stateUpdated(STATE_CHANNEL_UID_1, OnOffType.OFF);
+        waitForAssert(() -> {
+            verify(stateProfileMock, times(2)).onStateUpdateFromHandler(eq(OnOffType.OFF));
+        });
+        verifyNoMoreInteractions(stateProfileMock);
+        verifyNoMoreInteractions(triggerProfileMock);
+    }
+
     @Test
     public void testPostCommandSingleLink() {
         manager.postCommand(STATE_CHANNEL_UID_1, OnOffType.ON);